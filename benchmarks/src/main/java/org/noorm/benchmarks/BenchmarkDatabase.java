@@ -0,0 +1,150 @@
+package org.noorm.benchmarks;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.noorm.jdbc.BeanMapper;
+import org.noorm.jdbc.DataSourceConfiguration;
+import org.noorm.jdbc.DataSourceProvider;
+import org.noorm.jdbc.PooledDataSource;
+import org.noorm.jdbc.TestDatabase;
+import org.noorm.jdbc.TestItem;
+import org.noorm.jdbc.TestItemBinder;
+import org.noorm.jdbc.TestItemRowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Embedded H2 database for the benchmarks. The benchmarks use the table and Bean class of the tests (see
+ * TestDatabase and TestItem) with a larger number of rows. Since TestItem corresponds to a generated Bean class,
+ * the row mapper and parameter binder corresponding to the generated code are registered for TestItem.
+ * NoORM does not provide a platform for H2, so H2 is operated in PostgreSQL compatibility mode and accessed
+ * using the PostgreSQL platform. Note that this setup measures the overhead of NoORM and the embedded database
+ * without network round-trips. Results are suitable for the comparison of NoORM releases, but not for the
+ * estimation of the performance against a database server.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public final class BenchmarkDatabase {
+
+    public static final String DATA_SOURCE_NAME = "benchmarks";
+    public static final int ROW_COUNT = 10000;
+    public static final int CATEGORY_COUNT = 100;
+
+    private static final String PLATFORM_NAME = "Postgresql";
+    private static final String JDBC_URL = "jdbc:h2:mem:noorm_benchmarks;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    private static final String CREATE_INDEX = "CREATE INDEX TEST_ITEM_CATEGORY_IX ON TEST_ITEM (CATEGORY)";
+    private static final String INSERT =
+            "INSERT INTO TEST_ITEM (ID, NAME, CATEGORY, CREATED, AMOUNT, VERSION) VALUES (?, ?, ?, ?, ?, 1)";
+    private static final long CREATED_BASE = 1577836800000L;
+
+    private static JdbcDataSource h2DataSource;
+
+    static {
+        BeanMapper.registerRowMapperFactory(TestItem.class, TestItemRowMapper.FACTORY);
+        BeanMapper.registerParameterBinder(TestItem.class, new TestItemBinder());
+    }
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Creates and fills the benchmark table and registers the database with the DataSourceProvider.
+     * Subsequent calls have no effect.
+     */
+    public static synchronized void initialize() {
+
+        if (h2DataSource != null) {
+            return;
+        }
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(JDBC_URL);
+        try (final Connection con = dataSource.getConnection()) {
+            try (final Statement stmt = con.createStatement()) {
+                stmt.execute(TestDatabase.CREATE_TABLE);
+                stmt.execute(CREATE_INDEX);
+            }
+            try (final PreparedStatement pstmt = con.prepareStatement(INSERT)) {
+                for (final TestItem item : createItems(1L, ROW_COUNT)) {
+                    pstmt.setLong(1, item.getId());
+                    pstmt.setString(2, item.getName());
+                    pstmt.setString(3, item.getCategory());
+                    pstmt.setTimestamp(4, new Timestamp(item.getCreated().getTime()));
+                    pstmt.setBigDecimal(5, item.getAmount());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Initialization of the benchmark database failed.", e);
+        }
+        final DataSourceConfiguration configuration = new DataSourceConfiguration();
+        DataSourceProvider.addDataSource
+                (new PooledDataSource(dataSource, configuration), DATA_SOURCE_NAME, PLATFORM_NAME, true);
+        h2DataSource = dataSource;
+    }
+
+    /**
+     * Returns a connection to the benchmark database, which is not managed by the DataSourceProvider.
+     * Used by benchmarks, which operate on plain JDBC statements.
+     *
+     * @return a new connection
+     * @throws SQLException JDBC driver exception
+     */
+    public static Connection getUnmanagedConnection() throws SQLException {
+
+        initialize();
+        return h2DataSource.getConnection();
+    }
+
+    /**
+     * Creates Beans with synthetic content. The content of a Bean depends on its id only.
+     *
+     * @param pFirstId the id of the first Bean
+     * @param pCount the number of Beans to create
+     * @return the list of Beans
+     */
+    public static List<TestItem> createItems(final long pFirstId, final int pCount) {
+
+        final List<TestItem> items = new ArrayList<>(pCount);
+        for (long id = pFirstId; id < pFirstId + pCount; id++) {
+            final TestItem item = new TestItem();
+            fillItem(item, id);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Fills the given Bean with synthetic content for the given id.
+     *
+     * @param pItem the Bean to fill
+     * @param pId the id of the Bean
+     */
+    public static void fillItem(final TestItem pItem, final long pId) {
+
+        pItem.setId(pId);
+        pItem.setName("Item ".concat(Long.toString(pId)));
+        pItem.setCategory(getCategory(pId));
+        pItem.setCreated(new java.util.Date(CREATED_BASE + pId * 1000L));
+        pItem.setAmount(BigDecimal.valueOf(pId % 100000L, 2));
+        pItem.setVersion(1L);
+    }
+
+    /**
+     * Returns the category of the Bean with the given id. Every category comprises
+     * ROW_COUNT / CATEGORY_COUNT rows.
+     *
+     * @param pId the id of the Bean
+     * @return the category
+     */
+    public static String getCategory(final long pId) {
+
+        return "CATEGORY_".concat(Long.toString(pId % CATEGORY_COUNT));
+    }
+}
@@ -0,0 +1,42 @@
+package org.noorm.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark jar. The JMH command line options are supported as usual, but in contrast to
+ * the plain JMH main class, the results are written in JSON format to jmh-result.json by default, so that the
+ * results of different releases can be compared (e.g. using one of the common JMH result visualizers).
+ * The defaults can be overridden with the JMH options -rf and -rff.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] pArgs) throws Exception {
+
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(pArgs);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(pArgs);
+            return;
+        }
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,109 @@
+package org.noorm.benchmarks;
+
+import org.h2.tools.SimpleResultSet;
+import org.noorm.jdbc.BeanMapper;
+import org.noorm.jdbc.TestItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the mapping between ResultSets, Beans and parameter maps (BeanMapper).
+ * The ResultSet is an in-memory ResultSet, i.e. the benchmark measures the mapping without any JDBC driver
+ * or database overhead. The mapper parameter switches between the generated row mapper (registered for the
+ * Bean class TestItem, see BenchmarkDatabase) and the compiled row mapper used for Beans without generated
+ * mapping code.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    public enum Mapper {
+        GENERATED(TestItem.class),
+        COMPILED(ReflectiveBenchmarkItem.class);
+
+        private final Class<? extends TestItem> beanClass;
+
+        Mapper(final Class<? extends TestItem> pBeanClass) {
+            beanClass = pBeanClass;
+        }
+
+        Class<TestItem> getBeanClass() {
+            return (Class<TestItem>) beanClass;
+        }
+    }
+
+    @Param({"1", "100", "10000"})
+    private int rows;
+
+    @Param({"GENERATED", "COMPILED"})
+    private Mapper mapper;
+
+    private final BeanMapper<TestItem> beanMapper = BeanMapper.getInstance();
+    private Class<TestItem> beanClass;
+    private SimpleResultSet resultSet;
+    private TestItem bean;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+
+        beanClass = mapper.getBeanClass();
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("ID", Types.BIGINT, 19, 0);
+        resultSet.addColumn("NAME", Types.VARCHAR, 64, 0);
+        resultSet.addColumn("CATEGORY", Types.VARCHAR, 32, 0);
+        resultSet.addColumn("CREATED", Types.TIMESTAMP, 26, 6);
+        resultSet.addColumn("AMOUNT", Types.DECIMAL, 12, 2);
+        resultSet.addColumn("VERSION", Types.BIGINT, 19, 0);
+        resultSet.addColumn("DESCRIPTION", Types.VARCHAR, 64, 0);
+        for (final TestItem item : BenchmarkDatabase.createItems(1L, rows)) {
+            resultSet.addRow(item.getId(), item.getName(), item.getCategory(),
+                    new Timestamp(item.getCreated().getTime()), item.getAmount(), item.getVersion(), null);
+        }
+        bean = beanClass.newInstance();
+        BenchmarkDatabase.fillItem(bean, 1L);
+        bean.setAmount(new BigDecimal("47.11"));
+    }
+
+    @Setup(Level.Invocation)
+    public void rewind() throws SQLException {
+
+        resultSet.beforeFirst();
+    }
+
+    @Benchmark
+    public List<TestItem> toBeanList() throws SQLException {
+
+        return beanMapper.toBeanList(resultSet, beanClass, false);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+
+        return beanMapper.toMap(bean);
+    }
+}
@@ -0,0 +1,108 @@
+package org.noorm.benchmarks;
+
+import org.noorm.jdbc.BeanMapper;
+import org.noorm.jdbc.DataSourceProvider;
+import org.noorm.jdbc.IParameterBinder;
+import org.noorm.jdbc.Operator;
+import org.noorm.jdbc.QueryColumn;
+import org.noorm.jdbc.StatementBuilder;
+import org.noorm.jdbc.TestItem;
+import org.noorm.jdbc.Utils;
+import org.noorm.jdbc.platform.IPlatform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the binding of parameters to prepared statements, i.e. the binding of query parameters
+ * (Utils.setQueryParameter) and the binding of Bean attributes by the parameter binder. The binder parameter
+ * switches between the generated parameter binder and the compiled parameter binder used for Beans without
+ * generated binding code. The statements are prepared once and never executed.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterBindingBenchmark {
+
+    @Param({"GENERATED", "COMPILED"})
+    private MappingBenchmark.Mapper binder;
+
+    private final Utils utils = new Utils();
+    private final StatementBuilder statementBuilder = new StatementBuilder();
+    private Connection con;
+    private PreparedStatement queryStmt;
+    private PreparedStatement insertStmt;
+    private Map<QueryColumn, Object> queryParameters;
+    private int[] parameterIndexes;
+    private IParameterBinder<TestItem> parameterBinder;
+    private IPlatform platform;
+    private TestItem bean;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException, ReflectiveOperationException {
+
+        con = BenchmarkDatabase.getUnmanagedConnection();
+        platform = DataSourceProvider.getPlatform();
+        bean = binder.getBeanClass().newInstance();
+        BenchmarkDatabase.fillItem(bean, 1L);
+        queryParameters = new TreeMap<>();
+        queryParameters.put(new QueryColumn("CATEGORY", new Operator(Operator.Name.EQUAL_TO), null),
+                BenchmarkDatabase.getCategory(1L));
+        queryParameters.put(new QueryColumn("AMOUNT", new Operator(Operator.Name.GREATER_THAN), null), 10);
+        queryStmt = con.prepareStatement
+                (statementBuilder.buildSQLStatement(bean.getTableName(), queryParameters, false, false));
+        final Map<String, Integer> fieldName2ParameterIndex = new HashMap<>();
+        insertStmt = con.prepareStatement(statementBuilder.buildInsert(bean, fieldName2ParameterIndex, false));
+        parameterBinder = BeanMapper.<TestItem>getInstance().getParameterBinder(bean.getClass());
+        final String[] columnNames = parameterBinder.getColumnNames();
+        parameterIndexes = new int[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            final Integer parameterIndex = fieldName2ParameterIndex.get(columnNames[i]);
+            parameterIndexes[i] = parameterIndex == null ? 0 : parameterIndex;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        queryStmt.close();
+        insertStmt.close();
+        con.close();
+    }
+
+    @Benchmark
+    public int setQueryParameter() throws SQLException {
+
+        return utils.setQueryParameter(queryParameters, queryStmt, 1);
+    }
+
+    @Benchmark
+    public PreparedStatement bindBean() throws SQLException {
+
+        parameterBinder.bind(platform, insertStmt, bean, parameterIndexes);
+        return insertStmt;
+    }
+}
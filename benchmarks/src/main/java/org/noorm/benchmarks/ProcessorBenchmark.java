@@ -0,0 +1,101 @@
+package org.noorm.benchmarks;
+
+import org.noorm.jdbc.JDBCDMLProcessor;
+import org.noorm.jdbc.JDBCQueryProcessor;
+import org.noorm.jdbc.Operator;
+import org.noorm.jdbc.QueryColumn;
+import org.noorm.jdbc.TestDatabase;
+import org.noorm.jdbc.TestItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the complete processing of queries and DML statements by the NoORM processors, including
+ * connection handling, statement generation, parameter binding, execution and mapping against the embedded
+ * benchmark database (see BenchmarkDatabase).
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessorBenchmark {
+
+    private static final int UPDATE_BATCH_SIZE = 100;
+    private static final long INSERT_ID = BenchmarkDatabase.ROW_COUNT + 1L;
+
+    private final JDBCQueryProcessor<TestItem> queryProcessor = JDBCQueryProcessor.getInstance();
+    private final JDBCDMLProcessor<TestItem> dmlProcessor = JDBCDMLProcessor.getInstance();
+    private Map<QueryColumn, Object> queryParameters;
+    private List<TestItem> updateItems;
+    private long nextPrimaryKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        BenchmarkDatabase.initialize();
+        queryParameters = new HashMap<>();
+        queryParameters.put(new QueryColumn("CATEGORY", new Operator(Operator.Name.EQUAL_TO), null),
+                BenchmarkDatabase.getCategory(1L));
+        final Map<QueryColumn, Object> updateParameters = new HashMap<>();
+        updateParameters.put(new QueryColumn("ID", new Operator(Operator.Name.LESS_THAN_OR_EQUAL_TO), null),
+                UPDATE_BATCH_SIZE);
+        updateItems = queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, updateParameters, TestItem.class, false);
+        nextPrimaryKey = 1L;
+    }
+
+    @Benchmark
+    public List<TestItem> getBeanListFromSQL() {
+
+        return queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false);
+    }
+
+    @Benchmark
+    public TestItem getBeanByPrimaryKey() {
+
+        final TestItem item = queryProcessor.getBeanByPrimaryKey(TestItem.class, nextPrimaryKey);
+        nextPrimaryKey = nextPrimaryKey % BenchmarkDatabase.ROW_COUNT + 1L;
+        return item;
+    }
+
+    @Benchmark
+    public List<TestItem> updateBatch() {
+
+        for (final TestItem item : updateItems) {
+            item.setAmount(item.getAmount().add(BigDecimal.ONE));
+        }
+        // The version column is incremented by the DML processor, so the Beans can be updated repeatedly
+        dmlProcessor.update(updateItems);
+        return updateItems;
+    }
+
+    @Benchmark
+    public TestItem insertAndDelete() {
+
+        final TestItem item = new TestItem();
+        BenchmarkDatabase.fillItem(item, INSERT_ID);
+        dmlProcessor.insert(item);
+        dmlProcessor.delete(item);
+        return item;
+    }
+}
@@ -0,0 +1,15 @@
+package org.noorm.benchmarks;
+
+import org.noorm.jdbc.TestItem;
+
+/**
+ * Variant of TestItem without registered row mapper and parameter binder. Beans of this class are
+ * mapped by the compiled row mapper and bound using the Bean metadata of the BeanMapper, like Beans of
+ * applications, which do not use the generated mapping code.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class ReflectiveBenchmarkItem<T> extends TestItem<T> {
+
+	private static final long serialVersionUID = 0L;
+}
@@ -0,0 +1,68 @@
+package org.noorm.benchmarks;
+
+import org.noorm.jdbc.Operator;
+import org.noorm.jdbc.QueryColumn;
+import org.noorm.jdbc.StatementBuilder;
+import org.noorm.jdbc.TestItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the generation of SQL statements (StatementBuilder).
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatementBuilderBenchmark {
+
+    private final StatementBuilder statementBuilder = new StatementBuilder();
+    private TestItem bean;
+    private Map<QueryColumn, Object> queryParameters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        bean = BenchmarkDatabase.createItems(1L, 1).get(0);
+        queryParameters = new TreeMap<>();
+        queryParameters.put(new QueryColumn("CATEGORY", new Operator(Operator.Name.EQUAL_TO), null),
+                BenchmarkDatabase.getCategory(1L));
+        queryParameters.put(new QueryColumn("AMOUNT", new Operator(Operator.Name.GREATER_THAN), null), 10);
+    }
+
+    @Benchmark
+    public String buildInsert() {
+
+        return statementBuilder.buildInsert(bean, new HashMap(), false);
+    }
+
+    @Benchmark
+    public String buildUpdate() {
+
+        return statementBuilder.buildUpdate(bean, false, new HashMap(), false);
+    }
+
+    @Benchmark
+    public String buildSQLStatement() {
+
+        return statementBuilder.buildSQLStatement(bean.getTableName(), queryParameters, false, false);
+    }
+}
@@ -26,6 +26,8 @@ public class GeneratorUtil {
     private static final String DEFAULT_METHOD_NAME_PART3 = "By";
 
     public static final String PARAMETER_PREFIX = "p";
+    private static final String STREAM_METHOD_PREFIX = "stream";
+    private static final String[] STREAM_REPLACED_PREFIXES = {"find", "get"};
 
 	public static void generateFile(final File pDir,
 									final String pVelocityTemplateFile,
@@ -431,6 +433,25 @@ public class GeneratorUtil {
         return methodName.toString();
     }
 
+    /**
+     * Derives the name of the streaming variant of a generated finder method. A leading "find" or "get"
+     * is replaced by "stream", otherwise "stream" is prepended to the method name.
+     *
+     * @param pMethodName the name of the generated finder method
+     * @return the name of the streaming method
+     */
+    public static String generateStreamMethodName(final String pMethodName) {
+
+        for (final String finderPrefix : STREAM_REPLACED_PREFIXES) {
+            if (pMethodName.startsWith(finderPrefix) && pMethodName.length() > finderPrefix.length()
+                    && Character.isUpperCase(pMethodName.charAt(finderPrefix.length()))) {
+                return STREAM_METHOD_PREFIX.concat(pMethodName.substring(finderPrefix.length()));
+            }
+        }
+        return STREAM_METHOD_PREFIX.concat(pMethodName.substring(0, 1).toUpperCase())
+                .concat(pMethodName.substring(1));
+    }
+
     public static void processSearchColumns(final SearchDescriptor pSearchDescriptor,
                                             final List<TableMetadata> pTableMetadataList,
                                             final List<TypeMapping> pTypeMappings,
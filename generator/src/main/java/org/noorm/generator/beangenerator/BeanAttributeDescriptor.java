@@ -1,5 +1,10 @@
 package org.noorm.generator.beangenerator;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Velocity attribute descriptor for the Bean generator
  *
@@ -9,6 +14,55 @@ package org.noorm.generator.beangenerator;
  */
 public class BeanAttributeDescriptor {
 
+	// ResultSet access methods for all Java types supported by the generated row mappers
+	private static final Map<String, String> RESULT_SET_GETTERS = new HashMap<>();
+	static {
+		RESULT_SET_GETTERS.put("String", "getString");
+		RESULT_SET_GETTERS.put("Long", "getLong");
+		RESULT_SET_GETTERS.put("Integer", "getInt");
+		RESULT_SET_GETTERS.put("Short", "getShort");
+		RESULT_SET_GETTERS.put("Double", "getDouble");
+		RESULT_SET_GETTERS.put("Float", "getFloat");
+		RESULT_SET_GETTERS.put("Boolean", "getBoolean");
+		RESULT_SET_GETTERS.put("java.math.BigDecimal", "getBigDecimal");
+		RESULT_SET_GETTERS.put("java.util.Date", "getTimestamp");
+		RESULT_SET_GETTERS.put("java.sql.Date", "getTimestamp");
+		RESULT_SET_GETTERS.put("java.sql.Timestamp", "getTimestamp");
+		RESULT_SET_GETTERS.put("byte[]", "getBytes");
+		RESULT_SET_GETTERS.put("java.sql.Clob", "getClob");
+		RESULT_SET_GETTERS.put("java.sql.NClob", "getNClob");
+		RESULT_SET_GETTERS.put("java.sql.Blob", "getBlob");
+		RESULT_SET_GETTERS.put("java.sql.SQLXML", "getSQLXML");
+	}
+	// Types, which require a check with ResultSet.wasNull to detect NULL values
+	private static final List<String> WAS_NULL_CHECK_TYPES = Arrays.asList("Long", "Integer", "Short", "Double",
+			"Float", "java.sql.Clob", "java.sql.NClob", "java.sql.Blob", "java.sql.SQLXML");
+	private static final List<String> DATE_TYPES = Arrays.asList("java.util.Date", "java.sql.Date", "java.sql.Timestamp");
+	// Typed IPlatform binding methods used by the generated parameter binders. A typed binding method is used
+	// only, when the SQL type of the column matches the Java type, otherwise the value is bound with setObject
+	private static final Map<String, String> PLATFORM_SETTERS = new HashMap<>();
+	private static final Map<String, List<String>> PLATFORM_SETTER_SQL_TYPES = new HashMap<>();
+	static {
+		PLATFORM_SETTERS.put("Long", "setLong");
+		PLATFORM_SETTER_SQL_TYPES.put("Long", Arrays.asList("Types.BIGINT", "Types.INTEGER", "Types.SMALLINT",
+				"Types.NUMERIC", "Types.DECIMAL"));
+		PLATFORM_SETTERS.put("Integer", "setInt");
+		PLATFORM_SETTER_SQL_TYPES.put("Integer", Arrays.asList("Types.INTEGER", "Types.SMALLINT",
+				"Types.TINYINT", "Types.BIGINT", "Types.NUMERIC", "Types.DECIMAL"));
+		PLATFORM_SETTERS.put("Double", "setDouble");
+		PLATFORM_SETTER_SQL_TYPES.put("Double", Arrays.asList("Types.DOUBLE", "Types.FLOAT", "Types.REAL",
+				"Types.NUMERIC", "Types.DECIMAL"));
+		PLATFORM_SETTERS.put("String", "setString");
+		PLATFORM_SETTER_SQL_TYPES.put("String", Arrays.asList("Types.VARCHAR", "Types.CHAR", "Types.NVARCHAR",
+				"Types.NCHAR", "Types.LONGVARCHAR", "Types.LONGNVARCHAR"));
+		PLATFORM_SETTERS.put("java.math.BigDecimal", "setBigDecimal");
+		PLATFORM_SETTER_SQL_TYPES.put("java.math.BigDecimal", Arrays.asList("Types.NUMERIC", "Types.DECIMAL"));
+		for (final String dateType : Arrays.asList("java.util.Date", "java.sql.Date", "java.sql.Timestamp")) {
+			PLATFORM_SETTERS.put(dateType, "setTimestamp");
+			PLATFORM_SETTER_SQL_TYPES.put(dateType, Arrays.asList("Types.TIMESTAMP", "Types.DATE"));
+		}
+	}
+
 	private String name;
     private String methodNamePostfix;
 	private String columnName;
@@ -108,4 +162,33 @@ public class BeanAttributeDescriptor {
 	public void setOmitSuperClassAttribute(final boolean pOmitSuperClassAttribute) {
 		omitSuperClassAttribute = pOmitSuperClassAttribute;
 	}
+
+	/**
+	 * The name of the ResultSet method used by the generated row mapper to retrieve the value for this attribute.
+	 * @return the method name or null, when the attribute type is not supported by the generated row mapper
+	 */
+	public String getResultSetGetter() {
+		return RESULT_SET_GETTERS.get(type);
+	}
+
+	public boolean isWasNullCheckRequired() {
+		return WAS_NULL_CHECK_TYPES.contains(type);
+	}
+
+	/**
+	 * The name of the typed IPlatform method used by the generated parameter binder to bind the value of this
+	 * attribute.
+	 * @return the method name or null, when the value is bound using IPlatform.setObject
+	 */
+	public String getPlatformSetter() {
+		final List<String> sqlTypes = PLATFORM_SETTER_SQL_TYPES.get(type);
+		if (sqlTypes == null || !sqlTypes.contains(dataType)) {
+			return null;
+		}
+		return PLATFORM_SETTERS.get(type);
+	}
+
+	public boolean isDateType() {
+		return DATE_TYPES.contains(type);
+	}
 }
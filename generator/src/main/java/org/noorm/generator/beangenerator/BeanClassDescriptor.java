@@ -1,6 +1,7 @@
 package org.noorm.generator.beangenerator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -149,6 +150,30 @@ public class BeanClassDescriptor {
 		return attributes;
 	}
 
+	/**
+	 * The attributes bound by the generated parameter binder, i.e. all attributes used as parameter in an INSERT,
+	 * UPDATE or DELETE statement: the insertable attributes plus the primary key and version column attributes,
+	 * which are used in the WHERE-clause of UPDATE and DELETE statements, even when they are not insertable.
+	 * @return the attributes bound by the parameter binder
+	 */
+	public List<BeanAttributeDescriptor> getBinderAttributes() {
+		final List<String> keyColumnNames = new ArrayList<>();
+		if (primaryKeyColumnNames != null) {
+			keyColumnNames.addAll(Arrays.asList(primaryKeyColumnNames));
+		}
+		if (versionColumnName != null) {
+			keyColumnNames.add(versionColumnName);
+		}
+		final List<BeanAttributeDescriptor> binderAttributes = new ArrayList<>();
+		for (final BeanAttributeDescriptor beanAttributeDescriptor : attributes) {
+			if (beanAttributeDescriptor.isInsertable()
+					|| keyColumnNames.contains(beanAttributeDescriptor.getColumnName())) {
+				binderAttributes.add(beanAttributeDescriptor);
+			}
+		}
+		return binderAttributes;
+	}
+
 	public String getPackageName() {
 		return packageName;
 	}
@@ -198,4 +223,18 @@ public class BeanClassDescriptor {
 	public void setSuperClassName(final String pSuperClassName) {
 		superClassName = pSuperClassName;
 	}
+
+	/**
+	 * Row mappers and parameter binders are generated for Bean classes with supported attribute types only.
+	 * For other Bean classes, the runtime falls back to the generic, reflection based mapping.
+	 * @return true, when a row mapper and parameter binder is generated for this Bean class
+	 */
+	public boolean generateRowMapper() {
+		for (final BeanAttributeDescriptor beanAttributeDescriptor : attributes) {
+			if (beanAttributeDescriptor.getResultSetGetter() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
@@ -1,5 +1,6 @@
 package org.noorm.generator.beangenerator;
 
+import org.noorm.generator.ParameterDescriptor;
 import org.noorm.generator.SearchDescriptor;
 
 import java.util.ArrayList;
@@ -20,8 +21,10 @@ public class BeanDMLClassDescriptor {
 	private String beanPackageName;
 	private final List<UpdateDescriptor> updates = new ArrayList<>();
 	private final List<SearchDescriptor> deletes = new ArrayList<>();
+	private final List<ParameterDescriptor> primaryKeyParameters = new ArrayList<>();
 	private boolean isInterface = false;
     private String dataSourceName;
+    private boolean generateAsyncMethods = false;
 
 	public String getName() {
 		return name;
@@ -86,6 +89,18 @@ public class BeanDMLClassDescriptor {
 		return deletes;
 	}
 
+	public void addPrimaryKeyParameter(final ParameterDescriptor pPrimaryKeyParameter) {
+		primaryKeyParameters.add(pPrimaryKeyParameter);
+	}
+
+	public List<ParameterDescriptor> getPrimaryKeyParameters() {
+		return primaryKeyParameters;
+	}
+
+	public boolean hasPrimaryKey() {
+		return !primaryKeyParameters.isEmpty();
+	}
+
 	public boolean isInterface() {
 		return isInterface;
 	}
@@ -121,4 +136,12 @@ public class BeanDMLClassDescriptor {
     public boolean hasDataSourceName() {
         return dataSourceName != null && !dataSourceName.isEmpty();
     }
+
+    public boolean generateAsyncMethods() {
+        return generateAsyncMethods;
+    }
+
+    public void setGenerateAsyncMethods(final boolean pGenerateAsyncMethods) {
+        generateAsyncMethods = pGenerateAsyncMethods;
+    }
 }
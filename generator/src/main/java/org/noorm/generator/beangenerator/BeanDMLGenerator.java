@@ -5,6 +5,7 @@ import org.noorm.generator.schema.*;
 import org.noorm.jdbc.DataSourceProvider;
 import org.noorm.jdbc.Utils;
 import org.noorm.jdbc.platform.IMetadata;
+import org.noorm.jdbc.platform.PrimaryKeyColumn;
 import org.noorm.jdbc.platform.TableMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,9 +86,39 @@ public class BeanDMLGenerator {
 			if (GeneratorUtil.hasDataSourceName(configuration)) {
 				beanDMLClassDescriptor.setDataSourceName(configuration.getDataSource().getName());
 			}
+			beanDMLClassDescriptor.setGenerateAsyncMethods
+					(Boolean.TRUE.equals(configuration.isGenerateAsyncMethods()));
 
 			final List<TableMetadata> tableMetadataList = tableColumnMap.get(tableName0);
 
+			// Primary key parameters for the generated finder method using the entity cache
+			final List<PrimaryKeyColumn> pkColumnList = metadata.findPkColumns(tableName0);
+			for (final PrimaryKeyColumn pkColumn : pkColumnList) {
+				final String pkColumnName = pkColumn.getColumnName();
+				String javaType = null;
+				for (final TableMetadata tableMetadata : tableMetadataList) {
+					if (tableMetadata.getColumnName().equals(pkColumnName)) {
+						javaType = GeneratorUtil.convertDatabaseType2JavaType(
+								tableMetadata.getJDBCType(),
+								tableMetadata.getDecimalDigits(),
+								tableMetadata.getTableName(),
+								tableMetadata.getColumnName(),
+								configuration.getTypeMappings());
+					}
+				}
+				if (javaType == null) {
+					// Primary key columns not available in the table metadata (e.g. for views) are not supported
+					beanDMLClassDescriptor.getPrimaryKeyParameters().clear();
+					break;
+				}
+				final ParameterDescriptor parameterDescriptor = new ParameterDescriptor();
+				parameterDescriptor.setJavaName(GeneratorUtil.PARAMETER_PREFIX
+						+ Utils.convertDBName2JavaName(pkColumnName, true));
+				parameterDescriptor.setDbParamName(pkColumnName);
+				parameterDescriptor.setJavaType(javaType);
+				beanDMLClassDescriptor.addPrimaryKeyParameter(parameterDescriptor);
+			}
+
 			for (final UpdateDeclaration updateDeclaration : configuration.getUpdateDeclarations()) {
 				if (updateDeclaration.getTableName().equals(tableName0)) {
 					final UpdateDescriptor updateDescriptor = new UpdateDescriptor();
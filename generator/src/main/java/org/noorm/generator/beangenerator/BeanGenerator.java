@@ -32,6 +32,8 @@ public class BeanGenerator {
 
 	private static final Logger log = LoggerFactory.getLogger(BeanGenerator.class);
 	private static final String BEAN_VM_TEMPLATE_FILE = "/bean.vm";
+	private static final String BEAN_ROW_MAPPER_VM_TEMPLATE_FILE = "/bean_row_mapper.vm";
+	private static final String BEAN_BINDER_VM_TEMPLATE_FILE = "/bean_binder.vm";
 	private static final String BEAN_VALIDATOR_VM_TEMPLATE_FILE = "/bean_validator.vm";
 	private static final String BEAN_VALIDATOR_CLASS_NAME = "GenericBeanValidator";
 
@@ -237,6 +239,15 @@ public class BeanGenerator {
             }
 			GeneratorUtil.generateFile(beanPackageDir, BEAN_VM_TEMPLATE_FILE,
 					beanClassDescriptor.getName(), beanClassDescriptor);
+			if (beanClassDescriptor.generateRowMapper()) {
+				GeneratorUtil.generateFile(beanPackageDir, BEAN_ROW_MAPPER_VM_TEMPLATE_FILE,
+						beanClassDescriptor.getName().concat("RowMapper"), beanClassDescriptor);
+				GeneratorUtil.generateFile(beanPackageDir, BEAN_BINDER_VM_TEMPLATE_FILE,
+						beanClassDescriptor.getName().concat("Binder"), beanClassDescriptor);
+			} else {
+				log.info("Bean class ".concat(javaBeanName).concat(" contains unsupported attribute types. ")
+						.concat("No row mapper and parameter binder will be generated."));
+			}
 
 			if (GeneratorUtil.hasDataSourceName(configuration)) {
 				validatorClassDescriptor.setDataSourceName(configuration.getDataSource().getName());
@@ -232,6 +232,9 @@ public class GeneratorMojo extends AbstractMojo implements IParameters {
         if (configuration.isGeneratePKBasedEqualsAndHashCode() == null) {
             configuration.setGeneratePKBasedEqualsAndHashCode(Boolean.TRUE);
         }
+        if (configuration.isGenerateAsyncMethods() == null) {
+            configuration.setGenerateAsyncMethods(Boolean.FALSE);
+        }
         for (final QueryDeclaration queryDeclaration : configuration.getQueryDeclarations()) {
             if (queryDeclaration.isAcquireLock() == null) {
                 queryDeclaration.setAcquireLock(Boolean.FALSE);
@@ -19,6 +19,7 @@ public class QueryClassDescriptor {
     private final List<QueryDescriptor> queries = new ArrayList<>();
     private boolean isInterface = false;
     private String dataSourceName;
+    private boolean generateAsyncMethods = false;
 
     public String getPackageName() {
         return packageName;
@@ -87,4 +88,12 @@ public class QueryClassDescriptor {
     public boolean hasDataSourceName() {
         return dataSourceName != null && !dataSourceName.isEmpty();
     }
+
+    public boolean generateAsyncMethods() {
+        return generateAsyncMethods;
+    }
+
+    public void setGenerateAsyncMethods(final boolean pGenerateAsyncMethods) {
+        generateAsyncMethods = pGenerateAsyncMethods;
+    }
 }
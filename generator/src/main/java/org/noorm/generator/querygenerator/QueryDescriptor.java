@@ -1,5 +1,6 @@
 package org.noorm.generator.querygenerator;
 
+import org.noorm.generator.GeneratorUtil;
 import org.noorm.generator.ParameterDescriptor;
 import org.noorm.generator.SearchDescriptor;
 import org.noorm.generator.schema.QueryDeclaration;
@@ -17,10 +18,40 @@ public class QueryDescriptor extends SearchDescriptor {
         return ((QueryDeclaration) searchDeclaration).isSingleRowQuery();
     }
 
+    public String getStreamMethodName() {
+        return GeneratorUtil.generateStreamMethodName(getMethodName());
+    }
+
+    public String getPageMethodName() {
+        return getMethodName().concat("Page");
+    }
+
+    public String getAsyncMethodName() {
+        return getMethodName().concat("Async");
+    }
+
     public boolean useFilterExtension() {
         return ((QueryDeclaration) searchDeclaration).isUseFilterExtension();
     }
 
+    public boolean useResultCache() {
+        return Boolean.TRUE.equals(((QueryDeclaration) searchDeclaration).isUseResultCache());
+    }
+
+    public boolean isParallelQuery() {
+        final String partitionColumn = ((QueryDeclaration) searchDeclaration).getPartitionColumn();
+        return partitionColumn != null && !partitionColumn.isEmpty();
+    }
+
+    public String getPartitionColumn() {
+        return ((QueryDeclaration) searchDeclaration).getPartitionColumn();
+    }
+
+    public int getPartitionCount() {
+        final Integer partitionCount = ((QueryDeclaration) searchDeclaration).getPartitionCount();
+        return partitionCount == null ? 0 : partitionCount;
+    }
+
     public boolean isAcquireLock() {
         return ((QueryDeclaration) searchDeclaration).isAcquireLock();
     }
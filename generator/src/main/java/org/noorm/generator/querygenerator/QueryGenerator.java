@@ -95,6 +95,9 @@ public class QueryGenerator {
                 }
             }
             queryDescriptor.setSearchDeclaration(queryDeclaration);
+            if (queryDescriptor.isParallelQuery()) {
+                validatePartitionColumn(queryDeclaration, tableMetadataList);
+            }
             String beanName = GeneratorUtil.convertTableName2JavaName(t0, configuration.getTableNameMappings());
             if (configuration.getExtendedBeanMappings() != null) {
                 final String extBeanName =
@@ -116,6 +119,8 @@ public class QueryGenerator {
                 if (GeneratorUtil.hasDataSourceName(configuration)) {
                     queryClassDescriptor.setDataSourceName(configuration.getDataSource().getName());
                 }
+                queryClassDescriptor.setGenerateAsyncMethods
+                        (Boolean.TRUE.equals(configuration.isGenerateAsyncMethods()));
                 if (GeneratorUtil.hasServiceInterfacePackageName(configuration)) {
                     queryClassDescriptor.setInterfacePackageName
                             (configuration.getServiceInterfaceJavaPackage().getName());
@@ -137,4 +142,24 @@ public class QueryGenerator {
             }
         }
     }
+
+    private void validatePartitionColumn(final QueryDeclaration pQueryDeclaration,
+                                         final List<TableMetadata> pTableMetadataList) {
+
+        final String tableName = pQueryDeclaration.getTableName();
+        if (pQueryDeclaration.isSingleRowQuery() || pQueryDeclaration.isAcquireLock()
+                || Boolean.TRUE.equals(pQueryDeclaration.isUseResultCache())) {
+            throw new GeneratorException("Invalid query declaration: parallel execution is not supported for "
+                    .concat("single row queries, queries acquiring a lock and cached queries (table ")
+                    .concat(tableName).concat(")"));
+        }
+        final String partitionColumn = pQueryDeclaration.getPartitionColumn();
+        for (final TableMetadata tableMetadata : pTableMetadataList) {
+            if (tableMetadata.getColumnName().equals(partitionColumn)) {
+                return;
+            }
+        }
+        throw new GeneratorException("Invalid query declaration: no metadata found for table "
+                .concat(tableName).concat(" and partition column ").concat(partitionColumn));
+    }
 }
@@ -1,5 +1,6 @@
 package org.noorm.generator.servicegenerator;
 
+import org.noorm.generator.GeneratorUtil;
 import org.noorm.generator.ParameterDescriptor;
 
 import java.util.ArrayList;
@@ -30,6 +31,14 @@ public class ProcedureDescriptor {
 		return javaName;
 	}
 
+	public String getStreamJavaName() {
+		return GeneratorUtil.generateStreamMethodName(javaName);
+	}
+
+	public String getAsyncJavaName() {
+		return javaName.concat("Async");
+	}
+
 	public String getDbProcedureName() {
 		return dbProcedureName;
 	}
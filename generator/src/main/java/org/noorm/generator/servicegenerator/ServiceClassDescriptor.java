@@ -21,6 +21,7 @@ public class ServiceClassDescriptor {
 	private final List<ProcedureDescriptor> procedures = new ArrayList<>();
 	private boolean isInterface = false;
     private String dataSourceName;
+    private boolean generateAsyncMethods = false;
 
     public String getCodeHashValue() {
 		return codeHashValue;
@@ -110,4 +111,12 @@ public class ServiceClassDescriptor {
     public boolean hasDataSourceName() {
         return dataSourceName != null && !dataSourceName.isEmpty();
     }
+
+    public boolean generateAsyncMethods() {
+        return generateAsyncMethods;
+    }
+
+    public void setGenerateAsyncMethods(final boolean pGenerateAsyncMethods) {
+        generateAsyncMethods = pGenerateAsyncMethods;
+    }
 }
@@ -87,6 +87,8 @@ public class ServiceGenerator {
             if (GeneratorUtil.hasDataSourceName(configuration)) {
                 serviceClassDescriptor.setDataSourceName(configuration.getDataSource().getName());
             }
+            serviceClassDescriptor.setGenerateAsyncMethods
+                    (Boolean.TRUE.equals(configuration.isGenerateAsyncMethods()));
             serviceClassDescriptor.setJavaName(javaClassName);
 			serviceClassDescriptor.setDatabasePackageName(packageName.toLowerCase());
             if (GeneratorUtil.hasServiceInterfacePackageName(configuration)) {
@@ -0,0 +1,111 @@
+package org.noorm.loadtest;
+
+/**
+ * Histogram for latencies in nanoseconds with a bounded relative error.
+ * Every power of two is divided into 32 linear sub-buckets, so the relative error of the reported percentiles
+ * is below 3.2% for the whole value range, while the memory footprint is constant. Instances are not thread-safe
+ * and are intended to be used by a single worker thread. The results of multiple workers are combined using
+ * method add.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * Records a single latency.
+     *
+     * @param pNanos the latency in nanoseconds
+     */
+    public void record(final long pNanos) {
+
+        final long value = Math.max(0L, pNanos);
+        counts[getBucketIndex(value)]++;
+        totalCount++;
+        if (value > maxValue) {
+            maxValue = value;
+        }
+    }
+
+    /**
+     * Adds the recorded latencies of the given histogram to this histogram.
+     *
+     * @param pHistogram the histogram to add
+     */
+    public void add(final LatencyHistogram pHistogram) {
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += pHistogram.counts[i];
+        }
+        totalCount += pHistogram.totalCount;
+        maxValue = Math.max(maxValue, pHistogram.maxValue);
+    }
+
+    /**
+     * Discards all recorded latencies.
+     */
+    public void reset() {
+
+        java.util.Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        maxValue = 0L;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMaxNanos() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the latency, below or at which the given fraction of all recorded latencies lie.
+     *
+     * @param pPercentile the percentile as fraction, e.g. 0.99
+     * @return the latency in nanoseconds (the mid value of the bucket containing the percentile)
+     */
+    public long getPercentileNanos(final double pPercentile) {
+
+        if (totalCount == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(pPercentile * totalCount));
+        long cumulativeCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(maxValue, getBucketMidValue(i));
+            }
+        }
+        return maxValue;
+    }
+
+    private static int getBucketIndex(final long pValue) {
+
+        if (pValue < SUB_BUCKET_COUNT) {
+            return (int) pValue;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(pValue) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (pValue >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long getBucketMidValue(final int pIndex) {
+
+        if (pIndex < SUB_BUCKET_COUNT) {
+            return pIndex;
+        }
+        final int shift = (pIndex >>> SUB_BUCKET_BITS) - 1;
+        final long subBucket = pIndex & (SUB_BUCKET_COUNT - 1);
+        final long lowerBound = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + ((1L << shift) >>> 1);
+    }
+}
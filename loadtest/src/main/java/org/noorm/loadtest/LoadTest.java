@@ -0,0 +1,196 @@
+package org.noorm.loadtest;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.noorm.jdbc.DataSourceConfiguration;
+import org.noorm.jdbc.DataSourceProvider;
+import org.noorm.jdbc.PooledDataSource;
+import org.noorm.loadtest.LoadTestConfiguration.Operation;
+import org.noorm.loadtest.beans.LtAccount;
+import org.noorm.loadtest.services.LtAccountDML;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reproducible load test for the NoORM runtime. The load test starts an embedded H2 database, creates the load
+ * test schema, inserts the initial accounts and drives the configured operation mix from the configured number
+ * of worker threads. The beans and DML services used by the load test are generated by the NoORM generator
+ * against the same schema during the build.
+ * After the warm-up phase, the latencies of all operations are recorded for the configured duration. The results
+ * are reported as throughput and latency percentiles (p50, p99, p999) per operation and in total.
+ *
+ * Usage: java -jar loadtest.jar [threads=n] [duration=s] [warmup=s] [rows=n] [categories=n] [mix=op:weight,...]
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class LoadTest {
+
+    public static final String DATA_SOURCE_NAME = "loadtest";
+
+    private static final String JDBC_URL = "jdbc:h2:mem:noorm_loadtest;DB_CLOSE_DELAY=-1";
+    private static final String CREATE_SCHEMA = "RUNSCRIPT FROM 'classpath:/loadtest-schema.sql'";
+    private static final String PLATFORM_NAME = "H2";
+    private static final String CATEGORY_PREFIX = "CATEGORY_";
+    private static final int PRELOAD_BATCH_SIZE = 1000;
+    private static final int SEQUENCE_FETCH_SIZE = 100;
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    private final LoadTestConfiguration configuration;
+    private volatile boolean running = true;
+    private volatile boolean measuring = false;
+
+    public LoadTest(final LoadTestConfiguration pConfiguration) {
+        configuration = pConfiguration;
+    }
+
+    public static void main(final String[] pArgs) throws Exception {
+
+        final LoadTestConfiguration configuration;
+        try {
+            configuration = LoadTestConfiguration.parse(pArgs);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java -jar loadtest.jar [threads=n] [duration=s] [warmup=s] [rows=n] "
+                    + "[categories=n] [mix=op:weight,...]");
+            System.exit(1);
+            return;
+        }
+        new LoadTest(configuration).execute();
+    }
+
+    public LoadTestConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isMeasuring() {
+        return measuring;
+    }
+
+    /**
+     * Executes the load test and prints the results to standard out.
+     *
+     * @throws SQLException JDBC driver exception
+     * @throws InterruptedException when the main thread is interrupted while waiting for the workers
+     */
+    public void execute() throws SQLException, InterruptedException {
+
+        System.out.println("NoORM load test: " + configuration);
+        initializeDatabase();
+        preloadAccounts();
+
+        final List<LoadTestWorker> workers = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < configuration.getThreads(); i++) {
+            final LoadTestWorker worker = new LoadTestWorker(this, i);
+            final Thread thread = new Thread(worker, "noorm-loadtest-" + i);
+            workers.add(worker);
+            threads.add(thread);
+            thread.start();
+        }
+        Thread.sleep(configuration.getWarmupSeconds() * 1000L);
+        measuring = true;
+        final long startTime = System.nanoTime();
+        Thread.sleep(configuration.getDurationSeconds() * 1000L);
+        running = false;
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final long elapsedNanos = System.nanoTime() - startTime;
+        report(workers, elapsedNanos);
+    }
+
+    private void initializeDatabase() throws SQLException {
+
+        final JdbcDataSource h2DataSource = new JdbcDataSource();
+        h2DataSource.setURL(JDBC_URL);
+        try (final Connection con = h2DataSource.getConnection();
+             final Statement stmt = con.createStatement()) {
+            stmt.execute(CREATE_SCHEMA);
+            LoadTestProcedures.install(con);
+        }
+        final DataSourceConfiguration poolConfiguration = new DataSourceConfiguration();
+        poolConfiguration.setPoolMinSize(configuration.getThreads());
+        poolConfiguration.setPoolMaxSize(configuration.getThreads());
+        final PooledDataSource dataSource = new PooledDataSource(h2DataSource, poolConfiguration);
+        DataSourceProvider.addDataSource(dataSource, DATA_SOURCE_NAME, PLATFORM_NAME, true);
+        DataSourceProvider.setSequenceFetchSize(SEQUENCE_FETCH_SIZE);
+    }
+
+    private void preloadAccounts() {
+
+        final LtAccountDML accountDML = LtAccountDML.getInstance();
+        final List<LtAccount> accounts = new ArrayList<>(PRELOAD_BATCH_SIZE);
+        for (int i = 0; i < configuration.getRows(); i++) {
+            accounts.add(createAccount(i % configuration.getCategories()));
+            if (accounts.size() == PRELOAD_BATCH_SIZE) {
+                accountDML.insertLtAccountList(accounts);
+                accounts.clear();
+            }
+        }
+        if (!accounts.isEmpty()) {
+            accountDML.insertLtAccountList(accounts);
+        }
+    }
+
+    static LtAccount createAccount(final int pCategory) {
+
+        final LtAccount account = new LtAccount();
+        account.setOwnerName("Owner " + ThreadLocalRandom.current().nextInt(1000000));
+        account.setCategory(getCategory(pCategory));
+        account.setBalance(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(10000000), 2));
+        account.setCreated(new Timestamp(System.currentTimeMillis()));
+        return account;
+    }
+
+    static String getCategory(final int pCategory) {
+        return CATEGORY_PREFIX + pCategory;
+    }
+
+    private void report(final List<LoadTestWorker> pWorkers, final long pElapsedNanos) {
+
+        final double elapsedSeconds = pElapsedNanos / 1.0e9;
+        final LatencyHistogram total = new LatencyHistogram();
+        long totalErrors = 0L;
+        System.out.println();
+        System.out.println(String.format("%-10s %10s %8s %10s %10s %10s %10s %10s",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (final Operation operation : Operation.values()) {
+            final LatencyHistogram histogram = new LatencyHistogram();
+            long errors = 0L;
+            for (final LoadTestWorker worker : pWorkers) {
+                histogram.add(worker.getHistogram(operation));
+                errors += worker.getErrorCount(operation);
+            }
+            total.add(histogram);
+            totalErrors += errors;
+            printLine(operation.name().toLowerCase(), histogram, errors, elapsedSeconds);
+        }
+        printLine("total", total, totalErrors, elapsedSeconds);
+    }
+
+    private static void printLine(final String pName,
+                                  final LatencyHistogram pHistogram,
+                                  final long pErrors,
+                                  final double pElapsedSeconds) {
+
+        System.out.println(String.format("%-10s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f",
+                pName,
+                pHistogram.getTotalCount(),
+                pErrors,
+                pHistogram.getTotalCount() / pElapsedSeconds,
+                pHistogram.getPercentileNanos(0.5) / NANOS_PER_MILLI,
+                pHistogram.getPercentileNanos(0.99) / NANOS_PER_MILLI,
+                pHistogram.getPercentileNanos(0.999) / NANOS_PER_MILLI,
+                pHistogram.getMaxNanos() / NANOS_PER_MILLI));
+    }
+}
@@ -0,0 +1,144 @@
+package org.noorm.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Configuration of the load test. All options are provided as command line arguments in the form option=value:
+ *
+ * threads    the number of worker threads (default 8)
+ * duration   the measurement duration in seconds (default 60)
+ * warmup     the warm-up duration in seconds, results of the warm-up are discarded (default 10)
+ * rows       the number of accounts created before the load test starts (default 10000)
+ * categories the number of distinct account categories used by searches (default 100)
+ * mix        the relative weights of the operations (default insert:20,search:30,update:30,delete:10,procedure:10)
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class LoadTestConfiguration {
+
+    public enum Operation {
+        INSERT, SEARCH, UPDATE, DELETE, PROCEDURE
+    }
+
+    private static final String DEFAULT_MIX = "insert:20,search:30,update:30,delete:10,procedure:10";
+
+    private int threads = 8;
+    private int durationSeconds = 60;
+    private int warmupSeconds = 10;
+    private int rows = 10000;
+    private int categories = 100;
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    public LoadTestConfiguration() {
+        setMix(DEFAULT_MIX);
+    }
+
+    /**
+     * Creates the configuration from the given command line arguments.
+     *
+     * @param pArgs the command line arguments in the form option=value
+     * @return the configuration
+     */
+    public static LoadTestConfiguration parse(final String[] pArgs) {
+
+        final LoadTestConfiguration configuration = new LoadTestConfiguration();
+        for (final String arg : pArgs) {
+            final int separatorIndex = arg.indexOf('=');
+            if (separatorIndex < 1) {
+                throw new IllegalArgumentException("Invalid argument '" + arg + "', expected option=value.");
+            }
+            final String option = arg.substring(0, separatorIndex).trim().toLowerCase();
+            final String value = arg.substring(separatorIndex + 1).trim();
+            switch (option) {
+                case "threads":
+                    configuration.threads = parsePositive(option, value);
+                    break;
+                case "duration":
+                    configuration.durationSeconds = parsePositive(option, value);
+                    break;
+                case "warmup":
+                    configuration.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "rows":
+                    configuration.rows = parsePositive(option, value);
+                    break;
+                case "categories":
+                    configuration.categories = parsePositive(option, value);
+                    break;
+                case "mix":
+                    configuration.setMix(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option '" + option + "'.");
+            }
+        }
+        if (configuration.rows < configuration.threads) {
+            throw new IllegalArgumentException("The number of rows must not be less than the number of threads.");
+        }
+        return configuration;
+    }
+
+    private static int parsePositive(final String pOption, final String pValue) {
+
+        final int value = Integer.parseInt(pValue);
+        if (value < 1) {
+            throw new IllegalArgumentException("Option '" + pOption + "' must be positive.");
+        }
+        return value;
+    }
+
+    private void setMix(final String pMix) {
+
+        mix.clear();
+        int totalWeight = 0;
+        for (final String entry : pMix.split(",")) {
+            final String[] operationWeight = entry.split(":");
+            if (operationWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected operation:weight.");
+            }
+            final Operation operation = Operation.valueOf(operationWeight[0].trim().toUpperCase());
+            final int weight = Integer.parseInt(operationWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("The weight of operation " + operation + " must not be negative.");
+            }
+            mix.put(operation, weight);
+            totalWeight += weight;
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("At least one operation must have a positive weight.");
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public int getWeight(final Operation pOperation) {
+
+        final Integer weight = mix.get(pOperation);
+        return weight == null ? 0 : weight;
+    }
+
+    @Override
+    public String toString() {
+        return "threads=" + threads + ", duration=" + durationSeconds + "s, warmup=" + warmupSeconds + "s, rows="
+                + rows + ", categories=" + categories + ", mix=" + mix;
+    }
+}
@@ -0,0 +1,74 @@
+package org.noorm.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * Stored procedures of the load test schema. H2 does not support stored procedures, but user-defined functions
+ * implemented as static Java methods (CREATE ALIAS). The H2 platform calls these functions with positional
+ * parameters in the order of the parameter names, so the method parameters are declared in this order.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public final class LoadTestProcedures {
+
+    public static final String BOOK_PROCEDURE = "LT_BOOK";
+    public static final String BOOK_ACCOUNT_ID = "P_ACCOUNT_ID";
+    public static final String BOOK_AMOUNT = "P_AMOUNT";
+    public static final String BOOK_BOOKING_COUNT = "P_BOOKING_COUNT";
+
+    private static final String CREATE_BOOK_PROCEDURE = "CREATE ALIAS IF NOT EXISTS " + BOOK_PROCEDURE + " FOR \""
+            + LoadTestProcedures.class.getName() + ".book\"";
+    private static final String INSERT_BOOKING =
+            "INSERT INTO LT_BOOKING (ACCOUNT_ID, AMOUNT, BOOKED) VALUES (?, ?, ?)";
+    private static final String COUNT_BOOKINGS = "SELECT COUNT(*) FROM LT_BOOKING WHERE ACCOUNT_ID = ?";
+
+    private LoadTestProcedures() {
+    }
+
+    /**
+     * Creates the user-defined functions in the database of the given connection.
+     *
+     * @param pConnection the database connection
+     * @throws SQLException JDBC driver exception
+     */
+    public static void install(final Connection pConnection) throws SQLException {
+
+        try (final Statement stmt = pConnection.createStatement()) {
+            stmt.execute(CREATE_BOOK_PROCEDURE);
+        }
+    }
+
+    /**
+     * Books the given amount for the given account.
+     *
+     * @param pConnection the connection of the calling session, provided by H2
+     * @param pAccountId the account id
+     * @param pAmount the amount to book
+     * @return the number of bookings for the account
+     * @throws SQLException JDBC driver exception
+     */
+    public static long book(final Connection pConnection,
+                            final long pAccountId,
+                            final BigDecimal pAmount) throws SQLException {
+
+        try (final PreparedStatement pstmt = pConnection.prepareStatement(INSERT_BOOKING)) {
+            pstmt.setLong(1, pAccountId);
+            pstmt.setBigDecimal(2, pAmount);
+            pstmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            pstmt.executeUpdate();
+        }
+        try (final PreparedStatement pstmt = pConnection.prepareStatement(COUNT_BOOKINGS)) {
+            pstmt.setLong(1, pAccountId);
+            try (final ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.noorm.loadtest;
+
+import org.noorm.jdbc.JDBCProcedureProcessor;
+import org.noorm.loadtest.LoadTestConfiguration.Operation;
+import org.noorm.loadtest.beans.LtAccount;
+import org.noorm.loadtest.services.AccountFinder;
+import org.noorm.loadtest.services.LtAccountDML;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Worker thread of the load test. Every worker executes randomly chosen operations according to the configured
+ * operation mix and records the latency of every operation in its own histograms.
+ * Workers do not interfere with each other on row level: updates are executed for the accounts of the worker's
+ * partition of the initially created accounts (account id modulo number of threads) and deletes are executed
+ * for the accounts inserted by the worker only. When a worker has no account to delete, an insert is executed
+ * instead.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class LoadTestWorker implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestWorker.class);
+
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    private final LoadTest loadTest;
+    private final LoadTestConfiguration configuration;
+    private final int workerIndex;
+    private final Operation[] operations = Operation.values();
+    private final int[] cumulativeWeights = new int[operations.length];
+    private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+    private final ArrayDeque<LtAccount> insertedAccounts = new ArrayDeque<>();
+    private final LtAccountDML accountDML = LtAccountDML.getInstance();
+    private final AccountFinder accountFinder = AccountFinder.getInstance();
+    private final JDBCProcedureProcessor<Long> procedureProcessor = JDBCProcedureProcessor.getInstance();
+    private final int partitionSize;
+    private int loggedErrors = 0;
+
+    public LoadTestWorker(final LoadTest pLoadTest, final int pWorkerIndex) {
+
+        loadTest = pLoadTest;
+        configuration = pLoadTest.getConfiguration();
+        workerIndex = pWorkerIndex;
+        int totalWeight = 0;
+        for (int i = 0; i < operations.length; i++) {
+            totalWeight += configuration.getWeight(operations[i]);
+            cumulativeWeights[i] = totalWeight;
+        }
+        for (final Operation operation : operations) {
+            histograms.put(operation, new LatencyHistogram());
+            errorCounts.put(operation, 0L);
+        }
+        partitionSize = configuration.getRows() / configuration.getThreads();
+    }
+
+    @Override
+    public void run() {
+
+        boolean measuring = false;
+        while (loadTest.isRunning()) {
+            if (!measuring && loadTest.isMeasuring()) {
+                // Results of the warm-up phase are discarded
+                for (final Operation operation : operations) {
+                    histograms.get(operation).reset();
+                    errorCounts.put(operation, 0L);
+                }
+                measuring = true;
+            }
+            Operation operation = nextOperation();
+            if (operation == Operation.DELETE && insertedAccounts.isEmpty()) {
+                operation = Operation.INSERT;
+            }
+            final long startTime = System.nanoTime();
+            try {
+                execute(operation);
+                histograms.get(operation).record(System.nanoTime() - startTime);
+            } catch (RuntimeException e) {
+                errorCounts.put(operation, errorCounts.get(operation) + 1L);
+                if (loggedErrors++ < MAX_LOGGED_ERRORS) {
+                    log.error("Operation " + operation + " failed in worker " + workerIndex + ".", e);
+                }
+            }
+        }
+    }
+
+    private Operation nextOperation() {
+
+        final int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void execute(final Operation pOperation) {
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (pOperation) {
+            case INSERT:
+                final LtAccount account = LoadTest.createAccount(random.nextInt(configuration.getCategories()));
+                accountDML.insertLtAccount(account);
+                insertedAccounts.add(account);
+                break;
+            case SEARCH:
+                final String category = LoadTest.getCategory(random.nextInt(configuration.getCategories()));
+                accountFinder.findLtAccountByCategory(category);
+                break;
+            case UPDATE:
+                final LtAccount updateAccount = accountDML.findLtAccountByPrimaryKey(nextPartitionAccountId(random));
+                updateAccount.setBalance(updateAccount.getBalance().add(BigDecimal.ONE));
+                updateAccount.setCreated(new Timestamp(System.currentTimeMillis()));
+                accountDML.updateLtAccount(updateAccount);
+                break;
+            case DELETE:
+                accountDML.deleteLtAccount(insertedAccounts.poll());
+                break;
+            case PROCEDURE:
+                final Map<String, Object> parameters = new HashMap<>();
+                parameters.put(LoadTestProcedures.BOOK_ACCOUNT_ID, nextPartitionAccountId(random));
+                parameters.put(LoadTestProcedures.BOOK_AMOUNT, BigDecimal.valueOf(random.nextInt(10000), 2));
+                procedureProcessor.callProcedure(LoadTestProcedures.BOOK_PROCEDURE,
+                        LoadTestProcedures.BOOK_BOOKING_COUNT, parameters, Long.class);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported operation " + pOperation);
+        }
+    }
+
+    private long nextPartitionAccountId(final ThreadLocalRandom pRandom) {
+
+        // The initially created accounts have the ids 1 to rows
+        return 1L + workerIndex + (long) pRandom.nextInt(partitionSize) * configuration.getThreads();
+    }
+
+    public LatencyHistogram getHistogram(final Operation pOperation) {
+        return histograms.get(pOperation);
+    }
+
+    public long getErrorCount(final Operation pOperation) {
+        return errorCounts.get(pOperation);
+    }
+}
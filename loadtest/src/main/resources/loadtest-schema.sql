@@ -0,0 +1,26 @@
+-- Schema for the NoORM load test. The script is executed for code generation (see pom.xml) and by the
+-- load test harness itself, so all statements must be idempotent.
+
+CREATE SEQUENCE IF NOT EXISTS LT_ACCOUNT_SEQ START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS LT_ACCOUNT
+(
+    ACCOUNT_ID  BIGINT         NOT NULL PRIMARY KEY,
+    OWNER_NAME  VARCHAR(64)    NOT NULL,
+    CATEGORY    VARCHAR(16)    NOT NULL,
+    BALANCE     DECIMAL(15, 2) NOT NULL,
+    CREATED     TIMESTAMP      NOT NULL,
+    VERSION     BIGINT         NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS LT_ACCOUNT_CATEGORY_IX ON LT_ACCOUNT (CATEGORY);
+
+CREATE TABLE IF NOT EXISTS LT_BOOKING
+(
+    BOOKING_ID  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ACCOUNT_ID  BIGINT         NOT NULL,
+    AMOUNT      DECIMAL(15, 2) NOT NULL,
+    BOOKED      TIMESTAMP      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS LT_BOOKING_ACCOUNT_IX ON LT_BOOKING (ACCOUNT_ID);
@@ -0,0 +1,129 @@
+package org.noorm.platform.h2;
+
+import org.noorm.jdbc.JDBCMetadata;
+import org.noorm.jdbc.JDBCQueryProcessor;
+import org.noorm.jdbc.platform.Parameter;
+import org.noorm.jdbc.platform.Sequence;
+import org.noorm.jdbc.platform.TableMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Metadata retrieval for the H2 database. Table metadata is retrieved using JDBC database metadata
+ * (see JDBCMetadata). H2 neither supports stored procedure packages nor database record types, so
+ * code generation for services is not supported for this platform.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class H2Metadata extends JDBCMetadata {
+
+    private static final Logger log = LoggerFactory.getLogger(H2Metadata.class);
+
+    private static final String SEQUENCE_QUERY = "SELECT SEQUENCE_NAME, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES "
+            + "WHERE SEQUENCE_SCHEMA = SCHEMA()";
+
+    private JDBCQueryProcessor queryProcessor = JDBCQueryProcessor.getInstance();
+
+    /**
+     * Returns the list of packages of stored procedures subject to Java code generation.
+     *
+     * @param pSearchRegex a regular expression to filter the list of packages
+     * @return the list of packages
+     */
+    @Override
+    public List<String> findPackageNames(String pSearchRegex) {
+
+        final List<String> packageNames = new ArrayList<>();
+        return packageNames;
+    }
+
+    /**
+     * Returns the list of procedures contained in the given package.
+     *
+     * @param pPackageName the package name
+     * @return the list of procedures
+     */
+    @Override
+    public List<String> findProcedureNames(String pPackageName) {
+
+        final List<String> procedureNames = new ArrayList<>();
+        return procedureNames;
+    }
+
+    /**
+     * Returns all sequences of the current schema.
+     *
+     * @return the list of sequence names
+     */
+    @Override
+    public List<Sequence> findSequences() {
+
+        final List<Map<String, Object>> results = queryProcessor.executeGenericSelect(SEQUENCE_QUERY);
+        final List<Sequence> sequences = new ArrayList<>();
+        for (final Map<String, Object> result : results) {
+            final Sequence sequence = new Sequence();
+            sequence.setName((String) result.get("SEQUENCE_NAME"));
+            sequence.setIncrementBy(((Number) result.get("INCREMENT")).intValue());
+            sequences.add(sequence);
+            log.debug("Found sequence metadata for sequence name/increment by : "
+                    + sequence.getName() + "/" + sequence.getIncrementBy());
+        }
+        return sequences;
+    }
+
+    /**
+     * Returns the parameters for a given stored procedure.
+     *
+     * @param pPackageName   the package name
+     * @param pProcedureName the procedure name
+     * @return the list of parameters for the given procedure
+     */
+    @Override
+    public List<Parameter> findProcedureParameters(String pPackageName, String pProcedureName) {
+
+        final List<Parameter> parameters = new ArrayList<>();
+        return parameters;
+    }
+
+    /**
+     * Returns the hash value for the source code of a given stored procedure package.
+     *
+     * @param pPackageName the package name
+     * @return the has value
+     */
+    @Override
+    public String getPackageHashValue(String pPackageName) {
+        return "";
+    }
+
+    /**
+     * Returns the type for a given parameter of a stored procedure.
+     *
+     * @param pPackageName   the package name
+     * @param pProcedureName the procedure name
+     * @param pParameterName the parameter name
+     * @return the type
+     */
+    @Override
+    public String getParameterRowtype(String pPackageName, String pProcedureName, String pParameterName) {
+
+        return "Unknown";
+    }
+
+    /**
+     * Returns metadata for a database type definition.
+     *
+     * @return the list of record metadata
+     */
+    @Override
+    public Map<String, List<TableMetadata>> findRecordMetadata() {
+
+        final Map<String, List<TableMetadata>> recordMetadata = new HashMap<>();
+        return recordMetadata;
+    }
+}
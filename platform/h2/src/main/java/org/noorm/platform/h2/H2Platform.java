@@ -0,0 +1,462 @@
+package org.noorm.platform.h2;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.noorm.jdbc.DataAccessException;
+import org.noorm.jdbc.FilterExtension;
+import org.noorm.jdbc.IBean;
+import org.noorm.jdbc.QueryColumn;
+import org.noorm.jdbc.StatementBuilder;
+import org.noorm.jdbc.platform.IMetadata;
+import org.noorm.jdbc.platform.IPlatform;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Platform service provider for the H2 database, primarily intended for embedded databases used for
+ * development, tests and load tests without a database installation.
+ * H2 does not support stored procedures, but user-defined functions based on static Java methods
+ * (CREATE ALIAS). These functions are called like stored procedures with positional parameters.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class H2Platform implements IPlatform {
+
+    private static final String H2_PLATFORM = "H2";
+
+    // H2 does not limit the number of bind parameters explicitly, but very large statements are parsed
+    // slowly, so we apply the same limit as for PostgreSQL
+    private static final int MAX_BIND_PARAMETERS = 32767;
+
+    private final H2Metadata h2Metadata = new H2Metadata();
+    private final StatementBuilder statementBuilder = new StatementBuilder();
+
+    /**
+     * Returns the name of platform service provider
+     *
+     * @return the platform name
+     */
+    @Override
+    public String getName() {
+
+        return H2_PLATFORM;
+    }
+
+    /**
+     * Creates a platform specific data source.
+     *
+     * @param pURL the connection URL
+     * @param pUsername the username
+     * @param pPassword the password
+     * @return the established data source
+     */
+    @Override
+    public DataSource getDataSource(String pURL, String pUsername, String pPassword) throws SQLException {
+
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(pURL);
+        dataSource.setUser(pUsername);
+        dataSource.setPassword(pPassword);
+        return dataSource;
+    }
+
+    /**
+     * Validates the platform specific data source
+     *
+     * @param pDataSource the data source
+     * @return a textual summary of the data source validation
+     */
+    @Override
+    public String validateDataSource(DataSource pDataSource) throws SQLException {
+
+        final StringBuilder validationInfo = new StringBuilder();
+        validationInfo.append("Validating data source. ");
+        if (pDataSource instanceof JdbcDataSource) {
+            validationInfo.append("Connection parameters: ");
+            validationInfo.append(";URL: ");
+            validationInfo.append(((JdbcDataSource) pDataSource).getURL());
+            validationInfo.append(";Username: ");
+            validationInfo.append(((JdbcDataSource) pDataSource).getUser());
+        } else {
+            validationInfo.append("Unable to retrieve connection parameters from data source. [");
+            validationInfo.append(pDataSource.getClass().getName());
+            validationInfo.append("]");
+        }
+        return validationInfo.toString();
+    }
+
+    /**
+     * Returns the platform specific query to retrieve a sequence value generated by the database.
+     *
+     * @param pSequenceName the name of the database sequence
+     * @return the SELECT statement to retrieve a single sequence value for the given platform
+     */
+    @Override
+    public String getSequenceQuery(final String pSequenceName) {
+
+        final String sequenceQuery = "SELECT NEXT VALUE FOR ".concat(pSequenceName);
+        return sequenceQuery;
+    }
+
+    /**
+     * Returns the platform specific query to retrieve multiple sequence values with a single database round-trip.
+     *
+     * @param pSequenceName the name of the database sequence
+     * @param pValueCount the number of sequence values to retrieve
+     * @return the SELECT statement to retrieve the given number of sequence values
+     */
+    @Override
+    public String getSequenceQuery(final String pSequenceName, final int pValueCount) {
+
+        final String sequenceQuery = "SELECT NEXT VALUE FOR ".concat(pSequenceName)
+                .concat(" FROM SYSTEM_RANGE (1, ").concat(Integer.toString(pValueCount)).concat(")");
+        return sequenceQuery;
+    }
+
+    /**
+     * Executes a batch over a prepared statement.
+     * Different databases and JDBC drivers handle the update count differently. To get a reliable update,
+     * a platform specific implementation is required.
+     *
+     * @param pPreparedStatement the prepared statement ready for executing the next batch
+     * @return the reliable update count for the platform in use
+     */
+    @Override
+    public int executeBatchWithReliableCount(final PreparedStatement pPreparedStatement) throws SQLException {
+
+        final int[] batchCounts = pPreparedStatement.executeBatch();
+        int updateCount = 0;
+        for (int i = 0; i < batchCounts.length; i++) {
+            updateCount += batchCounts[i];
+        }
+        return updateCount;
+    }
+
+    /**
+     * Constructs a multi-row INSERT statement using a VALUES list with one row constructor per row.
+     *
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnList the comma separated list of column names
+     * @param pValueList the comma separated list of value expressions (parameter placeholders) for a single row
+     * @param pRowCount the number of rows inserted by the statement
+     * @return the constructed multi-row INSERT statement
+     */
+    @Override
+    public String buildMultiRowInsert(final String pTableName,
+                                      final String pColumnList,
+                                      final String pValueList,
+                                      final int pRowCount) {
+
+        return statementBuilder.buildMultiRowValuesInsert(pTableName, pColumnList, pValueList, pRowCount);
+    }
+
+    /**
+     * Returns the maximum number of rows, which can be inserted with a single multi-row INSERT statement.
+     *
+     * @param pParametersPerRow the number of bind parameters required for a single row
+     * @return the maximum number of rows per statement
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(final int pParametersPerRow) {
+
+        return Math.max(1, MAX_BIND_PARAMETERS / Math.max(1, pParametersPerRow));
+    }
+
+    /**
+     * Indicates, whether the platform supports a bulk load API.
+     *
+     * @return false, bulk loading is not supported for this platform
+     */
+    @Override
+    public boolean supportsBulkLoad() {
+
+        return false;
+    }
+
+    /**
+     * Bulk loading is not supported for this platform. Use batched or multi-row inserts instead.
+     *
+     * @throws SQLException always SQLFeatureNotSupportedException
+     */
+    @Override
+    public long bulkLoad(final Connection pConnection,
+                         final String pTableName,
+                         final List<String> pColumnNames,
+                         final Iterator<Object[]> pRows) throws SQLException {
+
+        throw new SQLFeatureNotSupportedException("Bulk load is not supported for platform ".concat(getName()));
+    }
+
+    /**
+     * Sets an object value for an DML statement (INSERT, UPDATE, DELETE).
+     *
+     * @param pStmt           the prepared SQL statement
+     * @param pValue          the parameter value to be set
+     * @param pParameterIndex the index of the parameter
+     * @param pSQLType        the SQL type. Usually one type specified in java.sql.Types or a proprietary type
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public void setObject(final PreparedStatement pStmt,
+                          final Object pValue,
+                          final int pParameterIndex,
+                          final int pSQLType) throws SQLException {
+
+        if (pValue == null) {
+            pStmt.setNull(pParameterIndex, pSQLType);
+        } else {
+            if (pSQLType == -1) {
+                pStmt.setObject(pParameterIndex, pValue);
+            } else {
+                pStmt.setObject(pParameterIndex, pValue, pSQLType);
+            }
+        }
+    }
+
+    /**
+     * Sets the NULL value for an DML statement parameter.
+     *
+     * @param pStmt           the prepared SQL statement
+     * @param pParameterIndex the index of the parameter
+     * @param pSQLType        the SQL type. Usually one type specified in java.sql.Types or a proprietary type
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public void setNull(final PreparedStatement pStmt,
+                        final int pParameterIndex,
+                        final int pSQLType) throws SQLException {
+
+        pStmt.setNull(pParameterIndex, pSQLType);
+    }
+
+    @Override
+    public void setLong(final PreparedStatement pStmt,
+                        final long pValue,
+                        final int pParameterIndex) throws SQLException {
+
+        pStmt.setLong(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setInt(final PreparedStatement pStmt,
+                       final int pValue,
+                       final int pParameterIndex) throws SQLException {
+
+        pStmt.setInt(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setDouble(final PreparedStatement pStmt,
+                          final double pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setDouble(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setString(final PreparedStatement pStmt,
+                          final String pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setString(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setBigDecimal(final PreparedStatement pStmt,
+                              final BigDecimal pValue,
+                              final int pParameterIndex) throws SQLException {
+
+        pStmt.setBigDecimal(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setTimestamp(final PreparedStatement pStmt,
+                             final java.util.Date pValue,
+                             final int pParameterIndex) throws SQLException {
+
+        if (pValue instanceof Timestamp) {
+            pStmt.setTimestamp(pParameterIndex, (Timestamp) pValue);
+        } else {
+            pStmt.setTimestamp(pParameterIndex, new Timestamp(pValue.getTime()));
+        }
+    }
+
+    /**
+     * H2 functions return result sets as regular Java objects, so there is no dedicated REF_CURSOR type.
+     *
+     * @return the JDBC type used for result sets returned by H2 functions
+     */
+    @Override
+    public int getRefCursorJDBCType() {
+        return Types.OTHER;
+    }
+
+    private static final String CALL_PREFIX = "{ call ";
+    private static final String CALL_FUNCTION_PREFIX = "{ ? = call ";
+    private static final String CALL_DELIM_1 = "(";
+    private static final String CALL_DELIM_2 = ", ";
+    private static final String CALL_PARAMETER = "?";
+    private static final String CALL_POSTFIX = ") }";
+
+    /**
+     * Constructs the call of a user-defined function (CREATE ALIAS). H2 does not support named parameter
+     * notation, so the parameters are passed positionally in the order of their names. The scalar OUT
+     * parameter or REF CURSOR parameter (if any) is mapped to the return value of the function.
+     *
+     * @param pCallable the name of the user-defined function
+     * @param pOutParamName the name of the scalar OUT parameter or the REF CURSOR parameter, may be null
+     * @param pInParameters the IN parameters, parameters with null values are omitted
+     * @return the function call in JDBC escape syntax
+     */
+    @Override
+    public String buildProcedureCall(final String pCallable,
+                                     final String pOutParamName,
+                                     final Map<String, Object> pInParameters) {
+
+        final StringBuilder call = new StringBuilder();
+        call.append(pOutParamName != null ? CALL_FUNCTION_PREFIX : CALL_PREFIX).append(pCallable);
+        String delim = CALL_DELIM_1;
+        if (pInParameters != null) {
+            for (final Object value : new TreeMap<>(pInParameters).values()) {
+                if (value == null || "".equals(value) || (value instanceof byte[] && ((byte[]) value).length == 0)) {
+                    continue;
+                }
+                call.append(delim).append(CALL_PARAMETER);
+                delim = CALL_DELIM_2;
+            }
+        }
+        if (delim.equals(CALL_DELIM_1)) {
+            call.append(CALL_DELIM_1);
+        }
+        call.append(CALL_POSTFIX);
+        return call.toString();
+    }
+
+    private static final String ORDER_BY_CLAUSE = " ORDER BY ";
+    private static final String COUNT_OVER_COLUMN_SELECT = "SELECT COUNT(*) OVER() " + IBean.PAGING_TOTAL + ", ";
+    private static final String OFFSET_CLAUSE = " OFFSET ";
+    private static final String FETCH_CLAUSE = " ROWS FETCH NEXT ";
+    private static final String FETCH_FIRST_CLAUSE = " FETCH FIRST ";
+    private static final String ROWS_ONLY_CLAUSE = " ROWS ONLY";
+
+    /**
+     * Constructs a SQL query based on the provided information. Paging uses the SQL standard OFFSET and
+     * FETCH clauses.
+     *
+     * @param pTableName          the table name
+     * @param pInParameters       the query parameters
+     * @param pUseNamedParameters whether to use named parameters or not
+     * @param pAcquireLock        lock the retrieved data for further processing
+     * @param pFilterExtension    paging and sorting information
+     * @return the constructed SQL query
+     */
+    @Override
+    public String buildSQLStatement(final String pTableName,
+                                    final Map<QueryColumn, Object> pInParameters,
+                                    final boolean pUseNamedParameters,
+                                    final boolean pAcquireLock,
+                                    final FilterExtension pFilterExtension) {
+
+        final String baseQuery = statementBuilder.buildSQLStatement
+                (pTableName, pInParameters, pUseNamedParameters, pAcquireLock, pFilterExtension);
+        if (pFilterExtension == null) {
+            return baseQuery;
+        }
+        String filteredQuery = baseQuery;
+        if (pFilterExtension.isKeysetPaging()) {
+            // Keyset paging seeks the page start with the predicate built into the base query, so neither
+            // OFFSET nor the total count is required
+            filteredQuery += buildOrderByClause(pFilterExtension.getSortCriteria());
+            filteredQuery += FETCH_FIRST_CLAUSE + pFilterExtension.getLimit() + ROWS_ONLY_CLAUSE;
+            return filteredQuery;
+        }
+        if (pFilterExtension.isPagingTotalSupported()) {
+            filteredQuery = filteredQuery.replaceFirst("SELECT ", COUNT_OVER_COLUMN_SELECT);
+        }
+        filteredQuery += buildOrderByClause(pFilterExtension.getSortCriteria());
+        filteredQuery += OFFSET_CLAUSE + pFilterExtension.getOffset();
+        filteredQuery += FETCH_CLAUSE + pFilterExtension.getLimit() + ROWS_ONLY_CLAUSE;
+        return filteredQuery;
+    }
+
+    private String buildOrderByClause(final List<FilterExtension.SortCriteria> pSortCriterias) {
+
+        String orderByClause = "";
+        String delimiter = ORDER_BY_CLAUSE;
+        for (final FilterExtension.SortCriteria sortCriteria : pSortCriterias) {
+            final String columnName = sortCriteria.getColumnName();
+            if (columnName == null) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
+            }
+            orderByClause += delimiter + columnName + " " + sortCriteria.getDirection();
+            delimiter = ", ";
+        }
+        return orderByClause;
+    }
+
+    private static final String ROW_COUNT_QUERY = "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES "
+            + "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ?";
+
+    /**
+     * The query plan of H2 does not provide a row estimation for arbitrary queries, so only the number of rows
+     * of the table is estimated for queries without where-clause.
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQuery the SQL query without ordering and paging
+     * @param pParameters the parameter values for the SQL query in binding order
+     * @return the estimated number of rows or null, when no estimation is available
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public Long estimateRowCount(final Connection pConnection,
+                                 final String pTableName,
+                                 final String pQuery,
+                                 final List<Object> pParameters) throws SQLException {
+
+        if (pQuery.contains(" WHERE ")) {
+            return null;
+        }
+        try (PreparedStatement pstmt = pConnection.prepareStatement(ROW_COUNT_QUERY)) {
+            pstmt.setString(1, pTableName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    final long rows = rs.getLong(1);
+                    if (!rs.wasNull()) {
+                        return rows;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the partition expression using the hash function ORA_HASH, which returns non-negative values.
+     *
+     * @param pColumnName the partition column
+     * @param pPartitionCount the number of partitions
+     * @return the partition expression
+     */
+    @Override
+    public String buildPartitionExpression(final String pColumnName, final int pPartitionCount) {
+
+        return "MOD(ORA_HASH(".concat(pColumnName).concat("), ").concat(Integer.toString(pPartitionCount)).concat(")");
+    }
+
+    /**
+     * Provides database metadata for code generation and validation of generated code.
+     *
+     * @return the platform specific implementation of the metadata retrieval functionality
+     */
+    @Override
+    public IMetadata getMetadata() {
+
+        return h2Metadata;
+    }
+}
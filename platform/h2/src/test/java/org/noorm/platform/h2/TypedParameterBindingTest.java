@@ -0,0 +1,146 @@
+package org.noorm.platform.h2;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.noorm.jdbc.TestDatabase;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class TypedParameterBindingTest {
+
+    private static final String INSERT = "INSERT INTO TYPED_VALUE VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final H2Platform platform = new H2Platform();
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+
+        connection = TestDatabase.getUnmanagedConnection();
+        try (final Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE TYPED_VALUE (ID INT PRIMARY KEY, LONG_VALUE BIGINT, INT_VALUE INT, "
+                    + "DOUBLE_VALUE DOUBLE, STRING_VALUE VARCHAR(64), DECIMAL_VALUE DECIMAL(20,4), "
+                    + "TIMESTAMP_VALUE TIMESTAMP(9))");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+
+        try (final Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP TABLE TYPED_VALUE");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testTypedValues() throws SQLException {
+
+        final Timestamp timestamp = Timestamp.valueOf("2017-09-11 14:38:00.123456789");
+        try (final PreparedStatement pstmt = connection.prepareStatement(INSERT)) {
+            platform.setInt(pstmt, 1, 1);
+            platform.setLong(pstmt, Long.MAX_VALUE, 2);
+            platform.setInt(pstmt, Integer.MIN_VALUE, 3);
+            platform.setDouble(pstmt, 0.5D, 4);
+            platform.setString(pstmt, "Value", 5);
+            platform.setBigDecimal(pstmt, new BigDecimal("12345.6789"), 6);
+            platform.setTimestamp(pstmt, timestamp, 7);
+            pstmt.executeUpdate();
+        }
+        try (final Statement stmt = connection.createStatement();
+             final ResultSet rs = stmt.executeQuery("SELECT * FROM TYPED_VALUE WHERE ID = 1")) {
+            assertTrue(rs.next());
+            assertEquals(Long.MAX_VALUE, rs.getLong("LONG_VALUE"));
+            assertEquals(Integer.MIN_VALUE, rs.getInt("INT_VALUE"));
+            assertEquals(0.5D, rs.getDouble("DOUBLE_VALUE"), 0.0D);
+            assertEquals("Value", rs.getString("STRING_VALUE"));
+            assertEquals(new BigDecimal("12345.6789"), rs.getBigDecimal("DECIMAL_VALUE"));
+            // Instances of java.sql.Timestamp are bound as they are, i.e. including nanoseconds
+            assertEquals(timestamp, rs.getTimestamp("TIMESTAMP_VALUE"));
+        }
+    }
+
+    @Test
+    public void testDateValue() throws SQLException {
+
+        final java.util.Date date = new java.util.Date(1505140680123L);
+        try (final PreparedStatement pstmt = connection.prepareStatement(INSERT)) {
+            platform.setInt(pstmt, 2, 1);
+            for (int parameterIndex = 2; parameterIndex <= 6; parameterIndex++) {
+                platform.setNull(pstmt, parameterIndex, Types.NULL);
+            }
+            platform.setTimestamp(pstmt, date, 7);
+            pstmt.executeUpdate();
+        }
+        try (final Statement stmt = connection.createStatement();
+             final ResultSet rs = stmt.executeQuery("SELECT TIMESTAMP_VALUE FROM TYPED_VALUE WHERE ID = 2")) {
+            assertTrue(rs.next());
+            assertEquals(date.getTime(), rs.getTimestamp(1).getTime());
+        }
+    }
+
+    @Test
+    public void testNullValues() throws SQLException {
+
+        final int[] sqlTypes = {Types.BIGINT, Types.INTEGER, Types.DOUBLE, Types.VARCHAR, Types.DECIMAL,
+                Types.TIMESTAMP};
+        try (final PreparedStatement pstmt = connection.prepareStatement(INSERT)) {
+            platform.setInt(pstmt, 3, 1);
+            for (int i = 0; i < sqlTypes.length; i++) {
+                platform.setNull(pstmt, i + 2, sqlTypes[i]);
+            }
+            pstmt.executeUpdate();
+        }
+        try (final Statement stmt = connection.createStatement();
+             final ResultSet rs = stmt.executeQuery("SELECT * FROM TYPED_VALUE WHERE ID = 3")) {
+            assertTrue(rs.next());
+            for (int columnIndex = 2; columnIndex <= 7; columnIndex++) {
+                assertNull(rs.getObject(columnIndex));
+            }
+        }
+    }
+
+    @Test
+    public void testRebindNullValue() throws SQLException {
+
+        // Batched statements reuse the parameters, a NULL value must replace the value of the previous row
+        try (final PreparedStatement pstmt = connection.prepareStatement(INSERT)) {
+            for (int id = 4; id <= 5; id++) {
+                platform.setInt(pstmt, id, 1);
+                if (id == 4) {
+                    platform.setLong(pstmt, 4L, 2);
+                    platform.setString(pstmt, "Value", 5);
+                } else {
+                    platform.setNull(pstmt, 2, Types.BIGINT);
+                    platform.setNull(pstmt, 5, Types.VARCHAR);
+                }
+                for (final int parameterIndex : new int[]{3, 4, 6, 7}) {
+                    platform.setNull(pstmt, parameterIndex, Types.NULL);
+                }
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+        try (final Statement stmt = connection.createStatement();
+             final ResultSet rs = stmt.executeQuery
+                     ("SELECT LONG_VALUE, STRING_VALUE FROM TYPED_VALUE WHERE ID = 5")) {
+            assertTrue(rs.next());
+            assertNull(rs.getObject(1));
+            assertNull(rs.getObject(2));
+        }
+    }
+}
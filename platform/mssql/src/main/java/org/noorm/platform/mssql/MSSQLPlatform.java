@@ -1,6 +1,7 @@
 package org.noorm.platform.mssql;
 
 import com.microsoft.sqlserver.jdbc.SQLServerDataSource;
+import org.noorm.jdbc.DataAccessException;
 import org.noorm.jdbc.FilterExtension;
 import org.noorm.jdbc.QueryColumn;
 import org.noorm.jdbc.StatementBuilder;
@@ -8,7 +9,10 @@ import org.noorm.jdbc.platform.IMetadata;
 import org.noorm.jdbc.platform.IPlatform;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.*;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -20,6 +24,11 @@ public class MSSQLPlatform implements IPlatform {
 
     private static final String SQL_SERVER_PLATFORM = "SQLServer";
 
+    // SQL Server supports up to 2100 parameters per request and up to 1000 row constructors per VALUES list.
+    // The Microsoft JDBC driver may use some parameters internally, so we keep a small reserve here.
+    private static final int MAX_BIND_PARAMETERS = 2090;
+    private static final int MAX_ROW_CONSTRUCTORS = 1000;
+
     private final MSSQLMetadata msSQLMetadata = new MSSQLMetadata();
     private final StatementBuilder statementBuilder = new StatementBuilder();
 
@@ -90,6 +99,26 @@ public class MSSQLPlatform implements IPlatform {
         return sequenceQuery;
     }
 
+    /**
+     * Returns the platform specific query to retrieve multiple sequence values with a single database round-trip.
+     *
+     * @param pSequenceName the name of the database sequence
+     * @param pValueCount the number of sequence values to retrieve
+     * @return the SELECT statement to retrieve the given number of sequence values
+     */
+    @Override
+    public String getSequenceQuery(final String pSequenceName, final int pValueCount) {
+
+        // NEXT VALUE FOR generates a new value for every row of the result set
+        final StringBuilder sequenceQuery = new StringBuilder();
+        sequenceQuery.append("SELECT NEXT VALUE FOR ").append(pSequenceName).append(" FROM (VALUES ");
+        for (int i = 0; i < pValueCount; i++) {
+            sequenceQuery.append(i == 0 ? "(0)" : ",(0)");
+        }
+        sequenceQuery.append(") AS V (N)");
+        return sequenceQuery.toString();
+    }
+
     /**
      * Executes a batch over a prepared statement.
      * Different databases and JDBC drivers handle the update count differently. To get a reliable update,
@@ -109,6 +138,61 @@ public class MSSQLPlatform implements IPlatform {
         return updateCount;
     }
 
+    /**
+     * Constructs a multi-row INSERT statement using a VALUES list with one row constructor per row.
+     *
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnList the comma separated list of column names
+     * @param pValueList the comma separated list of value expressions (parameter placeholders) for a single row
+     * @param pRowCount the number of rows inserted by the statement
+     * @return the constructed multi-row INSERT statement
+     */
+    @Override
+    public String buildMultiRowInsert(final String pTableName,
+                                      final String pColumnList,
+                                      final String pValueList,
+                                      final int pRowCount) {
+
+        return statementBuilder.buildMultiRowValuesInsert(pTableName, pColumnList, pValueList, pRowCount);
+    }
+
+    /**
+     * Returns the maximum number of rows, which can be inserted with a single multi-row INSERT statement.
+     *
+     * @param pParametersPerRow the number of bind parameters required for a single row
+     * @return the maximum number of rows per statement
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(final int pParametersPerRow) {
+
+        return Math.max(1, Math.min(MAX_ROW_CONSTRUCTORS, MAX_BIND_PARAMETERS / Math.max(1, pParametersPerRow)));
+    }
+
+    /**
+     * Indicates, whether the platform supports a bulk load API.
+     *
+     * @return false, bulk loading is not supported for this platform
+     */
+    @Override
+    public boolean supportsBulkLoad() {
+
+        return false;
+    }
+
+    /**
+     * Bulk loading is not supported for this platform. Use batched or multi-row inserts instead.
+     *
+     * @throws SQLException always SQLFeatureNotSupportedException
+     */
+    @Override
+    public long bulkLoad(final Connection pConnection,
+                         final String pTableName,
+                         final List<String> pColumnNames,
+                         final Iterator<Object[]> pRows) throws SQLException {
+
+        throw new SQLFeatureNotSupportedException("Bulk load is not supported for platform ".concat(getName()));
+    }
+
     /**
      * Sets an object value for an DML statement (INSERT, UPDATE, DELETE).
      *
@@ -135,6 +219,74 @@ public class MSSQLPlatform implements IPlatform {
         }
     }
 
+    /**
+     * Sets the NULL value for an DML statement parameter.
+     *
+     * @param pStmt           the prepared SQL statement
+     * @param pParameterIndex the index of the parameter
+     * @param pSQLType        the SQL type. Usually one type specified in java.sql.Types or a proprietary type
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public void setNull(final PreparedStatement pStmt,
+                        final int pParameterIndex,
+                        final int pSQLType) throws SQLException {
+
+        pStmt.setNull(pParameterIndex, pSQLType);
+    }
+
+    @Override
+    public void setLong(final PreparedStatement pStmt,
+                        final long pValue,
+                        final int pParameterIndex) throws SQLException {
+
+        pStmt.setLong(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setInt(final PreparedStatement pStmt,
+                       final int pValue,
+                       final int pParameterIndex) throws SQLException {
+
+        pStmt.setInt(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setDouble(final PreparedStatement pStmt,
+                          final double pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setDouble(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setString(final PreparedStatement pStmt,
+                          final String pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setString(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setBigDecimal(final PreparedStatement pStmt,
+                              final BigDecimal pValue,
+                              final int pParameterIndex) throws SQLException {
+
+        pStmt.setBigDecimal(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setTimestamp(final PreparedStatement pStmt,
+                             final java.util.Date pValue,
+                             final int pParameterIndex) throws SQLException {
+
+        if (pValue instanceof Timestamp) {
+            pStmt.setTimestamp(pParameterIndex, (Timestamp) pValue);
+        } else {
+            pStmt.setTimestamp(pParameterIndex, new Timestamp(pValue.getTime()));
+        }
+    }
+
     /**
      * The REF_CURSOR JDBC type is used to directly utilize a SQL cursor established from within
      * a stored procedure for a JDBC ResultSet. However, though we have JDBCType.REF_CURSOR, this
@@ -147,10 +299,30 @@ public class MSSQLPlatform implements IPlatform {
         return JDBCType.REF_CURSOR.getVendorTypeNumber();
     }
 
+    /**
+     * Constructs the call of a stored procedure using named parameter notation (parameter => value).
+     *
+     * @param pCallable the name of the stored procedure or the notation PACKAGENAME.PROCEDURE
+     * @param pOutParamName the name of the scalar OUT parameter or the REF CURSOR parameter, may be null
+     * @param pInParameters the IN parameters, parameters with null values are omitted
+     * @return the procedure call in JDBC escape syntax
+     */
+    @Override
+    public String buildProcedureCall(final String pCallable,
+                                     final String pOutParamName,
+                                     final Map<String, Object> pInParameters) {
+
+        return statementBuilder.buildProcedureCall(pCallable, pOutParamName, pInParameters);
+    }
+
+    private static final String ORDER_BY_CLAUSE = " ORDER BY ";
+    private static final String SELECT_TOP_CLAUSE = "SELECT TOP ";
+
     /**
      * Constructs a SQL query based on the provided information.
      *
-     * NOTE: FilterExtension functionality NOT YET IMPLEMENTED!
+     * NOTE: FilterExtension functionality is only available for keyset paging. Offset based paging and sorting
+     * without keyset paging are NOT YET IMPLEMENTED!
      *
      * @param pTableName          the table name
      * @param pInParameters       the query parameters
@@ -166,14 +338,79 @@ public class MSSQLPlatform implements IPlatform {
                                     final boolean pAcquireLock,
                                     final FilterExtension pFilterExtension) {
 
-        final String baseQuery =
-                statementBuilder.buildSQLStatement(pTableName, pInParameters, pUseNamedParameters, pAcquireLock);
+        final String baseQuery = statementBuilder.buildSQLStatement
+                (pTableName, pInParameters, pUseNamedParameters, pAcquireLock, pFilterExtension);
         if (pFilterExtension == null) {
             return baseQuery;
         }
+        if (pFilterExtension.isKeysetPaging()) {
+            String keysetQuery = baseQuery.replaceFirst("SELECT ", SELECT_TOP_CLAUSE + pFilterExtension.getLimit() + " ");
+            String delimiter = ORDER_BY_CLAUSE;
+            for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
+                final String columnName = sortCriteria.getColumnName();
+                if (columnName == null) {
+                    throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
+                }
+                keysetQuery += delimiter + columnName + " " + sortCriteria.getDirection();
+                delimiter = ", ";
+            }
+            return keysetQuery;
+        }
         return baseQuery;
     }
 
+    private static final String PARTITION_ROWS_QUERY =
+            "SELECT SUM(ROWS) FROM SYS.PARTITIONS WHERE OBJECT_ID = OBJECT_ID(?) AND INDEX_ID IN (0, 1)";
+
+    /**
+     * Estimates the number of rows returned by the given query. The estimation is based on the row count
+     * maintained for the table partitions and is only available for queries without filter criteria on tables.
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQuery the SQL query without ordering and paging
+     * @param pParameters the parameter values for the SQL query in binding order
+     * @return the estimated number of rows or null, when no estimation is available
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public Long estimateRowCount(final Connection pConnection,
+                                 final String pTableName,
+                                 final String pQuery,
+                                 final List<Object> pParameters) throws SQLException {
+
+        if (pQuery.contains(" WHERE ")) {
+            return null;
+        }
+        try (PreparedStatement pstmt = pConnection.prepareStatement(PARTITION_ROWS_QUERY)) {
+            pstmt.setString(1, pTableName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    final long rows = rs.getLong(1);
+                    if (!rs.wasNull()) {
+                        return rows;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the partition expression using CHECKSUM, which supports columns of any comparable type. The checksum
+     * is converted to BIGINT to avoid an arithmetic overflow for ABS.
+     *
+     * @param pColumnName the partition column
+     * @param pPartitionCount the number of partitions
+     * @return the partition expression
+     */
+    @Override
+    public String buildPartitionExpression(final String pColumnName, final int pPartitionCount) {
+
+        return "ABS(CAST(CHECKSUM(".concat(pColumnName).concat(") AS BIGINT)) % ")
+                .concat(Integer.toString(pPartitionCount));
+    }
+
     /**
      * Provides database metadata for code generation and validation of generated code.
      *
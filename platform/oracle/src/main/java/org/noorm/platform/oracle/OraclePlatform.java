@@ -8,8 +8,15 @@ import org.noorm.jdbc.platform.IMetadata;
 import org.noorm.jdbc.platform.IPlatform;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -25,6 +32,9 @@ public class OraclePlatform implements IPlatform {
 
     private static final int ORACLE_REF_CURSOR_JDBC_TYPE = -10;
 
+    // For a multi-table INSERT (INSERT ALL), the total number of columns in all INTO clauses must not exceed 999
+    private static final int MAX_INSERT_ALL_COLUMNS = 999;
+
     private final OracleMetadata oracleMetadata = OracleMetadata.getInstance();
     private final StatementBuilder statementBuilder = new StatementBuilder();
 
@@ -123,6 +133,21 @@ public class OraclePlatform implements IPlatform {
         return sequenceQuery;
     }
 
+    /**
+     * Returns the platform specific query to retrieve multiple sequence values with a single database round-trip.
+     *
+     * @param pSequenceName the name of the database sequence
+     * @param pValueCount the number of sequence values to retrieve
+     * @return the SELECT statement to retrieve the given number of sequence values
+     */
+    @Override
+    public String getSequenceQuery(final String pSequenceName, final int pValueCount) {
+
+        final String sequenceQuery = "SELECT ".concat(pSequenceName).concat(".NEXTVAL FROM DUAL CONNECT BY LEVEL <= ")
+                .concat(Integer.toString(pValueCount));
+        return sequenceQuery;
+    }
+
     /**
      * Executes a batch over a prepared statement.
      * Different databases and JDBC drivers handle the update count differently. To get a reliable update,
@@ -138,6 +163,70 @@ public class OraclePlatform implements IPlatform {
         return pPreparedStatement.getUpdateCount();
     }
 
+    /**
+     * Constructs a multi-row INSERT statement. Oracle does not support multiple row constructors in the VALUES
+     * clause prior to Oracle 23, so the multi-table INSERT (INSERT ALL) is used with one INTO clause per row.
+     *
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnList the comma separated list of column names
+     * @param pValueList the comma separated list of value expressions (parameter placeholders) for a single row
+     * @param pRowCount the number of rows inserted by the statement
+     * @return the constructed multi-row INSERT statement
+     */
+    @Override
+    public String buildMultiRowInsert(final String pTableName,
+                                      final String pColumnList,
+                                      final String pValueList,
+                                      final int pRowCount) {
+
+        final String intoClause = " INTO ".concat(pTableName).concat(" (").concat(pColumnList)
+                .concat(") VALUES (").concat(pValueList).concat(")");
+        final StringBuilder insert = new StringBuilder(16 + intoClause.length() * pRowCount);
+        insert.append("INSERT ALL");
+        for (int i = 0; i < pRowCount; i++) {
+            insert.append(intoClause);
+        }
+        insert.append(" SELECT 1 FROM DUAL");
+        return insert.toString();
+    }
+
+    /**
+     * Returns the maximum number of rows, which can be inserted with a single multi-row INSERT statement.
+     *
+     * @param pParametersPerRow the number of bind parameters required for a single row
+     * @return the maximum number of rows per statement
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(final int pParametersPerRow) {
+
+        return Math.max(1, MAX_INSERT_ALL_COLUMNS / Math.max(1, pParametersPerRow));
+    }
+
+    /**
+     * Indicates, whether the platform supports a bulk load API.
+     *
+     * @return false, bulk loading is not supported for this platform
+     */
+    @Override
+    public boolean supportsBulkLoad() {
+
+        return false;
+    }
+
+    /**
+     * Bulk loading is not supported for this platform. Use batched or multi-row inserts instead.
+     *
+     * @throws SQLException always SQLFeatureNotSupportedException
+     */
+    @Override
+    public long bulkLoad(final Connection pConnection,
+                         final String pTableName,
+                         final List<String> pColumnNames,
+                         final Iterator<Object[]> pRows) throws SQLException {
+
+        throw new SQLFeatureNotSupportedException("Bulk load is not supported for platform ".concat(getName()));
+    }
+
     /**
      * Sets an object value for an DML statement (INSERT, UPDATE, DELETE).
      *
@@ -164,6 +253,76 @@ public class OraclePlatform implements IPlatform {
         }
     }
 
+    /**
+     * Sets the NULL value for an DML statement parameter.
+     *
+     * @param pStmt           the prepared SQL statement
+     * @param pParameterIndex the index of the parameter
+     * @param pSQLType        the SQL type. Usually one type specified in java.sql.Types or a proprietary type
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public void setNull(final PreparedStatement pStmt,
+                        final int pParameterIndex,
+                        final int pSQLType) throws SQLException {
+
+        // Consistent with setObject, which does not pass the SQL type for Oracle
+        pStmt.setObject(pParameterIndex, null);
+    }
+
+    @Override
+    public void setLong(final PreparedStatement pStmt,
+                        final long pValue,
+                        final int pParameterIndex) throws SQLException {
+
+        pStmt.setLong(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setInt(final PreparedStatement pStmt,
+                       final int pValue,
+                       final int pParameterIndex) throws SQLException {
+
+        pStmt.setInt(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setDouble(final PreparedStatement pStmt,
+                          final double pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setDouble(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setString(final PreparedStatement pStmt,
+                          final String pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        // See setObject regarding blank-padded comparison semantics
+        ((OraclePreparedStatement) pStmt).setFixedCHAR(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setBigDecimal(final PreparedStatement pStmt,
+                              final BigDecimal pValue,
+                              final int pParameterIndex) throws SQLException {
+
+        pStmt.setBigDecimal(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setTimestamp(final PreparedStatement pStmt,
+                             final java.util.Date pValue,
+                             final int pParameterIndex) throws SQLException {
+
+        if (pValue instanceof Timestamp) {
+            pStmt.setTimestamp(pParameterIndex, (Timestamp) pValue);
+        } else {
+            pStmt.setTimestamp(pParameterIndex, new Timestamp(pValue.getTime()));
+        }
+    }
+
     /**
      * The REF_CURSOR JDBC type is used to directly utilize a SQL cursor established from within
      * a stored procedure for a JDBC ResultSet. However, though we have JDBCType.REF_CURSOR, this
@@ -176,6 +335,22 @@ public class OraclePlatform implements IPlatform {
         return ORACLE_REF_CURSOR_JDBC_TYPE;
     }
 
+    /**
+     * Constructs the call of a stored procedure using named parameter notation (parameter => value).
+     *
+     * @param pCallable the name of the stored procedure or the notation PACKAGENAME.PROCEDURE
+     * @param pOutParamName the name of the scalar OUT parameter or the REF CURSOR parameter, may be null
+     * @param pInParameters the IN parameters, parameters with null values are omitted
+     * @return the procedure call in JDBC escape syntax
+     */
+    @Override
+    public String buildProcedureCall(final String pCallable,
+                                     final String pOutParamName,
+                                     final Map<String, Object> pInParameters) {
+
+        return statementBuilder.buildProcedureCall(pCallable, pOutParamName, pInParameters);
+    }
+
     private static final String BASE_QUERY_PLACEHOLDER = "__BASE_QUERY__";
     private static final String TOTAL_LIMIT_PLACEHOLDER = "__TOTAL_LIMIT__";
     private static final String COUNT_PLACEHOLDER = "__COUNT__";
@@ -188,6 +363,20 @@ public class OraclePlatform implements IPlatform {
           + "(" + BASE_QUERY_PLACEHOLDER + ORDERBY_PLACEHOLDER + ") WRAPPED " + TOTAL_LIMIT_PLACEHOLDER + ") "
           + "WHERE pos BETWEEN " + STARTROW_PLACEHOLDER + " AND " + ENDROW_PLACEHOLDER;
 
+    // Without the paging total, the database does not have to evaluate the complete result set
+    private static final String ORACLE_PAGING_WRAPPER_WITHOUT_TOTAL =
+            "SELECT /*+ first_rows(" + COUNT_PLACEHOLDER + ") */ * FROM "
+          + "(SELECT WRAPPED.*, ROWNUM pos FROM "
+          + "(" + BASE_QUERY_PLACEHOLDER + ORDERBY_PLACEHOLDER + ") WRAPPED WHERE ROWNUM <= " + ENDROW_PLACEHOLDER + ") "
+          + "WHERE pos >= " + STARTROW_PLACEHOLDER;
+
+    // Keyset paging seeks the page start with the predicate built into the base query, so neither the
+    // row position nor the total count is required
+    private static final String ORACLE_KEYSET_PAGING_WRAPPER =
+            "SELECT /*+ first_rows(" + COUNT_PLACEHOLDER + ") */ * FROM "
+          + "(" + BASE_QUERY_PLACEHOLDER + ORDERBY_PLACEHOLDER + ") "
+          + "WHERE ROWNUM <= " + COUNT_PLACEHOLDER;
+
     private static final String ORDER_BY_CLAUSE = " ORDER BY ";
     private static final String TOTAL_LIMIT_CLAUSE = " WHERE ROWNUM <= ";
 
@@ -208,42 +397,147 @@ public class OraclePlatform implements IPlatform {
                                     final boolean pAcquireLock,
                                     final FilterExtension pFilterExtension) {
 
-        final String baseQuery =
-                statementBuilder.buildSQLStatement(pTableName, pInParameters, pUseNamedParameters, pAcquireLock);
+        final String baseQuery = statementBuilder.buildSQLStatement
+                (pTableName, pInParameters, pUseNamedParameters, pAcquireLock, pFilterExtension);
         if (pFilterExtension == null) {
             return baseQuery;
         }
-        String statement = ORACLE_PAGING_WRAPPER;
-        statement = statement.replace(BASE_QUERY_PLACEHOLDER, baseQuery);
+        final String orderByClause = buildOrderByClause(pFilterExtension.getSortCriteria());
+        if (pFilterExtension.isKeysetPaging()) {
+            String statement = ORACLE_KEYSET_PAGING_WRAPPER;
+            statement = statement.replace(BASE_QUERY_PLACEHOLDER, baseQuery);
+            statement = statement.replace(COUNT_PLACEHOLDER, Integer.toString(pFilterExtension.getLimit()));
+            return statement.replace(ORDERBY_PLACEHOLDER, orderByClause);
+        }
         final Integer totalLimit = pFilterExtension.getTotalLimit();
-        if (totalLimit != null && totalLimit > 0) {
-            statement = statement.replace(TOTAL_LIMIT_PLACEHOLDER, TOTAL_LIMIT_CLAUSE + totalLimit + " ");
+        // Oracle rownum starts from "1", we want offset to start from "0", so we add "1" to the offset.
+        final int offset0 = pFilterExtension.getOffset() + 1;
+        int endRow = offset0 + pFilterExtension.getLimit() - 1;
+        String statement;
+        if (pFilterExtension.isPagingTotalSupported()) {
+            statement = ORACLE_PAGING_WRAPPER;
+            if (totalLimit != null && totalLimit > 0) {
+                statement = statement.replace(TOTAL_LIMIT_PLACEHOLDER, TOTAL_LIMIT_CLAUSE + totalLimit + " ");
+            } else {
+                statement = statement.replace(TOTAL_LIMIT_PLACEHOLDER, "");
+            }
         } else {
-            statement = statement.replace(TOTAL_LIMIT_PLACEHOLDER, "");
+            statement = ORACLE_PAGING_WRAPPER_WITHOUT_TOTAL;
+            if (totalLimit != null && totalLimit > 0 && totalLimit < endRow) {
+                endRow = totalLimit;
+            }
         }
+        statement = statement.replace(BASE_QUERY_PLACEHOLDER, baseQuery);
         statement = statement.replace(COUNT_PLACEHOLDER, Integer.toString(pFilterExtension.getLimit()));
-        // Oracle rownum starts from "1", we want offset to start from "0", so we add "1" to the offset.
-        final int offset0 = pFilterExtension.getOffset() + 1;
         statement = statement.replace(STARTROW_PLACEHOLDER, Integer.toString(offset0));
-        final int endRow = offset0 + pFilterExtension.getLimit() - 1;
         statement = statement.replace(ENDROW_PLACEHOLDER, Integer.toString(endRow));
-        final List<FilterExtension.SortCriteria> sortCriterias = pFilterExtension.getSortCriteria();
-        if (sortCriterias.size() > 0) {
-            String orderByClause = "";
-            String delimiter = ORDER_BY_CLAUSE;
-            for (final FilterExtension.SortCriteria sortCriteria : sortCriterias) {
-                final String columnName = sortCriteria.getColumnName();
-                if (columnName == null) {
-                    throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
+        statement = statement.replace(ORDERBY_PLACEHOLDER, orderByClause);
+        return statement;
+    }
+
+    private String buildOrderByClause(final List<FilterExtension.SortCriteria> pSortCriterias) {
+
+        String orderByClause = "";
+        String delimiter = ORDER_BY_CLAUSE;
+        for (final FilterExtension.SortCriteria sortCriteria : pSortCriterias) {
+            final String columnName = sortCriteria.getColumnName();
+            if (columnName == null) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
+            }
+            orderByClause += delimiter + columnName + " " + sortCriteria.getDirection();
+            delimiter = ", ";
+        }
+        return orderByClause;
+    }
+
+    private static final String EXPLAIN_PLAN_STATEMENT_ID = "NOORM_ROW_COUNT_ESTIMATE";
+    private static final String EXPLAIN_PLAN_PREFIX =
+            "EXPLAIN PLAN SET STATEMENT_ID = '" + EXPLAIN_PLAN_STATEMENT_ID + "' FOR ";
+    private static final String PLAN_CARDINALITY_QUERY =
+            "SELECT CARDINALITY FROM PLAN_TABLE WHERE STATEMENT_ID = ? AND ID = 0";
+    private static final String PLAN_DELETE_STATEMENT = "DELETE FROM PLAN_TABLE WHERE STATEMENT_ID = ?";
+
+    /**
+     * Estimates the number of rows returned by the given query using the cardinality of the top level plan
+     * operation computed by the optimizer (EXPLAIN PLAN). The estimation is available for queries with and
+     * without filter criteria. Since the query is parsed by the database, table names are resolved like for
+     * the query itself, i.e. views, synonyms and tables of other schemas are supported.
+     * EXPLAIN PLAN does not support the binding of parameter values, so the estimation is based on the column
+     * statistics without bind variable peeking.
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQuery the SQL query without ordering and paging
+     * @param pParameters the parameter values for the SQL query in binding order
+     * @return the estimated number of rows or null, when no estimation is available
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public Long estimateRowCount(final Connection pConnection,
+                                 final String pTableName,
+                                 final String pQuery,
+                                 final List<Object> pParameters) throws SQLException {
+
+        try (Statement stmt = pConnection.createStatement()) {
+            stmt.execute(buildExplainPlanStatement(pQuery));
+        }
+        try (PreparedStatement pstmt = pConnection.prepareStatement(PLAN_CARDINALITY_QUERY)) {
+            pstmt.setString(1, EXPLAIN_PLAN_STATEMENT_ID);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    final long cardinality = rs.getLong(1);
+                    if (!rs.wasNull()) {
+                        return cardinality;
+                    }
                 }
-                orderByClause += delimiter + columnName + " " + sortCriteria.getDirection();
-                delimiter = ", ";
             }
-            statement = statement.replace(ORDERBY_PLACEHOLDER, orderByClause);
-        } else {
-            statement = statement.replace(ORDERBY_PLACEHOLDER, "");
+        } finally {
+            try (PreparedStatement pstmt = pConnection.prepareStatement(PLAN_DELETE_STATEMENT)) {
+                pstmt.setString(1, EXPLAIN_PLAN_STATEMENT_ID);
+                pstmt.executeUpdate();
+            }
         }
-        return statement;
+        return null;
+    }
+
+    /**
+     * Builds the EXPLAIN PLAN statement for the given query. JDBC parameter markers are not supported for
+     * EXPLAIN PLAN, so they are replaced by numbered bind variables, which are not bound for the explanation.
+     *
+     * @param pQuery the SQL query with JDBC parameter markers
+     * @return the EXPLAIN PLAN statement
+     */
+    String buildExplainPlanStatement(final String pQuery) {
+
+        final StringBuilder statement = new StringBuilder(EXPLAIN_PLAN_PREFIX);
+        int parameterIndex = 1;
+        boolean inLiteral = false;
+        for (int i = 0; i < pQuery.length(); i++) {
+            final char c = pQuery.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                statement.append(':').append(parameterIndex++);
+            } else {
+                statement.append(c);
+            }
+        }
+        return statement.toString();
+    }
+
+    /**
+     * Builds the partition expression using ORA_HASH, which supports columns of any scalar type.
+     *
+     * @param pColumnName the partition column
+     * @param pPartitionCount the number of partitions
+     * @return the partition expression
+     */
+    @Override
+    public String buildPartitionExpression(final String pColumnName, final int pPartitionCount) {
+
+        return "ORA_HASH(".concat(pColumnName).concat(", ").concat(Integer.toString(pPartitionCount - 1))
+                .concat(")");
     }
 
     /**
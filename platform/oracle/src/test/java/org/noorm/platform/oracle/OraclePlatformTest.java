@@ -0,0 +1,151 @@
+package org.noorm.platform.oracle;
+
+import oracle.jdbc.OraclePreparedStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class OraclePlatformTest {
+
+    // For a multi-table INSERT (INSERT ALL), the total number of columns in all INTO clauses must not exceed 999
+    private static final int MAX_INSERT_ALL_COLUMNS = 999;
+
+    private final OraclePlatform oraclePlatform = new OraclePlatform();
+
+    @Test
+    public void testMultiRowInsertWidth() {
+
+        for (final int parametersPerRow : new int[]{1, 2, 6, 7, 100, 333, 500, 999}) {
+            final int rowCount = oraclePlatform.getMaxMultiRowInsertSize(parametersPerRow);
+            final String insert = oraclePlatform.buildMultiRowInsert("TEST_ITEM",
+                    join("C", parametersPerRow), join("?", parametersPerRow), rowCount);
+            assertEquals(rowCount, count(insert, " INTO "));
+            final int columnCount = count(insert, "?");
+            assertEquals(rowCount * parametersPerRow, columnCount);
+            assertTrue(columnCount <= MAX_INSERT_ALL_COLUMNS);
+            // The statement is as wide as possible
+            assertTrue(columnCount + parametersPerRow > MAX_INSERT_ALL_COLUMNS);
+        }
+    }
+
+    @Test
+    public void testMultiRowInsertWidthExceedingLimit() {
+
+        // A single row exceeding the limit cannot be inserted with INSERT ALL, i.e. multi-row inserts are not used
+        assertEquals(1, oraclePlatform.getMaxMultiRowInsertSize(MAX_INSERT_ALL_COLUMNS + 1));
+        assertEquals(MAX_INSERT_ALL_COLUMNS, oraclePlatform.getMaxMultiRowInsertSize(0));
+    }
+
+    @Test
+    public void testMultiRowInsertStatement() {
+
+        final String insert = oraclePlatform.buildMultiRowInsert("TEST_ITEM", "ID,NAME", "?,?", 2);
+        assertEquals("INSERT ALL INTO TEST_ITEM (ID,NAME) VALUES (?,?) INTO TEST_ITEM (ID,NAME) VALUES (?,?)"
+                + " SELECT 1 FROM DUAL", insert);
+    }
+
+    @Test
+    public void testExplainPlanStatement() {
+
+        assertEquals("EXPLAIN PLAN SET STATEMENT_ID = 'NOORM_ROW_COUNT_ESTIMATE' FOR SELECT * FROM TEST_ITEM",
+                oraclePlatform.buildExplainPlanStatement("SELECT * FROM TEST_ITEM"));
+        // Parameter markers are replaced by numbered bind variables, markers within literals are preserved
+        assertEquals("EXPLAIN PLAN SET STATEMENT_ID = 'NOORM_ROW_COUNT_ESTIMATE' FOR "
+                        + "SELECT * FROM TEST_ITEM WHERE NAME = :1 AND CATEGORY <> '?' AND ID > :2",
+                oraclePlatform.buildExplainPlanStatement
+                        ("SELECT * FROM TEST_ITEM WHERE NAME = ? AND CATEGORY <> '?' AND ID > ?"));
+    }
+
+    @Test
+    public void testTypedParameterBinding() throws SQLException {
+
+        final List<String> bindings = new ArrayList<>();
+        final PreparedStatement pstmt = recordingStatement(bindings);
+        oraclePlatform.setLong(pstmt, Long.MAX_VALUE, 1);
+        oraclePlatform.setInt(pstmt, -1, 2);
+        oraclePlatform.setDouble(pstmt, 0.5D, 3);
+        oraclePlatform.setBigDecimal(pstmt, new BigDecimal("1.50"), 4);
+        // Strings are bound as fixed CHAR to avoid blank-padded comparison semantics, like with setObject
+        oraclePlatform.setString(pstmt, "Value", 5);
+        oraclePlatform.setObject(pstmt, "Value", 6, Types.VARCHAR);
+        assertEquals(Arrays.asList("setLong(1, " + Long.MAX_VALUE + ")", "setInt(2, -1)", "setDouble(3, 0.5)",
+                "setBigDecimal(4, 1.50)", "setFixedCHAR(5, Value)", "setFixedCHAR(6, Value)"), bindings);
+    }
+
+    @Test
+    public void testTimestampBinding() throws SQLException {
+
+        final List<String> bindings = new ArrayList<>();
+        final PreparedStatement pstmt = recordingStatement(bindings);
+        final Timestamp timestamp = Timestamp.valueOf("2017-09-11 14:38:00.123456789");
+        oraclePlatform.setTimestamp(pstmt, timestamp, 1);
+        oraclePlatform.setTimestamp(pstmt, new java.util.Date(timestamp.getTime()), 2);
+        // Instances of java.sql.Timestamp are bound as they are, other dates are converted
+        assertEquals(Arrays.asList("setTimestamp(1, 2017-09-11 14:38:00.123456789)",
+                "setTimestamp(2, 2017-09-11 14:38:00.123)"), bindings);
+    }
+
+    @Test
+    public void testNullBinding() throws SQLException {
+
+        final List<String> bindings = new ArrayList<>();
+        final PreparedStatement pstmt = recordingStatement(bindings);
+        // Like setObject, NULL values are bound without SQL type
+        oraclePlatform.setNull(pstmt, 1, Types.VARCHAR);
+        oraclePlatform.setNull(pstmt, 2, Types.NUMERIC);
+        oraclePlatform.setObject(pstmt, null, 3, Types.TIMESTAMP);
+        assertEquals(Arrays.asList("setObject(1, null)", "setObject(2, null)", "setObject(3, null)"), bindings);
+    }
+
+    /**
+     * Creates a statement, which records the calls of the parameter binding methods as text, e.g. setLong(1, 5).
+     */
+    private static PreparedStatement recordingStatement(final List<String> pBindings) {
+
+        return (PreparedStatement) Proxy.newProxyInstance(OraclePlatformTest.class.getClassLoader(),
+                new Class[]{OraclePreparedStatement.class}, (pProxy, pMethod, pArgs) -> {
+                    final String methodName = pMethod.getName();
+                    if (!methodName.startsWith("set") || pArgs.length != 2) {
+                        throw new UnsupportedOperationException(methodName);
+                    }
+                    pBindings.add(methodName + "(" + pArgs[0] + ", " + pArgs[1] + ")");
+                    return null;
+                });
+    }
+
+    private static String join(final String pPrefix, final int pCount) {
+
+        final StringBuilder list = new StringBuilder();
+        for (int i = 1; i <= pCount; i++) {
+            if (i > 1) {
+                list.append(',');
+            }
+            list.append(pPrefix.equals("?") ? "?" : pPrefix.concat(Integer.toString(i)));
+        }
+        return list.toString();
+    }
+
+    private static int count(final String pString, final String pSubString) {
+
+        int count = 0;
+        int index = pString.indexOf(pSubString);
+        while (index >= 0) {
+            count++;
+            index = pString.indexOf(pSubString, index + pSubString.length());
+        }
+        return count;
+    }
+}
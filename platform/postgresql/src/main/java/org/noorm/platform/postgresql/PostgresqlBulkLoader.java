@@ -0,0 +1,175 @@
+package org.noorm.platform.postgresql;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk loader based on the PostgreSQL COPY protocol. The rows are encoded in the COPY text format and
+ * transferred to the database through a fixed size buffer, so the memory consumption does not depend on
+ * the number of loaded rows.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class PostgresqlBulkLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresqlBulkLoader.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char COLUMN_DELIMITER = '\t';
+    private static final char ROW_DELIMITER = '\n';
+    private static final String NULL_VALUE = "\\N";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition = 0;
+
+    long load(final Connection pConnection,
+              final String pTableName,
+              final List<String> pColumnNames,
+              final Iterator<Object[]> pRows) throws SQLException {
+
+        final StringBuilder copyCommand = new StringBuilder();
+        copyCommand.append("COPY ").append(pTableName).append(" (");
+        String delim = "";
+        for (final String columnName : pColumnNames) {
+            copyCommand.append(delim).append(columnName);
+            delim = ",";
+        }
+        copyCommand.append(") FROM STDIN");
+        if (log.isDebugEnabled()) {
+            log.debug("Bulk loading table ".concat(pTableName).concat(" using [")
+                    .concat(copyCommand.toString()).concat("]"));
+        }
+
+        final CopyManager copyManager = pConnection.unwrap(PGConnection.class).getCopyAPI();
+        final CopyIn copyIn = copyManager.copyIn(copyCommand.toString());
+        try {
+            final StringBuilder row = new StringBuilder(256);
+            while (pRows.hasNext()) {
+                final Object[] values = pRows.next();
+                row.setLength(0);
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        row.append(COLUMN_DELIMITER);
+                    }
+                    appendValue(row, values[i]);
+                }
+                row.append(ROW_DELIMITER);
+                write(copyIn, row.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            flush(copyIn);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            bufferPosition = 0;
+        }
+    }
+
+    private void write(final CopyIn pCopyIn, final byte[] pData) throws SQLException {
+
+        if (bufferPosition + pData.length > buffer.length) {
+            flush(pCopyIn);
+        }
+        if (pData.length > buffer.length) {
+            pCopyIn.writeToCopy(pData, 0, pData.length);
+        } else {
+            System.arraycopy(pData, 0, buffer, bufferPosition, pData.length);
+            bufferPosition += pData.length;
+        }
+    }
+
+    private void flush(final CopyIn pCopyIn) throws SQLException {
+
+        if (bufferPosition > 0) {
+            pCopyIn.writeToCopy(buffer, 0, bufferPosition);
+            bufferPosition = 0;
+        }
+    }
+
+    private void appendValue(final StringBuilder pRow, final Object pValue) throws SQLException {
+
+        if (pValue == null) {
+            pRow.append(NULL_VALUE);
+            return;
+        }
+        if (pValue instanceof Boolean) {
+            pRow.append((Boolean) pValue ? 't' : 'f');
+            return;
+        }
+        if (pValue instanceof Number) {
+            if (pValue instanceof BigDecimal) {
+                pRow.append(((BigDecimal) pValue).toPlainString());
+            } else {
+                pRow.append(pValue);
+            }
+            return;
+        }
+        if (pValue instanceof byte[]) {
+            appendBytes(pRow, (byte[]) pValue);
+            return;
+        }
+        if (pValue instanceof Blob) {
+            final Blob blob = (Blob) pValue;
+            appendBytes(pRow, blob.getBytes(1L, (int) blob.length()));
+            return;
+        }
+        if (pValue instanceof Clob) {
+            final Clob clob = (Clob) pValue;
+            appendText(pRow, clob.getSubString(1L, (int) clob.length()));
+            return;
+        }
+        if (pValue instanceof java.util.Date && !(pValue instanceof java.sql.Date)
+                && !(pValue instanceof java.sql.Time) && !(pValue instanceof Timestamp)) {
+            pRow.append(new Timestamp(((java.util.Date) pValue).getTime()));
+            return;
+        }
+        appendText(pRow, pValue.toString());
+    }
+
+    // Binary data is provided in the hex format of bytea. The leading backslash must be escaped in COPY text format
+    private void appendBytes(final StringBuilder pRow, final byte[] pBytes) {
+
+        pRow.append("\\\\x");
+        for (final byte b : pBytes) {
+            pRow.append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+        }
+    }
+
+    private void appendText(final StringBuilder pRow, final String pText) {
+
+        for (int i = 0; i < pText.length(); i++) {
+            final char c = pText.charAt(i);
+            switch (c) {
+                case '\\':
+                    pRow.append("\\\\");
+                    break;
+                case '\t':
+                    pRow.append("\\t");
+                    break;
+                case '\n':
+                    pRow.append("\\n");
+                    break;
+                case '\r':
+                    pRow.append("\\r");
+                    break;
+                default:
+                    pRow.append(c);
+            }
+        }
+    }
+}
@@ -6,9 +6,13 @@ import org.noorm.jdbc.platform.IPlatform;
 import org.postgresql.ds.PGSimpleDataSource;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
 import java.sql.*;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
@@ -19,6 +23,9 @@ public class PostgresqlPlatform implements IPlatform {
 
     private static final String POSTGRESQL_PLATFORM = "Postgresql";
 
+    // The PostgreSQL wire protocol transfers the number of bind parameters as 16-bit integer
+    private static final int MAX_BIND_PARAMETERS = 32767;
+
     private final PostgresqlMetadata postgresqlMetadata = new PostgresqlMetadata();
     private final StatementBuilder statementBuilder = new StatementBuilder();
 
@@ -89,6 +96,21 @@ public class PostgresqlPlatform implements IPlatform {
         return sequenceQuery;
     }
 
+    /**
+     * Returns the platform specific query to retrieve multiple sequence values with a single database round-trip.
+     *
+     * @param pSequenceName the name of the database sequence
+     * @param pValueCount the number of sequence values to retrieve
+     * @return the SELECT statement to retrieve the given number of sequence values
+     */
+    @Override
+    public String getSequenceQuery(final String pSequenceName, final int pValueCount) {
+
+        final String sequenceQuery = "SELECT NEXTVAL ('".concat(pSequenceName).concat("') FROM GENERATE_SERIES (1, ")
+                .concat(Integer.toString(pValueCount)).concat(")");
+        return sequenceQuery;
+    }
+
     /**
      * Executes a batch over a prepared statement.
      * Different databases and JDBC drivers handle the update count differently. To get a reliable update,
@@ -108,6 +130,66 @@ public class PostgresqlPlatform implements IPlatform {
         return updateCount;
     }
 
+    /**
+     * Constructs a multi-row INSERT statement using a VALUES list with one row constructor per row.
+     *
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnList the comma separated list of column names
+     * @param pValueList the comma separated list of value expressions (parameter placeholders) for a single row
+     * @param pRowCount the number of rows inserted by the statement
+     * @return the constructed multi-row INSERT statement
+     */
+    @Override
+    public String buildMultiRowInsert(final String pTableName,
+                                      final String pColumnList,
+                                      final String pValueList,
+                                      final int pRowCount) {
+
+        return statementBuilder.buildMultiRowValuesInsert(pTableName, pColumnList, pValueList, pRowCount);
+    }
+
+    /**
+     * Returns the maximum number of rows, which can be inserted with a single multi-row INSERT statement.
+     *
+     * @param pParametersPerRow the number of bind parameters required for a single row
+     * @return the maximum number of rows per statement
+     */
+    @Override
+    public int getMaxMultiRowInsertSize(final int pParametersPerRow) {
+
+        return Math.max(1, MAX_BIND_PARAMETERS / Math.max(1, pParametersPerRow));
+    }
+
+    /**
+     * Indicates, whether the platform supports a bulk load API.
+     *
+     * @return true, bulk loading is supported with the PostgreSQL COPY protocol
+     */
+    @Override
+    public boolean supportsBulkLoad() {
+
+        return true;
+    }
+
+    /**
+     * Loads the provided rows into the given table using COPY FROM STDIN in text format.
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnNames the column names (quoted, when required)
+     * @param pRows the rows, each row containing the values in the order of the column names
+     * @return the number of loaded rows
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public long bulkLoad(final Connection pConnection,
+                         final String pTableName,
+                         final List<String> pColumnNames,
+                         final Iterator<Object[]> pRows) throws SQLException {
+
+        return new PostgresqlBulkLoader().load(pConnection, pTableName, pColumnNames, pRows);
+    }
+
     /**
      * Sets an object value for an DML statement (INSERT, UPDATE, DELETE).
      *
@@ -134,6 +216,74 @@ public class PostgresqlPlatform implements IPlatform {
         }
     }
 
+    /**
+     * Sets the NULL value for an DML statement parameter.
+     *
+     * @param pStmt           the prepared SQL statement
+     * @param pParameterIndex the index of the parameter
+     * @param pSQLType        the SQL type. Usually one type specified in java.sql.Types or a proprietary type
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public void setNull(final PreparedStatement pStmt,
+                        final int pParameterIndex,
+                        final int pSQLType) throws SQLException {
+
+        pStmt.setNull(pParameterIndex, pSQLType);
+    }
+
+    @Override
+    public void setLong(final PreparedStatement pStmt,
+                        final long pValue,
+                        final int pParameterIndex) throws SQLException {
+
+        pStmt.setLong(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setInt(final PreparedStatement pStmt,
+                       final int pValue,
+                       final int pParameterIndex) throws SQLException {
+
+        pStmt.setInt(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setDouble(final PreparedStatement pStmt,
+                          final double pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setDouble(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setString(final PreparedStatement pStmt,
+                          final String pValue,
+                          final int pParameterIndex) throws SQLException {
+
+        pStmt.setString(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setBigDecimal(final PreparedStatement pStmt,
+                              final BigDecimal pValue,
+                              final int pParameterIndex) throws SQLException {
+
+        pStmt.setBigDecimal(pParameterIndex, pValue);
+    }
+
+    @Override
+    public void setTimestamp(final PreparedStatement pStmt,
+                             final java.util.Date pValue,
+                             final int pParameterIndex) throws SQLException {
+
+        if (pValue instanceof Timestamp) {
+            pStmt.setTimestamp(pParameterIndex, (Timestamp) pValue);
+        } else {
+            pStmt.setTimestamp(pParameterIndex, new Timestamp(pValue.getTime()));
+        }
+    }
+
     /**
      * The REF_CURSOR JDBC type is used to directly utilize a SQL cursor established from within
      * a stored procedure for a JDBC ResultSet. However, though we have JDBCType.REF_CURSOR, this
@@ -146,6 +296,22 @@ public class PostgresqlPlatform implements IPlatform {
         return JDBCType.REF_CURSOR.getVendorTypeNumber();
     }
 
+    /**
+     * Constructs the call of a stored procedure using named parameter notation (parameter => value).
+     *
+     * @param pCallable the name of the stored procedure or the notation PACKAGENAME.PROCEDURE
+     * @param pOutParamName the name of the scalar OUT parameter or the REF CURSOR parameter, may be null
+     * @param pInParameters the IN parameters, parameters with null values are omitted
+     * @return the procedure call in JDBC escape syntax
+     */
+    @Override
+    public String buildProcedureCall(final String pCallable,
+                                     final String pOutParamName,
+                                     final Map<String, Object> pInParameters) {
+
+        return statementBuilder.buildProcedureCall(pCallable, pOutParamName, pInParameters);
+    }
+
     private static final String ORDER_BY_CLAUSE = " ORDER BY ";
     private static final String COUNT_OVER_COLUMN_SELECT = "SELECT COUNT(*) OVER()" + IBean.PAGING_TOTAL + ", ";
     private static final String OFFSET_CLAUSE = " OFFSET ";
@@ -170,32 +336,95 @@ public class PostgresqlPlatform implements IPlatform {
                                     final boolean pAcquireLock,
                                     final FilterExtension pFilterExtension) {
 
-        final String baseQuery =
-                statementBuilder.buildSQLStatement(pTableName, pInParameters, pUseNamedParameters, pAcquireLock);
+        final String baseQuery = statementBuilder.buildSQLStatement
+                (pTableName, pInParameters, pUseNamedParameters, pAcquireLock, pFilterExtension);
         if (pFilterExtension == null) {
             return baseQuery;
         }
         String filteredQuery = baseQuery;
-        filteredQuery = filteredQuery.replaceFirst("SELECT ", COUNT_OVER_COLUMN_SELECT);
-        final List<FilterExtension.SortCriteria> sortCriterias = pFilterExtension.getSortCriteria();
-        if (sortCriterias.size() > 0) {
-            String orderByClause = "";
-            String delimiter = ORDER_BY_CLAUSE;
-            for (final FilterExtension.SortCriteria sortCriteria : sortCriterias) {
-                final String columnName = sortCriteria.getColumnName();
-                if (columnName == null) {
-                    throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
-                }
-                orderByClause += delimiter + columnName + " " + sortCriteria.getDirection();
-                delimiter = ", ";
-            }
-            filteredQuery += orderByClause;
+        if (pFilterExtension.isKeysetPaging()) {
+            // Keyset paging seeks the page start with the predicate built into the base query, so neither
+            // OFFSET nor the total count is required
+            filteredQuery += buildOrderByClause(pFilterExtension.getSortCriteria());
+            filteredQuery += LIMIT_CLAUSE + pFilterExtension.getLimit();
+            return filteredQuery;
+        }
+        if (pFilterExtension.isPagingTotalSupported()) {
+            filteredQuery = filteredQuery.replaceFirst("SELECT ", COUNT_OVER_COLUMN_SELECT);
         }
+        filteredQuery += buildOrderByClause(pFilterExtension.getSortCriteria());
         filteredQuery += OFFSET_CLAUSE + pFilterExtension.getOffset();
         filteredQuery += LIMIT_CLAUSE + pFilterExtension.getLimit();
         return filteredQuery;
     }
 
+    private String buildOrderByClause(final List<FilterExtension.SortCriteria> pSortCriterias) {
+
+        String orderByClause = "";
+        String delimiter = ORDER_BY_CLAUSE;
+        for (final FilterExtension.SortCriteria sortCriteria : pSortCriterias) {
+            final String columnName = sortCriteria.getColumnName();
+            if (columnName == null) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
+            }
+            orderByClause += delimiter + columnName + " " + sortCriteria.getDirection();
+            delimiter = ", ";
+        }
+        return orderByClause;
+    }
+
+    private static final String EXPLAIN_PREFIX = "EXPLAIN ";
+    private static final Pattern EXPLAIN_ROWS_PATTERN = Pattern.compile(" rows=(\\d+)");
+
+    /**
+     * Estimates the number of rows returned by the given query using the row estimation of the query plan
+     * of the top level plan node (EXPLAIN).
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQuery the SQL query without ordering and paging
+     * @param pParameters the parameter values for the SQL query in binding order
+     * @return the estimated number of rows or null, when no estimation is available
+     * @throws SQLException JDBC driver exception
+     */
+    @Override
+    public Long estimateRowCount(final Connection pConnection,
+                                 final String pTableName,
+                                 final String pQuery,
+                                 final List<Object> pParameters) throws SQLException {
+
+        try (PreparedStatement pstmt = pConnection.prepareStatement(EXPLAIN_PREFIX.concat(pQuery))) {
+            int parameterIndex = 1;
+            for (final Object parameter : pParameters) {
+                setObject(pstmt, parameter, parameterIndex++, -1);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    final Matcher matcher = EXPLAIN_ROWS_PATTERN.matcher(rs.getString(1));
+                    if (matcher.find()) {
+                        return Long.valueOf(matcher.group(1));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builds the partition expression using the hash function HASHTEXT on the text representation of the column
+     * value. The hash value is converted to BIGINT to avoid an integer overflow for ABS.
+     *
+     * @param pColumnName the partition column
+     * @param pPartitionCount the number of partitions
+     * @return the partition expression
+     */
+    @Override
+    public String buildPartitionExpression(final String pColumnName, final int pPartitionCount) {
+
+        return "MOD(ABS(CAST(HASHTEXT(CAST(".concat(pColumnName).concat(" AS TEXT)) AS BIGINT)), ")
+                .concat(Integer.toString(pPartitionCount)).concat(")");
+    }
+
     /**
      * Provides database metadata for code generation and validation of generated code.
      *
@@ -0,0 +1,99 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default executor for asynchronous database calls (see DataSourceProvider.supplyAsync). The number of
+ * concurrently executed database calls is bounded by the configured pool size, which should not exceed the size
+ * of the connection pool. On Java 21 and later, every call is executed in a new virtual thread, whereas the
+ * number of virtual threads executing a database call at the same time is limited by a semaphore. On earlier
+ * Java versions, a fixed number of (daemon) platform threads is used and pending calls are queued.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class AsyncExecutor implements Executor {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncExecutor.class);
+
+    private static final String THREAD_NAME_PREFIX = "noorm-async-";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final Executor executor;
+    private final Semaphore permits;
+
+    AsyncExecutor(final int pPoolSize) {
+
+        final int poolSize = Math.max(1, pPoolSize);
+        final Executor virtualThreadExecutor = createVirtualThreadExecutor();
+        if (virtualThreadExecutor != null) {
+            log.info("Using virtual threads for asynchronous database calls. Concurrency limit: " + poolSize);
+            executor = virtualThreadExecutor;
+            permits = new Semaphore(poolSize);
+        } else {
+            log.info("Using platform threads for asynchronous database calls. Pool size: " + poolSize);
+            final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                    new DaemonThreadFactory());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executor = threadPoolExecutor;
+            permits = null;
+        }
+    }
+
+    @Override
+    public void execute(final Runnable pCommand) {
+
+        if (permits == null) {
+            executor.execute(pCommand);
+            return;
+        }
+        executor.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                pCommand.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Virtual threads are available with Java 21 and later. Since NoORM is built for earlier Java versions, the
+     * executor is created using reflection.
+     *
+     * @return an executor creating a new virtual thread per task or null, when virtual threads are not available
+     */
+    private static Executor createVirtualThreadExecutor() {
+
+        try {
+            final Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable pRunnable) {
+
+            final Thread thread = new Thread(pRunnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -3,13 +3,16 @@ package org.noorm.jdbc;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
-import java.sql.*;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Generic mapper for mapping a JDBC ResultSet to a Bean or for mapping a Bean
@@ -19,6 +22,13 @@ import java.util.Map;
  * of the JDBCColumn annotations for the distinct attributes of the Beans.
  * Attributes without JDBCColumn annotation are considered transient and they are
  * omitted from the mapping procedure.
+ * The reflective analysis for converting ResultSets is done only once per Bean class
+ * and ResultSet shape. The ResultSet metadata is resolved into a column index plan and
+ * the result is a compiled row mapper (see CompiledRowMapper), which is cached and reused
+ * for all subsequent rows and calls. Rows are mapped using index-based column access only.
+ * Generated Bean classes come with a generated, reflection-free row mapper and parameter
+ * binder, which are registered here and take precedence over the compiled row mapper and
+ * parameter binder.
  *
  * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
  */
@@ -27,6 +37,22 @@ public class BeanMapper<T> {
 	private static BeanMapper mapper = new BeanMapper();
 	private static final Logger log = LoggerFactory.getLogger(BeanMapper.class);
 
+	private static final ConcurrentMap<Class<?>, ConcurrentMap<String, IRowMapper<?>>> rowMapperCache =
+			new ConcurrentHashMap<>();
+	private static final ConcurrentMap<Class<?>, IRowMapperFactory<?>> rowMapperFactories =
+			new ConcurrentHashMap<>();
+	private static final ConcurrentMap<Class<?>, IParameterBinder<?>> parameterBinders =
+			new ConcurrentHashMap<>();
+	private static final ConcurrentMap<Class<?>, IParameterBinder<?>> compiledParameterBinders =
+			new ConcurrentHashMap<>();
+	private static final ConcurrentMap<Class<?>, Boolean> initializedBeanClasses = new ConcurrentHashMap<>();
+	private static final IRowMapper<Long> LONG_ROW_MAPPER = new IRowMapper<Long>() {
+		@Override
+		public Long mapRow(final ResultSet pResultSet) throws SQLException {
+			return pResultSet.getLong(1);
+		}
+	};
+
 	public static <T> BeanMapper<T> getInstance() {
 
 		return mapper;
@@ -35,6 +61,57 @@ public class BeanMapper<T> {
 	private BeanMapper() {
 	}
 
+	/**
+	 * Registers the generated row mapper factory for the given Bean class. Generated Bean classes register
+	 * their row mapper factory, when the class is initialized.
+	 *
+	 * @param pBeanClass the type of the Bean
+	 * @param pRowMapperFactory the row mapper factory
+	 */
+	public static <B> void registerRowMapperFactory(final Class<B> pBeanClass,
+													final IRowMapperFactory<B> pRowMapperFactory) {
+
+		rowMapperFactories.put(pBeanClass, pRowMapperFactory);
+	}
+
+	/**
+	 * Registers the generated parameter binder for the given Bean class. Generated Bean classes register
+	 * their parameter binder, when the class is initialized.
+	 *
+	 * @param pBeanClass the type of the Bean
+	 * @param pParameterBinder the parameter binder
+	 */
+	public static <B> void registerParameterBinder(final Class<B> pBeanClass,
+												   final IParameterBinder<B> pParameterBinder) {
+
+		parameterBinders.put(pBeanClass, pParameterBinder);
+	}
+
+	/**
+	 * Returns the parameter binder for the given Bean class. A generated parameter binder is used, when
+	 * available, otherwise a compiled parameter binder is provided. Since parameter binders are generated
+	 * for the exact Bean class, classes extending a generated Bean class use a compiled parameter binder.
+	 *
+	 * @param pBeanClass the type of the Bean
+	 * @return the parameter binder
+	 */
+	public IParameterBinder<T> getParameterBinder(final Class<?> pBeanClass) {
+
+		IParameterBinder<T> parameterBinder = (IParameterBinder<T>) parameterBinders.get(pBeanClass);
+		if (parameterBinder == null && initializeBeanClass(pBeanClass)) {
+			parameterBinder = (IParameterBinder<T>) parameterBinders.get(pBeanClass);
+		}
+		if (parameterBinder == null) {
+			parameterBinder = (IParameterBinder<T>) compiledParameterBinders.get(pBeanClass);
+			if (parameterBinder == null) {
+				// Concurrent compilation of the same binder is harmless, since compiled binders are stateless
+				parameterBinder = (IParameterBinder<T>) CompiledParameterBinder.compile(pBeanClass);
+				compiledParameterBinders.put(pBeanClass, parameterBinder);
+			}
+		}
+		return parameterBinder;
+	}
+
 	/**
 	 * Maps the given ResultSet to a list of Beans.
 	 *
@@ -51,30 +128,28 @@ public class BeanMapper<T> {
         if (log.isTraceEnabled()) {
             log.trace("Converting database results to list of Bean class ".concat(pBeanClass.getName()));
         }
-		final List<T> beanList = new ArrayList<T>();
-		T bean;
-		final Field[] fields = BeanMetaDataUtil.getDeclaredFieldsInclParent(pBeanClass);
-		if (fields == null || fields.length == 0) {
-			return beanList;
+		if (BeanMetadata.forClass(pBeanClass).getDeclaredFields().length == 0) {
+			return new ArrayList<T>();
 		}
+		final boolean isBean = IBean.class.isAssignableFrom(pBeanClass);
+		List<T> beanList = null;
+		IRowMapper<T> rowMapper = null;
 		while (pResultSet.next()) {
-			try {
-				if (pBeanClass.equals(Long.class)) {
-					// Support for num_array based on java.lang.Long.
-					bean = (T) new Long(pResultSet.getLong(1));
-				} else {
-					bean = pBeanClass.newInstance();
-					populateFields(pResultSet, bean, fields, pFetchPagingTotal);
-				}
-			} catch (InstantiationException ex) {
-				throw new DataAccessException(ex);
-			} catch (IllegalAccessException ex) {
-				throw new DataAccessException(ex);
+			if (rowMapper == null) {
+				// The row mapper and the list are created lazily, i.e. empty ResultSets never require a mapper.
+				// When the fetch size is known, at least one round-trip worth of rows is expected.
+				rowMapper = getRowMapper(pResultSet, pBeanClass, pFetchPagingTotal);
+				final int fetchSize = pResultSet.getFetchSize();
+				beanList = fetchSize > 0 ? new ArrayList<T>(fetchSize) : new ArrayList<T>();
+			}
+			final T bean = rowMapper.mapRow(pResultSet);
+			if (isBean) {
+				((IBean) bean).enableModifiedFieldTracking();
 			}
 			beanList.add(bean);
 		}
 
-		return beanList;
+		return beanList == null ? new ArrayList<T>() : beanList;
 	}
 
 	/**
@@ -90,188 +165,140 @@ public class BeanMapper<T> {
             log.trace("Converting Bean to parameter map.");
         }
 		final Map<String, Object> fieldMap = new HashMap<String, Object>();
-		final Field[] fields = BeanMetaDataUtil.getDeclaredFieldsInclParent(pBean.getClass());
-		if (fields == null || fields.length == 0) {
-			return fieldMap;
-		}
-
-		String fieldName;
-		for (final Field field : fields) {
-			// Ignore serialVersionUID
-			if (BeanMetaDataUtil.SERIAL_VERSION_UID.equals(field.getName())) {
+		for (final BeanMetadata.Column column : BeanMetadata.forClass(pBean.getClass()).getColumns()) {
+			// All non-insertable columns are also non-updatable, so no more distinction required
+			if (!column.getJDBCColumn().insertable()) {
 				continue;
 			}
-			field.setAccessible(true);
-            final JDBCColumn colAnn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
-            if (colAnn != null) {
-            	// All non-insertable columns are also non-updatable, so no more distinction required
-                if (!colAnn.insertable()) {
-                    continue;
-                }
-                fieldName = colAnn.name();
-            } else {
-				// Ignore fields without JDBCColumn annotation (interpreted transient)
-				continue;
-			}
-
-			try {
-				fieldMap.put(fieldName, field.get(pBean));
-			} catch (IllegalAccessException ex) {
-				throw new DataAccessException(ex);
-			}
+			fieldMap.put(column.getName(), column.getValue(pBean));
 		}
 
 		return fieldMap;
 	}
 
-	private void populateFields(final ResultSet pResultSet,
-								final T pBean,
-								final Field[] pFields,
-								final boolean pFetchPagingTotal) throws IllegalAccessException, SQLException {
-
-		String fieldName;
-		for (final Field field : pFields) {
-			// Ignore serialVersionUID
-			if (BeanMetaDataUtil.SERIAL_VERSION_UID.equals(field.getName())) {
-				continue;
-			}
-			field.setAccessible(true);
-			final Class fieldType = field.getType();
-            final JDBCColumn colAnn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
-            if (colAnn != null) {
-                fieldName = colAnn.name();
-            } else {
-                // Ignore fields without JDBCColumn annotation (interpreted transient)
-                continue;
-            }
-			if (!pFetchPagingTotal && fieldName.equals(IBean.PAGING_TOTAL)) {
-            	// Column PAGING_TOTAL is only available for paging queries.
-				continue;
-			}
-
-			if (log.isTraceEnabled()) {
-				StringBuilder logMessage = new StringBuilder();
-				logMessage.append("Mapping database field : ");
-				logMessage.append(fieldName);
-				logMessage.append(" to Bean field ");
-				logMessage.append(field.getName());
-				logMessage.append(":");
-				logMessage.append(fieldType.getName());
-				log.trace(logMessage.toString());
-			}
-
-			// Principally, for matching types, using "field.set(beans, pResultSet.getObject(fieldName))" would
-			// work. However, for non-matching types subject to automatic conversion by means of the
-			// JDBC driver, we would run into problems.
-			// The explicit casting based on the types of the Bean as follows is the most flexible approach
-			// in providing a zero-configuration way to choose custom (but compatible!) types in the
-			// Bean specification.
-
-			if (fieldType == String.class) {
-                final String value = pResultSet.getString(fieldName);
-                if (value != null) {
-                    field.set(pBean, value.trim());
-                }
-                continue;
-			}
+	/**
+	 * Returns the row mapper for the given Bean class and ResultSet. A generated row mapper is used, when
+	 * available, otherwise a compiled row mapper is provided.
+	 *
+	 * @param pResultSet the ResultSet subject to conversion
+	 * @param pBeanClass the type of the Bean
+	 * @param pFetchPagingTotal indicates, whether the virtual column PAGING_TOTAL is part of the ResultSet
+	 * @return the row mapper
+	 * @throws SQLException JDBC driver exception
+	 */
+	IRowMapper<T> getRowMapper(final ResultSet pResultSet,
+							   final Class<T> pBeanClass,
+							   final boolean pFetchPagingTotal) throws SQLException {
 
-            if (fieldType == Long.class) {
-                final Long value = pResultSet.getLong(fieldName);
-                if (!pResultSet.wasNull()) {
-                    field.set(pBean, value);
-                }
-                continue;
-            }
+		if (pBeanClass.equals(Long.class)) {
+			// Support for num_array based on java.lang.Long.
+			return (IRowMapper<T>) LONG_ROW_MAPPER;
+		}
+		IRowMapperFactory<T> rowMapperFactory = (IRowMapperFactory<T>) rowMapperFactories.get(pBeanClass);
+		if (rowMapperFactory == null && initializeBeanClass(pBeanClass)) {
+			rowMapperFactory = (IRowMapperFactory<T>) rowMapperFactories.get(pBeanClass);
+		}
+		if (rowMapperFactory != null) {
+			return rowMapperFactory.createRowMapper(pResultSet, pFetchPagingTotal);
+		}
+		return getCompiledRowMapper(pResultSet, pBeanClass, pFetchPagingTotal);
+	}
 
-			if (fieldType == Integer.class) {
-				final Integer value = pResultSet.getInt(fieldName);
-				if (!pResultSet.wasNull()) {
-					field.set(pBean, value);
-				}
-                continue;
-			}
+	private IRowMapper<T> getCompiledRowMapper(final ResultSet pResultSet,
+											   final Class<T> pBeanClass,
+											   final boolean pFetchPagingTotal) throws SQLException {
 
-			if (fieldType == Double.class) {
-				final Double value = pResultSet.getDouble(fieldName);
-				if (!pResultSet.wasNull()) {
-					field.set(pBean, value);
-				}
-                continue;
-			}
-			if (fieldType == java.util.Date.class || fieldType == Timestamp.class) {
-				field.set(pBean, pResultSet.getTimestamp(fieldName));
-                continue;
+		final ResultSetMetaData metaData = pResultSet.getMetaData();
+		final int columnCount = metaData.getColumnCount();
+		final StringBuilder resultSetSignature = new StringBuilder(columnCount * 16);
+		resultSetSignature.append(pFetchPagingTotal);
+		for (int i = 1; i <= columnCount; i++) {
+			resultSetSignature.append(',').append(metaData.getColumnLabel(i));
+		}
+		final String signature = resultSetSignature.toString();
+		ConcurrentMap<String, IRowMapper<?>> classRowMappers = rowMapperCache.get(pBeanClass);
+		if (classRowMappers == null) {
+			classRowMappers = new ConcurrentHashMap<>();
+			final ConcurrentMap<String, IRowMapper<?>> existing =
+					rowMapperCache.putIfAbsent(pBeanClass, classRowMappers);
+			if (existing != null) {
+				classRowMappers = existing;
 			}
+		}
+		IRowMapper<T> rowMapper = (IRowMapper<T>) classRowMappers.get(signature);
+		if (rowMapper == null) {
+			// Concurrent compilation of the same mapper is harmless, since compiled mappers are stateless
+			final int[] columnIndexes = resolveColumnIndexes(metaData, pBeanClass, pFetchPagingTotal);
+			rowMapper = CompiledRowMapper.compile(pBeanClass, columnIndexes);
+			classRowMappers.put(signature, rowMapper);
+		}
+		return rowMapper;
+	}
 
-            if (fieldType == java.sql.Date.class) {
-                Timestamp timestamp = pResultSet.getTimestamp(fieldName);
-                if (!pResultSet.wasNull()) {
-                    field.set(pBean, new java.sql.Date(timestamp.getTime()));
-                }
-                continue;
-            }
-
-			if (fieldType == BigDecimal.class) {
-				field.set(pBean, pResultSet.getBigDecimal(fieldName));
-                continue;
-			}
+	/**
+	 * Resolves the ResultSet column index for every column of the given Bean class. The ResultSet metadata is
+	 * evaluated in a single pass, so the cost of resolving column labels (typically a case-insensitive lookup
+	 * inside the JDBC driver) is not paid per column or per row.
+	 *
+	 * @param pMetaData the ResultSet metadata
+	 * @param pBeanClass the type of the Bean
+	 * @param pFetchPagingTotal indicates, whether the virtual column PAGING_TOTAL is part of the ResultSet
+	 * @return the column indexes aligned with BeanMetadata.getColumns, 0 for the column PAGING_TOTAL, when it is
+	 * absent from the ResultSet
+	 * @throws SQLException JDBC driver exception or any other column of the Bean is absent from the ResultSet
+	 */
+	private int[] resolveColumnIndexes(final ResultSetMetaData pMetaData,
+									   final Class<T> pBeanClass,
+									   final boolean pFetchPagingTotal) throws SQLException {
 
-			if (fieldType == Boolean.class) {
-				field.set(pBean, pResultSet.getBoolean(fieldName));
-                continue;
+		final int columnCount = pMetaData.getColumnCount();
+		final Map<String, Integer> labelIndexes = new HashMap<>(columnCount * 2);
+		for (int i = columnCount; i >= 1; i--) {
+			// Iterating backwards lets the first occurrence of a duplicate label win, like ResultSet.findColumn
+			labelIndexes.put(pMetaData.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+		}
+		final BeanMetadata.Column[] columns = BeanMetadata.forClass(pBeanClass).getColumns();
+		final int[] columnIndexes = new int[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			final String columnName = columns[i].getName();
+			if (!pFetchPagingTotal && columnName.equals(IBean.PAGING_TOTAL)) {
+				// Column PAGING_TOTAL is only available for paging queries.
+				continue;
 			}
-
-			if (fieldType == Float.class) {
-				final Float value = pResultSet.getFloat(fieldName);
-				if (!pResultSet.wasNull()) {
-					field.set(pBean, value);
+			final Integer columnIndex = labelIndexes.get(columnName.toUpperCase(Locale.ROOT));
+			if (columnIndex == null) {
+				if (columnName.equals(IBean.PAGING_TOTAL)) {
+					// Paging queries provide the column PAGING_TOTAL only, when supported by the platform.
+					continue;
 				}
-                continue;
+				// Like the generated row mappers (and ResultSet.findColumn), absent columns are not accepted
+				throw new SQLException("Column ".concat(columnName).concat(" of Bean class ")
+						.concat(pBeanClass.getName()).concat(" is not contained in the ResultSet."));
 			}
+			columnIndexes[i] = columnIndex;
+		}
+		return columnIndexes;
+	}
 
-			if (fieldType == Short.class) {
-				final Short value = pResultSet.getShort(fieldName);
-				if (!pResultSet.wasNull()) {
-					field.set(pBean, value);
-				}
-                continue;
-			}
+	/**
+	 * Generated Bean classes register their row mapper factory and parameter binder in their static
+	 * initializer. Referring to a class literal does not initialize the class, so this is enforced here
+	 * once for every Bean class, when the first lookup for a generated mapper or binder fails.
+	 *
+	 * @param pBeanClass the type of the Bean
+	 * @return true, when the class has been initialized by this call
+	 */
+	private boolean initializeBeanClass(final Class<?> pBeanClass) {
 
-			if (fieldType == byte[].class) {
-                field.set(pBean, pResultSet.getBytes(fieldName));
-                continue;
-			}
-            if (fieldType == Clob.class) {
-                final Clob value = pResultSet.getClob(fieldName);
-                if (!pResultSet.wasNull()) {
-                    field.set(pBean, value);
-                }
-                continue;
-            }
-            if (fieldType == NClob.class) {
-                final NClob value = pResultSet.getNClob(fieldName);
-                if (!pResultSet.wasNull()) {
-                    field.set(pBean, value);
-                }
-                continue;
-            }
-            if (fieldType == Blob.class) {
-                final Blob value = pResultSet.getBlob(fieldName);
-                if (!pResultSet.wasNull()) {
-                    field.set(pBean, value);
-                }
-                continue;
-            }
-            if (fieldType == SQLXML.class) {
-                final SQLXML value = pResultSet.getSQLXML(fieldName);
-                if (!pResultSet.wasNull()) {
-                    field.set(pBean, value);
-                }
-                continue;
-            }
-            final String errMsg = "Datatype conversion failed for [".concat(fieldName)
-                    .concat(" / ").concat(fieldType.getName()).concat("].");
-            throw new DataAccessException(DataAccessException.Type.UNSUPPORTED_DATATYPE, errMsg);
+		if (!IBean.class.isAssignableFrom(pBeanClass)
+				|| initializedBeanClasses.putIfAbsent(pBeanClass, Boolean.TRUE) != null) {
+			return false;
+		}
+		try {
+			Class.forName(pBeanClass.getName(), true, pBeanClass.getClassLoader());
+		} catch (ClassNotFoundException ex) {
+			throw new DataAccessException(ex);
 		}
+		return true;
 	}
 }
@@ -5,17 +5,19 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Convenience class to provide access to Bean metadata. Other classes and functionalities
  * like the BeanMapper require metadata information about the Bean, in particular information
  * about the non-transient fields, which are annotated with the JDBCColumn annotation.
  *
- * Since declared fields and annotations are determined at compile time, they are cached here to
- * improve performance.
+ * Since declared fields and annotations are determined at compile time, they are cached to improve
+ * performance. The per-class metadata is maintained by BeanMetadata, which is immutable and safe for
+ * concurrent use.
  *
  * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
  *         Date: 26.07.11
@@ -27,22 +29,13 @@ public class BeanMetaDataUtil {
 
 	public static final String SERIAL_VERSION_UID = "serialVersionUID";
 
-    private static Map<Field, JDBCColumn> jdbcColumnAnnotationCache = new HashMap<Field, JDBCColumn>();
-    private static Map<Class, Field[]> declaredFieldInclParentCache = new HashMap<Class, Field[]>();
+    // ConcurrentHashMap does not support null values, thus a sentinel is used for fields without annotation
+    private static final Object NO_JDBC_COLUMN = new Object();
+    private static final ConcurrentMap<Field, Object> jdbcColumnAnnotationCache = new ConcurrentHashMap<>();
 
     public static Map<String, String> getJavaNames2ColumnNames(final Class pClass) {
 
-    	final HashMap<String, String> javaNames2ColumnNames = new HashMap<>();
-		final Field[] fields = getDeclaredFieldsInclParent(pClass);
-		for (final Field field : fields) {
-			final JDBCColumn jdbcColumn = getJDBCColumnAnnotation(field);
-			if (jdbcColumn != null) {
-				final String javaName = field.getName();
-				final String columnName = jdbcColumn.name();
-				javaNames2ColumnNames.put(javaName, columnName);
-			}
-		}
-		return javaNames2ColumnNames;
+		return BeanMetadata.forClass(pClass).getJavaNames2ColumnNames();
 	}
 
 	/**
@@ -57,35 +50,7 @@ public class BeanMetaDataUtil {
         if (log.isTraceEnabled()) {
             log.trace("Retrieving declared fields by reflection for class ".concat(pClass.getName()));
         }
-
-        Field[] allFields = declaredFieldInclParentCache.get(pClass);
-        if (allFields == null) {
-            final Field[] fields = pClass.getDeclaredFields();
-            Field[] sFields = new Field[0];
-            final Class superClass = pClass.getSuperclass();
-            if (superClass != null) {
-                sFields = superClass.getDeclaredFields();
-            }
-            allFields = Arrays.copyOf(fields, fields.length + sFields.length);
-            System.arraycopy(sFields, 0, allFields, fields.length, sFields.length);
-
-            if (log.isTraceEnabled()) {
-                int i = 0;
-                for (final Field field : allFields) {
-                    final StringBuilder logMessage = new StringBuilder();
-                    logMessage.append("Field ");
-                    logMessage.append(i++);
-                    logMessage.append(" : ");
-                    logMessage.append(field.getName());
-                    logMessage.append(":");
-                    logMessage.append(field.getType().getName());
-                    log.trace(logMessage.toString());
-                }
-            }
-            declaredFieldInclParentCache.put(pClass, allFields);
-        }
-
-		return allFields;
+        return BeanMetadata.forClass(pClass).getDeclaredFields().clone();
 	}
 
     /**
@@ -98,17 +63,18 @@ public class BeanMetaDataUtil {
      */
     public static JDBCColumn getJDBCColumnAnnotation(final Field pField) {
 
-        JDBCColumn jdbcColumn = jdbcColumnAnnotationCache.get(pField);
+        Object jdbcColumn = jdbcColumnAnnotationCache.get(pField);
         if (jdbcColumn == null) {
+            jdbcColumn = NO_JDBC_COLUMN;
             final Annotation[] annotations = pField.getDeclaredAnnotations();
             if (annotations != null && annotations.length > 0) {
                 if (annotations[0].annotationType() == JDBCColumn.class) {
-                    jdbcColumn = (JDBCColumn) annotations[0];
+                    jdbcColumn = annotations[0];
                 }
-                jdbcColumnAnnotationCache.put(pField, jdbcColumn);
             }
+            jdbcColumnAnnotationCache.putIfAbsent(pField, jdbcColumn);
         }
-        return jdbcColumn;
+        return jdbcColumn == NO_JDBC_COLUMN ? null : (JDBCColumn) jdbcColumn;
     }
 
 	/**
@@ -120,23 +86,8 @@ public class BeanMetaDataUtil {
 	 */
 	public static Map<String, JDBCColumn> getColumnMetaData(final Class pClass) {
 
-		final Map<String, JDBCColumn> columnMetaDataMap = new HashMap<String, JDBCColumn>();
-		final Field[] fields = BeanMetaDataUtil.getDeclaredFieldsInclParent(pClass);
-		for (final Field field : fields) {
-			// Ignore serialVersionUID
-			if (SERIAL_VERSION_UID.equals(field.getName())) {
-				continue;
-			}
-			final Annotation[] annotations = field.getDeclaredAnnotations();
-			if (annotations != null && annotations.length > 0) {
-				if (annotations[0].annotationType() == JDBCColumn.class) {
-					final JDBCColumn colAnn = (JDBCColumn) annotations[0];
-					columnMetaDataMap.put(colAnn.name(), colAnn);
-				}
-			}
-			// Ignore fields without JDBCColumn annotation (interpreted transient)
-		}
-		return columnMetaDataMap;
+		// The returned map is a copy, since callers (e.g. the BeanValidator) are free to modify it
+		return new HashMap<>(BeanMetadata.forClass(pClass).getColumnMetaData());
 	}
 
 	/**
@@ -214,18 +165,11 @@ public class BeanMetaDataUtil {
 
     private static Field getDeclaredFieldInclParent(final Object pObject, final String pPropertyName) {
 
-        final Field[] fields = getDeclaredFieldsInclParent(pObject.getClass());
-        Field property = null;
-        for (final Field field : fields) {
-            if (field.getName().equals(pPropertyName)) {
-                property = field;
-            }
-        }
+        final Field property = BeanMetadata.forClass(pObject.getClass()).getField(pPropertyName);
         if (property == null) {
             throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION,
                     pObject.getClass().getName().concat(".").concat(pPropertyName));
         }
-        property.setAccessible(true);
         return property;
     }
 }
@@ -0,0 +1,459 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable metadata descriptor for a Bean class (or any other class with JDBCColumn annotated fields like
+ * NoORM enums). The descriptor is built once per class by reflection and published safely for concurrent
+ * use through a ClassValue, so no synchronization is required to access it.
+ * The descriptor contains the declared fields (including the fields of the super-class), the ordered list
+ * of mapped columns with pre-resolved accessors and, for IBean implementations, the primary key and
+ * version column information.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public final class BeanMetadata {
+
+    private static final Logger log = LoggerFactory.getLogger(BeanMetadata.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<BeanMetadata> metadataCache = new ClassValue<BeanMetadata>() {
+        @Override
+        protected BeanMetadata computeValue(final Class<?> pClass) {
+            return new BeanMetadata(pClass);
+        }
+    };
+
+    private final Class<?> beanClass;
+    private final String tableName;
+    private final Field[] declaredFields;
+    private final Map<String, Field> fieldsByJavaName;
+    private final Column[] columns;
+    private final Map<String, Column> columnsByName;
+    private final Map<String, JDBCColumn> columnMetaData;
+    private final Map<String, String> javaNames2ColumnNames;
+    private final int[] primaryKeyColumnIndexes;
+    private final int versionColumnIndex;
+    private final boolean[] insertable;
+    private final boolean[] updatable;
+    private final Constructor<?> constructor;
+
+    /**
+     * Returns the metadata descriptor for the given class.
+     *
+     * @param pClass the Bean class
+     * @return the metadata descriptor
+     */
+    public static BeanMetadata forClass(final Class<?> pClass) {
+
+        return metadataCache.get(pClass);
+    }
+
+    private BeanMetadata(final Class<?> pBeanClass) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Building metadata for class ".concat(pBeanClass.getName()));
+        }
+        beanClass = pBeanClass;
+
+        // Using Class.getDeclaredFields does not return fields declared in a potentially existing super-class.
+        // Note that there is no recursive mechanism to detect declarations of the super-class of the super-class.
+        final Field[] fields = pBeanClass.getDeclaredFields();
+        Field[] sFields = new Field[0];
+        final Class<?> superClass = pBeanClass.getSuperclass();
+        if (superClass != null) {
+            sFields = superClass.getDeclaredFields();
+        }
+        declaredFields = Arrays.copyOf(fields, fields.length + sFields.length);
+        System.arraycopy(sFields, 0, declaredFields, fields.length, sFields.length);
+
+        // Primary key and version column are provided by the Bean instance. Since generated Beans provide
+        // constants here, a prototype instance is sufficient to retrieve this information once.
+        String[] primaryKeyColumnNames = new String[0];
+        String versionColumnName = null;
+        String tableName0 = null;
+        Constructor<?> constructor0 = null;
+        if (!Modifier.isAbstract(pBeanClass.getModifiers())) {
+            try {
+                constructor0 = pBeanClass.getDeclaredConstructor();
+                constructor0.setAccessible(true);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug("No accessible default constructor for class ".concat(pBeanClass.getName()), e);
+                constructor0 = null;
+            }
+        }
+        constructor = constructor0;
+        if (IBean.class.isAssignableFrom(pBeanClass) && constructor != null) {
+            try {
+                final IBean prototype = (IBean) constructor.newInstance();
+                if (prototype.getPrimaryKeyColumnNames() != null) {
+                    primaryKeyColumnNames = prototype.getPrimaryKeyColumnNames();
+                }
+                versionColumnName = prototype.getVersionColumnName();
+                tableName0 = prototype.getTableName();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug("Cannot instantiate prototype for class ".concat(pBeanClass.getName()), e);
+            }
+        }
+        tableName = tableName0;
+        final List<String> primaryKeyColumnNameList = Arrays.asList(primaryKeyColumnNames);
+
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Map<String, Field> fieldsByJavaName0 = new HashMap<>();
+        final List<Column> columnList = new ArrayList<>();
+        for (final Field field : declaredFields) {
+            // Like in earlier versions, a field of the super-class hides a field of the class with the same name
+            fieldsByJavaName0.put(field.getName(), field);
+            if (BeanMetaDataUtil.SERIAL_VERSION_UID.equals(field.getName())
+                    || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            final JDBCColumn jdbcColumn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
+            if (jdbcColumn == null) {
+                // Ignore fields without JDBCColumn annotation (interpreted transient)
+                continue;
+            }
+            final boolean primaryKey = primaryKeyColumnNameList.contains(jdbcColumn.name());
+            columnList.add(new Column(columnList.size(), field, jdbcColumn, primaryKey, lookup));
+        }
+        for (final Field field : fieldsByJavaName0.values()) {
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException ignored) {
+            } // Inaccessible fields are only a problem, when they are actually accessed.
+        }
+        fieldsByJavaName = Collections.unmodifiableMap(fieldsByJavaName0);
+        columns = columnList.toArray(new Column[0]);
+
+        final Map<String, Column> columnsByName0 = new LinkedHashMap<>();
+        final Map<String, JDBCColumn> columnMetaData0 = new LinkedHashMap<>();
+        final Map<String, String> javaNames2ColumnNames0 = new LinkedHashMap<>();
+        insertable = new boolean[columns.length];
+        updatable = new boolean[columns.length];
+        for (final Column column : columns) {
+            columnsByName0.put(column.getName(), column);
+            columnMetaData0.put(column.getName(), column.getJDBCColumn());
+            javaNames2ColumnNames0.put(column.getJavaName(), column.getName());
+            insertable[column.getIndex()] = column.getJDBCColumn().insertable();
+            updatable[column.getIndex()] = column.getJDBCColumn().updatable();
+        }
+        columnsByName = Collections.unmodifiableMap(columnsByName0);
+        columnMetaData = Collections.unmodifiableMap(columnMetaData0);
+        javaNames2ColumnNames = Collections.unmodifiableMap(javaNames2ColumnNames0);
+
+        final List<Integer> primaryKeyColumnIndexes0 = new ArrayList<>();
+        for (final String primaryKeyColumnName : primaryKeyColumnNames) {
+            final Column column = columnsByName.get(primaryKeyColumnName);
+            if (column != null) {
+                primaryKeyColumnIndexes0.add(column.getIndex());
+            }
+        }
+        primaryKeyColumnIndexes = new int[primaryKeyColumnIndexes0.size()];
+        for (int i = 0; i < primaryKeyColumnIndexes.length; i++) {
+            primaryKeyColumnIndexes[i] = primaryKeyColumnIndexes0.get(i);
+        }
+        int versionColumnIndex0 = -1;
+        if (versionColumnName != null && !versionColumnName.isEmpty()) {
+            final Column column = columnsByName.get(versionColumnName);
+            if (column != null) {
+                versionColumnIndex0 = column.getIndex();
+            }
+        }
+        versionColumnIndex = versionColumnIndex0;
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Returns the table name provided by the Bean.
+     *
+     * @return the table name or null, when the class is not an instantiable Bean
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Returns all declared fields of the class and its super-class, if any. The returned array is shared
+     * and must not be modified.
+     *
+     * @return the declared fields
+     */
+    public Field[] getDeclaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * Returns the (accessible) field for the given Java name.
+     *
+     * @param pJavaName the name of the field
+     * @return the field or null, when the class has no field with the given name
+     */
+    public Field getField(final String pJavaName) {
+        return fieldsByJavaName.get(pJavaName);
+    }
+
+    /**
+     * Returns the mapped columns, i.e. the fields annotated with JDBCColumn in declaration order.
+     * The returned array is shared and must not be modified.
+     *
+     * @return the mapped columns
+     */
+    public Column[] getColumns() {
+        return columns;
+    }
+
+    public Column getColumn(final String pColumnName) {
+        return columnsByName.get(pColumnName);
+    }
+
+    /**
+     * Returns an unmodifiable mapping from the column names to their JDBCColumn annotations.
+     *
+     * @return the column metadata
+     */
+    public Map<String, JDBCColumn> getColumnMetaData() {
+        return columnMetaData;
+    }
+
+    /**
+     * Returns an unmodifiable mapping from the Java attribute names to the column names.
+     *
+     * @return the Java name to column name mapping
+     */
+    public Map<String, String> getJavaNames2ColumnNames() {
+        return javaNames2ColumnNames;
+    }
+
+    public int[] getPrimaryKeyColumnIndexes() {
+        return primaryKeyColumnIndexes.clone();
+    }
+
+    /**
+     * Returns the version column used for optimistic locking.
+     *
+     * @return the version column or null, when the Bean has no version column
+     */
+    public Column getVersionColumn() {
+        return versionColumnIndex < 0 ? null : columns[versionColumnIndex];
+    }
+
+    public boolean isInsertable(final int pColumnIndex) {
+        return insertable[pColumnIndex];
+    }
+
+    public boolean isUpdatable(final int pColumnIndex) {
+        return updatable[pColumnIndex];
+    }
+
+    public boolean hasInsertableColumn() {
+        for (final boolean insertable0 : insertable) {
+            if (insertable0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indicates, whether new instances of the class can be created with its default constructor.
+     *
+     * @return true, when the class has an accessible default constructor
+     */
+    public boolean isInstantiable() {
+        return constructor != null;
+    }
+
+    /**
+     * Copies the column values of the given Bean into a detached snapshot. Mutable values (dates and binary
+     * data) are copied, so subsequent modifications of the Bean do not affect the snapshot.
+     *
+     * @param pBean the Bean
+     * @return the snapshot containing one value per mapped column
+     */
+    Object[] toSnapshot(final Object pBean) {
+
+        final Object[] snapshot = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            snapshot[i] = copyValue(columns[i].getValue(pBean));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Creates a new Bean populated with the column values of the given snapshot. Mutable values are copied,
+     * so the snapshot can be used to create any number of independent Beans. Like for Beans provided by
+     * queries, modifications of IBean implementations are recorded (see IBean.enableModifiedFieldTracking).
+     *
+     * @param pSnapshot the snapshot created with toSnapshot
+     * @return the new Bean
+     */
+    Object fromSnapshot(final Object[] pSnapshot) {
+
+        if (constructor == null) {
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION);
+        }
+        final Object bean;
+        try {
+            bean = constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION, e);
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].setValue(bean, copyValue(pSnapshot[i]));
+        }
+        if (bean instanceof IBean) {
+            ((IBean) bean).enableModifiedFieldTracking();
+        }
+        return bean;
+    }
+
+    private static Object copyValue(final Object pValue) {
+
+        if (pValue instanceof java.util.Date) {
+            return ((java.util.Date) pValue).clone();
+        }
+        if (pValue instanceof byte[]) {
+            return ((byte[]) pValue).clone();
+        }
+        return pValue;
+    }
+
+    /**
+     * Metadata for a single mapped column, i.e. a field annotated with JDBCColumn.
+     */
+    public static final class Column {
+
+        private final int index;
+        private final Field field;
+        private final JDBCColumn jdbcColumn;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final boolean primaryKey;
+
+        private Column(final int pIndex,
+                       final Field pField,
+                       final JDBCColumn pJDBCColumn,
+                       final boolean pPrimaryKey,
+                       final MethodHandles.Lookup pLookup) {
+
+            index = pIndex;
+            field = pField;
+            jdbcColumn = pJDBCColumn;
+            primaryKey = pPrimaryKey;
+            try {
+                field.setAccessible(true);
+                getter = pLookup.unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION, e);
+            }
+            MethodHandle setter0 = null;
+            try {
+                setter0 = pLookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException ignored) {
+            } // Like with Field.set, only fields, which cannot be made accessible, are read-only
+            setter = setter0;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getName() {
+            return jdbcColumn.name();
+        }
+
+        public String getJavaName() {
+            return field.getName();
+        }
+
+        public Class<?> getType() {
+            return field.getType();
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public JDBCColumn getJDBCColumn() {
+            return jdbcColumn;
+        }
+
+        public boolean isPrimaryKey() {
+            return primaryKey;
+        }
+
+        /**
+         * Returns a method handle of type (Object)Object to read the field value.
+         *
+         * @return the getter
+         */
+        public MethodHandle getGetter() {
+            return getter;
+        }
+
+        /**
+         * Returns a method handle of type (Object,Object)void to write the field value.
+         *
+         * @return the setter or null for read-only fields
+         */
+        public MethodHandle getSetter() {
+            return setter;
+        }
+
+        /**
+         * Reads the value of this column from the given Bean.
+         *
+         * @param pBean the Bean
+         * @return the field value
+         */
+        public Object getValue(final Object pBean) {
+            try {
+                return getter.invokeExact(pBean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION, e);
+            }
+        }
+
+        /**
+         * Writes the value of this column to the given Bean.
+         *
+         * @param pBean the Bean
+         * @param pValue the new field value
+         */
+        public void setValue(final Object pBean, final Object pValue) {
+            if (setter == null) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION,
+                        field.getDeclaringClass().getName().concat(".").concat(field.getName()));
+            }
+            try {
+                setter.invokeExact(pBean, pValue);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION, e);
+            }
+        }
+    }
+}
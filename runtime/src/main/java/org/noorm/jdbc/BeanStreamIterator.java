@@ -0,0 +1,158 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterator for streaming queries. Rows are mapped lazily, one at a time, while the ResultSet is traversed.
+ * Outside of a user managed transaction, the iterator uses a dedicated database connection (see
+ * DataSourceProvider.acquireDedicatedConnection), which is held until the iterator is closed, either
+ * explicitly, by closing the associated Stream, or implicitly, when the last row has been consumed. Within a
+ * user managed transaction, the iterator uses the connection of the transaction, so the iterator must be
+ * consumed and closed by the thread, which has executed the query, before the transaction is terminated.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class BeanStreamIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BeanStreamIterator.class);
+
+    private final String source;
+    private final Connection dedicatedConnection;
+    private final Statement statement;
+    private final ResultSet resultSet;
+    private final Class<T> beanClass;
+    private final boolean fetchPagingTotal;
+    private final NoormMetrics.Operation operation;
+    private final long startTime;
+    private IRowMapper<T> rowMapper;
+    private Boolean hasNextRow;
+    private boolean closed = false;
+    private boolean success = true;
+    private int rowCount = 0;
+
+    BeanStreamIterator(final String pSource,
+                       final Connection pDedicatedConnection,
+                       final Statement pStatement,
+                       final ResultSet pResultSet,
+                       final Class<T> pBeanClass,
+                       final boolean pFetchPagingTotal,
+                       final NoormMetrics.Operation pOperation,
+                       final long pStartTime) {
+
+        source = pSource;
+        dedicatedConnection = pDedicatedConnection;
+        statement = pStatement;
+        resultSet = pResultSet;
+        beanClass = pBeanClass;
+        fetchPagingTotal = pFetchPagingTotal;
+        operation = pOperation;
+        startTime = pStartTime;
+    }
+
+    /**
+     * Wraps this iterator into a sequential Stream. Closing the Stream closes this iterator.
+     *
+     * @return the Stream
+     */
+    Stream<T> toStream() {
+
+        final Spliterator<T> spliterator =
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (closed) {
+            return false;
+        }
+        if (hasNextRow == null) {
+            try {
+                hasNextRow = resultSet.next();
+            } catch (SQLException e) {
+                throw failure(e);
+            }
+            if (!hasNextRow) {
+                close();
+            }
+        }
+        return hasNextRow;
+    }
+
+    @Override
+    public T next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            if (rowMapper == null) {
+                final BeanMapper<T> mapper = BeanMapper.getInstance();
+                rowMapper = mapper.getRowMapper(resultSet, beanClass, fetchPagingTotal);
+            }
+            final T bean = rowMapper.mapRow(resultSet);
+            if (bean instanceof IBean) {
+                ((IBean) bean).enableModifiedFieldTracking();
+            }
+            hasNextRow = null;
+            rowCount++;
+            return bean;
+        } catch (SQLException e) {
+            throw failure(e);
+        } catch (RuntimeException e) {
+            success = false;
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resultSet.close();
+            DataSourceProvider.closeStatement(statement);
+        } catch (SQLException ignored) {
+        } // Nothing to do
+        finally {
+            try {
+                // The termination of a user managed transaction is left to the caller
+                if (dedicatedConnection != null) {
+                    DataSourceProvider.releaseDedicatedConnection(dedicatedConnection, success);
+                }
+            } finally {
+                // The duration of a streaming query includes the consumption of the Stream
+                DataSourceProvider.recordCall(startTime, operation, source, rowCount, success);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Streaming query on ".concat(source).concat(" closed. ")
+                    .concat(Integer.toString(rowCount)).concat(" rows processed."));
+        }
+    }
+
+    private DataAccessException failure(final SQLException pException) {
+
+        log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), pException);
+        success = false;
+        close();
+        return new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, pException);
+    }
+}
@@ -0,0 +1,122 @@
+package org.noorm.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a parallel bulk DML operation (see ParallelBulkDML). Every chunk of Beans is processed and
+ * committed independently, so the result reports the outcome per chunk. Failed chunks have been rolled back
+ * completely and provide their Beans for a retry or for error analysis.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class BulkDMLResult {
+
+    private final List<ChunkResult> chunkResults;
+
+    public BulkDMLResult(final List<ChunkResult> pChunkResults) {
+
+        chunkResults = Collections.unmodifiableList(pChunkResults);
+    }
+
+    /**
+     * @return the results of all chunks in the order, in which the chunks have been submitted
+     */
+    public List<ChunkResult> getChunkResults() {
+        return chunkResults;
+    }
+
+    /**
+     * @return the results of the failed chunks
+     */
+    public List<ChunkResult> getFailedChunks() {
+
+        final List<ChunkResult> failedChunks = new ArrayList<>();
+        for (final ChunkResult chunkResult : chunkResults) {
+            if (!chunkResult.isSuccessful()) {
+                failedChunks.add(chunkResult);
+            }
+        }
+        return failedChunks;
+    }
+
+    /**
+     * @return true, when at least one chunk has failed
+     */
+    public boolean hasFailures() {
+
+        for (final ChunkResult chunkResult : chunkResults) {
+            if (!chunkResult.isSuccessful()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the total number of rows processed by the successful chunks
+     */
+    public long getUpdateCount() {
+
+        long updateCount = 0L;
+        for (final ChunkResult chunkResult : chunkResults) {
+            updateCount += chunkResult.getUpdateCount();
+        }
+        return updateCount;
+    }
+
+    /**
+     * Result of a single chunk of a parallel bulk DML operation.
+     */
+    public static class ChunkResult {
+
+        private final int chunkIndex;
+        private final List<? extends IBean> beans;
+        private final int updateCount;
+        private final DataAccessException failure;
+
+        public ChunkResult(final int pChunkIndex,
+                           final List<? extends IBean> pBeans,
+                           final int pUpdateCount,
+                           final DataAccessException pFailure) {
+
+            chunkIndex = pChunkIndex;
+            beans = pBeans;
+            updateCount = pUpdateCount;
+            failure = pFailure;
+        }
+
+        /**
+         * @return the index of the chunk, starting with 0 for the first submitted chunk
+         */
+        public int getChunkIndex() {
+            return chunkIndex;
+        }
+
+        /**
+         * @return the Beans of the chunk
+         */
+        public List<? extends IBean> getBeans() {
+            return beans;
+        }
+
+        /**
+         * @return the number of rows processed, 0 for a failed chunk
+         */
+        public int getUpdateCount() {
+            return updateCount;
+        }
+
+        /**
+         * @return the cause of the failure or null, when the chunk has been processed successfully
+         */
+        public DataAccessException getFailure() {
+            return failure;
+        }
+
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package org.noorm.jdbc;
+
+import org.noorm.jdbc.platform.IPlatform;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parameter binder compiled from the JDBCColumn annotations of a Bean class without generated parameter binder.
+ * Like the generated parameter binders, the compiled parameter binder reads the Bean fields directly (using
+ * pre-bound method handles) and uses the typed binding methods of the platform, when the Java type of the field
+ * matches the SQL type of the column. Other values are bound using IPlatform.setObject.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class CompiledParameterBinder<T> implements IParameterBinder<T> {
+
+    private static final List<Integer> LONG_SQL_TYPES =
+            Arrays.asList(Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.NUMERIC, Types.DECIMAL);
+    private static final List<Integer> INT_SQL_TYPES =
+            Arrays.asList(Types.INTEGER, Types.SMALLINT, Types.TINYINT, Types.BIGINT, Types.NUMERIC, Types.DECIMAL);
+    private static final List<Integer> DOUBLE_SQL_TYPES =
+            Arrays.asList(Types.DOUBLE, Types.FLOAT, Types.REAL, Types.NUMERIC, Types.DECIMAL);
+    private static final List<Integer> STRING_SQL_TYPES = Arrays.asList(Types.VARCHAR, Types.CHAR,
+            Types.NVARCHAR, Types.NCHAR, Types.LONGVARCHAR, Types.LONGNVARCHAR);
+    private static final List<Integer> BIG_DECIMAL_SQL_TYPES = Arrays.asList(Types.NUMERIC, Types.DECIMAL);
+    private static final List<Integer> TIMESTAMP_SQL_TYPES = Arrays.asList(Types.TIMESTAMP, Types.DATE);
+
+    private final String[] columnNames;
+    private final BeanMetadata.Column[] columns;
+    private final ColumnBinding[] columnBindings;
+
+    private CompiledParameterBinder(final String[] pColumnNames,
+                                    final BeanMetadata.Column[] pColumns,
+                                    final ColumnBinding[] pColumnBindings) {
+
+        columnNames = pColumnNames;
+        columns = pColumns;
+        columnBindings = pColumnBindings;
+    }
+
+    /**
+     * Builds a new parameter binder for the given Bean class.
+     *
+     * @param pBeanClass the type of the Bean
+     * @return the compiled parameter binder
+     */
+    static <T> CompiledParameterBinder<T> compile(final Class<T> pBeanClass) {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBeanClass);
+        final List<String> columnNames = new ArrayList<>();
+        final List<BeanMetadata.Column> boundColumns = new ArrayList<>();
+        final List<ColumnBinding> columnBindings = new ArrayList<>();
+        for (final BeanMetadata.Column column : beanMetadata.getColumns()) {
+            // All non-insertable columns are also non-updatable, so no more distinction required. Primary key
+            // and version column are bound for the WHERE-clause of UPDATE and DELETE statements in any case.
+            if (!column.getJDBCColumn().insertable() && !column.isPrimaryKey()
+                    && column != beanMetadata.getVersionColumn()) {
+                continue;
+            }
+            columnNames.add(column.getName());
+            boundColumns.add(column);
+            columnBindings.add(createColumnBinding(column.getType(), column.getJDBCColumn().dataType(),
+                    column.getGetter()));
+        }
+        return new CompiledParameterBinder<>(columnNames.toArray(new String[0]),
+                boundColumns.toArray(new BeanMetadata.Column[0]),
+                columnBindings.toArray(new ColumnBinding[0]));
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public void bind(final IPlatform pPlatform,
+                     final PreparedStatement pStmt,
+                     final T pBean,
+                     final int[] pParameterIndexes) throws SQLException {
+
+        try {
+            for (int i = 0; i < columnBindings.length; i++) {
+                if (pParameterIndexes[i] > 0) {
+                    columnBindings[i].bind(pPlatform, pStmt, pBean, pParameterIndexes[i]);
+                }
+            }
+        } catch (SQLException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new DataAccessException(ex);
+        }
+    }
+
+    @Override
+    public Object getValue(final T pBean, final String pColumnName) {
+
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equals(pColumnName)) {
+                return columns[i].getValue(pBean);
+            }
+        }
+        throw new DataAccessException(DataAccessException.Type.UNKNOWN_BEAN_COLUMN, pColumnName);
+    }
+
+    private static ColumnBinding createColumnBinding(final Class pFieldType,
+                                                     final int pSQLType,
+                                                     final MethodHandle pGetter) {
+
+        if (pFieldType == Long.class && LONG_SQL_TYPES.contains(pSQLType)) {
+            return new ColumnBinding(pSQLType, pGetter) {
+                @Override
+                void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                               final int pParameterIndex) throws SQLException {
+                    pPlatform.setLong(pStmt, (Long) pValue, pParameterIndex);
+                }
+            };
+        }
+        if (pFieldType == Integer.class && INT_SQL_TYPES.contains(pSQLType)) {
+            return new ColumnBinding(pSQLType, pGetter) {
+                @Override
+                void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                               final int pParameterIndex) throws SQLException {
+                    pPlatform.setInt(pStmt, (Integer) pValue, pParameterIndex);
+                }
+            };
+        }
+        if (pFieldType == Double.class && DOUBLE_SQL_TYPES.contains(pSQLType)) {
+            return new ColumnBinding(pSQLType, pGetter) {
+                @Override
+                void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                               final int pParameterIndex) throws SQLException {
+                    pPlatform.setDouble(pStmt, (Double) pValue, pParameterIndex);
+                }
+            };
+        }
+        if (pFieldType == String.class && STRING_SQL_TYPES.contains(pSQLType)) {
+            return new ColumnBinding(pSQLType, pGetter) {
+                @Override
+                void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                               final int pParameterIndex) throws SQLException {
+                    pPlatform.setString(pStmt, (String) pValue, pParameterIndex);
+                }
+            };
+        }
+        if (pFieldType == BigDecimal.class && BIG_DECIMAL_SQL_TYPES.contains(pSQLType)) {
+            return new ColumnBinding(pSQLType, pGetter) {
+                @Override
+                void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                               final int pParameterIndex) throws SQLException {
+                    pPlatform.setBigDecimal(pStmt, (BigDecimal) pValue, pParameterIndex);
+                }
+            };
+        }
+        if (java.util.Date.class.isAssignableFrom(pFieldType)) {
+            if (TIMESTAMP_SQL_TYPES.contains(pSQLType)) {
+                return new ColumnBinding(pSQLType, pGetter) {
+                    @Override
+                    void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                                   final int pParameterIndex) throws SQLException {
+                        pPlatform.setTimestamp(pStmt, (java.util.Date) pValue, pParameterIndex);
+                    }
+                };
+            }
+            // Date values are always passed as java.sql.Timestamp, like for the generic binding
+            return new ColumnBinding(pSQLType, pGetter) {
+                @Override
+                void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                               final int pParameterIndex) throws SQLException {
+                    final java.sql.Timestamp timestamp = new java.sql.Timestamp(((java.util.Date) pValue).getTime());
+                    pPlatform.setObject(pStmt, timestamp, pParameterIndex, sqlType);
+                }
+            };
+        }
+        return new ColumnBinding(pSQLType, pGetter) {
+            @Override
+            void bindValue(final IPlatform pPlatform, final PreparedStatement pStmt, final Object pValue,
+                           final int pParameterIndex) throws SQLException {
+                pPlatform.setObject(pStmt, pValue, pParameterIndex, sqlType);
+            }
+        };
+    }
+
+    /**
+     * Binding of a single Bean field to a single statement parameter.
+     */
+    private abstract static class ColumnBinding {
+
+        final int sqlType;
+        final MethodHandle getter;
+
+        ColumnBinding(final int pSQLType, final MethodHandle pGetter) {
+            sqlType = pSQLType;
+            getter = pGetter;
+        }
+
+        void bind(final IPlatform pPlatform,
+                  final PreparedStatement pStmt,
+                  final Object pBean,
+                  final int pParameterIndex) throws Throwable {
+
+            final Object value = getter.invokeExact(pBean);
+            if (value == null) {
+                pPlatform.setNull(pStmt, pParameterIndex, sqlType);
+            } else {
+                bindValue(pPlatform, pStmt, value, pParameterIndex);
+            }
+        }
+
+        abstract void bindValue(final IPlatform pPlatform,
+                                final PreparedStatement pStmt,
+                                final Object pValue,
+                                final int pParameterIndex) throws SQLException;
+    }
+}
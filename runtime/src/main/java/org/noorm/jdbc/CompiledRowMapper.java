@@ -0,0 +1,298 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Row mapper compiled from the JDBCColumn annotations of a Bean class for one particular ResultSet shape.
+ * All reflective work (field lookup, annotation evaluation, column name resolution and type dispatch) is
+ * done once, when the mapper is built. Mapping a row just walks an array of type-specialized column
+ * mappings, which read the column by index and write the field through a pre-bound method handle.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class CompiledRowMapper<T> implements IRowMapper<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(CompiledRowMapper.class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle constructor;
+    private final ColumnMapping[] columnMappings;
+
+    private CompiledRowMapper(final MethodHandle pConstructor, final ColumnMapping[] pColumnMappings) {
+
+        constructor = pConstructor;
+        columnMappings = pColumnMappings;
+    }
+
+    /**
+     * Builds a new row mapper for the given Bean class. The column indexes are resolved by the caller from the
+     * ResultSet metadata, so the mapper must only be used for ResultSets of the same shape.
+     *
+     * @param pBeanClass the type of the Bean
+     * @param pColumnIndexes the ResultSet column index for every column of the Bean (see BeanMetadata.getColumns),
+     *                       0 for columns not available in the ResultSet
+     * @return the compiled row mapper
+     */
+    static <T> CompiledRowMapper<T> compile(final Class<T> pBeanClass, final int[] pColumnIndexes) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compiling row mapper for Bean class ".concat(pBeanClass.getName()));
+        }
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle constructor;
+        try {
+            final Constructor<T> beanConstructor = pBeanClass.getDeclaredConstructor();
+            beanConstructor.setAccessible(true);
+            constructor = lookup.unreflectConstructor(beanConstructor).asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new DataAccessException(ex);
+        }
+
+        final List<ColumnMapping> columnMappings = new ArrayList<>();
+        final BeanMetadata.Column[] columns = BeanMetadata.forClass(pBeanClass).getColumns();
+        for (int i = 0; i < columns.length; i++) {
+            final BeanMetadata.Column column = columns[i];
+            final String columnName = column.getName();
+            final int columnIndex = pColumnIndexes[i];
+            if (columnIndex == 0) {
+                // Columns not contained in the ResultSet (e.g. PAGING_TOTAL for non-paging queries) are skipped
+                continue;
+            }
+            final Class fieldType = column.getType();
+            if (log.isTraceEnabled()) {
+                StringBuilder logMessage = new StringBuilder();
+                logMessage.append("Mapping database field : ");
+                logMessage.append(columnName);
+                logMessage.append(" to Bean field ");
+                logMessage.append(column.getJavaName());
+                logMessage.append(":");
+                logMessage.append(fieldType.getName());
+                log.trace(logMessage.toString());
+            }
+            final MethodHandle setter = column.getSetter();
+            if (setter == null) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION,
+                        pBeanClass.getName().concat(".").concat(column.getJavaName()));
+            }
+            columnMappings.add(createColumnMapping(fieldType, columnIndex, setter, columnName));
+        }
+        return new CompiledRowMapper<>(constructor, columnMappings.toArray(new ColumnMapping[0]));
+    }
+
+    @Override
+    public T mapRow(final ResultSet pResultSet) throws SQLException {
+
+        try {
+            final Object bean = constructor.invokeExact();
+            for (final ColumnMapping columnMapping : columnMappings) {
+                columnMapping.map(pResultSet, bean);
+            }
+            return (T) bean;
+        } catch (SQLException | RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new DataAccessException(ex);
+        }
+    }
+
+    // Principally, for matching types, using "ResultSet.getObject" would work. However, for non-matching types
+    // subject to automatic conversion by means of the JDBC driver, we would run into problems.
+    // The explicit, type specific column access as follows is the most flexible approach in providing a
+    // zero-configuration way to choose custom (but compatible!) types in the Bean specification.
+    private static ColumnMapping createColumnMapping(final Class pFieldType,
+                                                     final int pColumnIndex,
+                                                     final MethodHandle pSetter,
+                                                     final String pColumnName) {
+
+        if (pFieldType == String.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final String value = pResultSet.getString(columnIndex);
+                    if (value != null) {
+                        setter.invokeExact(pBean, (Object) value.trim());
+                    }
+                }
+            };
+        }
+        if (pFieldType == Long.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final long value = pResultSet.getLong(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) Long.valueOf(value));
+                    }
+                }
+            };
+        }
+        if (pFieldType == Integer.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final int value = pResultSet.getInt(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) Integer.valueOf(value));
+                    }
+                }
+            };
+        }
+        if (pFieldType == Double.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final double value = pResultSet.getDouble(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) Double.valueOf(value));
+                    }
+                }
+            };
+        }
+        if (pFieldType == java.util.Date.class || pFieldType == Timestamp.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    setter.invokeExact(pBean, (Object) pResultSet.getTimestamp(columnIndex));
+                }
+            };
+        }
+        if (pFieldType == java.sql.Date.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final Timestamp timestamp = pResultSet.getTimestamp(columnIndex);
+                    if (timestamp != null) {
+                        setter.invokeExact(pBean, (Object) new java.sql.Date(timestamp.getTime()));
+                    }
+                }
+            };
+        }
+        if (pFieldType == BigDecimal.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    setter.invokeExact(pBean, (Object) pResultSet.getBigDecimal(columnIndex));
+                }
+            };
+        }
+        if (pFieldType == Boolean.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    setter.invokeExact(pBean, (Object) Boolean.valueOf(pResultSet.getBoolean(columnIndex)));
+                }
+            };
+        }
+        if (pFieldType == Float.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final float value = pResultSet.getFloat(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) Float.valueOf(value));
+                    }
+                }
+            };
+        }
+        if (pFieldType == Short.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final short value = pResultSet.getShort(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) Short.valueOf(value));
+                    }
+                }
+            };
+        }
+        if (pFieldType == byte[].class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    setter.invokeExact(pBean, (Object) pResultSet.getBytes(columnIndex));
+                }
+            };
+        }
+        if (pFieldType == Clob.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final Clob value = pResultSet.getClob(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) value);
+                    }
+                }
+            };
+        }
+        if (pFieldType == NClob.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final NClob value = pResultSet.getNClob(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) value);
+                    }
+                }
+            };
+        }
+        if (pFieldType == Blob.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final Blob value = pResultSet.getBlob(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) value);
+                    }
+                }
+            };
+        }
+        if (pFieldType == SQLXML.class) {
+            return new ColumnMapping(pColumnIndex, pSetter) {
+                @Override
+                void map(final ResultSet pResultSet, final Object pBean) throws Throwable {
+                    final SQLXML value = pResultSet.getSQLXML(columnIndex);
+                    if (!pResultSet.wasNull()) {
+                        setter.invokeExact(pBean, (Object) value);
+                    }
+                }
+            };
+        }
+        final String errMsg = "Datatype conversion failed for [".concat(pColumnName)
+                .concat(" / ").concat(pFieldType.getName()).concat("].");
+        throw new DataAccessException(DataAccessException.Type.UNSUPPORTED_DATATYPE, errMsg);
+    }
+
+    /**
+     * Mapping of a single ResultSet column to a single Bean field.
+     */
+    private abstract static class ColumnMapping {
+
+        final int columnIndex;
+        final MethodHandle setter;
+
+        ColumnMapping(final int pColumnIndex, final MethodHandle pSetter) {
+            columnIndex = pColumnIndex;
+            setter = pSetter;
+        }
+
+        abstract void map(final ResultSet pResultSet, final Object pBean) throws Throwable;
+    }
+}
@@ -28,7 +28,26 @@ public class ConfigurationInitializer {
     public static final String DATABASE_URL = "database.url";
     public static final String DATABASE_USERNAME = "database.username";
     public static final String DATABASE_PASSWORD = "database.password";
+    // Number of rows per JDBC batch execution, also for multi-row inserts (not the number of statements)
     public static final String DATABASE_BATCH_UPDATE_SIZE = "database.batch_update_size";
+    public static final String DATABASE_STREAM_FETCH_SIZE = "database.stream_fetch_size";
+    public static final String DATABASE_STATEMENT_CACHE_SIZE = "database.statement_cache_size";
+    public static final String DATABASE_MULTI_ROW_INSERT_SIZE = "database.multi_row_insert_size";
+    public static final String DATABASE_SEQUENCE_FETCH_SIZE = "database.sequence_fetch_size";
+    public static final String DATABASE_PAGING_TOTAL_CACHE_TTL = "database.paging_total_cache_ttl";
+    public static final String DATABASE_QUERY_RESULT_CACHE_SIZE = "database.query_result_cache_size";
+    public static final String DATABASE_QUERY_RESULT_CACHE_TTL = "database.query_result_cache_ttl";
+    public static final String DATABASE_ENTITY_CACHE_SIZE = "database.entity_cache_size";
+    public static final String DATABASE_ASYNC_POOL_SIZE = "database.async_pool_size";
+    public static final String DATABASE_SLOW_CALL_THRESHOLD = "database.slow_call_threshold";
+    public static final String DATABASE_SLOW_CALL_LOG_SIZE = "database.slow_call_log_size";
+    public static final String DATABASE_POOL_ENABLED = "database.pool.enabled";
+    public static final String DATABASE_POOL_MIN_SIZE = "database.pool.min_size";
+    public static final String DATABASE_POOL_MAX_SIZE = "database.pool.max_size";
+    public static final String DATABASE_POOL_CONNECTION_TIMEOUT = "database.pool.connection_timeout";
+    public static final String DATABASE_POOL_IDLE_TIMEOUT = "database.pool.idle_timeout";
+    public static final String DATABASE_POOL_VALIDATION_TIMEOUT = "database.pool.validation_timeout";
+    public static final String DATABASE_POOL_LEAK_DETECTION_THRESHOLD = "database.pool.leak_detection_threshold";
     public static final String DEBUG_MODE = "debug.mode";
     public static final String DEBUG_JDWP_HOST = "debug.host";
     public static final String DEBUG_JDWP_PORT = "debug.port";
@@ -69,6 +88,22 @@ public class ConfigurationInitializer {
         return dataSources;
     }
 
+    private int getIntProperty(final Properties pNoORMFileProperties, final String pKey, final int pDefault) {
+
+        final String property = pNoORMFileProperties.getProperty(pKey);
+        if (property != null && !property.isEmpty()) {
+            try {
+                final int value = Integer.parseInt(property.trim());
+                log.info("Setting ".concat(pKey).concat(" = ").concat(property));
+                return value;
+            } catch (NumberFormatException ex) {
+                throw new DataAccessException(DataAccessException.Type.INITIALIZATION_FAILURE, ex);
+            }
+        }
+        log.info("Setting (default) ".concat(pKey).concat(" = ").concat(Integer.toString(pDefault)));
+        return pDefault;
+    }
+
     private DataSourceConfiguration initNoormProperties(final Properties pNoORMFileProperties,
                                                         final String pDataSourceName) {
 
@@ -93,6 +128,81 @@ public class ConfigurationInitializer {
             log.info("Setting (default) ".concat(key).concat(" = ").concat(batchUpdateSizeS));
         }
 
+        key = pKeyPrefix.concat(DATABASE_STREAM_FETCH_SIZE);
+        dataSourceConfiguration.setDatabaseStreamFetchSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseStreamFetchSize()));
+
+        key = pKeyPrefix.concat(DATABASE_STATEMENT_CACHE_SIZE);
+        dataSourceConfiguration.setDatabaseStatementCacheSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseStatementCacheSize()));
+
+        key = pKeyPrefix.concat(DATABASE_MULTI_ROW_INSERT_SIZE);
+        dataSourceConfiguration.setDatabaseMultiRowInsertSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseMultiRowInsertSize()));
+
+        key = pKeyPrefix.concat(DATABASE_SEQUENCE_FETCH_SIZE);
+        dataSourceConfiguration.setDatabaseSequenceFetchSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseSequenceFetchSize()));
+
+        key = pKeyPrefix.concat(DATABASE_PAGING_TOTAL_CACHE_TTL);
+        dataSourceConfiguration.setDatabasePagingTotalCacheTTL
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabasePagingTotalCacheTTL()));
+
+        key = pKeyPrefix.concat(DATABASE_QUERY_RESULT_CACHE_SIZE);
+        dataSourceConfiguration.setDatabaseQueryResultCacheSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseQueryResultCacheSize()));
+
+        key = pKeyPrefix.concat(DATABASE_QUERY_RESULT_CACHE_TTL);
+        dataSourceConfiguration.setDatabaseQueryResultCacheTTL
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseQueryResultCacheTTL()));
+
+        key = pKeyPrefix.concat(DATABASE_ENTITY_CACHE_SIZE);
+        dataSourceConfiguration.setDatabaseEntityCacheSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseEntityCacheSize()));
+
+        key = pKeyPrefix.concat(DATABASE_ASYNC_POOL_SIZE);
+        dataSourceConfiguration.setDatabaseAsyncPoolSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseAsyncPoolSize()));
+
+        // The slow call threshold is specified in milliseconds, 0 disables the slow call detection
+        key = pKeyPrefix.concat(DATABASE_SLOW_CALL_THRESHOLD);
+        dataSourceConfiguration.setDatabaseSlowCallThreshold
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseSlowCallThreshold()));
+
+        key = pKeyPrefix.concat(DATABASE_SLOW_CALL_LOG_SIZE);
+        dataSourceConfiguration.setDatabaseSlowCallLogSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getDatabaseSlowCallLogSize()));
+
+        // Connection pool settings apply to data sources configured with URL, username and password only.
+        // Timeouts and thresholds are specified in seconds.
+        key = pKeyPrefix.concat(DATABASE_POOL_ENABLED);
+        final String poolEnabledProp = pNoORMFileProperties.getProperty(key);
+        if (poolEnabledProp != null && !poolEnabledProp.isEmpty()) {
+            dataSourceConfiguration.setPoolEnabled(Boolean.parseBoolean(poolEnabledProp.trim()));
+            log.info("Setting ".concat(key).concat(" = ").concat(poolEnabledProp));
+        } else {
+            log.info("Setting (default) ".concat(key).concat(" = ")
+                    .concat(Boolean.toString(dataSourceConfiguration.isPoolEnabled())));
+        }
+        key = pKeyPrefix.concat(DATABASE_POOL_MIN_SIZE);
+        dataSourceConfiguration.setPoolMinSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getPoolMinSize()));
+        key = pKeyPrefix.concat(DATABASE_POOL_MAX_SIZE);
+        dataSourceConfiguration.setPoolMaxSize
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getPoolMaxSize()));
+        key = pKeyPrefix.concat(DATABASE_POOL_CONNECTION_TIMEOUT);
+        dataSourceConfiguration.setPoolConnectionTimeout
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getPoolConnectionTimeout()));
+        key = pKeyPrefix.concat(DATABASE_POOL_IDLE_TIMEOUT);
+        dataSourceConfiguration.setPoolIdleTimeout
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getPoolIdleTimeout()));
+        key = pKeyPrefix.concat(DATABASE_POOL_VALIDATION_TIMEOUT);
+        dataSourceConfiguration.setPoolValidationTimeout
+                (getIntProperty(pNoORMFileProperties, key, dataSourceConfiguration.getPoolValidationTimeout()));
+        key = pKeyPrefix.concat(DATABASE_POOL_LEAK_DETECTION_THRESHOLD);
+        dataSourceConfiguration.setPoolLeakDetectionThreshold(getIntProperty
+                (pNoORMFileProperties, key, dataSourceConfiguration.getPoolLeakDetectionThreshold()));
+
         key = pKeyPrefix.concat(DEBUG_MODE);
         final String debugModeProp = pNoORMFileProperties.getProperty(key);
         if (debugModeProp != null && debugModeProp.toLowerCase().equals("true")) {
@@ -0,0 +1,202 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for prepared and callable statements of a single, retained database connection.
+ * Within a user managed transaction (see DataSourceProvider.begin()), the same statements are typically
+ * executed many times on the same connection. Instead of preparing and closing the statement for every
+ * call, the statements are kept open in this cache until the transaction is terminated.
+ * Statements are evicted in LRU order, when the configured maximum number of statements is exceeded.
+ * A statement is handed out to a single caller at a time. When a statement with the same SQL text is
+ * requested, while the cached statement is still in use (e.g. by an open streaming query), a new,
+ * non-cached statement is prepared.
+ * Instances of this class are bound to the ThreadLocal connection data and are not thread-safe.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class ConnectionStatementCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionStatementCache.class);
+
+    private static final AtomicLong totalHits = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+
+    private final Connection connection;
+    private final int maxSize;
+    private final Map<String, CachedStatement> statementMap;
+    private final Map<Statement, CachedStatement> checkedOutStatements = new IdentityHashMap<>();
+    private long hits = 0L;
+    private long misses = 0L;
+
+    ConnectionStatementCache(final Connection pConnection, final int pMaxSize) {
+
+        connection = pConnection;
+        maxSize = pMaxSize;
+        statementMap = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedStatement> pEldest) {
+                if (size() > maxSize) {
+                    evict(pEldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    PreparedStatement prepareStatement(final String pSQL, final String[] pColumnNames) throws SQLException {
+
+        final String key = pColumnNames == null ? "P:".concat(pSQL) : "P:".concat(pSQL)
+                .concat(Arrays.toString(pColumnNames));
+        PreparedStatement pstmt = (PreparedStatement) checkOut(key);
+        if (pstmt == null) {
+            if (pColumnNames == null) {
+                pstmt = connection.prepareStatement(pSQL);
+            } else {
+                pstmt = connection.prepareStatement(pSQL, pColumnNames);
+            }
+            checkIn(key, pstmt);
+        }
+        return pstmt;
+    }
+
+    CallableStatement prepareCall(final String pSQL) throws SQLException {
+
+        final String key = "C:".concat(pSQL);
+        CallableStatement cstmt = (CallableStatement) checkOut(key);
+        if (cstmt == null) {
+            cstmt = connection.prepareCall(pSQL);
+            checkIn(key, cstmt);
+        }
+        return cstmt;
+    }
+
+    /**
+     * Releases a statement provided by this cache. Statements, which are not (or no longer) managed by this
+     * cache are closed.
+     *
+     * @param pStatement the statement to be released
+     * @throws SQLException JDBC driver exception
+     */
+    void release(final Statement pStatement) throws SQLException {
+
+        final CachedStatement cachedStatement = checkedOutStatements.remove(pStatement);
+        if (cachedStatement == null) {
+            pStatement.close();
+        } else {
+            cachedStatement.inUse = false;
+        }
+    }
+
+    /**
+     * Closes all cached statements. Called, when the transaction of the associated connection has terminated.
+     */
+    void close() {
+
+        for (final CachedStatement cachedStatement : statementMap.values()) {
+            closeQuietly(cachedStatement.statement);
+        }
+        statementMap.clear();
+        checkedOutStatements.clear();
+        if (log.isDebugEnabled()) {
+            log.debug("Closed statement cache for connection ".concat(connection.toString())
+                    .concat(" (hits: ").concat(Long.toString(hits))
+                    .concat(", misses: ").concat(Long.toString(misses)).concat(")."));
+        }
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    static long getTotalHits() {
+        return totalHits.get();
+    }
+
+    static long getTotalMisses() {
+        return totalMisses.get();
+    }
+
+    private Statement checkOut(final String pKey) throws SQLException {
+
+        final CachedStatement cachedStatement = statementMap.get(pKey);
+        if (cachedStatement == null || cachedStatement.inUse) {
+            misses++;
+            totalMisses.incrementAndGet();
+            return null;
+        }
+        hits++;
+        totalHits.incrementAndGet();
+        final PreparedStatement pstmt = (PreparedStatement) cachedStatement.statement;
+        pstmt.clearParameters();
+        pstmt.clearBatch();
+        cachedStatement.inUse = true;
+        checkedOutStatements.put(pstmt, cachedStatement);
+        return pstmt;
+    }
+
+    private void checkIn(final String pKey, final Statement pStatement) {
+
+        // A statement with the same key is already in use, the new statement is not cached
+        if (statementMap.containsKey(pKey)) {
+            return;
+        }
+        final CachedStatement cachedStatement = new CachedStatement(pStatement);
+        cachedStatement.inUse = true;
+        statementMap.put(pKey, cachedStatement);
+        checkedOutStatements.put(pStatement, cachedStatement);
+    }
+
+    private void evict(final CachedStatement pCachedStatement) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Evicting statement from statement cache for connection ".concat(connection.toString()));
+        }
+        // Statements currently in use are closed, when they are released
+        if (!pCachedStatement.inUse) {
+            closeQuietly(pCachedStatement.statement);
+        } else {
+            checkedOutStatements.remove(pCachedStatement.statement);
+        }
+    }
+
+    private void closeQuietly(final Statement pStatement) {
+
+        try {
+            pStatement.close();
+        } catch (SQLException ignored) {
+        } // Nothing to do
+    }
+
+    private static class CachedStatement {
+
+        private final Statement statement;
+        private boolean inUse = false;
+
+        private CachedStatement(final Statement pStatement) {
+            statement = pStatement;
+        }
+    }
+}
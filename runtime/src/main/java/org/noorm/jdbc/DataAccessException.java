@@ -65,12 +65,14 @@ public final class DataAccessException extends RuntimeException {
 		OPTIMISTIC_LOCK_CONFLICT(1900L, "OPTIMISTIC_LOCK_CONFLICT", "Optimistic lock conflict. Record subject to modification has been "
 				+ "modified or deleted by another process atfer it has been loaded for this operation."),
 		COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION(2000L, "COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION", "Could not access field of bean by reflection."),
+		UNKNOWN_BEAN_COLUMN(2010L, "UNKNOWN_BEAN_COLUMN", "Column is not mapped to any field of the bean."),
 		GENERIC_UPDATE_NOT_SUPPORTED_WITHOUT_PK(2100L, "GENERIC_UPDATE_NOT_SUPPORTED_WITHOUT_PK", "Generic update not supported without primary key definition."),
         GENERIC_UPDATE_FAILED_WITH_NULL_PK(2110L, "GENERIC_UPDATE_FAILED_WITH_NULL_PK", "Generic update not supported with null values in the primary key."),
         GENERIC_DELETE_NOT_SUPPORTED_WITHOUT_PK(2200L, "GENERIC_DELETE_NOT_SUPPORTED_WITHOUT_PK", "Generic delete not supported without primary key definition."),
         GENERIC_DELETE_FAILED_WITH_NULL_PK(2210L, "GENERIC_DELETE_FAILED_WITH_NULL_PK", "Generic delete not supported with null values in the primary key."),
         COULD_NOT_UPDATE_NON_UPDATABLE_BEAN(2300L, "COULD_NOT_UPDATE_NON_UPDATABLE_BEAN", "Could not update bean without any updatable fields."),
 		OPERATION_NOT_SUPPORTED_WITH_COMPOSITE_PK(2400L, "OPERATION_NOT_SUPPORTED_WITH_COMPOSITE_PK", "Operation not supported with composite primary key."),
+		OPERATION_NOT_SUPPORTED_WITHOUT_PK(2410L, "OPERATION_NOT_SUPPORTED_WITHOUT_PK", "Operation not supported without primary key definition."),
         COULD_NOT_ACCESS_JDBC_METADATA(3000L, "COULD_NOT_ACCESS_JDBC_METADATA", "Could not access JDBC metadata."),
 		REFERENCED_JDBC_METADATA_NOT_FOUND(3050L, "REFERENCED_JDBC_METADATA_NOT_FOUND", "Referenced JDBC metadata not found."),
         COULD_NOT_ACQUIRE_TABLE_LOCK(3100L, "COULD_NOT_ACQUIRE_TABLE_LOCK", "Could not acquire table lock."),
@@ -78,7 +80,9 @@ public final class DataAccessException extends RuntimeException {
         COULD_NOT_CREATE_LOB(3250L, "COULD_NOT_CREATE_LOB", "Could not create LOB type (Clob, Blob, NClob or SQLXML)."),
         ISOLATED_LOB_CREATION(3300L, "ISOLATED_LOB_CREATION", "Creating Clob, Blob, NClob and SQLXML requires explicit (user managed) transaction handling."),
         UNSUPPORTED_PLATFORM(3400L, "UNSUPPORTED_PLATFORM", "The database platform chosen is not yet supported by NoORM. You may have to add a NoORM platform service provider to your classpath."),
-		ILLEGAL_SORT_CRITERIA(3500L, "ILLEGAL_SORT_CRITERIA", "Illegal sort criteria provided.");
+		ILLEGAL_SORT_CRITERIA(3500L, "ILLEGAL_SORT_CRITERIA", "Illegal sort criteria provided."),
+		ILLEGAL_KEYSET(3550L, "ILLEGAL_KEYSET", "Keyset paging requires sort criteria and exactly one non-null keyset value per sort criteria."),
+		BULK_DML_ALREADY_FINISHED(3600L, "BULK_DML_ALREADY_FINISHED", "Parallel bulk DML has already been finished. No further Beans can be added.");
 
         private final Long id;
 		private final String code;
@@ -19,6 +19,24 @@ public class DataSourceConfiguration {
     private String databaseUsername;
     private String databasePassword;
     private int databaseBatchUpdateSize = 100;
+    private int databaseStreamFetchSize = 500;
+    private int databaseStatementCacheSize = 0;
+    private int databaseMultiRowInsertSize = 100;
+    private int databaseSequenceFetchSize = 1;
+    private int databasePagingTotalCacheTTL = 60;
+    private int databaseQueryResultCacheSize = 1000;
+    private int databaseQueryResultCacheTTL = 300;
+    private int databaseEntityCacheSize = 10000;
+    private int databaseAsyncPoolSize = 8;
+    private int databaseSlowCallThreshold = 0;
+    private int databaseSlowCallLogSize = 100;
+    private boolean poolEnabled = true;
+    private int poolMinSize = 1;
+    private int poolMaxSize = 8;
+    private int poolConnectionTimeout = 30;
+    private int poolIdleTimeout = 600;
+    private int poolValidationTimeout = 5;
+    private int poolLeakDetectionThreshold = 0;
     private boolean debugMode = false;
     private String debugJDWPPort = "4000";
     private String debugJDWPHost = "localhost";
@@ -105,6 +123,150 @@ public class DataSourceConfiguration {
         databaseBatchUpdateSize = pDatabaseBatchUpdateSize;
     }
 
+    public int getDatabaseStreamFetchSize() {
+        return databaseStreamFetchSize;
+    }
+
+    public void setDatabaseStreamFetchSize(final int pDatabaseStreamFetchSize) {
+        databaseStreamFetchSize = pDatabaseStreamFetchSize;
+    }
+
+    public int getDatabaseStatementCacheSize() {
+        return databaseStatementCacheSize;
+    }
+
+    public void setDatabaseStatementCacheSize(final int pDatabaseStatementCacheSize) {
+        databaseStatementCacheSize = pDatabaseStatementCacheSize;
+    }
+
+    public int getDatabaseMultiRowInsertSize() {
+        return databaseMultiRowInsertSize;
+    }
+
+    public void setDatabaseMultiRowInsertSize(final int pDatabaseMultiRowInsertSize) {
+        databaseMultiRowInsertSize = pDatabaseMultiRowInsertSize;
+    }
+
+    public int getDatabaseSequenceFetchSize() {
+        return databaseSequenceFetchSize;
+    }
+
+    public void setDatabaseSequenceFetchSize(final int pDatabaseSequenceFetchSize) {
+        databaseSequenceFetchSize = pDatabaseSequenceFetchSize;
+    }
+
+    public int getDatabasePagingTotalCacheTTL() {
+        return databasePagingTotalCacheTTL;
+    }
+
+    public void setDatabasePagingTotalCacheTTL(final int pDatabasePagingTotalCacheTTL) {
+        databasePagingTotalCacheTTL = pDatabasePagingTotalCacheTTL;
+    }
+
+    public int getDatabaseQueryResultCacheSize() {
+        return databaseQueryResultCacheSize;
+    }
+
+    public void setDatabaseQueryResultCacheSize(final int pDatabaseQueryResultCacheSize) {
+        databaseQueryResultCacheSize = pDatabaseQueryResultCacheSize;
+    }
+
+    public int getDatabaseQueryResultCacheTTL() {
+        return databaseQueryResultCacheTTL;
+    }
+
+    public void setDatabaseQueryResultCacheTTL(final int pDatabaseQueryResultCacheTTL) {
+        databaseQueryResultCacheTTL = pDatabaseQueryResultCacheTTL;
+    }
+
+    public int getDatabaseEntityCacheSize() {
+        return databaseEntityCacheSize;
+    }
+
+    public void setDatabaseEntityCacheSize(final int pDatabaseEntityCacheSize) {
+        databaseEntityCacheSize = pDatabaseEntityCacheSize;
+    }
+
+    public int getDatabaseAsyncPoolSize() {
+        return databaseAsyncPoolSize;
+    }
+
+    public void setDatabaseAsyncPoolSize(final int pDatabaseAsyncPoolSize) {
+        databaseAsyncPoolSize = pDatabaseAsyncPoolSize;
+    }
+
+    public int getDatabaseSlowCallThreshold() {
+        return databaseSlowCallThreshold;
+    }
+
+    public void setDatabaseSlowCallThreshold(final int pDatabaseSlowCallThreshold) {
+        databaseSlowCallThreshold = pDatabaseSlowCallThreshold;
+    }
+
+    public int getDatabaseSlowCallLogSize() {
+        return databaseSlowCallLogSize;
+    }
+
+    public void setDatabaseSlowCallLogSize(final int pDatabaseSlowCallLogSize) {
+        databaseSlowCallLogSize = pDatabaseSlowCallLogSize;
+    }
+
+    public boolean isPoolEnabled() {
+        return poolEnabled;
+    }
+
+    public void setPoolEnabled(final boolean pPoolEnabled) {
+        poolEnabled = pPoolEnabled;
+    }
+
+    public int getPoolMinSize() {
+        return poolMinSize;
+    }
+
+    public void setPoolMinSize(final int pPoolMinSize) {
+        poolMinSize = pPoolMinSize;
+    }
+
+    public int getPoolMaxSize() {
+        return poolMaxSize;
+    }
+
+    public void setPoolMaxSize(final int pPoolMaxSize) {
+        poolMaxSize = pPoolMaxSize;
+    }
+
+    public int getPoolConnectionTimeout() {
+        return poolConnectionTimeout;
+    }
+
+    public void setPoolConnectionTimeout(final int pPoolConnectionTimeout) {
+        poolConnectionTimeout = pPoolConnectionTimeout;
+    }
+
+    public int getPoolIdleTimeout() {
+        return poolIdleTimeout;
+    }
+
+    public void setPoolIdleTimeout(final int pPoolIdleTimeout) {
+        poolIdleTimeout = pPoolIdleTimeout;
+    }
+
+    public int getPoolValidationTimeout() {
+        return poolValidationTimeout;
+    }
+
+    public void setPoolValidationTimeout(final int pPoolValidationTimeout) {
+        poolValidationTimeout = pPoolValidationTimeout;
+    }
+
+    public int getPoolLeakDetectionThreshold() {
+        return poolLeakDetectionThreshold;
+    }
+
+    public void setPoolLeakDetectionThreshold(final int pPoolLeakDetectionThreshold) {
+        poolLeakDetectionThreshold = pPoolLeakDetectionThreshold;
+    }
+
     public boolean isDebugMode() {
         return debugMode;
     }
@@ -14,8 +14,17 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * DataSourceProvider manages data sources and controls transactions in the NoORM runtime engine.
@@ -38,6 +47,10 @@ import java.util.Map;
  * Using explicit transaction control requires the application programmer to control transaction termination
  * properly, i.e., the application must guarantee that a transaction started with begin() will always be
  * terminated with commit() or rollback().
+ * Instead of relying on the thread binding, the connection and transaction state can be managed explicitly
+ * using a TransactionContext (see newTransactionContext()), which is bound to a thread only for the scope of
+ * a single call. This avoids thread associated state for short-lived (virtual) threads and permits continuing
+ * a transaction in a different thread.
  *
  * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
  */
@@ -49,6 +62,8 @@ public class DataSourceProvider {
     private static final ThreadLocal<ActiveConnectionData> activeConThreadDta = new ThreadLocal<ActiveConnectionData>();
     private static final DataSourceProvider dataSourceProvider = new DataSourceProvider();
     private static IPlatform platform;
+    private static volatile Executor asyncExecutor;
+    private static volatile NoormMetrics metrics = NoOpMetrics.INSTANCE;
 
 	private DataSourceProvider() {
 
@@ -72,9 +87,10 @@ public class DataSourceProvider {
     /**
      * The active connection data contains the currently active data source and the database connection, if the
      * connection is retained for an explicitly managed transaction. The active connection data is stored in a
-     * ThreadLocal variable. When a new thread acquires a database connection, a new ActiveConnectionData object
-     * is instantiated. The active data source is automatically assigned, when only one data source has been
-     * configured or when the associated ActiveDataSource object is provided.
+     * ThreadLocal variable, unless it is bound temporarily by a TransactionContext. When a new thread acquires
+     * a database connection, a new ActiveConnectionData object is instantiated. The active data source is
+     * automatically assigned, when only one data source has been configured or when the associated
+     * ActiveDataSource object is provided.
      *
      * @return the currently active connection data
      */
@@ -108,6 +124,62 @@ public class DataSourceProvider {
     	activeConThreadDta.remove();
 	}
 
+    /**
+     * Binds the given active connection data to the current thread (see TransactionContext).
+     *
+     * @param pActiveConnectionData the active connection data to bind
+     * @return the active connection data previously bound to the current thread or null
+     */
+    static ActiveConnectionData bindActiveConnectionData(final ActiveConnectionData pActiveConnectionData) {
+
+        final ActiveConnectionData previousConnectionData = activeConThreadDta.get();
+        activeConThreadDta.set(pActiveConnectionData);
+        return previousConnectionData;
+    }
+
+    /**
+     * Restores the active connection data previously bound to the current thread (see TransactionContext).
+     *
+     * @param pPreviousConnectionData the previously bound active connection data or null
+     */
+    static void restoreActiveConnectionData(final ActiveConnectionData pPreviousConnectionData) {
+
+        if (pPreviousConnectionData == null) {
+            activeConThreadDta.remove();
+        } else {
+            activeConThreadDta.set(pPreviousConnectionData);
+        }
+    }
+
+    /**
+     * Creates a new transaction context for the data source currently active for the calling thread.
+     * The transaction context has its own connection and transaction state, independent of the state
+     * maintained for the calling thread.
+     *
+     * @return the new transaction context
+     */
+    public static TransactionContext newTransactionContext() {
+
+        return newTransactionContext(getActiveConnectionData().getActiveDataSource().getName());
+    }
+
+    /**
+     * Creates a new transaction context for the data source with the given name.
+     *
+     * @param pDataSourceName the name of the data source used by the transaction context
+     * @return the new transaction context
+     */
+    public static TransactionContext newTransactionContext(final String pDataSourceName) {
+
+        final ActiveDataSource activeDataSource = activeDataSourceMap.get(pDataSourceName);
+        if (activeDataSource == null) {
+            throw new DataAccessException(DataAccessException.Type.UNKNOWN_DATA_SOURCE);
+        }
+        final ActiveConnectionData activeConnectionData = new ActiveConnectionData();
+        activeConnectionData.setActiveDataSource(activeDataSource);
+        return new TransactionContext(activeConnectionData);
+    }
+
     /**
      * Activates the data source with the given name.
      * The name of the data source is either the name provided for the data source in the NoORM configuration
@@ -236,6 +308,12 @@ public class DataSourceProvider {
             final String username = pDataSourceConfiguration.getDatabaseUsername();
             final String password = pDataSourceConfiguration.getDatabasePassword();
             dataSource = platform.getDataSource(url, username, password);
+            if (pDataSourceConfiguration.isPoolEnabled()) {
+                // The platform specific data source is validated before it is wrapped by the connection pool,
+                // since the validation requires access to the platform specific data source implementation.
+                validateDataSource(dataSource, pDataSourceConfiguration.getDatabasePlatform());
+                return new PooledDataSource(dataSource, pDataSourceConfiguration);
+            }
 		}
 
 		validateDataSource(dataSource, pDataSourceConfiguration.getDatabasePlatform());
@@ -266,6 +344,7 @@ public class DataSourceProvider {
 				} else {
                     con.rollback();
 				}
+                recordTransactionTermination(pSuccess);
                 con.close();
 			}
 		} catch (SQLException e) {
@@ -313,7 +392,9 @@ public class DataSourceProvider {
 				}
 			}
 
+			final long acquisitionStartTime = startMetricsTimer();
 			java.sql.Connection dataSourceConn = getDataSource().getConnection();
+			recordConnectionAcquisition(acquisitionStartTime);
 		    con = dataSourceConn;
             if (log.isDebugEnabled()) {
                 log.debug("Acquired connection : ".concat(con.toString()));
@@ -403,6 +484,7 @@ public class DataSourceProvider {
 					log.debug("Committing transaction");
 				}
 				con.commit();
+                recordTransactionTermination(true);
                 getActiveConnectionData().reset();
 			} else {
 				if (log.isDebugEnabled()) {
@@ -458,6 +540,7 @@ public class DataSourceProvider {
 					log.debug("Rolling back transaction");
 				}
 				con.rollback();
+                recordTransactionTermination(false);
                 getActiveConnectionData().reset();
 			} else {
 				if (log.isDebugEnabled()) {
@@ -485,6 +568,65 @@ public class DataSourceProvider {
 		}
 	}
 
+	/**
+	 * Acquires a dedicated connection for a streaming query outside of a user managed transaction. Unlike the
+	 * connection provided by getConnection(), the dedicated connection is not bound to the current thread, so
+	 * the lifetime of the Stream does not affect the transaction state of the thread and DML executed while
+	 * consuming the Stream uses its own connection and transaction. The connection must be released with
+	 * releaseDedicatedConnection.
+	 *
+	 * @return the dedicated connection
+	 * @throws SQLException JDBC driver exception
+	 */
+	static Connection acquireDedicatedConnection() throws SQLException {
+
+		final long acquisitionStartTime = startMetricsTimer();
+		final Connection con = getDataSource().getConnection();
+		recordConnectionAcquisition(acquisitionStartTime);
+		try {
+			con.setAutoCommit(false);
+			if (getActiveConfiguration().isDebugMode()) {
+				enableDebugMode(con);
+			}
+		} catch (SQLException e) {
+			con.close();
+			throw e;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Acquired dedicated connection : ".concat(con.toString()));
+		}
+		return con;
+	}
+
+	/**
+	 * Terminates the transaction of a connection acquired with acquireDedicatedConnection and returns the
+	 * connection to the connection pool.
+	 *
+	 * @param pCon the dedicated connection
+	 * @param pSuccess indicates, whether the streaming query terminated successfully
+	 */
+	static void releaseDedicatedConnection(final Connection pCon, final boolean pSuccess) {
+
+		try {
+			if (pSuccess) {
+				pCon.commit();
+			} else {
+				pCon.rollback();
+			}
+			recordTransactionTermination(pSuccess);
+		} catch (SQLException e) {
+			throw new DataAccessException(DataAccessException.Type.CONNECTION_ACCESS_FAILURE, e);
+		} finally {
+			try {
+				if (log.isDebugEnabled()) {
+					log.debug("Returning dedicated connection to connection pool.");
+				}
+				pCon.close();
+			} catch (SQLException ignored) {
+			} // Nothing to do
+		}
+	}
+
     static Number getNextSequenceValue(final String pSequenceName,
                                        final Long pSequenceIncrement,
                                        final Class pType) {
@@ -504,6 +646,8 @@ public class DataSourceProvider {
 
 	/**
 	 * Sets the size of JDBC update and insert batches. The default is 100.
+	 * The batch size is the number of rows (records) sent to the database with a single batch execution, also
+	 * for multi-row inserts, where a single statement covers multiple rows (see setMultiRowInsertSize).
 	 *
 	 * @param pBatchUpdateSize the number of records processed in one DML batch operation
 	 */
@@ -512,6 +656,773 @@ public class DataSourceProvider {
         getActiveConfiguration().setDatabaseBatchUpdateSize(pBatchUpdateSize);
 	}
 
+	/**
+	 * Returns the JDBC fetch size used for streaming queries. The default is 500.
+	 *
+	 * @return the fetch size.
+	 */
+	public static int getStreamFetchSize() {
+
+        return getActiveConfiguration().getDatabaseStreamFetchSize();
+	}
+
+	/**
+	 * Sets the JDBC fetch size used for streaming queries. The default is 500.
+	 *
+	 * @param pStreamFetchSize the number of rows fetched in one database round-trip by streaming queries
+	 */
+	public static void setStreamFetchSize(final int pStreamFetchSize) {
+
+        getActiveConfiguration().setDatabaseStreamFetchSize(pStreamFetchSize);
+	}
+
+	/**
+	 * Returns the number of sequence values retrieved with a single database round-trip. The default is 1.
+	 *
+	 * @return the sequence fetch size.
+	 */
+	public static int getSequenceFetchSize() {
+
+        return getActiveConfiguration().getDatabaseSequenceFetchSize();
+	}
+
+	/**
+	 * Sets the number of sequence values retrieved with a single database round-trip. Every retrieved sequence
+	 * value reserves a block of values according to the sequence increment, which is shared by all threads
+	 * using the same data source. For sequences with a small increment, a larger fetch size reduces the number
+	 * of database round-trips for inserts with pre-assigned primary keys. The default is 1.
+	 *
+	 * @param pSequenceFetchSize the number of sequence values retrieved with a single database round-trip
+	 */
+	public static void setSequenceFetchSize(final int pSequenceFetchSize) {
+
+        getActiveConfiguration().setDatabaseSequenceFetchSize(pSequenceFetchSize);
+	}
+
+	/**
+	 * Returns the time-to-live in seconds for cached paging totals (see FilterExtension.TotalCountStrategy).
+	 *
+	 * @return the time-to-live for cached paging totals.
+	 */
+	public static int getPagingTotalCacheTimeToLive() {
+
+        return getActiveConfiguration().getDatabasePagingTotalCacheTTL();
+	}
+
+	/**
+	 * Sets the time-to-live in seconds for paging totals computed with total count strategy EXACT_ONCE or
+	 * ESTIMATED. Within this period, page requests for the same query and parameters reuse the cached total
+	 * instead of counting the rows again. A value of 0 disables caching. The default is 60 seconds.
+	 *
+	 * @param pPagingTotalCacheTimeToLive the time-to-live for cached paging totals in seconds
+	 */
+	public static void setPagingTotalCacheTimeToLive(final int pPagingTotalCacheTimeToLive) {
+
+        getActiveConfiguration().setDatabasePagingTotalCacheTTL(pPagingTotalCacheTimeToLive);
+	}
+
+	static PagingTotalCache getPagingTotalCache() {
+
+        return getActiveConnectionData().getActiveDataSource().getPagingTotalCache();
+	}
+
+	/**
+	 * Returns the slow call threshold in milliseconds (see setSlowCallThreshold). The default is 0 (disabled).
+	 *
+	 * @return the slow call threshold.
+	 */
+	public static int getSlowCallThreshold() {
+
+        return getActiveConfiguration().getDatabaseSlowCallThreshold();
+	}
+
+	/**
+	 * Sets the slow call threshold in milliseconds for the active data source. Queries and procedure calls
+	 * exceeding the threshold are logged with level WARN together with the SQL statement, the bind values and the
+	 * elapsed time per phase (acquire, prepare, execute and map) and added to the slow call log (see
+	 * getSlowCalls). A value of 0 disables the slow call detection.
+	 *
+	 * @param pSlowCallThreshold the slow call threshold in milliseconds
+	 */
+	public static void setSlowCallThreshold(final int pSlowCallThreshold) {
+
+        getActiveConfiguration().setDatabaseSlowCallThreshold(pSlowCallThreshold);
+	}
+
+	/**
+	 * Returns the maximum number of slow calls retained in the slow call log. The default is 100.
+	 *
+	 * @return the maximum number of retained slow calls.
+	 */
+	public static int getSlowCallLogSize() {
+
+        return getActiveConfiguration().getDatabaseSlowCallLogSize();
+	}
+
+	/**
+	 * Sets the maximum number of slow calls retained in the slow call log of the active data source. When the
+	 * maximum has been reached, the oldest slow call is discarded for every new one.
+	 *
+	 * @param pSlowCallLogSize the maximum number of retained slow calls
+	 */
+	public static void setSlowCallLogSize(final int pSlowCallLogSize) {
+
+        getActiveConfiguration().setDatabaseSlowCallLogSize(pSlowCallLogSize);
+	}
+
+	/**
+	 * Returns the most recent slow calls of the active data source, ordered from the oldest to the most recent
+	 * one.
+	 *
+	 * @return a snapshot of the slow call log.
+	 */
+	public static List<SlowCall> getSlowCalls() {
+
+        return getActiveConnectionData().getActiveDataSource().getSlowCallLog().getSlowCalls();
+	}
+
+	/**
+	 * Returns the number of slow calls of the active data source since the last call to clearSlowCalls,
+	 * including the slow calls already discarded from the slow call log.
+	 *
+	 * @return the number of slow calls.
+	 */
+	public static long getSlowCallCount() {
+
+        return getActiveConnectionData().getActiveDataSource().getSlowCallLog().getTotalCount();
+	}
+
+	/**
+	 * Discards the slow calls of the active data source.
+	 */
+	public static void clearSlowCalls() {
+
+        getActiveConnectionData().getActiveDataSource().getSlowCallLog().clear();
+	}
+
+	static SlowCallTimer startSlowCallTimer() {
+
+        return SlowCallTimer.start(getActiveConfiguration().getDatabaseSlowCallThreshold());
+	}
+
+	static void addSlowCall(final SlowCall pSlowCall) {
+
+        getActiveConnectionData().getActiveDataSource().getSlowCallLog().add(pSlowCall, getSlowCallLogSize());
+	}
+
+	/**
+	 * Returns the maximum number of cached query results (see JDBCQueryProcessor). The default is 1000.
+	 *
+	 * @return the maximum number of cached query results.
+	 */
+	public static int getQueryResultCacheSize() {
+
+        return getActiveConfiguration().getDatabaseQueryResultCacheSize();
+	}
+
+	/**
+	 * Sets the maximum number of cached query results. When the maximum is exceeded, the least recently used
+	 * results are evicted from the cache. A value of 0 disables the query result cache.
+	 *
+	 * @param pQueryResultCacheSize the maximum number of cached query results
+	 */
+	public static void setQueryResultCacheSize(final int pQueryResultCacheSize) {
+
+        getActiveConfiguration().setDatabaseQueryResultCacheSize(pQueryResultCacheSize);
+	}
+
+	/**
+	 * Returns the time-to-live in seconds for cached query results. The default is 300 seconds.
+	 *
+	 * @return the time-to-live for cached query results.
+	 */
+	public static int getQueryResultCacheTimeToLive() {
+
+        return getActiveConfiguration().getDatabaseQueryResultCacheTTL();
+	}
+
+	/**
+	 * Sets the time-to-live in seconds for cached query results. Cached results are invalidated, when the
+	 * table is modified using NoORM, but modifications outside of NoORM are only recognized after the
+	 * time-to-live has expired. A value of 0 disables the query result cache.
+	 *
+	 * @param pQueryResultCacheTimeToLive the time-to-live for cached query results in seconds
+	 */
+	public static void setQueryResultCacheTimeToLive(final int pQueryResultCacheTimeToLive) {
+
+        getActiveConfiguration().setDatabaseQueryResultCacheTTL(pQueryResultCacheTimeToLive);
+	}
+
+	/**
+	 * Discards all cached query results of the active data source, e.g. after the data has been modified
+	 * outside of NoORM.
+	 */
+	public static void clearQueryResultCache() {
+
+        getActiveConnectionData().getActiveDataSource().getQueryResultCache().clear();
+	}
+
+	static QueryResultCache getQueryResultCache() {
+
+        return getActiveConnectionData().getActiveDataSource().getQueryResultCache();
+	}
+
+	/**
+	 * Invalidates the cached query results for the given table. Within a user managed transaction, the table
+	 * is invalidated again, when the transaction terminates, since other threads may cache data read before
+	 * the modifications became visible.
+	 *
+	 * @param pTableName the modified table
+	 */
+	static void invalidateQueryResultCache(final String pTableName) {
+
+        final ActiveConnectionData activeConnectionData = getActiveConnectionData();
+        activeConnectionData.getActiveDataSource().getQueryResultCache().invalidate(pTableName);
+        if (activeConnectionData.getTsStack() > 0L) {
+            activeConnectionData.addModifiedTable(pTableName);
+        }
+	}
+
+	/**
+	 * Indicates, whether the given table has been modified in the active user managed transaction. Queries on
+	 * such tables must not use cached results, since they would not reflect the uncommitted modifications.
+	 *
+	 * @param pTableName the table name
+	 * @return true, when the table has been modified in the active user managed transaction
+	 */
+	static boolean isModifiedInActiveTransaction(final String pTableName) {
+
+        return getActiveConnectionData().isModifiedTable(pTableName);
+	}
+
+	/**
+	 * Enables the entity cache for the given Bean class on the active data source. Beans retrieved by their
+	 * primary key (see JDBCQueryProcessor.getBeanByPrimaryKey) are served from the cache, when available.
+	 * The cache stores snapshots of the Bean state, which are replaced or evicted, when Beans of the given
+	 * class are modified using the JDBCDMLProcessor. Modifications outside of NoORM (including column defaults
+	 * and triggers) are not recognized, so the cache should be enabled for Bean classes, whose table is
+	 * modified through NoORM only.
+	 *
+	 * @param pBeanClass the Bean class
+	 */
+	public static void enableEntityCache(final Class<? extends IBean> pBeanClass) {
+
+        getActiveConnectionData().getActiveDataSource().getEntityCache().enable(pBeanClass);
+	}
+
+	/**
+	 * Disables the entity cache for the given Bean class on the active data source.
+	 *
+	 * @param pBeanClass the Bean class
+	 */
+	public static void disableEntityCache(final Class<? extends IBean> pBeanClass) {
+
+        getActiveConnectionData().getActiveDataSource().getEntityCache().disable(pBeanClass);
+	}
+
+	/**
+	 * Discards all cached entities of the active data source, e.g. after the data has been modified outside
+	 * of NoORM.
+	 */
+	public static void clearEntityCache() {
+
+        getActiveConnectionData().getActiveDataSource().getEntityCache().clear();
+	}
+
+	/**
+	 * Returns the maximum number of cached entities per Bean class. The default is 10000.
+	 *
+	 * @return the maximum number of cached entities per Bean class.
+	 */
+	public static int getEntityCacheSize() {
+
+        return getActiveConfiguration().getDatabaseEntityCacheSize();
+	}
+
+	/**
+	 * Sets the maximum number of cached entities per Bean class. When the maximum is exceeded, the least
+	 * recently used entities are evicted from the cache. A value of 0 disables caching for all Bean classes.
+	 *
+	 * @param pEntityCacheSize the maximum number of cached entities per Bean class
+	 */
+	public static void setEntityCacheSize(final int pEntityCacheSize) {
+
+        getActiveConfiguration().setDatabaseEntityCacheSize(pEntityCacheSize);
+	}
+
+	/**
+	 * Returns the number of primary key lookups for the given Bean class served from the entity cache.
+	 *
+	 * @param pBeanClass the Bean class
+	 * @return the number of entity cache hits.
+	 */
+	public static long getEntityCacheHits(final Class<? extends IBean> pBeanClass) {
+
+        return getActiveConnectionData().getActiveDataSource().getEntityCache().getHits(pBeanClass);
+	}
+
+	/**
+	 * Returns the number of primary key lookups for the given Bean class, which could not be served from the
+	 * entity cache.
+	 *
+	 * @param pBeanClass the Bean class
+	 * @return the number of entity cache misses.
+	 */
+	public static long getEntityCacheMisses(final Class<? extends IBean> pBeanClass) {
+
+        return getActiveConnectionData().getActiveDataSource().getEntityCache().getMisses(pBeanClass);
+	}
+
+	/**
+	 * Returns the ratio of entity cache hits to all primary key lookups for the given Bean class.
+	 *
+	 * @param pBeanClass the Bean class
+	 * @return the entity cache hit ratio (0.0 without any lookup).
+	 */
+	public static double getEntityCacheHitRatio(final Class<? extends IBean> pBeanClass) {
+
+        final EntityCache entityCache = getActiveConnectionData().getActiveDataSource().getEntityCache();
+        final long hits = entityCache.getHits(pBeanClass);
+        final long lookups = hits + entityCache.getMisses(pBeanClass);
+        return lookups == 0L ? 0.0D : (double) hits / lookups;
+	}
+
+	/**
+	 * Returns the number of entities of the given Bean class evicted from the entity cache, either due to
+	 * modifications or due to the size limit of the cache.
+	 *
+	 * @param pBeanClass the Bean class
+	 * @return the number of entity cache evictions.
+	 */
+	public static long getEntityCacheEvictions(final Class<? extends IBean> pBeanClass) {
+
+        return getActiveConnectionData().getActiveDataSource().getEntityCache().getEvictions(pBeanClass);
+	}
+
+	static EntityCache getEntityCache() {
+
+        return getActiveConnectionData().getActiveDataSource().getEntityCache();
+	}
+
+	/**
+	 * Updates the entity cache for the given modified Beans. Outside of a user managed transaction, the cached
+	 * snapshots of successfully inserted or updated Beans are replaced. Within a user managed transaction, the
+	 * modifications are not yet visible for other threads and may still be rolled back, so the snapshots are
+	 * evicted and evicted again, when the transaction terminates.
+	 *
+	 * @param pBeanList the modified Beans
+	 * @param pEvict true for deleted Beans and failed modifications
+	 */
+	static void updateEntityCache(final List<? extends IBean> pBeanList, final boolean pEvict) {
+
+        final ActiveConnectionData activeConnectionData = getActiveConnectionData();
+        final EntityCache entityCache = activeConnectionData.getActiveDataSource().getEntityCache();
+        final Class<?> beanClass = pBeanList.get(0).getClass();
+        if (!entityCache.isEnabled(beanClass)) {
+            return;
+        }
+        if (!pEvict && activeConnectionData.getTsStack() == 0L) {
+            entityCache.update(pBeanList, getActiveConfiguration().getDatabaseEntityCacheSize());
+            return;
+        }
+        final List<List<Object>> primaryKeys = new ArrayList<>(pBeanList.size());
+        for (final IBean bean : pBeanList) {
+            primaryKeys.add(entityCache.getPrimaryKey(bean));
+        }
+        entityCache.evict(beanClass, primaryKeys);
+        if (activeConnectionData.getTsStack() > 0L) {
+            activeConnectionData.addModifiedEntities(beanClass, primaryKeys);
+        }
+	}
+
+	/**
+	 * Evicts all cached entities of the given Bean class, e.g. after a generic update or delete.
+	 *
+	 * @param pBeanClass the Bean class
+	 */
+	static void evictEntityCache(final Class<?> pBeanClass) {
+
+        final ActiveConnectionData activeConnectionData = getActiveConnectionData();
+        final EntityCache entityCache = activeConnectionData.getActiveDataSource().getEntityCache();
+        if (!entityCache.isEnabled(pBeanClass)) {
+            return;
+        }
+        entityCache.evictAll(pBeanClass);
+        if (activeConnectionData.getTsStack() > 0L) {
+            activeConnectionData.addModifiedEntities(pBeanClass, null);
+        }
+	}
+
+	/**
+	 * Indicates, whether Beans of the given class have been modified in the active user managed transaction.
+	 * Primary key lookups for such Beans must not use the entity cache.
+	 *
+	 * @param pBeanClass the Bean class
+	 * @return true, when Beans of the given class have been modified in the active user managed transaction
+	 */
+	static boolean isEntityModifiedInActiveTransaction(final Class<?> pBeanClass) {
+
+        return getActiveConnectionData().isModifiedEntityClass(pBeanClass);
+	}
+
+	/**
+	 * Executes the given task asynchronously using the executor for asynchronous database calls (see
+	 * setAsyncExecutor). The data source active for the calling thread is activated for the executing thread, so
+	 * the task may use any NoORM functionality like the calling thread. However, the task is executed in its
+	 * own transaction context (see TransactionContext), i.e. it does not participate in the user managed
+	 * transaction of the calling thread. Database calls within the task are committed automatically, unless the
+	 * task controls the transaction explicitly. A user managed transaction, which has not been terminated by the
+	 * task, is rolled back.
+	 *
+	 * @param pTask the task
+	 * @return the future providing the result of the task
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> pTask) {
+
+        // The transaction context is created in the calling thread to fail fast without active data source
+        final TransactionContext transactionContext = newTransactionContext();
+        return CompletableFuture.supplyAsync(() -> transactionContext.call(() -> {
+            try {
+                return pTask.get();
+            } finally {
+                if (activeUserManagedTransaction()) {
+                    log.warn("User managed transaction has not been terminated by asynchronous task.");
+                    rollback();
+                }
+            }
+        }), getAsyncExecutor());
+	}
+
+	/**
+	 * Executes the given task asynchronously (see supplyAsync).
+	 *
+	 * @param pTask the task
+	 * @return the future indicating the termination of the task
+	 */
+	public static CompletableFuture<Void> runAsync(final Runnable pTask) {
+
+        return supplyAsync(() -> {
+            pTask.run();
+            return null;
+        });
+	}
+
+	/**
+	 * Returns the executor for asynchronous database calls. Unless an executor has been provided with
+	 * setAsyncExecutor, a bounded executor is created with the first asynchronous call (see getAsyncPoolSize).
+	 *
+	 * @return the executor for asynchronous database calls.
+	 */
+	public static Executor getAsyncExecutor() {
+
+        Executor executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (DataSourceProvider.class) {
+                executor = asyncExecutor;
+                if (executor == null) {
+                    executor = new AsyncExecutor(getActiveConfiguration().getDatabaseAsyncPoolSize());
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+	}
+
+	/**
+	 * Sets the executor for asynchronous database calls, e.g. an executor managed by the application server.
+	 * Providing null resets the executor to the default executor. A previously used executor is not shut down.
+	 *
+	 * @param pAsyncExecutor the executor for asynchronous database calls
+	 */
+	public static void setAsyncExecutor(final Executor pAsyncExecutor) {
+
+        asyncExecutor = pAsyncExecutor;
+	}
+
+	/**
+	 * Returns the maximum number of concurrently executed asynchronous database calls. The default is 8.
+	 *
+	 * @return the maximum number of concurrently executed asynchronous database calls.
+	 */
+	public static int getAsyncPoolSize() {
+
+        return getActiveConfiguration().getDatabaseAsyncPoolSize();
+	}
+
+	/**
+	 * Sets the maximum number of concurrently executed asynchronous database calls for the default executor.
+	 * Since every asynchronous call requires its own database connection, the value should not exceed the size
+	 * of the connection pool. The executor is shared by all data sources and created with the first asynchronous
+	 * call using the setting of the data source active at this time, i.e. the change is only effective, when
+	 * applied before the first asynchronous call or followed by setAsyncExecutor(null).
+	 *
+	 * @param pAsyncPoolSize the maximum number of concurrently executed asynchronous database calls
+	 */
+	public static void setAsyncPoolSize(final int pAsyncPoolSize) {
+
+        getActiveConfiguration().setDatabaseAsyncPoolSize(pAsyncPoolSize);
+	}
+
+	/**
+	 * Returns the metrics implementation, which records the database access of all processors.
+	 *
+	 * @return the metrics implementation
+	 */
+	public static NoormMetrics getMetrics() {
+
+        return metrics;
+	}
+
+	/**
+	 * Sets the metrics implementation, which records the database access of all processors (e.g. an adapter
+	 * for Micrometer or InMemoryMetrics). The metrics implementation is shared by all data sources, the recorded
+	 * values are tagged with the data source name. Providing null disables the recording of metrics.
+	 *
+	 * @param pMetrics the metrics implementation
+	 */
+	public static void setMetrics(final NoormMetrics pMetrics) {
+
+        metrics = pMetrics == null ? NoOpMetrics.INSTANCE : pMetrics;
+	}
+
+    /**
+     * Starts the time measurement for a processor call.
+     *
+     * @return the start time in nanoseconds or 0, when the recording of metrics is disabled
+     */
+    static long startMetricsTimer() {
+
+        if (metrics == NoOpMetrics.INSTANCE) {
+            return 0L;
+        }
+        // The start time serves as indicator for enabled metrics, so a (theoretical) value of 0 is avoided
+        final long startTime = System.nanoTime();
+        return startTime == 0L ? 1L : startTime;
+    }
+
+    static void recordCall(final long pStartTime,
+                           final NoormMetrics.Operation pOperation,
+                           final String pName,
+                           final long pRowCount,
+                           final boolean pSuccess) {
+
+        if (pStartTime == 0L) {
+            return;
+        }
+        final long duration = System.nanoTime() - pStartTime;
+        try {
+            metrics.recordCall(getActiveDataSourceName(), pOperation, pName, duration, pRowCount, pSuccess);
+        } catch (RuntimeException e) {
+            log.warn("Recording of metrics failed.", e);
+        }
+    }
+
+    static void recordBatch(final NoormMetrics.Operation pOperation,
+                            final String pTableName,
+                            final int pBatchSize,
+                            final int pUpdateCount) {
+
+        if (metrics == NoOpMetrics.INSTANCE) {
+            return;
+        }
+        try {
+            metrics.recordBatch(getActiveDataSourceName(), pOperation, pTableName, pBatchSize, pUpdateCount);
+        } catch (RuntimeException e) {
+            log.warn("Recording of metrics failed.", e);
+        }
+    }
+
+    static void recordOptimisticLockConflict(final String pTableName) {
+
+        if (metrics == NoOpMetrics.INSTANCE) {
+            return;
+        }
+        try {
+            metrics.recordOptimisticLockConflict(getActiveDataSourceName(), pTableName);
+        } catch (RuntimeException e) {
+            log.warn("Recording of metrics failed.", e);
+        }
+    }
+
+    private static void recordConnectionAcquisition(final long pStartTime) {
+
+        if (pStartTime == 0L) {
+            return;
+        }
+        final long duration = System.nanoTime() - pStartTime;
+        try {
+            metrics.recordConnectionAcquisition(getActiveDataSourceName(), duration);
+        } catch (RuntimeException e) {
+            log.warn("Recording of metrics failed.", e);
+        }
+    }
+
+    private static void recordTransactionTermination(final boolean pCommit) {
+
+        if (metrics == NoOpMetrics.INSTANCE) {
+            return;
+        }
+        try {
+            metrics.recordTransactionTermination(getActiveDataSourceName(), pCommit);
+        } catch (RuntimeException e) {
+            log.warn("Recording of metrics failed.", e);
+        }
+    }
+
+    static String getActiveDataSourceName() {
+
+        final ActiveConnectionData activeConnectionData = activeConThreadDta.get();
+        if (activeConnectionData == null || activeConnectionData.getActiveDataSource() == null) {
+            return null;
+        }
+        return activeConnectionData.getActiveDataSource().getName();
+    }
+
+	/**
+	 * Returns the maximum number of rows inserted with a single multi-row INSERT statement. The default is 100.
+	 *
+	 * @return the maximum number of rows per INSERT statement.
+	 */
+	public static int getMultiRowInsertSize() {
+
+        return getActiveConfiguration().getDatabaseMultiRowInsertSize();
+	}
+
+	/**
+	 * Sets the maximum number of rows inserted with a single multi-row INSERT statement. When inserting a list
+	 * of Beans, the rows are combined into platform specific multi-row INSERT statements (e.g. INSERT ALL for
+	 * Oracle), which are in turn executed as JDBC batch. The effective number of rows per statement may be
+	 * lower due to the bind parameter limits of the platform and the batch update size, which limits the number
+	 * of rows per batch execution. A value of 1 or less disables multi-row inserts.
+	 * The default is 100.
+	 *
+	 * @param pMultiRowInsertSize the maximum number of rows per INSERT statement
+	 */
+	public static void setMultiRowInsertSize(final int pMultiRowInsertSize) {
+
+        getActiveConfiguration().setDatabaseMultiRowInsertSize(pMultiRowInsertSize);
+	}
+
+	/**
+	 * Returns the maximum number of statements cached per connection within a user managed transaction.
+	 * The default is 0, i.e. statement caching is disabled.
+	 *
+	 * @return the statement cache size.
+	 */
+	public static int getStatementCacheSize() {
+
+        return getActiveConfiguration().getDatabaseStatementCacheSize();
+	}
+
+	/**
+	 * Sets the maximum number of statements cached per connection within a user managed transaction.
+	 * When enabled (size greater 0), prepared and callable statements are kept open after execution and
+	 * re-used for subsequent calls with the same SQL text, until the transaction is terminated with commit()
+	 * or rollback(). The change is effective for transactions started after this call.
+	 *
+	 * @param pStatementCacheSize the maximum number of cached statements per connection
+	 */
+	public static void setStatementCacheSize(final int pStatementCacheSize) {
+
+        getActiveConfiguration().setDatabaseStatementCacheSize(pStatementCacheSize);
+	}
+
+	/**
+	 * Returns the number of statement requests served from the statement caches of all connections.
+	 *
+	 * @return the number of statement cache hits.
+	 */
+	public static long getStatementCacheHits() {
+
+		return ConnectionStatementCache.getTotalHits();
+	}
+
+	/**
+	 * Returns the number of statement requests, which could not be served from the statement caches.
+	 *
+	 * @return the number of statement cache misses.
+	 */
+	public static long getStatementCacheMisses() {
+
+		return ConnectionStatementCache.getTotalMisses();
+	}
+
+	static PreparedStatement prepareStatement(final Connection pCon, final String pSQL) throws SQLException {
+
+		return prepareStatement(pCon, pSQL, null);
+	}
+
+	/**
+	 * Prepares a statement for the given connection. Within a user managed transaction and with statement
+	 * caching enabled, the statement is taken from the statement cache of the connection. Statements acquired
+	 * with this method must be released with closeStatement.
+	 *
+	 * @param pCon the connection
+	 * @param pSQL the SQL text
+	 * @param pColumnNames the names of the columns to be returned as generated keys (or null)
+	 * @return the prepared statement
+	 * @throws SQLException JDBC driver exception
+	 */
+	static PreparedStatement prepareStatement(final Connection pCon,
+											  final String pSQL,
+											  final String[] pColumnNames) throws SQLException {
+
+		final ConnectionStatementCache statementCache = getStatementCache(pCon);
+		if (statementCache != null) {
+			return statementCache.prepareStatement(pSQL, pColumnNames);
+		}
+		if (pColumnNames == null) {
+			return pCon.prepareStatement(pSQL);
+		}
+		return pCon.prepareStatement(pSQL, pColumnNames);
+	}
+
+	static CallableStatement prepareCall(final Connection pCon, final String pSQL) throws SQLException {
+
+		final ConnectionStatementCache statementCache = getStatementCache(pCon);
+		if (statementCache != null) {
+			return statementCache.prepareCall(pSQL);
+		}
+		return pCon.prepareCall(pSQL);
+	}
+
+	/**
+	 * Releases a statement acquired with prepareStatement or prepareCall. Cached statements are kept open
+	 * until the transaction is terminated, all other statements are closed.
+	 *
+	 * @param pStatement the statement to be released
+	 * @throws SQLException JDBC driver exception
+	 */
+	static void closeStatement(final Statement pStatement) throws SQLException {
+
+		final ConnectionStatementCache statementCache = getActiveConnectionData().getStatementCache();
+		if (statementCache != null) {
+			statementCache.release(pStatement);
+		} else {
+			pStatement.close();
+		}
+	}
+
+	private static ConnectionStatementCache getStatementCache(final Connection pCon) {
+
+		final ActiveConnectionData activeConnectionData = getActiveConnectionData();
+		ConnectionStatementCache statementCache = activeConnectionData.getStatementCache();
+		if (statementCache != null && statementCache.getConnection() == pCon) {
+			return statementCache;
+		}
+		final int statementCacheSize = getActiveConfiguration().getDatabaseStatementCacheSize();
+		if (statementCacheSize <= 0 || activeConnectionData.getTsStack() == 0L
+				|| activeConnectionData.getConnection() != pCon) {
+			return null;
+		}
+		if (statementCache != null) {
+			statementCache.close();
+		}
+		statementCache = new ConnectionStatementCache(pCon, statementCacheSize);
+		activeConnectionData.setStatementCache(statementCache);
+		return statementCache;
+	}
+
 	/**
 	 * Shows whether debug mode has been enabled.
 	 *
@@ -556,6 +1467,11 @@ public class DataSourceProvider {
         private String name;
         private DataSourceConfiguration configuration;
         private DataSource dataSource;
+        private final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        private final PagingTotalCache pagingTotalCache = new PagingTotalCache();
+        private final QueryResultCache queryResultCache = new QueryResultCache();
+        private final EntityCache entityCache = new EntityCache();
+        private final SlowCallLog slowCallLog = new SlowCallLog();
 
         public String getName() {
             return name;
@@ -580,6 +1496,26 @@ public class DataSourceProvider {
         public void setDataSource(final DataSource pDataSource) {
             dataSource = pDataSource;
         }
+
+        public SequenceAllocator getSequenceAllocator() {
+            return sequenceAllocator;
+        }
+
+        public PagingTotalCache getPagingTotalCache() {
+            return pagingTotalCache;
+        }
+
+        public QueryResultCache getQueryResultCache() {
+            return queryResultCache;
+        }
+
+        public EntityCache getEntityCache() {
+            return entityCache;
+        }
+
+        public SlowCallLog getSlowCallLog() {
+            return slowCallLog;
+        }
     }
 
     static class ActiveConnectionData {
@@ -587,8 +1523,10 @@ public class DataSourceProvider {
         private ActiveDataSource activeDataSource;
         private Connection connection;
         private Long tsStack = 0L;
-        private Map<String, Number> lastSequenceDBValues = new HashMap<String, Number>();
-        private Map<String, Number> sequenceCache = new HashMap<String, Number>();
+        private ConnectionStatementCache statementCache;
+        private Set<String> modifiedTables;
+        // Primary keys of the modified entities per Bean class (null, when any entity may have been modified)
+        private Map<Class<?>, Set<List<Object>>> modifiedEntities;
 
         public ActiveDataSource getActiveDataSource() {
             return activeDataSource;
@@ -614,47 +1552,106 @@ public class DataSourceProvider {
             tsStack = pTSStack;
         }
 
-        public void reset() {
-            connection = null;
-            tsStack = 0L;
+        public ConnectionStatementCache getStatementCache() {
+            return statementCache;
         }
 
-        public synchronized Number getNextSequenceValue(final String pSequenceName,
-                                                        final Long pSequenceIncrement,
-                                                        final Class pType) {
+        public void setStatementCache(final ConnectionStatementCache pStatementCache) {
+            statementCache = pStatementCache;
+        }
+
+        public void addModifiedTable(final String pTableName) {
+            if (modifiedTables == null) {
+                modifiedTables = new HashSet<>();
+            }
+            modifiedTables.add(pTableName);
+        }
 
-            Number lastSequenceDBValue = lastSequenceDBValues.get(pSequenceName);
-            final Number currentSequenceValue = sequenceCache.get(pSequenceName);
-            final boolean useCachedValues = lastSequenceDBValue != null && currentSequenceValue.longValue()
-                    < lastSequenceDBValue.longValue() + pSequenceIncrement.longValue() - 1;
-            if (useCachedValues) {
-                Number nextSequenceValue = null;
-                if (pType.equals(Long.class)) {
-                    nextSequenceValue = currentSequenceValue.longValue() + 1;
+        public boolean isModifiedTable(final String pTableName) {
+            return modifiedTables != null && modifiedTables.contains(pTableName);
+        }
+
+        public void addModifiedEntities(final Class<?> pBeanClass, final List<List<Object>> pPrimaryKeys) {
+            if (modifiedEntities == null) {
+                modifiedEntities = new HashMap<>();
+            }
+            if (pPrimaryKeys == null) {
+                modifiedEntities.put(pBeanClass, null);
+                return;
+            }
+            if (modifiedEntities.containsKey(pBeanClass)) {
+                final Set<List<Object>> primaryKeys = modifiedEntities.get(pBeanClass);
+                if (primaryKeys != null) {
+                    primaryKeys.addAll(pPrimaryKeys);
                 }
-                if (pType.equals(Integer.class)) {
-                    nextSequenceValue = currentSequenceValue.intValue() + 1;
+            } else {
+                modifiedEntities.put(pBeanClass, new HashSet<>(pPrimaryKeys));
+            }
+        }
+
+        public boolean isModifiedEntityClass(final Class<?> pBeanClass) {
+            return modifiedEntities != null && modifiedEntities.containsKey(pBeanClass);
+        }
+
+        public void reset() {
+            if (statementCache != null) {
+                statementCache.close();
+                statementCache = null;
+            }
+            if (modifiedTables != null) {
+                for (final String modifiedTable : modifiedTables) {
+                    activeDataSource.getQueryResultCache().invalidate(modifiedTable);
                 }
-                if (pType.equals(Short.class)) {
-                    nextSequenceValue = currentSequenceValue.shortValue() + 1;
+                modifiedTables = null;
+            }
+            if (modifiedEntities != null) {
+                final EntityCache entityCache = activeDataSource.getEntityCache();
+                for (final Map.Entry<Class<?>, Set<List<Object>>> modifiedEntity : modifiedEntities.entrySet()) {
+                    if (modifiedEntity.getValue() == null) {
+                        entityCache.evictAll(modifiedEntity.getKey());
+                    } else {
+                        entityCache.evict(modifiedEntity.getKey(), modifiedEntity.getValue());
+                    }
                 }
-                sequenceCache.put(pSequenceName, nextSequenceValue);
-                return nextSequenceValue;
-            } else {
-                lastSequenceDBValue = getLastSequenceDBValue(pSequenceName, pType);
-                lastSequenceDBValues.put(pSequenceName, lastSequenceDBValue);
-                sequenceCache.put(pSequenceName, lastSequenceDBValue);
-                return lastSequenceDBValue;
+                modifiedEntities = null;
+            }
+            connection = null;
+            tsStack = 0L;
+        }
+
+        public Number getNextSequenceValue(final String pSequenceName,
+                                           final Long pSequenceIncrement,
+                                           final Class pType) {
+
+            // Sequence values are allocated from blocks shared by all threads using the same data source
+            final long sequenceValue = activeDataSource.getSequenceAllocator().allocate(pSequenceName,
+                    pSequenceIncrement, activeDataSource.getConfiguration().getDatabaseSequenceFetchSize(),
+                    this::fetchSequenceValues);
+            Number nextSequenceValue = null;
+            if (pType.equals(Long.class)) {
+                nextSequenceValue = sequenceValue;
+            }
+            if (pType.equals(Integer.class)) {
+                nextSequenceValue = (int) sequenceValue;
+            }
+            if (pType.equals(Short.class)) {
+                nextSequenceValue = (short) sequenceValue;
             }
+            return nextSequenceValue;
         }
 
-        private Number getLastSequenceDBValue(final String pSequenceName, final Class pType) {
+        private long[] fetchSequenceValues(final String pSequenceName, final int pValueCount) {
 
             String sequenceName = pSequenceName;
             if (!pSequenceName.equals(pSequenceName.toUpperCase())) {
                 sequenceName = "\"".concat(pSequenceName).concat("\"");
             }
-            final String sequenceQuery = platform.getSequenceQuery(sequenceName);
+            final String sequenceQuery;
+            if (pValueCount > 1) {
+                sequenceQuery = platform.getSequenceQuery(sequenceName, pValueCount);
+            } else {
+                sequenceQuery = platform.getSequenceQuery(sequenceName);
+            }
             PreparedStatement pstmt = null;
             boolean success = true;
             boolean conAlreadyEstablished = true;
@@ -667,20 +1664,19 @@ public class DataSourceProvider {
                     DataSourceProvider.getConnection();
                     conAlreadyEstablished = false;
                 }
-                pstmt = connection.prepareStatement(sequenceQuery);
+                pstmt = DataSourceProvider.prepareStatement(connection, sequenceQuery);
                 final ResultSet resultSet = pstmt.executeQuery();
-                resultSet.next();
-                Number sequenceValue = null;
-                if (pType.equals(Long.class)) {
-                    sequenceValue = resultSet.getLong(1);
-                }
-                if (pType.equals(Integer.class)) {
-                    sequenceValue = resultSet.getInt(1);
+                final long[] sequenceValues = new long[pValueCount];
+                int valueCount = 0;
+                while (valueCount < pValueCount && resultSet.next()) {
+                    sequenceValues[valueCount++] = resultSet.getLong(1);
                 }
-                if (pType.equals(Short.class)) {
-                    sequenceValue = resultSet.getShort(1);
+                resultSet.close();
+                if (valueCount == 0) {
+                    throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA,
+                            "No value retrieved for sequence ".concat(pSequenceName));
                 }
-                return sequenceValue;
+                return valueCount == pValueCount ? sequenceValues : Arrays.copyOf(sequenceValues, valueCount);
             } catch (Exception e) {
                 log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), e);
                 success = false;
@@ -688,7 +1684,7 @@ public class DataSourceProvider {
             } finally {
                 try {
                     if (pstmt != null) {
-                        pstmt.close();
+                        DataSourceProvider.closeStatement(pstmt);
                     }
                     if (connection != null && !connection.isClosed() && !conAlreadyEstablished) {
                         DataSourceProvider.returnConnection(success);
@@ -0,0 +1,314 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data source wide cache for Beans identified by their primary key. The cache is enabled per Bean class and
+ * stores snapshots of the column values, not the Beans themselves, i.e. neither modifications applied by the
+ * caller to a Bean passed to the cache nor modifications applied to a Bean retrieved from the cache affect the
+ * cached state. Every cache lookup returns a new Bean instance.
+ * The JDBCDMLProcessor replaces the snapshot, when a Bean has been inserted or updated successfully and
+ * evicts it, when a Bean has been deleted or the modification failed (e.g. due to an optimistic lock conflict).
+ * Every Bean class has a version, which is incremented with every modification. A snapshot read from the
+ * database is only cached, as long as the version of its class has not changed since the database access has
+ * been started, so concurrent modifications cannot be overwritten with stale data.
+ * Like for the query result cache, modifications bypassing NoORM are not recognized. Since the snapshot of an
+ * inserted or updated Bean reflects the state of the Bean passed to the JDBCDMLProcessor, the cache should not
+ * be enabled for tables, which modify the inserted or updated data using column defaults or triggers.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class EntityCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityCache.class);
+
+    private final ConcurrentMap<Class<?>, ClassCache> classCacheMap = new ConcurrentHashMap<>();
+
+    /**
+     * Enables the cache for the given Bean class.
+     *
+     * @param pBeanClass the Bean class
+     */
+    void enable(final Class<?> pBeanClass) {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBeanClass);
+        if (beanMetadata.getPrimaryKeyColumnIndexes().length == 0) {
+            throw new DataAccessException(DataAccessException.Type.OPERATION_NOT_SUPPORTED_WITHOUT_PK,
+                    pBeanClass.getName());
+        }
+        classCacheMap.putIfAbsent(pBeanClass, new ClassCache(beanMetadata));
+    }
+
+    /**
+     * Disables the cache for the given Bean class and discards the cached snapshots.
+     *
+     * @param pBeanClass the Bean class
+     */
+    void disable(final Class<?> pBeanClass) {
+
+        classCacheMap.remove(pBeanClass);
+    }
+
+    boolean isEnabled(final Class<?> pBeanClass) {
+
+        return classCacheMap.containsKey(pBeanClass);
+    }
+
+    /**
+     * Returns the current version of the given Bean class. The version must be determined before accessing
+     * the database, when the retrieved Bean is subject to caching.
+     *
+     * @param pBeanClass the Bean class
+     * @return the current version of the Bean class or -1, when the cache is not enabled for the Bean class
+     */
+    long getVersion(final Class<?> pBeanClass) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        if (classCache == null) {
+            return -1L;
+        }
+        return classCache.version.get();
+    }
+
+    /**
+     * Returns the primary key of the given Bean, which is used as cache key.
+     *
+     * @param pBean the Bean
+     * @return the primary key values
+     */
+    List<Object> getPrimaryKey(final Object pBean) {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBean.getClass());
+        final BeanMetadata.Column[] columns = beanMetadata.getColumns();
+        final int[] primaryKeyColumnIndexes = beanMetadata.getPrimaryKeyColumnIndexes();
+        final Object[] primaryKey = new Object[primaryKeyColumnIndexes.length];
+        for (int i = 0; i < primaryKeyColumnIndexes.length; i++) {
+            primaryKey[i] = columns[primaryKeyColumnIndexes[i]].getValue(pBean);
+        }
+        return Arrays.asList(primaryKey);
+    }
+
+    /**
+     * Returns a new Bean instance built from the cached snapshot for the given primary key.
+     *
+     * @param pBeanClass the Bean class
+     * @param pPrimaryKey the primary key values in the order of the primary key columns
+     * @return a new Bean instance or null, when no snapshot is available
+     */
+    <T> T get(final Class<T> pBeanClass, final Object[] pPrimaryKey) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        if (classCache == null) {
+            return null;
+        }
+        final Object[] snapshot;
+        synchronized (classCache.snapshotMap) {
+            snapshot = classCache.snapshotMap.get(classCache.normalizePrimaryKey(pPrimaryKey));
+        }
+        if (snapshot == null) {
+            classCache.misses.incrementAndGet();
+            return null;
+        }
+        classCache.hits.incrementAndGet();
+        return pBeanClass.cast(classCache.beanMetadata.fromSnapshot(snapshot));
+    }
+
+    /**
+     * Caches a snapshot of the given Bean read from the database, unless the Bean class has been modified since
+     * the database access has been started.
+     *
+     * @param pBean the Bean
+     * @param pVersion the version of the Bean class determined before accessing the database
+     * @param pMaxSize the maximum number of cached snapshots per Bean class
+     */
+    void putIfUnmodified(final Object pBean, final long pVersion, final int pMaxSize) {
+
+        final ClassCache classCache = classCacheMap.get(pBean.getClass());
+        if (classCache == null || pMaxSize < 1) {
+            return;
+        }
+        final List<Object> primaryKey = getPrimaryKey(pBean);
+        final Object[] snapshot = classCache.beanMetadata.toSnapshot(pBean);
+        synchronized (classCache.snapshotMap) {
+            if (classCache.version.get() != pVersion) {
+                return;
+            }
+            classCache.put(primaryKey, snapshot, pMaxSize);
+        }
+    }
+
+    /**
+     * Replaces the snapshots for the given Beans after a successful insert or update.
+     *
+     * @param pBeanList the inserted or updated Beans
+     * @param pMaxSize the maximum number of cached snapshots per Bean class
+     */
+    void update(final List<?> pBeanList, final int pMaxSize) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanList.get(0).getClass());
+        if (classCache == null) {
+            return;
+        }
+        synchronized (classCache.snapshotMap) {
+            classCache.version.incrementAndGet();
+            for (final Object bean : pBeanList) {
+                final List<Object> primaryKey = getPrimaryKey(bean);
+                if (pMaxSize < 1) {
+                    classCache.remove(primaryKey);
+                } else {
+                    classCache.put(primaryKey, classCache.beanMetadata.toSnapshot(bean), pMaxSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts the snapshots with the given primary keys.
+     *
+     * @param pBeanClass the Bean class
+     * @param pPrimaryKeys the primary keys of the deleted or modified Beans
+     */
+    void evict(final Class<?> pBeanClass, final Iterable<List<Object>> pPrimaryKeys) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        if (classCache == null) {
+            return;
+        }
+        synchronized (classCache.snapshotMap) {
+            classCache.version.incrementAndGet();
+            for (final List<Object> primaryKey : pPrimaryKeys) {
+                classCache.remove(primaryKey);
+            }
+        }
+    }
+
+    /**
+     * Evicts all snapshots of the given Bean class, e.g. after a generic update or delete, which may have
+     * affected any row of the underlying table.
+     *
+     * @param pBeanClass the Bean class
+     */
+    void evictAll(final Class<?> pBeanClass) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        if (classCache == null) {
+            return;
+        }
+        synchronized (classCache.snapshotMap) {
+            classCache.version.incrementAndGet();
+            classCache.evictions.addAndGet(classCache.snapshotMap.size());
+            classCache.snapshotMap.clear();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Evicted all cached entities of class ".concat(pBeanClass.getName()));
+        }
+    }
+
+    void clear() {
+
+        for (final Class<?> beanClass : classCacheMap.keySet()) {
+            evictAll(beanClass);
+        }
+    }
+
+    long getHits(final Class<?> pBeanClass) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        return classCache == null ? 0L : classCache.hits.get();
+    }
+
+    long getMisses(final Class<?> pBeanClass) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        return classCache == null ? 0L : classCache.misses.get();
+    }
+
+    long getEvictions(final Class<?> pBeanClass) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        return classCache == null ? 0L : classCache.evictions.get();
+    }
+
+    int getSize(final Class<?> pBeanClass) {
+
+        final ClassCache classCache = classCacheMap.get(pBeanClass);
+        if (classCache == null) {
+            return 0;
+        }
+        synchronized (classCache.snapshotMap) {
+            return classCache.snapshotMap.size();
+        }
+    }
+
+    private static final class ClassCache {
+
+        private final BeanMetadata beanMetadata;
+        private final Map<List<Object>, Object[]> snapshotMap = new LinkedHashMap<>(64, 0.75F, true);
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        private ClassCache(final BeanMetadata pBeanMetadata) {
+
+            if (!pBeanMetadata.isInstantiable()) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_PROPERTY_BY_REFLECTION);
+            }
+            beanMetadata = pBeanMetadata;
+        }
+
+        private void put(final List<Object> pPrimaryKey, final Object[] pSnapshot, final int pMaxSize) {
+
+            snapshotMap.put(pPrimaryKey, pSnapshot);
+            while (snapshotMap.size() > pMaxSize) {
+                snapshotMap.remove(snapshotMap.keySet().iterator().next());
+                evictions.incrementAndGet();
+            }
+        }
+
+        private void remove(final List<Object> pPrimaryKey) {
+
+            if (snapshotMap.remove(pPrimaryKey) != null) {
+                evictions.incrementAndGet();
+            }
+        }
+
+        /**
+         * Converts numeric primary key values provided by the caller to the type of the primary key column, so
+         * e.g. an Integer value finds a snapshot with a Long primary key.
+         */
+        private List<Object> normalizePrimaryKey(final Object[] pPrimaryKey) {
+
+            final BeanMetadata.Column[] columns = beanMetadata.getColumns();
+            final int[] primaryKeyColumnIndexes = beanMetadata.getPrimaryKeyColumnIndexes();
+            final Object[] primaryKey = pPrimaryKey.clone();
+            for (int i = 0; i < primaryKey.length && i < primaryKeyColumnIndexes.length; i++) {
+                final Class<?> type = columns[primaryKeyColumnIndexes[i]].getType();
+                if (!(primaryKey[i] instanceof Number) || type.isInstance(primaryKey[i])) {
+                    continue;
+                }
+                final Number value = (Number) primaryKey[i];
+                if (type.equals(Long.class)) {
+                    primaryKey[i] = value.longValue();
+                } else if (type.equals(Integer.class)) {
+                    primaryKey[i] = value.intValue();
+                } else if (type.equals(Short.class)) {
+                    primaryKey[i] = value.shortValue();
+                } else if (type.equals(BigDecimal.class)) {
+                    primaryKey[i] = new BigDecimal(value.toString());
+                }
+            }
+            return Arrays.asList(primaryKey);
+        }
+    }
+}
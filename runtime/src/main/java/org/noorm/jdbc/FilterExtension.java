@@ -7,6 +7,12 @@ import java.util.List;
  * For declared queries, paging and sorting may be required.
  * This class is user to specify and transport paging and filtering information to
  * the runtime engine.
+ * Besides offset based paging, keyset (seek) paging is supported. With offset based paging, the database has
+ * to scan all rows before the offset, so the cost of a page query grows with the page number. With keyset
+ * paging, the sort key values of the last row of the previous page are used to seek the next page directly,
+ * so the cost stays the same for any page. Keyset paging requires the sort criteria to define a unique order,
+ * i.e. the last sort criteria should refer to a unique, non-nullable attribute (e.g. the primary key). Since
+ * NULL values cannot be compared in the seek predicate, all sort criteria must refer to non-nullable attributes.
  *
  * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
  *         Date: 11.09.17
@@ -17,6 +23,8 @@ public class FilterExtension {
     /**
      * Paging is expected to get used for providing data for UI presentation, thus, any page size
      * (e.g. "limit") larger than 1024 does not seem to be a reasonable choice.
+     * Note that this is the default limit, so any query using a FilterExtension without an explicit limit
+     * provides 1024 rows at most.
      */
     public static final int UNLIMITED = 1024;
 
@@ -24,7 +32,9 @@ public class FilterExtension {
     private int limit = UNLIMITED;
     private Integer totalLimit;
     private List<SortCriteria> sortCriteria = new ArrayList<>();
-    private boolean pagingTotalSupported = true;
+    private TotalCountStrategy totalCountStrategy = TotalCountStrategy.WINDOW;
+    private boolean keysetPaging = false;
+    private List<Object> keysetValues;
 
     public int getOffset() {
         return offset;
@@ -66,12 +76,73 @@ public class FilterExtension {
         sortCriteria.add(new SortCriteria(pAttributeName, pDirection));
     }
 
+    /**
+     * Indicates, whether the paging total is provided with every Bean in the virtual column PAGING_TOTAL.
+     *
+     * @return true for total count strategy WINDOW
+     */
     public boolean isPagingTotalSupported() {
-        return pagingTotalSupported;
+        return totalCountStrategy == TotalCountStrategy.WINDOW;
     }
 
+    /**
+     * Sets the total count strategy to WINDOW (true) or NONE (false).
+     *
+     * @param isPagingTotalSupported whether the paging total is provided with every Bean or not
+     */
     public void setIsPagingTotalSupported(final boolean isPagingTotalSupported) {
-        pagingTotalSupported = isPagingTotalSupported;
+        if (isPagingTotalSupported) {
+            totalCountStrategy = TotalCountStrategy.WINDOW;
+        } else {
+            totalCountStrategy = TotalCountStrategy.NONE;
+        }
+    }
+
+    public TotalCountStrategy getTotalCountStrategy() {
+        return totalCountStrategy;
+    }
+
+    public void setTotalCountStrategy(final TotalCountStrategy pTotalCountStrategy) {
+        totalCountStrategy = pTotalCountStrategy;
+    }
+
+    public boolean isKeysetPaging() {
+        return keysetPaging;
+    }
+
+    /**
+     * Enables keyset paging. With keyset paging, the offset is ignored and the paging total is not provided.
+     * The first page is retrieved without keyset values, the following pages with the keyset values provided
+     * by Page.getNextKeysetValues() for the previous page (see JDBCQueryProcessor.getPageFromSQL).
+     *
+     * @param pKeysetPaging whether keyset paging should be used or not
+     */
+    public void setKeysetPaging(final boolean pKeysetPaging) {
+        keysetPaging = pKeysetPaging;
+    }
+
+    public List<Object> getKeysetValues() {
+        return keysetValues;
+    }
+
+    /**
+     * Sets the sort key values of the last row seen, one value per sort criteria in the order of the
+     * sort criteria. The next query returns the rows following this row in the specified sort order.
+     * NULL values are not supported and rejected with DataAccessException.Type.ILLEGAL_KEYSET.
+     *
+     * @param pKeysetValues the sort key values of the last row seen
+     */
+    public void setKeysetValues(final List<Object> pKeysetValues) {
+        keysetValues = pKeysetValues;
+    }
+
+    /**
+     * Indicates, whether the query has to seek to the position following the provided keyset values.
+     *
+     * @return true, when keyset paging is enabled and keyset values are available
+     */
+    public boolean hasKeysetValues() {
+        return keysetPaging && keysetValues != null && !keysetValues.isEmpty();
     }
 
     /**
@@ -140,4 +211,23 @@ public class FilterExtension {
         ASC,
         DESC;
     }
+
+    /**
+     * Strategy for the computation of the total number of rows of a paged query.
+     * WINDOW computes the total with the page query (COUNT(*) OVER()) and provides it with every Bean
+     * (PAGING_TOTAL). This requires the database to evaluate the complete result set for every page.
+     * NONE does not compute the total at all.
+     * EXACT_ONCE computes the total with a separate COUNT(*) query. The total is cached for the query shape and
+     * parameters (see DataSourceProvider.setPagingTotalCacheTimeToLive), so subsequent page requests do not have
+     * to compute it again. The total is provided with the Page object.
+     * ESTIMATED provides the total estimated by the database optimizer, where supported by the platform.
+     * The strategies NONE, EXACT_ONCE and ESTIMATED allow the database to optimize the page query for the first
+     * rows.
+     */
+    public enum TotalCountStrategy {
+        WINDOW,
+        NONE,
+        EXACT_ONCE,
+        ESTIMATED;
+    }
 }
@@ -1,6 +1,7 @@
 package org.noorm.jdbc;
 
 import java.sql.JDBCType;
+import java.util.BitSet;
 import java.util.HashMap;
 
 /**
@@ -47,6 +48,41 @@ public interface IBean<T> {
      */
     HashMap<String, Object> getModifiedFieldsInitialValue();
 
+    /**
+     * Returns the updatable fields, which have been changed using their setter after this bean has been loaded
+     * or last written to the database. Bit n is set, when the n-th column of getUpdatableColumnNames has been
+     * modified. Updates are restricted to the modified columns.
+     * Modifications are only recorded for Beans populated with database content by NoORM (see
+     * enableModifiedFieldTracking). For Beans created by the application (e.g. using new and the setters),
+     * no modifications are recorded and all updatable columns are updated, like for Beans without any recorded
+     * modification (null or empty).
+     * The default implementation does not record any modification, so Beans implemented before modified field
+     * tracking was introduced (e.g. generated by an earlier version of NoORM) are updated with all columns.
+     * @return the modified fields or null
+     */
+    default BitSet getModifiedFields() {
+        return null;
+    }
+
+    /**
+     * Starts recording the modified fields (see getModifiedFields) and discards any modification recorded
+     * before. NoORM calls this method, when the Bean has been populated with database content, i.e. for
+     * Beans provided by queries (including cached results). Setter calls of sub-classes, whose columns are
+     * not covered by getUpdatableColumnNames, stop the recording, so all columns are updated.
+     * The default implementation does nothing.
+     */
+    default void enableModifiedFieldTracking() {
+    }
+
+    /**
+     * The names of the updatable columns in the order used by getModifiedFields.
+     * The default implementation returns an empty array, i.e. all columns are updated.
+     * @return the updatable column names
+     */
+    default String[] getUpdatableColumnNames() {
+        return new String[0];
+    }
+
 	/**
 	 * The database table name of this Bean.
 	 * @return the database name
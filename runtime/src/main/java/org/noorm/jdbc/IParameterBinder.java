@@ -0,0 +1,56 @@
+package org.noorm.jdbc;
+
+import org.noorm.jdbc.platform.IPlatform;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A parameter binder transfers the content of a Bean into the parameters of a DML statement without using
+ * an intermediate parameter map. The NoORM generator provides a parameter binder for every generated Bean class,
+ * which is registered with the BeanMapper, when the Bean class is initialized. For other Bean classes, the
+ * BeanMapper provides a parameter binder compiled from the JDBCColumn annotations (see CompiledParameterBinder).
+ * The parameter indexes are resolved once per statement (see getColumnNames), so binding a Bean neither requires
+ * a lookup by column name nor boxing or copying of the bound values.
+ * Parameter binders must be stateless and thread-safe.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public interface IParameterBinder<T> {
+
+    /**
+     * Returns the names of the columns bound by this parameter binder. The array of parameter indexes passed
+     * to method bind is aligned with this array. The returned array must not be modified.
+     * The parameter binder covers all columns used as parameter by the INSERT, UPDATE and DELETE statements
+     * built for the Bean: the insertable columns (the updatable columns are a subset of the insertable columns)
+     * plus the primary key and version columns, which are used in the WHERE-clause of UPDATE and DELETE
+     * statements. Values computed by NoORM (sequence values, new version) are bound separately by the caller.
+     *
+     * @return the column names of all columns bound by the parameter binder
+     */
+    String[] getColumnNames();
+
+    /**
+     * Binds the values of all columns of the given Bean, which have a parameter index assigned.
+     *
+     * @param pPlatform the database platform used to set the parameter values
+     * @param pStmt the prepared DML statement
+     * @param pBean the Bean providing the parameter values
+     * @param pParameterIndexes the parameter index for every column returned by getColumnNames, 0 for columns
+     *                          not contained in the statement
+     * @throws SQLException JDBC driver exception
+     */
+    void bind(final IPlatform pPlatform,
+              final PreparedStatement pStmt,
+              final T pBean,
+              final int[] pParameterIndexes) throws SQLException;
+
+    /**
+     * Returns the current value of the Bean attribute mapped to the given column.
+     *
+     * @param pBean the Bean
+     * @param pColumnName the column name
+     * @return the value of the Bean attribute
+     */
+    Object getValue(final T pBean, final String pColumnName);
+}
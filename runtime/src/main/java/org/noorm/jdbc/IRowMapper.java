@@ -0,0 +1,24 @@
+package org.noorm.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A row mapper converts the current row of a JDBC ResultSet into a Bean.
+ * Row mappers are resolved once per Bean class and ResultSet shape by the BeanMapper and are reused for
+ * all subsequent rows and calls, so implementations must be stateless and thread-safe.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public interface IRowMapper<T> {
+
+    /**
+     * Maps the current row of the given ResultSet to a new Bean instance. The ResultSet cursor is
+     * expected to be positioned on a valid row and is not moved by this method.
+     *
+     * @param pResultSet the ResultSet positioned on the row subject to conversion
+     * @return the Bean filled with the data from the current row
+     * @throws SQLException JDBC driver exception
+     */
+    T mapRow(final ResultSet pResultSet) throws SQLException;
+}
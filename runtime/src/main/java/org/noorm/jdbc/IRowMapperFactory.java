@@ -0,0 +1,25 @@
+package org.noorm.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Factory for row mappers bound to a particular ResultSet. The NoORM generator provides a factory for every
+ * generated Bean class, which creates reflection-free row mappers. Generated factories are registered with
+ * the BeanMapper, when the Bean class is initialized.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public interface IRowMapperFactory<T> {
+
+    /**
+     * Creates a row mapper for the given ResultSet. The column indexes required for the mapping are resolved
+     * against the given ResultSet, so the returned row mapper must only be used for this ResultSet.
+     *
+     * @param pResultSet the ResultSet subject to conversion
+     * @param pFetchPagingTotal indicates, whether the virtual column PAGING_TOTAL is part of the ResultSet
+     * @return the row mapper
+     * @throws SQLException JDBC driver exception
+     */
+    IRowMapper<T> createRowMapper(final ResultSet pResultSet, final boolean pFetchPagingTotal) throws SQLException;
+}
@@ -0,0 +1,274 @@
+package org.noorm.jdbc;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simple implementation of NoormMetrics, which keeps all recorded values in memory. The collected metrics can
+ * be queried using the same tags used for recording (data source name, operation type and table or procedure
+ * name), which makes this implementation suitable for tests and for simple monitoring requirements.
+ * Latencies are recorded in a histogram with exponential buckets (powers of two nanoseconds), so percentiles
+ * are approximated with a resolution of a factor two.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class InMemoryMetrics implements NoormMetrics {
+
+    private final Map<List<Object>, TimerStatistics> callStatistics = new ConcurrentHashMap<>();
+    private final Map<List<Object>, BatchStatistics> batchStatistics = new ConcurrentHashMap<>();
+    private final Map<List<Object>, TimerStatistics> connectionStatistics = new ConcurrentHashMap<>();
+    private final Map<List<Object>, LongAdder> commitCounts = new ConcurrentHashMap<>();
+    private final Map<List<Object>, LongAdder> rollbackCounts = new ConcurrentHashMap<>();
+    private final Map<List<Object>, LongAdder> optLockConflictCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordCall(final String pDataSourceName,
+                           final Operation pOperation,
+                           final String pName,
+                           final long pDurationNanos,
+                           final long pRowCount,
+                           final boolean pSuccess) {
+
+        callStatistics.computeIfAbsent(key(pDataSourceName, pOperation, pName), k -> new TimerStatistics())
+                .record(pDurationNanos, pRowCount, pSuccess);
+    }
+
+    @Override
+    public void recordBatch(final String pDataSourceName,
+                            final Operation pOperation,
+                            final String pTableName,
+                            final int pBatchSize,
+                            final int pUpdateCount) {
+
+        batchStatistics.computeIfAbsent(key(pDataSourceName, pOperation, pTableName), k -> new BatchStatistics())
+                .record(pBatchSize, pUpdateCount);
+    }
+
+    @Override
+    public void recordConnectionAcquisition(final String pDataSourceName, final long pDurationNanos) {
+
+        connectionStatistics.computeIfAbsent(key(pDataSourceName), k -> new TimerStatistics())
+                .record(pDurationNanos, 0L, true);
+    }
+
+    @Override
+    public void recordTransactionTermination(final String pDataSourceName, final boolean pCommit) {
+
+        final Map<List<Object>, LongAdder> counts = pCommit ? commitCounts : rollbackCounts;
+        counts.computeIfAbsent(key(pDataSourceName), k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordOptimisticLockConflict(final String pDataSourceName, final String pTableName) {
+
+        optLockConflictCounts.computeIfAbsent(key(pDataSourceName, pTableName), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the statistics for the processor calls with the given tags.
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pOperation the operation type
+     * @param pName the table or procedure name
+     * @return the statistics or null, when no call has been recorded for the given tags
+     */
+    public TimerStatistics getCallStatistics(final String pDataSourceName,
+                                             final Operation pOperation,
+                                             final String pName) {
+
+        return callStatistics.get(key(pDataSourceName, pOperation, pName));
+    }
+
+    /**
+     * Returns the statistics for the DML operations with the given tags.
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pOperation the operation type
+     * @param pTableName the table name
+     * @return the statistics or null, when no DML operation has been recorded for the given tags
+     */
+    public BatchStatistics getBatchStatistics(final String pDataSourceName,
+                                              final Operation pOperation,
+                                              final String pTableName) {
+
+        return batchStatistics.get(key(pDataSourceName, pOperation, pTableName));
+    }
+
+    /**
+     * Returns the statistics for the connection acquisition of the given data source.
+     *
+     * @param pDataSourceName the name of the data source
+     * @return the statistics or null, when no connection acquisition has been recorded for the data source
+     */
+    public TimerStatistics getConnectionStatistics(final String pDataSourceName) {
+
+        return connectionStatistics.get(key(pDataSourceName));
+    }
+
+    public long getCommitCount(final String pDataSourceName) {
+
+        return sum(commitCounts.get(key(pDataSourceName)));
+    }
+
+    public long getRollbackCount(final String pDataSourceName) {
+
+        return sum(rollbackCounts.get(key(pDataSourceName)));
+    }
+
+    public long getOptimisticLockConflictCount(final String pDataSourceName, final String pTableName) {
+
+        return sum(optLockConflictCounts.get(key(pDataSourceName, pTableName)));
+    }
+
+    /**
+     * Discards all collected metrics.
+     */
+    public void reset() {
+
+        callStatistics.clear();
+        batchStatistics.clear();
+        connectionStatistics.clear();
+        commitCounts.clear();
+        rollbackCounts.clear();
+        optLockConflictCounts.clear();
+    }
+
+    private static List<Object> key(final Object... pTags) {
+
+        return Arrays.asList(pTags);
+    }
+
+    private static long sum(final LongAdder pCounter) {
+
+        return pCounter == null ? 0L : pCounter.sum();
+    }
+
+    /**
+     * Latency statistics for a set of recorded calls.
+     */
+    public static class TimerStatistics {
+
+        private static final int BUCKET_COUNT = 64;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rowCount = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+
+        void record(final long pDurationNanos, final long pRowCount, final boolean pSuccess) {
+
+            final long durationNanos = Math.max(0L, pDurationNanos);
+            count.increment();
+            if (!pSuccess) {
+                failureCount.increment();
+            }
+            totalNanos.add(durationNanos);
+            rowCount.add(pRowCount);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+            // Bucket i covers latencies from 2^i to 2^(i+1)-1 nanoseconds, bucket 0 includes zero
+            final int bucket = durationNanos == 0L ? 0 : BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(durationNanos);
+            histogram.incrementAndGet(bucket);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getFailureCount() {
+            return failureCount.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * @return the total number of rows mapped or processed by the recorded calls
+         */
+        public long getRowCount() {
+            return rowCount.sum();
+        }
+
+        public long getMeanNanos() {
+
+            final long callCount = getCount();
+            return callCount == 0L ? 0L : getTotalNanos() / callCount;
+        }
+
+        /**
+         * Approximates the latency percentile from the histogram. The returned value is the upper bound of the
+         * histogram bucket containing the requested percentile, limited by the maximum latency recorded.
+         *
+         * @param pPercentile the percentile in the range from 0.0 to 1.0 (e.g. 0.99)
+         * @return the approximated latency in nanoseconds
+         */
+        public long getPercentileNanos(final double pPercentile) {
+
+            long total = 0L;
+            final long[] bucketCounts = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                bucketCounts[i] = histogram.get(i);
+                total += bucketCounts[i];
+            }
+            if (total == 0L) {
+                return 0L;
+            }
+            final long threshold = (long) Math.ceil(total * Math.min(1.0, Math.max(0.0, pPercentile)));
+            long accumulated = 0L;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                accumulated += bucketCounts[i];
+                if (accumulated >= threshold && accumulated > 0L) {
+                    final long upperBound = i >= 62 ? Long.MAX_VALUE : (2L << i) - 1L;
+                    return Math.min(upperBound, getMaxNanos());
+                }
+            }
+            return getMaxNanos();
+        }
+    }
+
+    /**
+     * Statistics for a set of DML operations executed for lists of Beans.
+     */
+    public static class BatchStatistics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalBatchSize = new LongAdder();
+        private final LongAdder totalUpdateCount = new LongAdder();
+        private final AtomicLong maxBatchSize = new AtomicLong();
+
+        void record(final int pBatchSize, final int pUpdateCount) {
+
+            count.increment();
+            totalBatchSize.add(pBatchSize);
+            totalUpdateCount.add(pUpdateCount);
+            maxBatchSize.accumulateAndGet(pBatchSize, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalBatchSize() {
+            return totalBatchSize.sum();
+        }
+
+        public long getMaxBatchSize() {
+            return maxBatchSize.get();
+        }
+
+        public long getTotalUpdateCount() {
+            return totalUpdateCount.sum();
+        }
+    }
+}
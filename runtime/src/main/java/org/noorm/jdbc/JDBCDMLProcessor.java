@@ -11,6 +11,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Processor for database DML.
@@ -27,6 +28,7 @@ public class JDBCDMLProcessor<T> {
 
     private static final Long VERSION_COLUMN_LONG_DEFAULT = 1L;
     private static final boolean USE_NAMED_PARAMETERS = false;
+    private static final String MULTI_ROW_INSERT = "MULTI_ROW_INSERT";
 
     private static JDBCDMLProcessor dmlProcessor = new JDBCDMLProcessor();
     private final StatementBuilder statementBuilder = new StatementBuilder();
@@ -67,6 +69,148 @@ public class JDBCDMLProcessor<T> {
         batch(pBeanList, BatchType.INSERT);
     }
 
+    /**
+     * Asynchronous variant of insert (see DataSourceProvider.supplyAsync). The Beans are inserted using a
+     * database connection of its own, i.e. outside of the user managed transaction of the calling thread.
+     * The Beans must not be accessed by the caller, before the returned future has been completed.
+     *
+     * @param pBeanList list of Bean objects for insertion
+     * @return the future indicating the termination of the operation
+     */
+    public CompletableFuture<Void> insertAsync(final List<? extends IBean> pBeanList) {
+
+        return DataSourceProvider.runAsync(() -> insert(pBeanList));
+    }
+
+    /**
+     * Loads the provided Beans into the database using the bulk load API of the database platform (e.g. COPY
+     * for PostgreSQL), which is substantially faster than SQL INSERT statements for large numbers of rows.
+     * The rows are streamed to the database, so the memory consumption does not depend on the number of Beans.
+     * Like for insert, primary key values retrieved from a sequence and initial version column values are set
+     * in the provided Beans. When the platform does not support bulk loading, or the Bean type uses inline
+     * sequence value generation, the Beans are inserted using insert(List).
+     * All Beans in the list must have the same type.
+     *
+     * @param pBeanList list of Bean objects for insertion
+     */
+    public void bulkLoad(final List<? extends IBean> pBeanList) {
+
+        try {
+            if (pBeanList == null) {
+                throw new IllegalArgumentException("Parameter [pBeanList] must not be null.");
+            }
+            if (pBeanList.isEmpty()) {
+                return;
+            }
+            if (pBeanList.get(0) == null) {
+                throw new IllegalArgumentException("Parameter [pBeanList] must not contain null members.");
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL, e);
+        }
+
+        final IBean firstBean = pBeanList.get(0);
+        final String sequenceName = firstBean.getSequenceName();
+        final boolean useSequence = sequenceName != null && !sequenceName.isEmpty();
+        final IPlatform platform = DataSourceProvider.getPlatform();
+        if (!platform.supportsBulkLoad() || (useSequence && firstBean.useInlineSequenceValueGeneration())) {
+            insert(pBeanList);
+            return;
+        }
+
+        final long startTime = DataSourceProvider.startMetricsTimer();
+        long loadCount = 0L;
+        boolean success = true;
+        Connection con = null;
+        try {
+            con = DataSourceProvider.getConnection();
+            final BeanMetadata beanMetadata = BeanMetadata.forClass(firstBean.getClass());
+            final List<BeanMetadata.Column> columns = new ArrayList<>();
+            final List<String> columnNames = new ArrayList<>();
+            for (final BeanMetadata.Column column : beanMetadata.getColumns()) {
+                if (beanMetadata.isInsertable(column.getIndex())) {
+                    columns.add(column);
+                    if (column.getJDBCColumn().caseSensitiveName()) {
+                        columnNames.add("\"".concat(column.getName()).concat("\""));
+                    } else {
+                        columnNames.add(column.getName());
+                    }
+                }
+            }
+            if (columns.isEmpty()) {
+                throw new DataAccessException(DataAccessException.Type.COULD_NOT_UPDATE_NON_UPDATABLE_BEAN);
+            }
+            String tableName = firstBean.getTableName();
+            if (firstBean.isTableNameCaseSensitive()) {
+                tableName = "\"".concat(tableName).concat("\"");
+            }
+            final BeanMetadata.Column versionColumn = beanMetadata.getVersionColumn();
+            final Iterator<? extends IBean> beanIterator = pBeanList.iterator();
+            final Iterator<Object[]> rowIterator = new Iterator<Object[]>() {
+
+                @Override
+                public boolean hasNext() {
+                    return beanIterator.hasNext();
+                }
+
+                @Override
+                public Object[] next() {
+                    final IBean bean = beanIterator.next();
+                    final Object[] row = new Object[columns.size()];
+                    for (int i = 0; i < row.length; i++) {
+                        final BeanMetadata.Column column = columns.get(i);
+                        Object value;
+                        if (useSequence && column.isPrimaryKey()) {
+                            value = DataSourceProvider.getNextSequenceValue
+                                    (sequenceName, bean.getSequenceIncrement(), column.getType());
+                            BeanMetaDataUtil.setPrimaryKeyValue(bean, (Number) value);
+                        } else {
+                            value = column.getValue(bean);
+                            if (column == versionColumn && value == null) {
+                                // Like for insert, the version column is initialized, when not set by the caller
+                                value = buildVersionColumnValue(bean, BatchType.INSERT, null);
+                            }
+                        }
+                        if (value instanceof java.util.Date && !(value instanceof Timestamp)) {
+                            value = new Timestamp(((java.util.Date) value).getTime());
+                        }
+                        row[i] = value;
+                    }
+                    if (bean.getModifiedFieldsInitialValue() != null) {
+                        bean.getModifiedFieldsInitialValue().clear();
+                    }
+                    return row;
+                }
+            };
+            loadCount = platform.bulkLoad(con, tableName, columnNames, rowIterator);
+            if (log.isDebugEnabled()) {
+                log.debug("Bulk load into table ".concat(tableName).concat(" completed. ")
+                        .concat(Long.toString(loadCount)).concat(" rows loaded."));
+            }
+            if (loadCount != pBeanList.size()) {
+                issueUpdateCountException((int) loadCount, pBeanList.size());
+            }
+        } catch (DataAccessException e) {
+            log.error("Bulk load failed.", e);
+            success = false;
+            throw e;
+        } catch (Exception e) {
+            log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), e);
+            success = false;
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, e);
+        } finally {
+            try {
+                if (con != null && !con.isClosed()) {
+                    DataSourceProvider.returnConnection(success);
+                }
+            } catch (SQLException ignored) {
+            } // Nothing to do
+            DataSourceProvider.invalidateQueryResultCache(firstBean.getTableName());
+            DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.INSERT, firstBean.getTableName(),
+                    success ? loadCount : 0L, success);
+        }
+    }
+
     /**
      * Convenience wrapper for the list update for modifying a single Bean.
      *
@@ -104,6 +248,19 @@ public class JDBCDMLProcessor<T> {
         batch(pBeanList, BatchType.UPDATE);
     }
 
+    /**
+     * Asynchronous variant of update (see DataSourceProvider.supplyAsync). The Beans are updated using a
+     * database connection of its own, i.e. outside of the user managed transaction of the calling thread.
+     * The Beans must not be accessed by the caller, before the returned future has been completed.
+     *
+     * @param pBeanList list of Bean objects for modification
+     * @return the future indicating the termination of the operation
+     */
+    public CompletableFuture<Void> updateAsync(final List<? extends IBean> pBeanList) {
+
+        return DataSourceProvider.runAsync(() -> update(pBeanList));
+    }
+
     /**
      * Convenience wrapper for the list delete for deleting a single Bean.
      *
@@ -140,6 +297,84 @@ public class JDBCDMLProcessor<T> {
         batch(pBeanList, BatchType.DELETE);
     }
 
+    /**
+     * Asynchronous variant of delete (see DataSourceProvider.supplyAsync). The Beans are deleted using a
+     * database connection of its own, i.e. outside of the user managed transaction of the calling thread.
+     * The Beans must not be accessed by the caller, before the returned future has been completed.
+     *
+     * @param pBeanList list of Bean objects for deletion
+     * @return the future indicating the termination of the operation
+     */
+    public CompletableFuture<Void> deleteAsync(final List<? extends IBean> pBeanList) {
+
+        return DataSourceProvider.runAsync(() -> delete(pBeanList));
+    }
+
+    /**
+     * Opens a parallel bulk DML operation, which processes the added Beans in chunks of the given size
+     * concurrently, each chunk using a database connection of its own and committed independently (see
+     * ParallelBulkDML). Unlike insert, update and delete, the operation is not atomic.
+     *
+     * @param pOperation the DML operation (insert, update or delete)
+     * @param pChunkSize the number of Beans processed and committed together
+     * @return the parallel bulk DML operation to add the Beans to
+     */
+    public <B extends IBean> ParallelBulkDML<B> openParallelBulkDML(final ParallelBulkDML.Operation pOperation,
+                                                                    final int pChunkSize) {
+
+        return new ParallelBulkDML<>(pOperation, pChunkSize);
+    }
+
+    /**
+     * Inserts the provided Beans using a parallel bulk DML operation (see openParallelBulkDML).
+     *
+     * @param pBeanList list of Bean objects for insertion
+     * @param pChunkSize the number of Beans processed and committed together
+     * @return the result providing the outcome per chunk
+     */
+    public BulkDMLResult insertParallel(final List<? extends IBean> pBeanList, final int pChunkSize) {
+
+        return executeParallel(pBeanList, ParallelBulkDML.Operation.INSERT, pChunkSize);
+    }
+
+    /**
+     * Updates the provided Beans using a parallel bulk DML operation (see openParallelBulkDML).
+     *
+     * @param pBeanList list of Bean objects for modification
+     * @param pChunkSize the number of Beans processed and committed together
+     * @return the result providing the outcome per chunk
+     */
+    public BulkDMLResult updateParallel(final List<? extends IBean> pBeanList, final int pChunkSize) {
+
+        return executeParallel(pBeanList, ParallelBulkDML.Operation.UPDATE, pChunkSize);
+    }
+
+    /**
+     * Deletes the provided Beans using a parallel bulk DML operation (see openParallelBulkDML).
+     *
+     * @param pBeanList list of Bean objects for deletion
+     * @param pChunkSize the number of Beans processed and committed together
+     * @return the result providing the outcome per chunk
+     */
+    public BulkDMLResult deleteParallel(final List<? extends IBean> pBeanList, final int pChunkSize) {
+
+        return executeParallel(pBeanList, ParallelBulkDML.Operation.DELETE, pChunkSize);
+    }
+
+    private BulkDMLResult executeParallel(final List<? extends IBean> pBeanList,
+                                          final ParallelBulkDML.Operation pOperation,
+                                          final int pChunkSize) {
+
+        if (pBeanList == null) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL,
+                    new IllegalArgumentException("Parameter [pBeanList] must not be null."));
+        }
+        try (ParallelBulkDML<IBean> parallelBulkDML = openParallelBulkDML(pOperation, pChunkSize)) {
+            parallelBulkDML.addAll(pBeanList);
+            return parallelBulkDML.finish();
+        }
+    }
+
     private T batch(final List<? extends IBean> pBeanList, final BatchType pBatchType) {
 
         try {
@@ -156,6 +391,8 @@ public class JDBCDMLProcessor<T> {
             throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL, e);
         }
 
+        final long startTime = DataSourceProvider.startMetricsTimer();
+        int processedCount = 0;
         boolean returnModifiedBean = false;
         boolean success = true;
         Connection con = null;
@@ -166,7 +403,8 @@ public class JDBCDMLProcessor<T> {
             final IBean firstBean = pBeanList.get(0);
             final String[] primaryKeyColumnNames = firstBean.getPrimaryKeyColumnNames();
             final String[] primaryKeyJavaNames = firstBean.getPrimaryKeyJavaNames();
-            final Map<String, JDBCColumn> beanJDBCMetaData = BeanMetaDataUtil.getColumnMetaData(firstBean.getClass());
+            final BeanMetadata beanMetadata = BeanMetadata.forClass(firstBean.getClass());
+            final Map<String, JDBCColumn> beanJDBCMetaData = beanMetadata.getColumnMetaData();
             // There is currently no full support for returning generated keys in batch operation
             // Thus we support this for single-row inserts only, which use a sequence for ID generation
             final String sequenceName = firstBean.getSequenceName();
@@ -179,23 +417,58 @@ public class JDBCDMLProcessor<T> {
             final String versionColumnName = firstBean.getVersionColumnName();
             String batch = null;
             final boolean useOptLockFullRowCompare = firstBean.getModifiedFieldsInitialValue() != null;
-            final Map<String, Integer> fieldName2ParameterIndex = new HashMap<String, Integer>();
-            if (pBatchType.equals(BatchType.INSERT)) {
-                batch = statementBuilder.buildInsert(firstBean, fieldName2ParameterIndex, USE_NAMED_PARAMETERS);
-            }
-            if (pBatchType.equals(BatchType.UPDATE)) {
-                if (primaryKeyColumnNames.length == 0) {
+            if (!pBatchType.equals(BatchType.INSERT) && primaryKeyColumnNames.length == 0) {
+                if (pBatchType.equals(BatchType.UPDATE)) {
                     throw new DataAccessException(DataAccessException.Type.GENERIC_UPDATE_NOT_SUPPORTED_WITHOUT_PK);
                 }
-                batch = statementBuilder.buildUpdate
-                        (firstBean, useOptLockFullRowCompare, fieldName2ParameterIndex, USE_NAMED_PARAMETERS);
+                throw new DataAccessException(DataAccessException.Type.GENERIC_DELETE_NOT_SUPPORTED_WITHOUT_PK);
             }
-            if (pBatchType.equals(BatchType.DELETE)) {
-                if (primaryKeyColumnNames.length == 0) {
-                    throw new DataAccessException(DataAccessException.Type.GENERIC_DELETE_NOT_SUPPORTED_WITHOUT_PK);
+            if (pBatchType.equals(BatchType.INSERT) && !useOptLockFullRowCompare
+                    && insertMultiRow(con, pBeanList, beanMetadata)) {
+                clearModifiedFields(pBeanList);
+                processedCount = pBeanList.size();
+                return (T) firstBean;
+            }
+            if (pBatchType.equals(BatchType.UPDATE) && !useOptLockFullRowCompare) {
+                final Map<BitSet, List<IBean>> beanGroups = groupByModifiedFields(pBeanList);
+                if (beanGroups != null) {
+                    final int updateCount = updateModifiedFields(con, beanGroups, beanMetadata);
+                    checkUpdateCount(updateCount, pBeanList, pBatchType);
+                    clearModifiedFields(pBeanList);
+                    processedCount = updateCount;
+                    return (T) firstBean;
+                }
+            }
+            // With optimistic locking based on full-row compare, the WHERE-clause depends on the null values
+            // of the Bean (IS NULL conditions), so the statement text cannot be re-used for other Beans.
+            final StatementPlanCache statementPlanCache = StatementPlanCache.getInstance();
+            StatementPlanCache.StatementPlan statementPlan = null;
+            Object statementPlanKey = null;
+            if (!useOptLockFullRowCompare) {
+                statementPlanKey = Arrays.asList(firstBean.getClass(), pBatchType, useInlineSequenceValueGeneration);
+                statementPlan = statementPlanCache.get(statementPlanKey);
+            }
+            Map<String, Integer> fieldName2ParameterIndex;
+            if (statementPlan != null) {
+                batch = statementPlan.getSQL();
+                fieldName2ParameterIndex = statementPlan.getFieldName2ParameterIndex();
+            } else {
+                fieldName2ParameterIndex = new HashMap<String, Integer>();
+                if (pBatchType.equals(BatchType.INSERT)) {
+                    batch = statementBuilder.buildInsert(firstBean, fieldName2ParameterIndex, USE_NAMED_PARAMETERS);
+                }
+                if (pBatchType.equals(BatchType.UPDATE)) {
+                    batch = statementBuilder.buildUpdate
+                            (firstBean, useOptLockFullRowCompare, fieldName2ParameterIndex, USE_NAMED_PARAMETERS);
+                }
+                if (pBatchType.equals(BatchType.DELETE)) {
+                    batch = statementBuilder.buildDelete
+                            (firstBean, useOptLockFullRowCompare, fieldName2ParameterIndex, USE_NAMED_PARAMETERS);
+                }
+                if (statementPlanKey != null) {
+                    statementPlan = statementPlanCache.put(statementPlanKey, batch, fieldName2ParameterIndex);
+                    fieldName2ParameterIndex = statementPlan.getFieldName2ParameterIndex();
                 }
-                batch = statementBuilder.buildDelete
-                        (firstBean, useOptLockFullRowCompare, fieldName2ParameterIndex, USE_NAMED_PARAMETERS);
             }
             if (log.isDebugEnabled()) {
                 final String tableName = firstBean.getTableName();
@@ -205,77 +478,103 @@ public class JDBCDMLProcessor<T> {
                 if (primaryKeyColumnNames.length != 1) {
                     throw new DataAccessException(DataAccessException.Type.OPERATION_NOT_SUPPORTED_WITH_COMPOSITE_PK);
                 }
-                pstmt = con.prepareStatement(batch, new String[]{primaryKeyColumnNames[0]});
+                pstmt = DataSourceProvider.prepareStatement
+                        (con, batch, new String[]{primaryKeyColumnNames[0]});
             } else {
-                pstmt = con.prepareStatement(batch);
+                pstmt = DataSourceProvider.prepareStatement(con, batch);
             }
 
             int batchCount = 0;
             int updateCount = 0;
             final IPlatform platform = DataSourceProvider.getPlatform();
-            for (final IBean bean : pBeanList) {
-
-                final BeanMapper<IBean> mapper = BeanMapper.getInstance();
-                final Map<String, Object> fieldMap = mapper.toMap(bean);
-                if (fieldMap.isEmpty()) {
+            // Parameter binders do not cover the pre-change image used for optimistic locking with
+            // full-row compare. Since this requires a new statement for every Bean anyway, the generic binding
+            // based on the BeanMapper is used in this case.
+            final BeanMapper<IBean> mapper = BeanMapper.getInstance();
+            IParameterBinder<IBean> parameterBinder = null;
+            int[] parameterIndexes = null;
+            if (!useOptLockFullRowCompare) {
+                parameterBinder = mapper.getParameterBinder(firstBean.getClass());
+                parameterIndexes = resolveParameterIndexes(parameterBinder, fieldName2ParameterIndex, 0);
+            }
+            if (parameterBinder != null) {
+                if (!beanMetadata.hasInsertableColumn()) {
                     throw new DataAccessException(DataAccessException.Type.COULD_NOT_UPDATE_NON_UPDATABLE_BEAN);
                 }
-                for (final String fieldName : fieldMap.keySet()) {
-
-                    final JDBCColumn jdbcColumn = beanJDBCMetaData.get(fieldName);
+            }
+            for (final IBean bean : pBeanList) {
 
-                    final Integer parameterIndex = fieldName2ParameterIndex.get(fieldName);
-                    if (parameterIndex == null) {
-                        continue;
+                Map<String, Object> fieldMap = null;
+                Object versionColumnValue = null;
+                if (parameterBinder != null) {
+                    parameterBinder.bind(platform, pstmt, bean, parameterIndexes);
+                    versionColumnValue = bindGeneratedValues(parameterBinder, pstmt, bean,
+                            pBatchType, fieldName2ParameterIndex, beanJDBCMetaData);
+                } else {
+                    fieldMap = mapper.toMap(bean);
+                    if (fieldMap.isEmpty()) {
+                        throw new DataAccessException(DataAccessException.Type.COULD_NOT_UPDATE_NON_UPDATABLE_BEAN);
                     }
-                    boolean isPKColumn = false;
-                    for (final String pkColumnName : primaryKeyColumnNames) {
-                        if (fieldName.equals(pkColumnName)) {
-                            isPKColumn = true;
+                    for (final String fieldName : fieldMap.keySet()) {
+
+                        final JDBCColumn jdbcColumn = beanJDBCMetaData.get(fieldName);
+
+                        final Integer parameterIndex = fieldName2ParameterIndex.get(fieldName);
+                        if (parameterIndex == null) {
+                            continue;
                         }
-                    }
-                    Object value = fieldMap.get(fieldName);
-                    if (value instanceof java.util.Date) {
-                        value = new Timestamp(((java.util.Date) value).getTime());
-                    }
-                    if (pBatchType.equals(BatchType.INSERT)) {
-                        if (!isPKColumn || sequenceName == null || sequenceName.isEmpty()) {
+                        boolean isPKColumn = false;
+                        for (final String pkColumnName : primaryKeyColumnNames) {
+                            if (fieldName.equals(pkColumnName)) {
+                                isPKColumn = true;
+                            }
+                        }
+                        Object value = fieldMap.get(fieldName);
+                        if (value instanceof java.util.Date) {
+                            value = new Timestamp(((java.util.Date) value).getTime());
+                        }
+                        if (pBatchType.equals(BatchType.INSERT)) {
+                            if (!isPKColumn || sequenceName == null || sequenceName.isEmpty()) {
+                                if (fieldName.equals(versionColumnName)) {
+                                    if (value == null) {
+                                        // When the version column has not been initialized by the caller,
+                                        // we set it here, otherwise NULL in the version column will result
+                                        // in an VERSION_COLUMN_NULL exception with the next update.
+                                        value = buildVersionColumnValue(bean, pBatchType, value);
+                                    }
+                                }
+                                platform.setObject(pstmt, value, parameterIndex, jdbcColumn.dataType());
+                            } else {
+                                if (!useInlineSequenceValueGeneration) {
+                                    final Class primaryKeyType =
+                                            BeanMetaDataUtil.getBeanPropertyType(firstBean, primaryKeyJavaNames[0]);
+                                    final Number sequenceValue = DataSourceProvider
+                                            .getNextSequenceValue(sequenceName, sequenceIncrement, primaryKeyType);
+                                    BeanMetaDataUtil.setPrimaryKeyValue(bean, sequenceValue);
+                                    platform.setObject(pstmt, sequenceValue, parameterIndex, jdbcColumn.dataType());
+                                }
+                            }
+                        }
+
+                        if (pBatchType.equals(BatchType.UPDATE)) {
                             if (fieldName.equals(versionColumnName)) {
                                 if (value == null) {
-                                    // When the version column has not been initialized by the caller,
-                                    // we set it here, otherwise NULL in the version column will result
-                                    // in an VERSION_COLUMN_NULL exception with the next update.
-                                    value = buildVersionColumnValue(bean, pBatchType, value);
+                                    throw new DataAccessException(DataAccessException.Type.VERSION_COLUMN_NULL);
                                 }
-                            }
-                            platform.setObject(pstmt, value, parameterIndex, jdbcColumn.dataType());
-                        } else {
-                            if (!useInlineSequenceValueGeneration) {
-                                final Class primaryKeyType =
-                                        BeanMetaDataUtil.getBeanPropertyType(firstBean, primaryKeyJavaNames[0]);
-                                final Number sequenceValue = DataSourceProvider
-                                        .getNextSequenceValue(sequenceName, sequenceIncrement, primaryKeyType);
-                                BeanMetaDataUtil.setPrimaryKeyValue(firstBean, sequenceValue);
-                                platform.setObject(pstmt, sequenceValue, parameterIndex, jdbcColumn.dataType());
+                                Object newVersion = buildVersionColumnValue(bean, pBatchType, value);
+                                platform.setObject(pstmt, newVersion, parameterIndex, jdbcColumn.dataType());
+                            } else {
+                                platform.setObject(pstmt, value, parameterIndex, jdbcColumn.dataType());
                             }
                         }
-                    }
-
-                    if (pBatchType.equals(BatchType.UPDATE)) {
-                        if (fieldName.equals(versionColumnName)) {
-                            if (value == null) {
-                                throw new DataAccessException(DataAccessException.Type.VERSION_COLUMN_NULL);
+                        if (pBatchType.equals(BatchType.DELETE)) {
+                            if (isPKColumn) {
+                                platform.setObject(pstmt, value, parameterIndex, jdbcColumn.dataType());
                             }
-                            Object newVersion = buildVersionColumnValue(bean, pBatchType, value);
-                            platform.setObject(pstmt, newVersion, parameterIndex, jdbcColumn.dataType());
-                        } else {
-                            platform.setObject(pstmt, value, parameterIndex, jdbcColumn.dataType());
                         }
                     }
-                    if (pBatchType.equals(BatchType.DELETE)) {
-                        if (isPKColumn) {
-                            platform.setObject(pstmt, value, parameterIndex, jdbcColumn.dataType());
-                        }
+                    if (versionColumnName != null && !versionColumnName.isEmpty()) {
+                        versionColumnValue = fieldMap.get(versionColumnName);
                     }
                 }
 
@@ -287,7 +586,7 @@ public class JDBCDMLProcessor<T> {
                         final JDBCColumn jdbcColumn = beanJDBCMetaData.get(versionColumnName);
                         final int parameterIndex = fieldName2ParameterIndex.get
                                 (versionColumnName.concat(StatementBuilder.OLD_VERSION_APPENDIX));
-                        platform.setObject(pstmt, fieldMap.get(versionColumnName), parameterIndex, jdbcColumn.dataType());
+                        platform.setObject(pstmt, versionColumnValue, parameterIndex, jdbcColumn.dataType());
                     }
                     if (useOptLockFullRowCompare) {
                         final Map<String, Object> modifiedFieldsInitialValue = bean.getModifiedFieldsInitialValue();
@@ -334,34 +633,8 @@ public class JDBCDMLProcessor<T> {
             if (batchCount % DataSourceProvider.getBatchUpdateSize() > 0) {
                 updateCount += platform.executeBatchWithReliableCount(pstmt);
             }
-            if (updateCount != pBeanList.size()) {
-                if (pBatchType.equals(BatchType.INSERT)) {
-                    issueUpdateCountException(updateCount, pBeanList.size());
-                } else {
-                    // When the number of affected records does not match the number of provided records,
-                    // we can either have an optimistic lock conflict, or the record(s) have not been provided
-                    // with a valid primary key. This can happen, when the beans initially prepared with a null
-                    // primary key are reused for an update or delete
-                    // We only investigate the first bean here, though it is actually possible that we do not
-                    // have an optimistic lock conflict, but null values in the PK for another bean, though this
-                    // scenario is considered unlikely.
-                    boolean firstBeanHasNullPK = false;
-                    for (final String pkColumn : primaryKeyJavaNames) {
-                        if (BeanMetaDataUtil.getBeanPropertyByName(firstBean, pkColumn) == null) {
-                            firstBeanHasNullPK = true;
-                        }
-                    }
-                    if (firstBeanHasNullPK) {
-                        if (pBatchType.equals(BatchType.UPDATE)) {
-                            throw new DataAccessException(DataAccessException.Type.GENERIC_UPDATE_FAILED_WITH_NULL_PK);
-                        } else { // DELETE
-                            throw new DataAccessException(DataAccessException.Type.GENERIC_DELETE_FAILED_WITH_NULL_PK);
-                        }
-                    } else {
-                        throw new DataAccessException(DataAccessException.Type.OPTIMISTIC_LOCK_CONFLICT);
-                    }
-                }
-            }
+            checkUpdateCount(updateCount, pBeanList, pBatchType);
+            clearModifiedFields(pBeanList);
             if (returnModifiedBean) {
                 ResultSet generatedKeyResultSet = pstmt.getGeneratedKeys();
                 while (generatedKeyResultSet.next()) {
@@ -385,6 +658,7 @@ public class JDBCDMLProcessor<T> {
                     }
                 }
             }
+            processedCount = updateCount;
             return (T) firstBean;
         } catch (DataAccessException e) {
             // Avoid that a DataAccessException is wrapped into another (generic COULD_NOT_ACCESS_DATA) one.
@@ -398,13 +672,74 @@ public class JDBCDMLProcessor<T> {
         } finally {
             try {
                 if (pstmt != null) {
-                    pstmt.close();
+                    DataSourceProvider.closeStatement(pstmt);
                 }
                 if (con != null && !con.isClosed()) {
                     DataSourceProvider.returnConnection(success);
                 }
             } catch (SQLException ignored) {
             } // Nothing to do
+            DataSourceProvider.invalidateQueryResultCache(pBeanList.get(0).getTableName());
+            // Deleted Beans and Beans involved in a failed modification (e.g. due to an optimistic lock
+            // conflict) are evicted from the entity cache, since their state in the database is unknown.
+            DataSourceProvider.updateEntityCache(pBeanList, !success || pBatchType.equals(BatchType.DELETE));
+            final String tableName = pBeanList.get(0).getTableName();
+            DataSourceProvider.recordCall(startTime, pBatchType.operation, tableName, processedCount, success);
+            if (success) {
+                DataSourceProvider.recordBatch(pBatchType.operation, tableName, pBeanList.size(), processedCount);
+            }
+        }
+    }
+
+    /**
+     * Verifies the number of affected rows. For UPDATE and DELETE, a mismatch indicates an optimistic lock
+     * conflict or Beans without valid primary key.
+     */
+    private void checkUpdateCount(final int pUpdateCount,
+                                  final List<? extends IBean> pBeanList,
+                                  final BatchType pBatchType) {
+
+        if (pUpdateCount == pBeanList.size()) {
+            return;
+        }
+        if (pBatchType.equals(BatchType.INSERT)) {
+            issueUpdateCountException(pUpdateCount, pBeanList.size());
+        }
+        // When the number of affected records does not match the number of provided records,
+        // we can either have an optimistic lock conflict, or the record(s) have not been provided
+        // with a valid primary key. This can happen, when the beans initially prepared with a null
+        // primary key are reused for an update or delete
+        // We only investigate the first bean here, though it is actually possible that we do not
+        // have an optimistic lock conflict, but null values in the PK for another bean, though this
+        // scenario is considered unlikely.
+        final IBean firstBean = pBeanList.get(0);
+        boolean firstBeanHasNullPK = false;
+        for (final String pkColumn : firstBean.getPrimaryKeyJavaNames()) {
+            if (BeanMetaDataUtil.getBeanPropertyByName(firstBean, pkColumn) == null) {
+                firstBeanHasNullPK = true;
+            }
+        }
+        if (firstBeanHasNullPK) {
+            if (pBatchType.equals(BatchType.UPDATE)) {
+                throw new DataAccessException(DataAccessException.Type.GENERIC_UPDATE_FAILED_WITH_NULL_PK);
+            } else { // DELETE
+                throw new DataAccessException(DataAccessException.Type.GENERIC_DELETE_FAILED_WITH_NULL_PK);
+            }
+        }
+        DataSourceProvider.recordOptimisticLockConflict(firstBean.getTableName());
+        throw new DataAccessException(DataAccessException.Type.OPTIMISTIC_LOCK_CONFLICT);
+    }
+
+    /**
+     * Clears the modified fields of the given Beans after their state has been written to the database.
+     */
+    private void clearModifiedFields(final List<? extends IBean> pBeanList) {
+
+        for (final IBean bean : pBeanList) {
+            final BitSet modifiedFields = bean.getModifiedFields();
+            if (modifiedFields != null) {
+                modifiedFields.clear();
+            }
         }
     }
 
@@ -446,6 +781,8 @@ public class JDBCDMLProcessor<T> {
             loggingHelper.debugUpdate(pTableName, pUpdateParameters, pQueryParameters, pBeanClass);
         }
 
+        final long startTime = DataSourceProvider.startMetricsTimer();
+        int updateCount = 0;
         boolean success = true;
         Connection con = null;
         PreparedStatement pstmt = null;
@@ -458,7 +795,7 @@ public class JDBCDMLProcessor<T> {
                 log.debug("Preparing and executing UPDATE statement: ".concat(sqlStmt)
                         .concat("; using connection : ".concat(con.toString())));
             }
-            pstmt = con.prepareStatement(sqlStmt);
+            pstmt = DataSourceProvider.prepareStatement(con, sqlStmt);
 
             int parameterIndex = 1;
 
@@ -474,7 +811,7 @@ public class JDBCDMLProcessor<T> {
             }
 
             utils.setQueryParameter(pQueryParameters, pstmt, parameterIndex);
-            int updateCount = pstmt.executeUpdate();
+            updateCount = pstmt.executeUpdate();
             if (log.isDebugEnabled()) {
                 log.debug("Bulk update operation updated " + updateCount + " records");
             }
@@ -486,13 +823,16 @@ public class JDBCDMLProcessor<T> {
         } finally {
             try {
                 if (pstmt != null) {
-                    pstmt.close();
+                    DataSourceProvider.closeStatement(pstmt);
                 }
                 if (con != null && !con.isClosed()) {
                     DataSourceProvider.returnConnection(success);
                 }
             } catch (SQLException ignored) {
             } // Nothing to do
+            DataSourceProvider.invalidateQueryResultCache(pTableName);
+            DataSourceProvider.evictEntityCache(pBeanClass);
+            DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.UPDATE, pTableName, updateCount, success);
         }
     }
 
@@ -529,6 +869,8 @@ public class JDBCDMLProcessor<T> {
             loggingHelper.debugDelete(pTableName, pQueryParameters, pBeanClass);
         }
 
+        final long startTime = DataSourceProvider.startMetricsTimer();
+        int deleteCount = 0;
         boolean success = true;
         Connection con = null;
         PreparedStatement pstmt = null;
@@ -539,11 +881,11 @@ public class JDBCDMLProcessor<T> {
                 log.debug("Preparing and executing DELETE statement: ".concat(sqlStmt)
                         .concat("; using connection : ".concat(con.toString())));
             }
-            pstmt = con.prepareStatement(sqlStmt);
+            pstmt = DataSourceProvider.prepareStatement(con, sqlStmt);
 
             int parameterIndex = 1;
             utils.setQueryParameter(pQueryParameters, pstmt, parameterIndex);
-            int deleteCount = pstmt.executeUpdate();
+            deleteCount = pstmt.executeUpdate();
             if (log.isDebugEnabled()) {
                 log.debug("Bulk deletion operation deleted " + deleteCount + " records");
             }
@@ -555,21 +897,355 @@ public class JDBCDMLProcessor<T> {
         } finally {
             try {
                 if (pstmt != null) {
-                    pstmt.close();
+                    DataSourceProvider.closeStatement(pstmt);
                 }
                 if (con != null && !con.isClosed()) {
                     DataSourceProvider.returnConnection(success);
                 }
             } catch (SQLException ignored) {
             } // Nothing to do
+            DataSourceProvider.invalidateQueryResultCache(pTableName);
+            DataSourceProvider.evictEntityCache(pBeanClass);
+            DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.DELETE, pTableName, deleteCount, success);
+        }
+    }
+
+    /**
+     * Inserts the provided Beans using platform specific multi-row INSERT statements (see
+     * IPlatform.buildMultiRowInsert), which are executed as JDBC batch. The number of rows per statement is
+     * limited by DataSourceProvider.getMultiRowInsertSize and the bind parameter limits of the platform. Like
+     * for single-row batches, DataSourceProvider.getBatchUpdateSize limits the number of rows (not statements)
+     * sent to the database with a single batch execution.
+     * Multi-row inserts are not used with inline sequence value generation, since the sequence value would
+     * not be evaluated per row on all platforms.
+     *
+     * @return true, when the Beans have been inserted, false, when multi-row inserts are not applicable
+     */
+    private boolean insertMultiRow(final Connection pCon,
+                                   final List<? extends IBean> pBeanList,
+                                   final BeanMetadata pBeanMetadata) throws SQLException {
+
+        final int maxRowsPerStatement = DataSourceProvider.getMultiRowInsertSize();
+        if (pBeanList.size() < 2 || maxRowsPerStatement < 2) {
+            return false;
         }
+        final IBean firstBean = pBeanList.get(0);
+        final String sequenceName = firstBean.getSequenceName();
+        if (sequenceName != null && !sequenceName.isEmpty() && firstBean.useInlineSequenceValueGeneration()) {
+            return false;
+        }
+        final BeanMapper<IBean> mapper = BeanMapper.getInstance();
+        final IParameterBinder<IBean> parameterBinder = mapper.getParameterBinder(firstBean.getClass());
+        int parametersPerRow = 0;
+        for (final BeanMetadata.Column column : pBeanMetadata.getColumns()) {
+            if (pBeanMetadata.isInsertable(column.getIndex())) {
+                parametersPerRow++;
+            }
+        }
+        if (parametersPerRow == 0) {
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_UPDATE_NON_UPDATABLE_BEAN);
+        }
+        final IPlatform platform = DataSourceProvider.getPlatform();
+        final int batchUpdateSize = Math.max(1, DataSourceProvider.getBatchUpdateSize());
+        final int rowsPerStatement = Math.min(Math.min(pBeanList.size(), batchUpdateSize),
+                Math.min(maxRowsPerStatement, platform.getMaxMultiRowInsertSize(parametersPerRow)));
+        if (rowsPerStatement < 2) {
+            return false;
+        }
+
+        // Full-width statements first, the remaining rows (if any) with a second, narrower statement
+        int updateCount = 0;
+        int beanIndex = 0;
+        while (beanIndex < pBeanList.size()) {
+            final int remainingBeans = pBeanList.size() - beanIndex;
+            final int rowCount = Math.min(rowsPerStatement, remainingBeans);
+            final int beanCount = remainingBeans - remainingBeans % rowCount;
+            updateCount += executeMultiRowInsert(pCon, pBeanList.subList(beanIndex, beanIndex + beanCount),
+                    rowCount, parameterBinder, pBeanMetadata);
+            beanIndex += beanCount;
+        }
+        if (updateCount != pBeanList.size()) {
+            issueUpdateCountException(updateCount, pBeanList.size());
+        }
+        return true;
+    }
+
+    private int executeMultiRowInsert(final Connection pCon,
+                                      final List<? extends IBean> pBeanList,
+                                      final int pRowsPerStatement,
+                                      final IParameterBinder<IBean> pParameterBinder,
+                                      final BeanMetadata pBeanMetadata) throws SQLException {
+
+        final IBean firstBean = pBeanList.get(0);
+        final IPlatform platform = DataSourceProvider.getPlatform();
+        final StatementPlanCache statementPlanCache = StatementPlanCache.getInstance();
+        final Object statementPlanKey = Arrays.asList(firstBean.getClass(), MULTI_ROW_INSERT, pRowsPerStatement);
+        StatementPlanCache.StatementPlan statementPlan = statementPlanCache.get(statementPlanKey);
+        if (statementPlan == null) {
+            final Map<String, Integer> fieldName2ParameterIndex = new HashMap<>();
+            final String insert = statementBuilder.buildMultiRowInsert
+                    (firstBean, fieldName2ParameterIndex, pRowsPerStatement, platform);
+            statementPlan = statementPlanCache.put(statementPlanKey, insert, fieldName2ParameterIndex);
+        }
+        final String insert = statementPlan.getSQL();
+        if (log.isDebugEnabled()) {
+            loggingHelper.debugDML(firstBean.getTableName(), firstBean.getSequenceName(), insert);
+        }
+
+        // The parameter indexes of row n are the parameter indexes of the first row shifted by n rows
+        final Map<String, Integer> firstRowParameterIndex = statementPlan.getFieldName2ParameterIndex();
+        final int parametersPerRow = firstRowParameterIndex.size();
+        final List<Map<String, Integer>> rowParameterIndexes = new ArrayList<>(pRowsPerStatement);
+        final int[][] rowBinderParameterIndexes = new int[pRowsPerStatement][];
+        for (int i = 0; i < pRowsPerStatement; i++) {
+            final Map<String, Integer> rowParameterIndex = new HashMap<>();
+            for (final Map.Entry<String, Integer> entry : firstRowParameterIndex.entrySet()) {
+                rowParameterIndex.put(entry.getKey(), entry.getValue() + i * parametersPerRow);
+            }
+            rowParameterIndexes.add(rowParameterIndex);
+            rowBinderParameterIndexes[i] =
+                    resolveParameterIndexes(pParameterBinder, firstRowParameterIndex, i * parametersPerRow);
+        }
+
+        final Map<String, JDBCColumn> beanJDBCMetaData = pBeanMetadata.getColumnMetaData();
+        // The batch update size limits the number of rows per batch execution, not the number of statements
+        final int statementsPerBatch = Math.max(1, DataSourceProvider.getBatchUpdateSize() / pRowsPerStatement);
+        int updateCount = 0;
+        int statementCount = 0;
+        int rowIndex = 0;
+        final PreparedStatement pstmt = DataSourceProvider.prepareStatement(pCon, insert);
+        try {
+            for (final IBean bean : pBeanList) {
+                final Map<String, Integer> rowParameterIndex = rowParameterIndexes.get(rowIndex);
+                pParameterBinder.bind(platform, pstmt, bean, rowBinderParameterIndexes[rowIndex]);
+                bindGeneratedValues(pParameterBinder, pstmt, bean,
+                        BatchType.INSERT, rowParameterIndex, beanJDBCMetaData);
+                if (++rowIndex == pRowsPerStatement) {
+                    rowIndex = 0;
+                    pstmt.addBatch();
+                    if (++statementCount % statementsPerBatch == 0) {
+                        updateCount += platform.executeBatchWithReliableCount(pstmt);
+                    }
+                }
+            }
+            if (statementCount % statementsPerBatch > 0) {
+                updateCount += platform.executeBatchWithReliableCount(pstmt);
+            }
+        } finally {
+            DataSourceProvider.closeStatement(pstmt);
+        }
+        return updateCount;
+    }
+
+    /**
+     * Groups the given Beans by their modified fields (see IBean.getModifiedFields). Beans without recorded
+     * modifications (including Beans not populated by NoORM, which do not record modifications at all), Beans
+     * with all columns modified and Beans with modified primary key columns only are assigned to the group with
+     * key null, which is updated with all columns.
+     *
+     * @return the Beans grouped by modified fields or null, when all Beans are updated with all columns
+     */
+    private Map<BitSet, List<IBean>> groupByModifiedFields(final List<? extends IBean> pBeanList) {
+
+        final IBean firstBean = pBeanList.get(0);
+        final String[] updatableColumnNames = firstBean.getUpdatableColumnNames();
+        if (updatableColumnNames == null || updatableColumnNames.length == 0) {
+            return null;
+        }
+        // Modifications of primary key columns do not contribute to the SET clause
+        final BitSet nonPrimaryKeyFields = new BitSet(updatableColumnNames.length);
+        nonPrimaryKeyFields.set(0, updatableColumnNames.length);
+        final List<String> primaryKeyColumnNames = Arrays.asList(firstBean.getPrimaryKeyColumnNames());
+        for (int i = 0; i < updatableColumnNames.length; i++) {
+            if (primaryKeyColumnNames.contains(updatableColumnNames[i])) {
+                nonPrimaryKeyFields.clear(i);
+            }
+        }
+        final Map<BitSet, List<IBean>> beanGroups = new LinkedHashMap<>();
+        boolean narrowUpdate = false;
+        for (final IBean bean : pBeanList) {
+            BitSet modifiedFields = bean.getModifiedFields();
+            if (modifiedFields != null && (!modifiedFields.intersects(nonPrimaryKeyFields)
+                    || modifiedFields.cardinality() == updatableColumnNames.length)) {
+                modifiedFields = null;
+            }
+            List<IBean> beanGroup = beanGroups.get(modifiedFields);
+            if (beanGroup == null) {
+                beanGroup = new ArrayList<>();
+                // The key is copied, since the modified fields of the Bean change with subsequent modifications
+                beanGroups.put(modifiedFields == null ? null : (BitSet) modifiedFields.clone(), beanGroup);
+                narrowUpdate |= modifiedFields != null;
+            }
+            beanGroup.add(bean);
+        }
+        return narrowUpdate ? beanGroups : null;
+    }
+
+    /**
+     * Updates the given groups of Beans. For every group, the UPDATE statement is restricted to the modified
+     * columns (plus the version column), the Beans of every group are executed as JDBC batch.
+     *
+     * @return the number of updated rows
+     */
+    private int updateModifiedFields(final Connection pCon,
+                                     final Map<BitSet, List<IBean>> pBeanGroups,
+                                     final BeanMetadata pBeanMetadata) throws SQLException {
+
+        final IPlatform platform = DataSourceProvider.getPlatform();
+        final StatementPlanCache statementPlanCache = StatementPlanCache.getInstance();
+        final Map<String, JDBCColumn> beanJDBCMetaData = pBeanMetadata.getColumnMetaData();
+        final int batchUpdateSize = Math.max(1, DataSourceProvider.getBatchUpdateSize());
+        int updateCount = 0;
+        for (final Map.Entry<BitSet, List<IBean>> beanGroup : pBeanGroups.entrySet()) {
+            final BitSet modifiedFields = beanGroup.getKey();
+            final IBean firstBean = beanGroup.getValue().get(0);
+            final Class<?> beanClass = firstBean.getClass();
+            final boolean useInlineSequenceValueGeneration = firstBean.useInlineSequenceValueGeneration();
+            final Object statementPlanKey = modifiedFields == null
+                    ? Arrays.asList(beanClass, BatchType.UPDATE, useInlineSequenceValueGeneration)
+                    : Arrays.asList(beanClass, BatchType.UPDATE, useInlineSequenceValueGeneration, modifiedFields);
+            StatementPlanCache.StatementPlan statementPlan = statementPlanCache.get(statementPlanKey);
+            if (statementPlan == null) {
+                Set<String> updateColumnNames = null;
+                if (modifiedFields != null) {
+                    final String[] updatableColumnNames = firstBean.getUpdatableColumnNames();
+                    updateColumnNames = new HashSet<>();
+                    for (int i = modifiedFields.nextSetBit(0); i >= 0; i = modifiedFields.nextSetBit(i + 1)) {
+                        updateColumnNames.add(updatableColumnNames[i]);
+                    }
+                }
+                final Map<String, Integer> fieldName2ParameterIndex = new HashMap<>();
+                final String update = statementBuilder.buildUpdate
+                        (firstBean, false, fieldName2ParameterIndex, USE_NAMED_PARAMETERS, updateColumnNames);
+                statementPlan = statementPlanCache.put(statementPlanKey, update, fieldName2ParameterIndex);
+            }
+            final String update = statementPlan.getSQL();
+            if (log.isDebugEnabled()) {
+                loggingHelper.debugDML(firstBean.getTableName(), firstBean.getSequenceName(), update);
+            }
+
+            final Map<String, Integer> fieldName2ParameterIndex = statementPlan.getFieldName2ParameterIndex();
+            final IParameterBinder<IBean> parameterBinder =
+                    BeanMapper.<IBean>getInstance().getParameterBinder(beanClass);
+            final int[] parameterIndexes = resolveParameterIndexes(parameterBinder, fieldName2ParameterIndex, 0);
+            final String versionColumnName = firstBean.getVersionColumnName();
+            Integer oldVersionParameterIndex = null;
+            int versionColumnDataType = 0;
+            if (versionColumnName != null && !versionColumnName.isEmpty()) {
+                oldVersionParameterIndex =
+                        fieldName2ParameterIndex.get(versionColumnName.concat(StatementBuilder.OLD_VERSION_APPENDIX));
+                versionColumnDataType = beanJDBCMetaData.get(versionColumnName).dataType();
+            }
+            int batchCount = 0;
+            final PreparedStatement pstmt = DataSourceProvider.prepareStatement(pCon, update);
+            try {
+                for (final IBean bean : beanGroup.getValue()) {
+                    parameterBinder.bind(platform, pstmt, bean, parameterIndexes);
+                    final Object versionColumnValue = bindGeneratedValues(parameterBinder, pstmt, bean,
+                            BatchType.UPDATE, fieldName2ParameterIndex, beanJDBCMetaData);
+                    if (oldVersionParameterIndex != null) {
+                        platform.setObject(pstmt, versionColumnValue, oldVersionParameterIndex, versionColumnDataType);
+                    }
+                    pstmt.addBatch();
+                    if (++batchCount % batchUpdateSize == 0) {
+                        updateCount += platform.executeBatchWithReliableCount(pstmt);
+                    }
+                }
+                if (batchCount % batchUpdateSize > 0) {
+                    updateCount += platform.executeBatchWithReliableCount(pstmt);
+                }
+            } finally {
+                DataSourceProvider.closeStatement(pstmt);
+            }
+        }
+        return updateCount;
+    }
+
+    /**
+     * Resolves the parameter indexes for the columns bound by the given parameter binder once per statement,
+     * so binding the Beans does not require a lookup by column name.
+     *
+     * @param pParameterBinder the parameter binder
+     * @param pFieldName2ParameterIndex the mapping from the column names to the parameter indexes
+     * @param pOffset the offset added to every parameter index, i.e. for the rows of a multi-row insert
+     * @return the parameter indexes aligned with the column names of the parameter binder
+     */
+    private int[] resolveParameterIndexes(final IParameterBinder<IBean> pParameterBinder,
+                                          final Map<String, Integer> pFieldName2ParameterIndex,
+                                          final int pOffset) {
+
+        final String[] columnNames = pParameterBinder.getColumnNames();
+        final int[] parameterIndexes = new int[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            final Integer parameterIndex = pFieldName2ParameterIndex.get(columnNames[i]);
+            if (parameterIndex != null) {
+                parameterIndexes[i] = parameterIndex + pOffset;
+            }
+        }
+        return parameterIndexes;
+    }
+
+    /**
+     * Complements the parameters bound by a parameter binder with the values provided by NoORM,
+     * i.e. primary key values retrieved from a sequence and version column values.
+     *
+     * @return the version column value of the Bean prior to this operation
+     */
+    private Object bindGeneratedValues(final IParameterBinder<IBean> pParameterBinder,
+                                       final PreparedStatement pStmt,
+                                       final IBean pBean,
+                                       final BatchType pBatchType,
+                                       final Map<String, Integer> pFieldName2ParameterIndex,
+                                       final Map<String, JDBCColumn> pBeanJDBCMetaData) throws SQLException {
+
+        final IPlatform platform = DataSourceProvider.getPlatform();
+        final String sequenceName = pBean.getSequenceName();
+        if (pBatchType.equals(BatchType.INSERT) && sequenceName != null && !sequenceName.isEmpty()
+                && !pBean.useInlineSequenceValueGeneration()) {
+            final String[] primaryKeyJavaNames = pBean.getPrimaryKeyJavaNames();
+            for (final String pkColumnName : pBean.getPrimaryKeyColumnNames()) {
+                final Integer parameterIndex = pFieldName2ParameterIndex.get(pkColumnName);
+                if (parameterIndex == null) {
+                    continue;
+                }
+                final Class primaryKeyType = BeanMetaDataUtil.getBeanPropertyType(pBean, primaryKeyJavaNames[0]);
+                final Number sequenceValue = DataSourceProvider
+                        .getNextSequenceValue(sequenceName, pBean.getSequenceIncrement(), primaryKeyType);
+                BeanMetaDataUtil.setPrimaryKeyValue(pBean, sequenceValue);
+                platform.setObject(pStmt, sequenceValue, parameterIndex,
+                        pBeanJDBCMetaData.get(pkColumnName).dataType());
+            }
+        }
+        final String versionColumnName = pBean.getVersionColumnName();
+        if (versionColumnName == null || versionColumnName.isEmpty()) {
+            return null;
+        }
+        final Object versionColumnValue = pParameterBinder.getValue(pBean, versionColumnName);
+        final Integer parameterIndex = pFieldName2ParameterIndex.get(versionColumnName);
+        if (parameterIndex != null) {
+            final int dataType = pBeanJDBCMetaData.get(versionColumnName).dataType();
+            if (pBatchType.equals(BatchType.INSERT) && versionColumnValue == null) {
+                // When the version column has not been initialized by the caller, we set it here, otherwise
+                // NULL in the version column will result in an VERSION_COLUMN_NULL exception with the next update.
+                final Object newVersion = buildVersionColumnValue(pBean, pBatchType, null);
+                platform.setObject(pStmt, newVersion, parameterIndex, dataType);
+            }
+            if (pBatchType.equals(BatchType.UPDATE)) {
+                if (versionColumnValue == null) {
+                    throw new DataAccessException(DataAccessException.Type.VERSION_COLUMN_NULL);
+                }
+                final Object newVersion = buildVersionColumnValue(pBean, pBatchType, versionColumnValue);
+                platform.setObject(pStmt, newVersion, parameterIndex, dataType);
+            }
+        }
+        return versionColumnValue;
     }
 
     private Object buildVersionColumnValue(final IBean pBean, final BatchType pBatchType, final Object pOldValue) {
 
         Object value;
         final JDBCType versionColumnType = pBean.getVersionColumnType();
-        if (versionColumnType.equals(JDBCType.NUMERIC)) {
+        if (versionColumnType.equals(JDBCType.NUMERIC) || versionColumnType.equals(JDBCType.BIGINT)) {
             if (pBatchType.equals(BatchType.INSERT)) {
                 value = VERSION_COLUMN_LONG_DEFAULT;
             } else { // BatchType.UPDATE
@@ -608,8 +1284,14 @@ public class JDBCDMLProcessor<T> {
 
     private enum BatchType {
 
-        INSERT,
-        UPDATE,
-        DELETE
+        INSERT(NoormMetrics.Operation.INSERT),
+        UPDATE(NoormMetrics.Operation.UPDATE),
+        DELETE(NoormMetrics.Operation.DELETE);
+
+        private final NoormMetrics.Operation operation;
+
+        BatchType(final NoormMetrics.Operation pOperation) {
+            operation = pOperation;
+        }
     }
 }
@@ -12,9 +12,12 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Processor for JDBC database access.
@@ -30,7 +33,6 @@ public class JDBCProcedureProcessor<T> {
 
 	private static JDBCProcedureProcessor statementProcessor = new JDBCProcedureProcessor();
 
-	private final StatementBuilder statementBuilder = new StatementBuilder();
 	private final LoggingHelper loggingHelper = new LoggingHelper();
 
 	private JDBCProcedureProcessor() {
@@ -53,6 +55,20 @@ public class JDBCProcedureProcessor<T> {
 		callProcedure(pCallable, null, pInParameters, null);
 	}
 
+	/**
+	 * Asynchronous variant of callProcedure (see DataSourceProvider.supplyAsync). The procedure is called
+	 * using a database connection of its own, i.e. outside of the user managed transaction of the calling thread.
+	 *
+	 * @param pCallable the name of PL/SQL procedure or the notation PACKAGENAME.PROCEDURE.
+	 * @param pInParameters  the map containing all IN parameters.
+	 * @return the future indicating the termination of the procedure call.
+	 */
+	public CompletableFuture<Void> callProcedureAsync(final String pCallable,
+                                                      final Map<String, Object> pInParameters) {
+
+		return DataSourceProvider.runAsync(() -> callProcedure(pCallable, pInParameters));
+	}
+
 	/**
 	 * Call a PL/SQL procedure with a scalar OUT parameter or without OUT parameter.
 	 *
@@ -84,18 +100,22 @@ public class JDBCProcedureProcessor<T> {
 			loggingHelper.debugProcedureCall(pCallable, pInParameters, null);
 		}
 
+		final long startTime = DataSourceProvider.startMetricsTimer();
+		final SlowCallTimer slowCallTimer = DataSourceProvider.startSlowCallTimer();
 		boolean success = true;
+		String procedureCall = null;
 		Connection con = null;
 		CallableStatement cstmt = null;
 		try {
 			con = DataSourceProvider.getConnection();
-			final String procedureCall = statementBuilder.buildProcedureCall
-                    (pCallable, pOutParamName, pInParameters);
+			slowCallTimer.acquired();
+			procedureCall = DataSourceProvider.getPlatform()
+					.buildProcedureCall(pCallable, pOutParamName, pInParameters);
 			if (log.isDebugEnabled()) {
 				log.debug("Preparing and executing PL/SQL Call: ".concat(procedureCall)
                         .concat("; using connection : ".concat(con.toString())));
 			}
-			cstmt = con.prepareCall(procedureCall);
+			cstmt = DataSourceProvider.prepareCall(con, procedureCall);
 
 			int parameterIndex = 1;
 			if (pOutParamName != null) {
@@ -112,13 +132,16 @@ public class JDBCProcedureProcessor<T> {
 			if (pInParameters != null) {
 				bindParameters(pInParameters, cstmt, parameterIndex);
 			}
+			slowCallTimer.prepared();
 
 			cstmt.execute();
+			slowCallTimer.executed();
 
 			T outValue = null;
 			if (pOutParamName != null) {
 				outValue = getOutParameter(pOutClass, cstmt);
 			}
+			slowCallTimer.mapped();
 
 			if (log.isDebugEnabled()) {
 				loggingHelper.debugProcedureTermination(pCallable, -1);
@@ -132,17 +155,38 @@ public class JDBCProcedureProcessor<T> {
 		} finally {
 			try {
 				if (cstmt != null) {
-					cstmt.close();
+					DataSourceProvider.closeStatement(cstmt);
 				}
 				if (con != null && !con.isClosed()) {
 					DataSourceProvider.returnConnection(success);
 				}
 			} catch (SQLException ignored) {
 			} // Nothing to do
+			DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.PROCEDURE, pCallable, 0L, success);
+			if (slowCallTimer.finish()) {
+				recordSlowCall(slowCallTimer, pCallable, procedureCall, pInParameters, 0L, success);
+			}
 		}
 
 	}
 
+	/**
+	 * Asynchronous variant of callProcedure (see DataSourceProvider.supplyAsync).
+	 *
+	 * @param pCallable the name of PL/SQL procedure or the notation PACKAGENAME.PROCEDURE.
+	 * @param pOutParamName  the name of the scalar OUT parameter.
+	 * @param pInParameters  the map containing all IN parameters.
+	 * @param pOutClass	  the type of the scalar OUT parameter.
+	 * @return the future providing the scalar data-type returned by the PL/SQL procedure, if any.
+	 */
+	public CompletableFuture<T> callProcedureAsync(final String pCallable,
+                                                   final String pOutParamName,
+                                                   final Map<String, Object> pInParameters,
+                                                   final Class<T> pOutClass) {
+
+		return DataSourceProvider.supplyAsync(() -> callProcedure(pCallable, pOutParamName, pInParameters, pOutClass));
+	}
+
 	private T getOutParameter(final Class<T> pOutClass,
 							  final CallableStatement cstmt) throws SQLException {
 
@@ -209,6 +253,24 @@ public class JDBCProcedureProcessor<T> {
 		return beanList.get(0);
 	}
 
+	/**
+	 * Asynchronous variant of getBeanFromProcedure (see DataSourceProvider.supplyAsync).
+	 *
+	 * @param pCallable the name of PL/SQL procedure or the notation PACKAGENAME.PROCEDURE.
+	 * @param pRefCursorName the parameter name of the procedure out parameter ref cursor.
+	 * @param pInParameters  the map containing all IN parameters.
+	 * @param pBeanClass	 the type of the Bean matching the fields of the ResultSet.
+	 * @return the future providing the Bean containing the retrieved data.
+	 */
+	public CompletableFuture<T> getBeanFromProcedureAsync(final String pCallable,
+                                                          final String pRefCursorName,
+                                                          final Map<String, Object> pInParameters,
+                                                          final Class<T> pBeanClass) {
+
+		return DataSourceProvider.supplyAsync
+				(() -> getBeanFromProcedure(pCallable, pRefCursorName, pInParameters, pBeanClass));
+	}
+
 	/**
 	 * Calls a PL/SQL procedure with a ref cursor as OUT parameter.
 	 *
@@ -250,27 +312,32 @@ public class JDBCProcedureProcessor<T> {
 			loggingHelper.debugProcedureCall(pCallable, pInParameters, pBeanClass);
 		}
 
+		final long startTime = DataSourceProvider.startMetricsTimer();
+		final SlowCallTimer slowCallTimer = DataSourceProvider.startSlowCallTimer();
 		boolean success = true;
-		List<T> beanList;
+		String procedureCall = null;
+		List<T> beanList = null;
 		Connection con = null;
 		CallableStatement cstmt = null;
 		try {
 			con = DataSourceProvider.getConnection();
+			slowCallTimer.acquired();
 			final IPlatform platform = DataSourceProvider.getPlatform();
-			final String procedureCall = statementBuilder.buildProcedureCall
-                    (pCallable, pRefCursorName, pInParameters);
+			procedureCall = platform.buildProcedureCall(pCallable, pRefCursorName, pInParameters);
 			if (log.isDebugEnabled()) {
                 log.debug("Preparing and executing PL/SQL Call: ".concat(procedureCall)
                         .concat("; using connection : ".concat(con.toString())));
 			}
-			cstmt = con.prepareCall(procedureCall);
+			cstmt = DataSourceProvider.prepareCall(con, procedureCall);
 
 			int parameterIndex = 1;
             cstmt.registerOutParameter(parameterIndex++, platform.getRefCursorJDBCType());
 
 			bindParameters(pInParameters, cstmt, parameterIndex);
+			slowCallTimer.prepared();
 
 			cstmt.execute();
+			slowCallTimer.executed();
 
 			ResultSet rs;
             rs = (ResultSet) cstmt.getObject(1);
@@ -280,6 +347,7 @@ public class JDBCProcedureProcessor<T> {
 				beanList = new ArrayList<T>();
 			}
 			rs.close();
+			slowCallTimer.mapped();
 
 			if (log.isDebugEnabled()) {
 				loggingHelper.debugProcedureTermination(pCallable, beanList.size());
@@ -293,13 +361,133 @@ public class JDBCProcedureProcessor<T> {
 		} finally {
 			try {
 				if (cstmt != null) {
-					cstmt.close();
+					DataSourceProvider.closeStatement(cstmt);
 				}
 				if (con != null && !con.isClosed()) {
 					DataSourceProvider.returnConnection(success);
 				}
 			} catch (SQLException ignored) {
 			} // Nothing to do
+			final long rowCount = beanList == null ? 0L : beanList.size();
+			DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.PROCEDURE, pCallable, rowCount, success);
+			if (slowCallTimer.finish()) {
+				recordSlowCall(slowCallTimer, pCallable, procedureCall, pInParameters, rowCount, success);
+			}
+		}
+	}
+
+	private void recordSlowCall(final SlowCallTimer pSlowCallTimer,
+								final String pCallable,
+								final String pProcedureCall,
+								final Map<String, Object> pInParameters,
+								final long pRowCount,
+								final boolean pSuccess) {
+
+		Collection<Map.Entry<String, Object>> bindValues = null;
+		if (pInParameters != null) {
+			bindValues = new TreeMap<>(pInParameters).entrySet();
+		}
+		pSlowCallTimer.record(pCallable, pProcedureCall, bindValues, pRowCount, pSuccess);
+	}
+
+	/**
+	 * Asynchronous variant of getBeanListFromProcedure (see DataSourceProvider.supplyAsync).
+	 *
+	 * @param pCallable the name of PL/SQL procedure or the notation PACKAGENAME.PROCEDURE.
+	 * @param pRefCursorName the parameter name of the procedure out parameter ref cursor.
+	 * @param pInParameters  the map containing all IN parameters.
+	 * @param pBeanClass	 the type of the Bean matching the fields of the ResultSet.
+	 * @return the future providing the list of Beans containing the retrieved data.
+	 */
+	public CompletableFuture<List<T>> getBeanListFromProcedureAsync(final String pCallable,
+                                                                    final String pRefCursorName,
+                                                                    final Map<String, Object> pInParameters,
+                                                                    final Class<T> pBeanClass) {
+
+		return DataSourceProvider.supplyAsync
+				(() -> getBeanListFromProcedure(pCallable, pRefCursorName, pInParameters, pBeanClass));
+	}
+
+	/**
+	 * Calls a PL/SQL procedure with a ref cursor as OUT parameter and provides the results as a Stream.
+	 * Rows are mapped lazily, while the Stream is consumed. Like for JDBCQueryProcessor.streamBeansFromSQL,
+	 * the Stream uses a dedicated database connection outside of a user managed transaction, which is held
+	 * until the Stream is closed or completely consumed, so the Stream should always be used in a
+	 * try-with-resources block. Within a user managed transaction, the Stream must be consumed and closed by
+	 * the calling thread before the transaction is terminated.
+	 *
+	 * @param pCallable the name of PL/SQL procedure or the notation PACKAGENAME.PROCEDURE.
+	 * @param pRefCursorName the parameter name of the procedure out parameter ref cursor.
+	 * @param pInParameters  the map containing all IN parameters.
+	 * @param pBeanClass	 the type of the Bean matching the fields of the ResultSet.
+	 * @return The Stream of Beans containing the retrieved data.
+	 */
+	public Stream<T> streamBeansFromProcedure(final String pCallable,
+											  final String pRefCursorName,
+											  final Map<String, Object> pInParameters,
+											  final Class<T> pBeanClass) {
+
+		try {
+			if (pCallable == null || pCallable.isEmpty()) {
+				throw new IllegalArgumentException("Parameter [pCallable] must not be null.");
+			}
+			if (pRefCursorName == null || pRefCursorName.isEmpty()) {
+				throw new IllegalArgumentException("Parameter [pRefCursorName] must not be null.");
+			}
+			if (pBeanClass == null) {
+				throw new IllegalArgumentException("Parameter [pBeanClass] must not be null.");
+			}
+			if (pInParameters == null) {
+				throw new IllegalArgumentException("Parameter [pInParameters] must not be null.");
+			}
+		} catch (IllegalArgumentException e) {
+			throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL, e);
+		}
+
+		if (log.isDebugEnabled()) {
+			loggingHelper.debugProcedureCall(pCallable, pInParameters, pBeanClass);
+		}
+
+		final long startTime = DataSourceProvider.startMetricsTimer();
+		Connection dedicatedCon = null;
+		CallableStatement cstmt = null;
+		try {
+			if (!DataSourceProvider.activeUserManagedTransaction()) {
+				dedicatedCon = DataSourceProvider.acquireDedicatedConnection();
+			}
+			final Connection con = dedicatedCon != null ? dedicatedCon : DataSourceProvider.getConnection();
+			final IPlatform platform = DataSourceProvider.getPlatform();
+			final String procedureCall = platform.buildProcedureCall(pCallable, pRefCursorName, pInParameters);
+			if (log.isDebugEnabled()) {
+				log.debug("Preparing and executing PL/SQL Call: ".concat(procedureCall)
+						.concat("; using connection : ".concat(con.toString())));
+			}
+			cstmt = DataSourceProvider.prepareCall(con, procedureCall);
+
+			int parameterIndex = 1;
+			cstmt.registerOutParameter(parameterIndex++, platform.getRefCursorJDBCType());
+
+			bindParameters(pInParameters, cstmt, parameterIndex);
+
+			cstmt.execute();
+
+			final ResultSet rs = (ResultSet) cstmt.getObject(1);
+			rs.setFetchSize(DataSourceProvider.getStreamFetchSize());
+			return new BeanStreamIterator<>(pCallable, dedicatedCon, cstmt, rs, pBeanClass, false,
+					NoormMetrics.Operation.PROCEDURE, startTime).toStream();
+		} catch (Exception e) {
+			log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), e);
+			try {
+				if (cstmt != null) {
+					DataSourceProvider.closeStatement(cstmt);
+				}
+			} catch (SQLException ignored) {
+			} // Nothing to do
+			if (dedicatedCon != null) {
+				DataSourceProvider.releaseDedicatedConnection(dedicatedCon, false);
+			}
+			DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.PROCEDURE, pCallable, 0L, false);
+			throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, e);
 		}
 	}
 
@@ -5,10 +5,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 /**
  * Processor for JDBC database access.
@@ -22,10 +33,14 @@ public class JDBCQueryProcessor<T> {
 
 	private static final Logger log = LoggerFactory.getLogger(JDBCQueryProcessor.class);
     private static final boolean USE_NAMED_PARAMETERS = false;
+    // Suffix for the (synthetic) query column name of the partition predicate, which must not collide with
+    // a query column declared for the partition column
+    private static final String PARTITION_KEY_SUFFIX = "#partition";
 
 	private static JDBCQueryProcessor queryProcessor = new JDBCQueryProcessor();
     private final Utils utils = new Utils();
     private final LoggingHelper loggingHelper = new LoggingHelper();
+    private final StatementBuilder statementBuilder = new StatementBuilder();
 
     private JDBCQueryProcessor() { }
 
@@ -72,64 +87,507 @@ public class JDBCQueryProcessor<T> {
                                       final Class<T> pBeanClass,
                                       final boolean pAcquireLock,
                                       final FilterExtension pFilterExtension) {
+
+        return getBeanListFromSQL(pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension, false);
+    }
+
+    /**
+     * Asynchronous variant of getBeanListFromSQL (see DataSourceProvider.supplyAsync). Since the query is
+     * executed with its own database connection, an acquired lock is released, when the query terminates.
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @return the future providing a list containing the results of type pBeanClass
+     */
+    public CompletableFuture<List<T>> getBeanListFromSQLAsync(final String pTableName,
+                                                              final Map<QueryColumn, Object> pQueryParameters,
+                                                              final Class<T> pBeanClass,
+                                                              final boolean pAcquireLock) {
+
+        return getBeanListFromSQLAsync(pTableName, pQueryParameters, pBeanClass, pAcquireLock, null);
+    }
+
+    /**
+     * Asynchronous variant of getBeanListFromSQL (see DataSourceProvider.supplyAsync).
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @param pFilterExtension additional parameters for paging and sorting
+     * @return the future providing a list containing the results of type pBeanClass
+     */
+    public CompletableFuture<List<T>> getBeanListFromSQLAsync(final String pTableName,
+                                                              final Map<QueryColumn, Object> pQueryParameters,
+                                                              final Class<T> pBeanClass,
+                                                              final boolean pAcquireLock,
+                                                              final FilterExtension pFilterExtension) {
+
+        return DataSourceProvider.supplyAsync(() -> getBeanListFromSQL
+                (pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension));
+    }
+
+    /**
+     * Executes a generic SQL statement for the given table (or view) name with the given query parameters
+     * (see above). With pUseResultCache, the results are provided by the query result cache of the data source,
+     * when available. The cache is intended for mostly static data like reference data. Cached results are
+     * invalidated, when the table is modified with the JDBCDMLProcessor. Modifications bypassing NoORM are
+     * recognized after the time-to-live of the cached results only (see
+     * DataSourceProvider.setQueryResultCacheTimeToLive). The cache holds copies of the retrieved Beans and every
+     * caller gets its own Bean instances, so the provided Beans can be modified like any other query result.
+     * Queries acquiring a lock and queries on tables modified in the active user managed transaction are
+     * always executed against the database.
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @param pFilterExtension additional parameters for paging and sorting
+     * @param pUseResultCache flag to indicate, whether the query result cache should be used
+     * @return a list containing the results of type pBeanClass
+     */
+    public List<T> getBeanListFromSQL(final String pTableName,
+                                      final Map<QueryColumn, Object> pQueryParameters,
+                                      final Class<T> pBeanClass,
+                                      final boolean pAcquireLock,
+                                      final FilterExtension pFilterExtension,
+                                      final boolean pUseResultCache) {
+
+        validateParameters(pTableName, pQueryParameters, pBeanClass);
+        validateKeyset(pFilterExtension);
+        if (!pUseResultCache || pAcquireLock || DataSourceProvider.isModifiedInActiveTransaction(pTableName)) {
+            return executeQuery(pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension);
+        }
+        final QueryResultCache queryResultCache = DataSourceProvider.getQueryResultCache();
+        final Object cacheKey = buildResultCacheKey(pTableName, pQueryParameters, pBeanClass, pFilterExtension);
+        final List<Object> cachedResult = queryResultCache.get(cacheKey, pTableName);
+        if (cachedResult != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Using cached query result for table ".concat(pTableName));
+            }
+            final List<T> beanList = new ArrayList<>(cachedResult.size());
+            for (final Object bean : cachedResult) {
+                beanList.add((T) bean);
+            }
+            return beanList;
+        }
+        // The table version is determined before the query is executed, so a concurrent modification
+        // prevents caching of the (possibly outdated) result
+        final long tableVersion = queryResultCache.getTableVersion(pTableName);
+        final List<T> beanList =
+                executeQuery(pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension);
+        queryResultCache.put(cacheKey, pTableName, tableVersion, beanList,
+                DataSourceProvider.getQueryResultCacheTimeToLive(), DataSourceProvider.getQueryResultCacheSize());
+        return beanList;
+    }
+
+    /**
+     * Executes a generic SQL statement for the given table (or view) name with the given query parameters (see
+     * getBeanListFromSQL) in parallel. The query is split into the given number of partitions based on a hash of
+     * the partition column (see IPlatform.buildPartitionExpression). The partitions are executed concurrently
+     * by the executor for asynchronous database calls (see DataSourceProvider.setAsyncExecutor), each partition
+     * using its own database connection, and the partial results are merged into one list.
+     * With sort criteria, the partial results are merged in sort order, comparing the Java values of the sort
+     * columns. The merged order is only equal to the order of the database for numeric and temporal values, so
+     * sort criteria referring to columns of other types (e.g. character data subject to the collation of the
+     * database) or to nullable columns (the ordering of null values depends on the database) are rejected with
+     * DataAccessException.Type.ILLEGAL_SORT_CRITERIA before the query is executed. Since the requested page can
+     * only be determined after the merge, every partition provides the rows up to the end of the page, i.e. a
+     * page costs up to pPartitionCount * (offset + limit) rows. Without sort criteria, the partitions are not
+     * paged at all. In both cases, offset and limit are applied to the merged result. For the total count
+     * strategy WINDOW, the paging total is the sum of the partition totals. Note that the default limit of a
+     * FilterExtension is FilterExtension.UNLIMITED (1024 rows), so
+     * large reads (e.g. data exports) must either omit the FilterExtension or set an explicit limit, otherwise
+     * the result is truncated.
+     * Parallel execution is intended for large read-only queries (e.g. data exports), where a single cursor is
+     * the bottleneck. Within a user managed transaction and for keyset paging, the query is executed
+     * sequentially, since the partitions would not see uncommitted changes of the transaction, resp. keyset
+     * paging requires a single cursor.
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pPartitionColumn the column used to partition the query, preferably a not nullable key column
+     * @param pPartitionCount the number of partitions, the size of the async pool (see
+     *                        DataSourceProvider.setAsyncPoolSize) for values less than 1
+     * @param pFilterExtension additional parameters for paging and sorting
+     * @return a list containing the results of type pBeanClass
+     */
+    public List<T> getBeanListFromSQLParallel(final String pTableName,
+                                              final Map<QueryColumn, Object> pQueryParameters,
+                                              final Class<T> pBeanClass,
+                                              final String pPartitionColumn,
+                                              final int pPartitionCount,
+                                              final FilterExtension pFilterExtension) {
+
+        validateParameters(pTableName, pQueryParameters, pBeanClass);
+        if (pPartitionColumn == null || pPartitionColumn.isEmpty()) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL,
+                    new IllegalArgumentException("Parameter [pPartitionColumn] must not be null."));
+        }
+        int partitionCount = pPartitionCount;
+        if (partitionCount < 1) {
+            partitionCount = DataSourceProvider.getAsyncPoolSize();
+        }
+        if (partitionCount < 2 || DataSourceProvider.activeUserManagedTransaction()
+                || (pFilterExtension != null && pFilterExtension.isKeysetPaging())) {
+            return getBeanListFromSQL(pTableName, pQueryParameters, pBeanClass, false, pFilterExtension);
+        }
+        final List<FilterExtension.SortCriteria> sortCriteria = new ArrayList<>();
+        if (pFilterExtension != null) {
+            resolveSortCriteria(pBeanClass, pFilterExtension);
+            validateMergeableSortCriteria(pBeanClass, pFilterExtension.getSortCriteria());
+            sortCriteria.addAll(pFilterExtension.getSortCriteria());
+        }
+
+        final String partitionExpression =
+                DataSourceProvider.getPlatform().buildPartitionExpression(pPartitionColumn, partitionCount);
+        final List<CompletableFuture<List<T>>> partitionFutures = new ArrayList<>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            // Rows with a null value in the partition column are assigned to the first partition
+            String partitionPredicate = partitionExpression.concat(" = ").concat(Integer.toString(partition));
+            if (partition == 0) {
+                partitionPredicate = "(".concat(partitionPredicate).concat(" OR ")
+                        .concat(pPartitionColumn).concat(" IS NULL)");
+            }
+            final Operator partitionOperator = new Operator(Operator.Name.CUSTOM);
+            partitionOperator.setUnary(true);
+            final Map<QueryColumn, Object> partitionParameters = new HashMap<>(pQueryParameters);
+            partitionParameters.put(new QueryColumn(pPartitionColumn.concat(PARTITION_KEY_SUFFIX),
+                    partitionOperator, partitionPredicate), null);
+            final FilterExtension partitionFilterExtension = createPartitionFilterExtension(pFilterExtension);
+            partitionFutures.add(DataSourceProvider.supplyAsync(() -> executeQuery
+                    (pTableName, partitionParameters, pBeanClass, false, partitionFilterExtension)));
+        }
+        final List<List<T>> partitionResults = new ArrayList<>(partitionCount);
         try {
-            if (pTableName == null || pTableName.isEmpty()) {
-                throw new IllegalArgumentException("Parameter [pTableName] must not be null.");
+            for (final CompletableFuture<List<T>> partitionFuture : partitionFutures) {
+                partitionResults.add(partitionFuture.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataAccessException) {
+                throw (DataAccessException) e.getCause();
+            }
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, e.getCause());
+        }
+
+        int offset = 0;
+        int limit = Integer.MAX_VALUE;
+        if (pFilterExtension != null) {
+            offset = pFilterExtension.getOffset();
+            limit = pFilterExtension.getLimit();
+        }
+        final List<T> beanList = mergePartitionResults(partitionResults, pBeanClass, sortCriteria, offset, limit);
+        if (pFilterExtension != null && pFilterExtension.isPagingTotalSupported()) {
+            setMergedPagingTotal(beanList, pBeanClass, partitionResults, !sortCriteria.isEmpty());
+        }
+        if (log.isDebugEnabled()) {
+            debugSQLTermination(pTableName, beanList.size());
+        }
+        return beanList;
+    }
+
+    private void validateMergeableSortCriteria(final Class<T> pBeanClass,
+                                               final List<FilterExtension.SortCriteria> pSortCriteria) {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBeanClass);
+        for (final FilterExtension.SortCriteria sortCriteria : pSortCriteria) {
+            final BeanMetadata.Column column = beanMetadata.getColumn(sortCriteria.getColumnName());
+            final Class<?> type = column.getType();
+            if (!isOrderedLikeDatabase(type)) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA,
+                        "Sort criteria [".concat(sortCriteria.getAttributeName())
+                                .concat("] cannot be used for parallel queries, the order of type ")
+                                .concat(type.getName()).concat(" may differ from the order of the database."));
             }
+            if (!type.isPrimitive() && column.getJDBCColumn().nullable()) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA,
+                        "Sort criteria [".concat(sortCriteria.getAttributeName())
+                                .concat("] cannot be used for parallel queries, the column is nullable."));
+            }
+        }
+    }
+
+    private static boolean isOrderedLikeDatabase(final Class<?> pType) {
+
+        if (pType.isPrimitive()) {
+            return pType != boolean.class && pType != char.class;
+        }
+        return Number.class.isAssignableFrom(pType) && Comparable.class.isAssignableFrom(pType)
+                || java.util.Date.class.isAssignableFrom(pType)
+                || pType == LocalDate.class
+                || pType == LocalDateTime.class
+                || pType == LocalTime.class
+                || pType == Instant.class;
+    }
+
+    private FilterExtension createPartitionFilterExtension(final FilterExtension pFilterExtension) {
+
+        // Without sort criteria, the rows of the requested page cannot be determined per partition, so
+        // offset and limit are only applied to the merged result
+        if (pFilterExtension == null || pFilterExtension.getSortCriteria().isEmpty()) {
+            return null;
+        }
+        // Every partition provides the rows up to the end of the requested page, since the page
+        // can only be determined after the merge
+        final FilterExtension partitionFilterExtension = new FilterExtension();
+        partitionFilterExtension.setLimit(pFilterExtension.getOffset() + pFilterExtension.getLimit());
+        partitionFilterExtension.setIsPagingTotalSupported(pFilterExtension.isPagingTotalSupported());
+        for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
+            partitionFilterExtension.addSortCriteria(sortCriteria.getAttributeName(), sortCriteria.getDirection());
+        }
+        return partitionFilterExtension;
+    }
+
+    private List<T> mergePartitionResults(final List<List<T>> pPartitionResults,
+                                          final Class<T> pBeanClass,
+                                          final List<FilterExtension.SortCriteria> pSortCriteria,
+                                          final int pOffset,
+                                          final int pLimit) {
+
+        int size = 0;
+        for (final List<T> partitionResult : pPartitionResults) {
+            size += partitionResult.size();
+        }
+        final List<T> beanList = new ArrayList<>(Math.max(0, Math.min(size - pOffset, pLimit)));
+        int skip = pOffset;
+        if (pSortCriteria.isEmpty()) {
+            for (final List<T> partitionResult : pPartitionResults) {
+                for (final T bean : partitionResult) {
+                    if (beanList.size() >= pLimit) {
+                        return beanList;
+                    }
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        beanList.add(bean);
+                    }
+                }
+            }
+            return beanList;
+        }
+        // Ordered k-way merge of the sorted partition results
+        final Comparator<T> beanComparator = createBeanComparator(pBeanClass, pSortCriteria);
+        final PriorityQueue<PartitionCursor<T>> cursors = new PriorityQueue<>(pPartitionResults.size(),
+                (pCursor0, pCursor1) -> beanComparator.compare(pCursor0.current(), pCursor1.current()));
+        for (final List<T> partitionResult : pPartitionResults) {
+            if (!partitionResult.isEmpty()) {
+                cursors.add(new PartitionCursor<>(partitionResult));
+            }
+        }
+        while (!cursors.isEmpty() && beanList.size() < pLimit) {
+            final PartitionCursor<T> cursor = cursors.poll();
+            if (skip > 0) {
+                skip--;
+            } else {
+                beanList.add(cursor.current());
+            }
+            if (cursor.next()) {
+                cursors.add(cursor);
+            }
+        }
+        return beanList;
+    }
+
+    private void setMergedPagingTotal(final List<T> pBeanList,
+                                      final Class<T> pBeanClass,
+                                      final List<List<T>> pPartitionResults,
+                                      final boolean pPartitionsPaged) {
+
+        final BeanMetadata.Column pagingTotalColumn = BeanMetadata.forClass(pBeanClass).getColumn(IBean.PAGING_TOTAL);
+        if (pagingTotalColumn == null || pBeanList.isEmpty()) {
+            return;
+        }
+        // Paged partitions provide their own paging total, otherwise the partitions are complete
+        int pagingTotal = 0;
+        for (final List<T> partitionResult : pPartitionResults) {
+            if (!pPartitionsPaged) {
+                pagingTotal += partitionResult.size();
+            } else if (!partitionResult.isEmpty()) {
+                final Number partitionTotal = (Number) pagingTotalColumn.getValue(partitionResult.get(0));
+                if (partitionTotal != null) {
+                    pagingTotal += partitionTotal.intValue();
+                }
+            }
+        }
+        for (final T bean : pBeanList) {
+            pagingTotalColumn.setValue(bean, pagingTotal);
+        }
+    }
+
+    private Comparator<T> createBeanComparator(final Class<T> pBeanClass,
+                                               final List<FilterExtension.SortCriteria> pSortCriteria) {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBeanClass);
+        final List<BeanMetadata.Column> sortColumns = new ArrayList<>();
+        for (final FilterExtension.SortCriteria sortCriteria : pSortCriteria) {
+            sortColumns.add(beanMetadata.getColumn(sortCriteria.getColumnName()));
+        }
+        return (pBean0, pBean1) -> {
+            for (int i = 0; i < sortColumns.size(); i++) {
+                final Comparable<Object> value0 = (Comparable<Object>) sortColumns.get(i).getValue(pBean0);
+                final Comparable<Object> value1 = (Comparable<Object>) sortColumns.get(i).getValue(pBean1);
+                // Sort columns are not nullable (see validateMergeableSortCriteria)
+                int result = value0.compareTo(value1);
+                if (pSortCriteria.get(i).getDirection() == FilterExtension.Direction.DESC) {
+                    result = -result;
+                }
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Retrieves the Bean with the given primary key. When the entity cache is enabled for the Bean class (see
+     * DataSourceProvider.enableEntityCache), the Bean is provided by the entity cache, when available. Beans
+     * retrieved from the database are added to the cache. Every call returns a new Bean instance, so in contrast
+     * to the query result cache, the returned Bean may be modified by the caller.
+     * Within a user managed transaction, which has modified Beans of the given class, the Bean is always
+     * retrieved from the database.
+     *
+     * @param pBeanClass the return type
+     * @param pPrimaryKey the primary key values in the order of the primary key columns of the Bean
+     * @return the Bean with the given primary key or null, when no such Bean exists
+     */
+    public T getBeanByPrimaryKey(final Class<T> pBeanClass, final Object... pPrimaryKey) {
+
+        try {
             if (pBeanClass == null) {
                 throw new IllegalArgumentException("Parameter [pBeanClass] must not be null.");
             }
-            if (pQueryParameters == null) {
-                throw new IllegalArgumentException("Parameter [pQueryParameters] must not be null.");
+            if (pPrimaryKey == null || pPrimaryKey.length == 0) {
+                throw new IllegalArgumentException("Parameter [pPrimaryKey] must not be null.");
             }
         } catch (IllegalArgumentException e) {
             throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL, e);
         }
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBeanClass);
+        final int[] primaryKeyColumnIndexes = beanMetadata.getPrimaryKeyColumnIndexes();
+        if (primaryKeyColumnIndexes.length == 0) {
+            throw new DataAccessException(DataAccessException.Type.OPERATION_NOT_SUPPORTED_WITHOUT_PK,
+                    pBeanClass.getName());
+        }
+        if (primaryKeyColumnIndexes.length != pPrimaryKey.length) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL,
+                    new IllegalArgumentException("Number of primary key values does not match primary key of "
+                            .concat(pBeanClass.getName())));
+        }
+
+        final EntityCache entityCache = DataSourceProvider.getEntityCache();
+        final boolean useEntityCache = entityCache.isEnabled(pBeanClass)
+                && !DataSourceProvider.isEntityModifiedInActiveTransaction(pBeanClass);
+        if (useEntityCache) {
+            final T cachedBean = entityCache.get(pBeanClass, pPrimaryKey);
+            if (cachedBean != null) {
+                return cachedBean;
+            }
+        }
+        // The version is determined before the query is executed, so a concurrent modification prevents
+        // caching of the (possibly outdated) Bean
+        final long version = entityCache.getVersion(pBeanClass);
+        final BeanMetadata.Column[] columns = beanMetadata.getColumns();
+        final Map<QueryColumn, Object> queryParameters = new HashMap<>();
+        for (int i = 0; i < primaryKeyColumnIndexes.length; i++) {
+            final String columnName = columns[primaryKeyColumnIndexes[i]].getName();
+            queryParameters.put(new QueryColumn(columnName, new Operator(Operator.Name.EQUAL_TO), null),
+                    pPrimaryKey[i]);
+        }
+        final String tableName = beanMetadata.getTableName();
+        validateParameters(tableName, queryParameters, pBeanClass);
+        final List<T> beanList = executeQuery(tableName, queryParameters, pBeanClass, false, null);
+        if (beanList.isEmpty()) {
+            return null;
+        }
+        if (beanList.size() > 1) {
+            throw new DataAccessException(DataAccessException.Type.MULTIPLE_RECORDS_FOUND);
+        }
+        final T bean = beanList.get(0);
+        if (useEntityCache) {
+            entityCache.putIfUnmodified(bean, version, DataSourceProvider.getEntityCacheSize());
+        }
+        return bean;
+    }
+
+    /**
+     * Asynchronous variant of getBeanByPrimaryKey (see DataSourceProvider.supplyAsync).
+     *
+     * @param pBeanClass the return type
+     * @param pPrimaryKey the primary key values in the order of the primary key columns of the Bean
+     * @return the future providing the Bean with the given primary key or null
+     */
+    public CompletableFuture<T> getBeanByPrimaryKeyAsync(final Class<T> pBeanClass, final Object... pPrimaryKey) {
+
+        return DataSourceProvider.supplyAsync(() -> getBeanByPrimaryKey(pBeanClass, pPrimaryKey));
+    }
+
+    private Object buildResultCacheKey(final String pTableName,
+                                       final Map<QueryColumn, Object> pQueryParameters,
+                                       final Class<T> pBeanClass,
+                                       final FilterExtension pFilterExtension) {
+
+        final Map<QueryColumn, Object> orderedQueryParameters = new TreeMap<>(pQueryParameters);
+        final List<Object> cacheKey = new ArrayList<>();
+        cacheKey.add(pBeanClass);
+        cacheKey.add(StatementPlanCache.buildQueryKey(pTableName, orderedQueryParameters, false, null));
+        cacheKey.add(utils.getQueryParameterValues(orderedQueryParameters));
+        if (pFilterExtension != null) {
+            cacheKey.add(pFilterExtension.getOffset());
+            cacheKey.add(pFilterExtension.getLimit());
+            cacheKey.add(pFilterExtension.getTotalLimit());
+            cacheKey.add(pFilterExtension.getTotalCountStrategy());
+            for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
+                cacheKey.add(sortCriteria.getAttributeName());
+                cacheKey.add(sortCriteria.getDirection());
+            }
+            cacheKey.add(pFilterExtension.isKeysetPaging());
+            if (pFilterExtension.hasKeysetValues()) {
+                cacheKey.add(new ArrayList<>(pFilterExtension.getKeysetValues()));
+            }
+        }
+        return cacheKey;
+    }
+
+    private List<T> executeQuery(final String pTableName,
+                                 final Map<QueryColumn, Object> pQueryParameters,
+                                 final Class<T> pBeanClass,
+                                 final boolean pAcquireLock,
+                                 final FilterExtension pFilterExtension) {
 
         if (log.isDebugEnabled()) {
             loggingHelper.debugSQLCall(pTableName, pQueryParameters, pBeanClass, pFilterExtension);
         }
 
+        final long startTime = DataSourceProvider.startMetricsTimer();
+        final SlowCallTimer slowCallTimer = DataSourceProvider.startSlowCallTimer();
         boolean success = true;
-        List<T> beanList;
+        List<T> beanList = null;
         Connection con = null;
         PreparedStatement pstmt = null;
         try {
             con = DataSourceProvider.getConnection();
-            final IPlatform platform = DataSourceProvider.getPlatform();
-            if (pFilterExtension != null) {
-                final Map<String, String> javaNames2ColumnNames = BeanMetaDataUtil.getJavaNames2ColumnNames(pBeanClass);
-                for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
-                    final String attributeName = sortCriteria.getAttributeName();
-                    final String columnName = javaNames2ColumnNames.get(attributeName);
-                    if (columnName == null || attributeName == null) {
-                        throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
-                    }
-                    sortCriteria.setColumnName(columnName);
-                }
-            }
-            final String sqlStmt = platform.buildSQLStatement
-                    (pTableName, pQueryParameters, USE_NAMED_PARAMETERS, pAcquireLock, pFilterExtension);
-            if (log.isDebugEnabled()) {
-                log.debug("Preparing and executing SQL statement: ".concat(sqlStmt)
-                        .concat("; using connection : ".concat(con.toString())));
-            }
-            pstmt = con.prepareStatement(sqlStmt);
-
-            int parameterIndex = 1;
-            utils.setQueryParameter(pQueryParameters, pstmt, parameterIndex);
+            slowCallTimer.acquired();
+            pstmt = prepareStatement(con, pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension);
+            slowCallTimer.prepared();
             ResultSet rs = pstmt.executeQuery();
+            slowCallTimer.executed();
 
             final BeanMapper<T> mapper = BeanMapper.getInstance();
             boolean fetchPagingTotal = false;
             if (pFilterExtension != null) {
-                fetchPagingTotal = pFilterExtension.isPagingTotalSupported();
+                // Keyset paging does not count the rows of the complete result set
+                fetchPagingTotal = pFilterExtension.isPagingTotalSupported() && !pFilterExtension.isKeysetPaging();
             }
             beanList = mapper.toBeanList(rs, pBeanClass, fetchPagingTotal);
             if (beanList.isEmpty()) {
                 beanList = new ArrayList<>();
             }
             rs.close();
+            slowCallTimer.mapped();
 
             if (log.isDebugEnabled()) {
                 debugSQLTermination(pTableName, beanList.size());
@@ -143,16 +601,402 @@ public class JDBCQueryProcessor<T> {
         } finally {
             try {
                 if (pstmt != null) {
-                    pstmt.close();
+                    DataSourceProvider.closeStatement(pstmt);
                 }
                 if (con != null && !con.isClosed()) {
                     DataSourceProvider.returnConnection(success);
                 }
             } catch (SQLException ignored) {
             } // Nothing to do
+            final long rowCount = beanList == null ? 0L : beanList.size();
+            DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.QUERY, pTableName, rowCount, success);
+            if (slowCallTimer.finish()) {
+                recordSlowQuery(slowCallTimer, pTableName, pQueryParameters, pAcquireLock, pFilterExtension,
+                        rowCount, success);
+            }
         }
     }
 
+    private void recordSlowQuery(final SlowCallTimer pSlowCallTimer,
+                                 final String pTableName,
+                                 final Map<QueryColumn, Object> pQueryParameters,
+                                 final boolean pAcquireLock,
+                                 final FilterExtension pFilterExtension,
+                                 final long pRowCount,
+                                 final boolean pSuccess) {
+
+        // SQL and bind values are reconstructed for slow queries only to keep regular calls free of overhead
+        String sqlStmt = null;
+        final List<Object> bindValues = new ArrayList<>();
+        try {
+            final Map<QueryColumn, Object> orderedQueryParameters = new TreeMap<>(pQueryParameters);
+            sqlStmt = DataSourceProvider.getPlatform().buildSQLStatement
+                    (pTableName, orderedQueryParameters, USE_NAMED_PARAMETERS, pAcquireLock, pFilterExtension);
+            bindValues.addAll(utils.getQueryParameterValues(orderedQueryParameters));
+            if (pFilterExtension != null && pFilterExtension.hasKeysetValues()) {
+                bindValues.addAll(statementBuilder.getKeysetParameterValues(pFilterExtension.getKeysetValues()));
+            }
+        } catch (RuntimeException ignored) {
+        } // The slow query is recorded with the available information
+        pSlowCallTimer.record(pTableName, sqlStmt, bindValues, pRowCount, pSuccess);
+    }
+
+    /**
+     * Executes a generic SQL statement for the given table (or view) name with the given query parameters and
+     * provides the requested page of the results together with the total number of rows according to the
+     * total count strategy of the given filter extension (see FilterExtension.TotalCountStrategy).
+     * For keyset paging, the page provides the keyset values for the next page, i.e. the sort key values of the
+     * last row of the page. The given filter extension is not modified, the keyset values for the next page
+     * have to be set by the caller (see FilterExtension.setKeysetValues).
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @param pFilterExtension parameters for paging and sorting
+     * @return the requested page
+     */
+    public Page<T> getPageFromSQL(final String pTableName,
+                                  final Map<QueryColumn, Object> pQueryParameters,
+                                  final Class<T> pBeanClass,
+                                  final boolean pAcquireLock,
+                                  final FilterExtension pFilterExtension) {
+
+        if (pFilterExtension == null) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL,
+                    new IllegalArgumentException("Parameter [pFilterExtension] must not be null."));
+        }
+        final List<T> beanList =
+                getBeanListFromSQL(pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension);
+        Long total = null;
+        switch (pFilterExtension.getTotalCountStrategy()) {
+            case WINDOW:
+                if (!beanList.isEmpty() && beanList.get(0) instanceof IBean) {
+                    final Integer pagingTotal = ((IBean) beanList.get(0)).getPagingTotal();
+                    if (pagingTotal != null) {
+                        total = pagingTotal.longValue();
+                    }
+                }
+                break;
+            case EXACT_ONCE:
+            case ESTIMATED:
+                total = getPagingTotal(pTableName, pQueryParameters, pFilterExtension);
+                break;
+            default:
+                break;
+        }
+        final boolean totalEstimated =
+                pFilterExtension.getTotalCountStrategy() == FilterExtension.TotalCountStrategy.ESTIMATED;
+        List<Object> nextKeysetValues = null;
+        if (pFilterExtension.isKeysetPaging()) {
+            nextKeysetValues = getNextKeysetValues(beanList, pBeanClass, pFilterExtension);
+        }
+        return new Page<>(beanList, total, totalEstimated, nextKeysetValues);
+    }
+
+    /**
+     * Asynchronous variant of getPageFromSQL (see DataSourceProvider.supplyAsync).
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @param pFilterExtension parameters for paging and sorting
+     * @return the future providing the requested page
+     */
+    public CompletableFuture<Page<T>> getPageFromSQLAsync(final String pTableName,
+                                                          final Map<QueryColumn, Object> pQueryParameters,
+                                                          final Class<T> pBeanClass,
+                                                          final boolean pAcquireLock,
+                                                          final FilterExtension pFilterExtension) {
+
+        return DataSourceProvider.supplyAsync(() -> getPageFromSQL
+                (pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension));
+    }
+
+    private Long getPagingTotal(final String pTableName,
+                                final Map<QueryColumn, Object> pQueryParameters,
+                                final FilterExtension pFilterExtension) {
+
+        final boolean estimate =
+                pFilterExtension.getTotalCountStrategy() == FilterExtension.TotalCountStrategy.ESTIMATED;
+        final Map<QueryColumn, Object> orderedQueryParameters = new TreeMap<>(pQueryParameters);
+        final List<Object> parameterValues = utils.getQueryParameterValues(orderedQueryParameters);
+        // The total depends on the query shape and the parameter values, but not on paging and sorting
+        final List<Object> cacheKey = Arrays.asList(estimate,
+                StatementPlanCache.buildQueryKey(pTableName, orderedQueryParameters, false, null), parameterValues);
+        final PagingTotalCache pagingTotalCache = DataSourceProvider.getPagingTotalCache();
+        Long total = pagingTotalCache.get(cacheKey);
+        if (total == null) {
+            total = computePagingTotal(pTableName, orderedQueryParameters, parameterValues, estimate);
+            pagingTotalCache.put(cacheKey, total, DataSourceProvider.getPagingTotalCacheTimeToLive());
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("Using cached paging total for table ".concat(pTableName));
+            }
+        }
+        final Integer totalLimit = pFilterExtension.getTotalLimit();
+        if (total != null && totalLimit != null && totalLimit > 0 && total > totalLimit) {
+            total = totalLimit.longValue();
+        }
+        return total;
+    }
+
+    private Long computePagingTotal(final String pTableName,
+                                    final Map<QueryColumn, Object> pOrderedQueryParameters,
+                                    final List<Object> pParameterValues,
+                                    final boolean pEstimate) {
+
+        boolean success = true;
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        try {
+            con = DataSourceProvider.getConnection();
+            final IPlatform platform = DataSourceProvider.getPlatform();
+            if (pEstimate) {
+                final String query = statementBuilder.buildSQLStatement
+                        (pTableName, pOrderedQueryParameters, USE_NAMED_PARAMETERS, false);
+                return platform.estimateRowCount(con, pTableName, query, pParameterValues);
+            }
+            final String countStatement =
+                    statementBuilder.buildCountStatement(pTableName, pOrderedQueryParameters, USE_NAMED_PARAMETERS);
+            if (log.isDebugEnabled()) {
+                log.debug("Counting rows for paging total: ".concat(countStatement));
+            }
+            pstmt = DataSourceProvider.prepareStatement(con, countStatement);
+            utils.setQueryParameter(pOrderedQueryParameters, pstmt, 1);
+            final ResultSet rs = pstmt.executeQuery();
+            Long total = null;
+            if (rs.next()) {
+                total = rs.getLong(1);
+            }
+            rs.close();
+            return total;
+        } catch (Exception e) {
+            log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), e);
+            success = false;
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, e);
+        } finally {
+            try {
+                if (pstmt != null) {
+                    DataSourceProvider.closeStatement(pstmt);
+                }
+                if (con != null && !con.isClosed()) {
+                    DataSourceProvider.returnConnection(success);
+                }
+            } catch (SQLException ignored) {
+            } // Nothing to do
+        }
+    }
+
+    /**
+     * Executes a generic SQL statement for the given table (or view) name with the given query parameters and
+     * provides the results as a Stream. Unlike getBeanListFromSQL, the results are not materialized in a list,
+     * but mapped lazily, while the Stream is consumed. This is the preferred method to process large result
+     * sets, e.g. for data exports.
+     * Outside of a user managed transaction, the Stream uses a dedicated database connection, which is held
+     * until the Stream is closed or completely consumed, so the Stream should always be used in a
+     * try-with-resources block. DML executed while consuming the Stream is not part of the transaction of the
+     * Stream. Within a user managed transaction, the Stream uses the connection of the transaction and must be
+     * consumed and closed by the calling thread before the transaction is terminated. The JDBC fetch size is
+     * configured with DataSourceProvider.setStreamFetchSize or with property database.stream_fetch_size in the
+     * NoORM configuration.
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @return a Stream providing the results of type pBeanClass
+     */
+    public Stream<T> streamBeansFromSQL(final String pTableName,
+                                       final Map<QueryColumn, Object> pQueryParameters,
+                                       final Class<T> pBeanClass,
+                                       final boolean pAcquireLock) {
+
+        return streamBeansFromSQL(pTableName, pQueryParameters, pBeanClass, pAcquireLock, null);
+    }
+
+    /**
+     * Executes a generic SQL statement for the given table (or view) name with the given query parameters and
+     * provides the results as a Stream (see above).
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQueryParameters the parameters for the where-clause of the SQL query
+     * @param pBeanClass the return type
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired for the retrieved records
+     * @param pFilterExtension additional parameters for paging and sorting
+     * @return a Stream providing the results of type pBeanClass
+     */
+    public Stream<T> streamBeansFromSQL(final String pTableName,
+                                       final Map<QueryColumn, Object> pQueryParameters,
+                                       final Class<T> pBeanClass,
+                                       final boolean pAcquireLock,
+                                       final FilterExtension pFilterExtension) {
+
+        validateParameters(pTableName, pQueryParameters, pBeanClass);
+        validateKeyset(pFilterExtension);
+        if (log.isDebugEnabled()) {
+            loggingHelper.debugSQLCall(pTableName, pQueryParameters, pBeanClass, pFilterExtension);
+        }
+
+        final long startTime = DataSourceProvider.startMetricsTimer();
+        Connection dedicatedCon = null;
+        PreparedStatement pstmt = null;
+        try {
+            if (!DataSourceProvider.activeUserManagedTransaction()) {
+                dedicatedCon = DataSourceProvider.acquireDedicatedConnection();
+            }
+            final Connection con = dedicatedCon != null ? dedicatedCon : DataSourceProvider.getConnection();
+            pstmt = prepareStatement(con, pTableName, pQueryParameters, pBeanClass, pAcquireLock, pFilterExtension);
+            pstmt.setFetchSize(DataSourceProvider.getStreamFetchSize());
+            final ResultSet rs = pstmt.executeQuery();
+            boolean fetchPagingTotal = false;
+            if (pFilterExtension != null) {
+                // Keyset paging does not count the rows of the complete result set
+                fetchPagingTotal = pFilterExtension.isPagingTotalSupported() && !pFilterExtension.isKeysetPaging();
+            }
+            return new BeanStreamIterator<>(pTableName, dedicatedCon, pstmt, rs, pBeanClass, fetchPagingTotal,
+                    NoormMetrics.Operation.QUERY, startTime).toStream();
+        } catch (Exception e) {
+            log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), e);
+            try {
+                if (pstmt != null) {
+                    DataSourceProvider.closeStatement(pstmt);
+                }
+            } catch (SQLException ignored) {
+            } // Nothing to do
+            if (dedicatedCon != null) {
+                DataSourceProvider.releaseDedicatedConnection(dedicatedCon, false);
+            }
+            DataSourceProvider.recordCall(startTime, NoormMetrics.Operation.QUERY, pTableName, 0L, false);
+            if (e instanceof DataAccessException) {
+                throw (DataAccessException) e;
+            }
+            throw new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, e);
+        }
+    }
+
+    /**
+     * Provides the sort key values of the last row of the given page as keyset values for the next page.
+     * NULL values cannot be used in the seek predicate (see StatementBuilder.buildKeysetPredicate), so keyset
+     * paging is not supported for rows with NULL values in the sort columns.
+     */
+    private List<Object> getNextKeysetValues(final List<T> pBeanList,
+                                             final Class<T> pBeanClass,
+                                             final FilterExtension pFilterExtension) {
+
+        if (pBeanList.isEmpty() || pBeanList.size() < pFilterExtension.getLimit()) {
+            return null;
+        }
+        final T lastBean = pBeanList.get(pBeanList.size() - 1);
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(pBeanClass);
+        final List<Object> nextKeysetValues = new ArrayList<>();
+        for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
+            final String columnName = beanMetadata.getJavaNames2ColumnNames().get(sortCriteria.getAttributeName());
+            final Object keysetValue = beanMetadata.getColumn(columnName).getValue(lastBean);
+            if (keysetValue == null) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_KEYSET,
+                        "NULL value in sort column ".concat(columnName));
+            }
+            nextKeysetValues.add(keysetValue);
+        }
+        return nextKeysetValues;
+    }
+
+    private void validateKeyset(final FilterExtension pFilterExtension) {
+
+        if (pFilterExtension == null || !pFilterExtension.isKeysetPaging()) {
+            return;
+        }
+        if (pFilterExtension.getSortCriteria().isEmpty()) {
+            throw new DataAccessException(DataAccessException.Type.ILLEGAL_KEYSET);
+        }
+        if (pFilterExtension.hasKeysetValues()) {
+            if (pFilterExtension.getKeysetValues().size() != pFilterExtension.getSortCriteria().size()) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_KEYSET);
+            }
+            if (pFilterExtension.getKeysetValues().contains(null)) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_KEYSET,
+                        "Keyset values must not be NULL.");
+            }
+        }
+    }
+
+    private void validateParameters(final String pTableName,
+                                    final Map<QueryColumn, Object> pQueryParameters,
+                                    final Class<T> pBeanClass) {
+
+        try {
+            if (pTableName == null || pTableName.isEmpty()) {
+                throw new IllegalArgumentException("Parameter [pTableName] must not be null.");
+            }
+            if (pBeanClass == null) {
+                throw new IllegalArgumentException("Parameter [pBeanClass] must not be null.");
+            }
+            if (pQueryParameters == null) {
+                throw new IllegalArgumentException("Parameter [pQueryParameters] must not be null.");
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL, e);
+        }
+    }
+
+    private void resolveSortCriteria(final Class<T> pBeanClass, final FilterExtension pFilterExtension) {
+
+        final Map<String, String> javaNames2ColumnNames = BeanMetaDataUtil.getJavaNames2ColumnNames(pBeanClass);
+        for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
+            final String attributeName = sortCriteria.getAttributeName();
+            final String columnName = javaNames2ColumnNames.get(attributeName);
+            if (columnName == null || attributeName == null) {
+                throw new DataAccessException(DataAccessException.Type.ILLEGAL_SORT_CRITERIA);
+            }
+            sortCriteria.setColumnName(columnName);
+        }
+    }
+
+    private PreparedStatement prepareStatement(final Connection pCon,
+                                               final String pTableName,
+                                               final Map<QueryColumn, Object> pQueryParameters,
+                                               final Class<T> pBeanClass,
+                                               final boolean pAcquireLock,
+                                               final FilterExtension pFilterExtension) throws SQLException {
+
+        final IPlatform platform = DataSourceProvider.getPlatform();
+        if (pFilterExtension != null) {
+            resolveSortCriteria(pBeanClass, pFilterExtension);
+        }
+        // The query parameters are ordered once and used for the cache key and parameter binding
+        final Map<QueryColumn, Object> orderedQueryParameters = new TreeMap<>(pQueryParameters);
+        final String statementPlanKey = StatementPlanCache.buildQueryKey
+                (pTableName, orderedQueryParameters, pAcquireLock, pFilterExtension);
+        final StatementPlanCache statementPlanCache = StatementPlanCache.getInstance();
+        StatementPlanCache.StatementPlan statementPlan = statementPlanCache.get(statementPlanKey);
+        if (statementPlan == null) {
+            final String sqlStmt = platform.buildSQLStatement
+                    (pTableName, orderedQueryParameters, USE_NAMED_PARAMETERS, pAcquireLock, pFilterExtension);
+            statementPlan = statementPlanCache.put(statementPlanKey, sqlStmt, null);
+        }
+        final String sqlStmt = statementPlan.getSQL();
+        if (log.isDebugEnabled()) {
+            log.debug("Preparing and executing SQL statement: ".concat(sqlStmt)
+                    .concat("; using connection : ".concat(pCon.toString())));
+        }
+        final PreparedStatement pstmt = DataSourceProvider.prepareStatement(pCon, sqlStmt);
+        int parameterIndex = 1;
+        parameterIndex = utils.setQueryParameter(orderedQueryParameters, pstmt, parameterIndex);
+        if (pFilterExtension != null && pFilterExtension.hasKeysetValues()) {
+            final List<Object> keysetParameterValues =
+                    statementBuilder.getKeysetParameterValues(pFilterExtension.getKeysetValues());
+            for (Object keysetParameterValue : keysetParameterValues) {
+                if (keysetParameterValue instanceof java.util.Date) {
+                    keysetParameterValue = new Timestamp(((java.util.Date) keysetParameterValue).getTime());
+                }
+                platform.setObject(pstmt, keysetParameterValue, parameterIndex++, -1);
+            }
+        }
+        return pstmt;
+    }
+
 	/**
 	 * Convenience method to a provide some minimal SQL functionality for the application. Usage of this method
 	 * is discouraged, but maybe helpful under some circumstances.
@@ -178,7 +1022,7 @@ public class JDBCQueryProcessor<T> {
 
 		try {
 			con = DataSourceProvider.getConnection();
-			pstmt = con.prepareStatement(pSelectStatement);
+			pstmt = DataSourceProvider.prepareStatement(con, pSelectStatement);
 			final ResultSet resultSet = pstmt.executeQuery();
 			final ResultSetMetaData metaData = resultSet.getMetaData();
 			final int columnCount = metaData.getColumnCount();
@@ -191,6 +1035,7 @@ public class JDBCQueryProcessor<T> {
 				}
 				recordList.add(record);
 			}
+			resultSet.close();
 			return recordList;
 		} catch (Exception e) {
 			log.error(DataAccessException.Type.COULD_NOT_ACCESS_DATA.getDescription(), e);
@@ -199,7 +1044,7 @@ public class JDBCQueryProcessor<T> {
 		} finally {
 			try {
 				if (pstmt != null) {
-					pstmt.close();
+					DataSourceProvider.closeStatement(pstmt);
 				}
 				if (con != null && !con.isClosed()) {
 					DataSourceProvider.returnConnection(success);
@@ -209,6 +1054,24 @@ public class JDBCQueryProcessor<T> {
 		}
 	}
 
+    private static final class PartitionCursor<T> {
+
+        private final List<T> partitionResult;
+        private int index = 0;
+
+        private PartitionCursor(final List<T> pPartitionResult) {
+            partitionResult = pPartitionResult;
+        }
+
+        private T current() {
+            return partitionResult.get(index);
+        }
+
+        private boolean next() {
+            return ++index < partitionResult.size();
+        }
+    }
+
     private void debugSQLTermination(final String pTableName,
                                      final int pRowsProcessed) {
 
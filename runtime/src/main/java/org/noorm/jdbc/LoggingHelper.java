@@ -28,6 +28,9 @@ public class LoggingHelper {
             formattedParameters.append(pFilterExtension.getOffset());
             formattedParameters.append(", Limit: ");
             formattedParameters.append(pFilterExtension.getLimit());
+            if (pFilterExtension.isKeysetPaging()) {
+                formattedParameters.append(", Keyset: ").append(pFilterExtension.getKeysetValues());
+            }
             for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
                 formattedParameters.append("\n  ").append(sortCriteria.getColumnName());
                 formattedParameters.append(" / ").append(sortCriteria.getDirection());
@@ -0,0 +1,44 @@
+package org.noorm.jdbc;
+
+/**
+ * Default implementation of NoormMetrics, which discards all recorded values. The DataSourceProvider
+ * recognizes this implementation and skips the time measurement, when it is active.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+final class NoOpMetrics implements NoormMetrics {
+
+    static final NoOpMetrics INSTANCE = new NoOpMetrics();
+
+    private NoOpMetrics() {
+    }
+
+    @Override
+    public void recordCall(final String pDataSourceName,
+                           final Operation pOperation,
+                           final String pName,
+                           final long pDurationNanos,
+                           final long pRowCount,
+                           final boolean pSuccess) {
+    }
+
+    @Override
+    public void recordBatch(final String pDataSourceName,
+                            final Operation pOperation,
+                            final String pTableName,
+                            final int pBatchSize,
+                            final int pUpdateCount) {
+    }
+
+    @Override
+    public void recordConnectionAcquisition(final String pDataSourceName, final long pDurationNanos) {
+    }
+
+    @Override
+    public void recordTransactionTermination(final String pDataSourceName, final boolean pCommit) {
+    }
+
+    @Override
+    public void recordOptimisticLockConflict(final String pDataSourceName, final String pTableName) {
+    }
+}
@@ -0,0 +1,80 @@
+package org.noorm.jdbc;
+
+/**
+ * Service provider interface for collecting metrics about the database access of the NoORM runtime engine.
+ * An implementation is registered with DataSourceProvider.setMetrics and may forward the recorded values to
+ * any metrics library (e.g. Micrometer timers and counters). Without registered implementation, a no-op
+ * implementation is used and the processors skip the time measurement completely.
+ * Every recorded value is tagged with the name of the active data source (null, when not available), the
+ * operation type and, where applicable, the table or procedure name. Implementations are called by all threads
+ * using NoORM concurrently, so they must be thread-safe and should not block.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public interface NoormMetrics {
+
+    /**
+     * Records a completed processor call (query, DML or procedure call).
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pOperation the operation type
+     * @param pName the table or procedure name
+     * @param pDurationNanos the duration of the call in nanoseconds
+     * @param pRowCount the number of rows mapped (queries and procedures) or processed (DML)
+     * @param pSuccess false, when the call has failed
+     */
+    void recordCall(final String pDataSourceName,
+                    final Operation pOperation,
+                    final String pName,
+                    final long pDurationNanos,
+                    final long pRowCount,
+                    final boolean pSuccess);
+
+    /**
+     * Records a successfully executed DML operation for a list of Beans.
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pOperation the operation type
+     * @param pTableName the table name
+     * @param pBatchSize the number of Beans passed to the operation
+     * @param pUpdateCount the number of rows processed
+     */
+    void recordBatch(final String pDataSourceName,
+                     final Operation pOperation,
+                     final String pTableName,
+                     final int pBatchSize,
+                     final int pUpdateCount);
+
+    /**
+     * Records the acquisition of a database connection from the data source (resp. connection pool).
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pDurationNanos the time required to acquire the connection in nanoseconds
+     */
+    void recordConnectionAcquisition(final String pDataSourceName, final long pDurationNanos);
+
+    /**
+     * Records the termination of a transaction, either user managed or automatically managed.
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pCommit true for a commit, false for a rollback
+     */
+    void recordTransactionTermination(final String pDataSourceName, final boolean pCommit);
+
+    /**
+     * Records an optimistic lock conflict.
+     *
+     * @param pDataSourceName the name of the data source
+     * @param pTableName the table name
+     */
+    void recordOptimisticLockConflict(final String pDataSourceName, final String pTableName);
+
+    enum Operation {
+
+        QUERY,
+        INSERT,
+        UPDATE,
+        DELETE,
+        PROCEDURE
+    }
+}
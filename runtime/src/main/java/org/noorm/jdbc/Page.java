@@ -0,0 +1,58 @@
+package org.noorm.jdbc;
+
+import java.util.List;
+
+/**
+ * Result of a paged query. Besides the Beans of the requested page, the page provides the total number of
+ * rows of the underlying query according to the total count strategy of the FilterExtension and, for keyset
+ * paging, the keyset values for the next page.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class Page<T> {
+
+    private final List<T> beans;
+    private final Long total;
+    private final boolean totalEstimated;
+    private final List<Object> nextKeysetValues;
+
+    public Page(final List<T> pBeans,
+                final Long pTotal,
+                final boolean pTotalEstimated,
+                final List<Object> pNextKeysetValues) {
+
+        beans = pBeans;
+        total = pTotal;
+        totalEstimated = pTotalEstimated;
+        nextKeysetValues = pNextKeysetValues;
+    }
+
+    /**
+     * @return the Beans of this page
+     */
+    public List<T> getBeans() {
+        return beans;
+    }
+
+    /**
+     * @return the total number of rows of the underlying query or null, when no total has been requested
+     * or no total is available
+     */
+    public Long getTotal() {
+        return total;
+    }
+
+    /**
+     * @return true, when the total is an estimation based on the optimizer statistics of the database
+     */
+    public boolean isTotalEstimated() {
+        return totalEstimated;
+    }
+
+    /**
+     * @return the keyset values for the next page (keyset paging only) or null, when no further page is available
+     */
+    public List<Object> getNextKeysetValues() {
+        return nextKeysetValues;
+    }
+}
@@ -0,0 +1,99 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Data source wide cache for the total number of rows of paged queries. Computing the total for every page
+ * request forces the database to evaluate the complete result set, even when only the first page is
+ * requested. Using this cache, the total is computed once with a separate query and reused for subsequent
+ * page requests with the same query shape and parameters, until the configured time-to-live expires.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class PagingTotalCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PagingTotalCache.class);
+
+    /**
+     * Upper bound for the number of cached totals. When the bound is exceeded, expired entries are removed
+     * and, if this is not sufficient, the cache is cleared.
+     */
+    private static final int MAX_ENTRIES = 4096;
+
+    private final ConcurrentMap<Object, CachedTotal> totalMap = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached total for the given key, when available and not expired.
+     *
+     * @param pKey the cache key, consisting of the query shape and the query parameter values
+     * @return the cached total or null
+     */
+    Long get(final Object pKey) {
+
+        final CachedTotal cachedTotal = totalMap.get(pKey);
+        if (cachedTotal == null) {
+            return null;
+        }
+        if (cachedTotal.isExpired(System.currentTimeMillis())) {
+            totalMap.remove(pKey, cachedTotal);
+            return null;
+        }
+        return cachedTotal.total;
+    }
+
+    /**
+     * Caches the given total for the given key.
+     *
+     * @param pKey the cache key, consisting of the query shape and the query parameter values
+     * @param pTotal the total number of rows
+     * @param pTimeToLive the time-to-live in seconds. Totals are not cached for values smaller than 1
+     */
+    void put(final Object pKey, final Long pTotal, final int pTimeToLive) {
+
+        if (pTimeToLive < 1 || pTotal == null) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        if (totalMap.size() >= MAX_ENTRIES) {
+            final Iterator<Map.Entry<Object, CachedTotal>> iterator = totalMap.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getValue().isExpired(now)) {
+                    iterator.remove();
+                }
+            }
+            if (totalMap.size() >= MAX_ENTRIES) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Paging total cache exceeded " + MAX_ENTRIES + " entries. Clearing cache.");
+                }
+                totalMap.clear();
+            }
+        }
+        totalMap.put(pKey, new CachedTotal(pTotal, now + pTimeToLive * 1000L));
+    }
+
+    void clear() {
+
+        totalMap.clear();
+    }
+
+    private static final class CachedTotal {
+
+        private final Long total;
+        private final long expiresAt;
+
+        private CachedTotal(final Long pTotal, final long pExpiresAt) {
+            total = pTotal;
+            expiresAt = pExpiresAt;
+        }
+
+        private boolean isExpired(final long pNow) {
+            return pNow >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Parallel bulk DML for large numbers of Beans, e.g. for initial data loads. The Beans added by the producer
+ * are collected in chunks of the given size. Every chunk is processed by the executor for asynchronous
+ * database calls (see DataSourceProvider.setAsyncExecutor) using a database connection of its own and is
+ * committed independently. Thus, unlike insert, update and delete of the JDBCDMLProcessor, a parallel bulk
+ * DML operation is NOT atomic: a failed chunk is rolled back, while other chunks may have been committed
+ * already. The outcome per chunk is provided by the BulkDMLResult returned by finish().
+ * The number of chunks, which have been submitted, but not yet processed, is limited to twice the size of
+ * the async pool. When this limit has been reached, adding further Beans blocks the producer until a chunk
+ * has been processed (back-pressure), so Beans can be streamed into the parallel bulk DML without exhausting
+ * the memory.
+ * A parallel bulk DML is intended to be fed by a single producer thread and should be used in a
+ * try-with-resources block, which finishes the operation on close.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class ParallelBulkDML<T extends IBean> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelBulkDML.class);
+
+    private final Operation operation;
+    private final int chunkSize;
+    private final Semaphore pendingChunks;
+    private final List<CompletableFuture<BulkDMLResult.ChunkResult>> chunkFutures = new ArrayList<>();
+    private List<T> chunk;
+    private BulkDMLResult result;
+
+    ParallelBulkDML(final Operation pOperation, final int pChunkSize) {
+
+        try {
+            if (pOperation == null) {
+                throw new IllegalArgumentException("Parameter [pOperation] must not be null.");
+            }
+            if (pChunkSize < 1) {
+                throw new IllegalArgumentException("Parameter [pChunkSize] must be greater than 0.");
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL, e);
+        }
+        operation = pOperation;
+        chunkSize = pChunkSize;
+        pendingChunks = new Semaphore(Math.max(1, DataSourceProvider.getAsyncPoolSize() * 2));
+        chunk = new ArrayList<>(chunkSize);
+    }
+
+    /**
+     * Adds the given Bean. When the current chunk is complete, it is submitted for processing. This may block,
+     * when the maximum number of pending chunks has been reached.
+     *
+     * @param pBean the Bean to be processed
+     */
+    public void add(final T pBean) {
+
+        if (result != null) {
+            throw new DataAccessException(DataAccessException.Type.BULK_DML_ALREADY_FINISHED);
+        }
+        if (pBean == null) {
+            throw new DataAccessException(DataAccessException.Type.PARAMETERS_MUST_NOT_BE_NULL,
+                    new IllegalArgumentException("Parameter [pBean] must not be null."));
+        }
+        chunk.add(pBean);
+        if (chunk.size() >= chunkSize) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Adds the given Beans (see add).
+     *
+     * @param pBeans the Beans to be processed
+     */
+    public void addAll(final Collection<? extends T> pBeans) {
+
+        for (final T bean : pBeans) {
+            add(bean);
+        }
+    }
+
+    /**
+     * Submits the last (incomplete) chunk and waits for the termination of all chunks.
+     *
+     * @return the result of the parallel bulk DML operation
+     */
+    public BulkDMLResult finish() {
+
+        if (result != null) {
+            return result;
+        }
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        final List<BulkDMLResult.ChunkResult> chunkResults = new ArrayList<>(chunkFutures.size());
+        for (final CompletableFuture<BulkDMLResult.ChunkResult> chunkFuture : chunkFutures) {
+            chunkResults.add(chunkFuture.join());
+        }
+        result = new BulkDMLResult(chunkResults);
+        if (log.isDebugEnabled()) {
+            log.debug("Parallel bulk DML (".concat(operation.name()).concat(") completed. ")
+                    .concat(Long.toString(result.getUpdateCount())).concat(" rows processed in ")
+                    .concat(Integer.toString(chunkResults.size())).concat(" chunks."));
+        }
+        return result;
+    }
+
+    /**
+     * Finishes the parallel bulk DML operation (see finish).
+     */
+    @Override
+    public void close() {
+
+        finish();
+    }
+
+    private void submitChunk() {
+
+        final List<T> beans = chunk;
+        final int chunkIndex = chunkFutures.size();
+        chunk = new ArrayList<>(chunkSize);
+        pendingChunks.acquireUninterruptibly();
+        final CompletableFuture<BulkDMLResult.ChunkResult> chunkFuture;
+        try {
+            chunkFuture = DataSourceProvider.supplyAsync(() -> processChunk(chunkIndex, beans));
+        } catch (RuntimeException e) {
+            pendingChunks.release();
+            throw e;
+        }
+        chunkFutures.add(chunkFuture.whenComplete((pChunkResult, pThrowable) -> pendingChunks.release()));
+    }
+
+    private BulkDMLResult.ChunkResult processChunk(final int pChunkIndex, final List<T> pBeans) {
+
+        final JDBCDMLProcessor<T> dmlProcessor = JDBCDMLProcessor.getInstance();
+        try {
+            switch (operation) {
+                case INSERT:
+                    dmlProcessor.insert(pBeans);
+                    break;
+                case UPDATE:
+                    dmlProcessor.update(pBeans);
+                    break;
+                case DELETE:
+                    dmlProcessor.delete(pBeans);
+                    break;
+                default:
+                    break;
+            }
+            return new BulkDMLResult.ChunkResult(pChunkIndex, pBeans, pBeans.size(), null);
+        } catch (RuntimeException e) {
+            log.error("Parallel bulk DML failed for chunk ".concat(Integer.toString(pChunkIndex)), e);
+            DataAccessException failure;
+            if (e instanceof DataAccessException) {
+                failure = (DataAccessException) e;
+            } else {
+                failure = new DataAccessException(DataAccessException.Type.COULD_NOT_ACCESS_DATA, e);
+            }
+            return new BulkDMLResult.ChunkResult(pChunkIndex, pBeans, 0, failure);
+        }
+    }
+
+    public enum Operation {
+
+        INSERT,
+        UPDATE,
+        DELETE
+    }
+}
@@ -0,0 +1,450 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lightweight connection pool for data sources initialized by the DataSourceProvider from the NoORM
+ * configuration (i.e. data sources not provided by JNDI or by DataSourceProvider.addDataSource).
+ * Without a pool, every database call outside a user managed transaction opens and closes a physical
+ * connection, which is expensive for stand-alone applications and batch jobs.
+ * Borrowing and returning a connection is lock-free in the common case: idle connections are kept in a
+ * concurrent LIFO deque and the maximum pool size is enforced with a (non-fair) semaphore. Only when the
+ * pool is exhausted, the borrowing thread waits for a returned connection up to the configured timeout.
+ * Connections idle for more than one second are validated before being handed out. A background
+ * housekeeping thread closes connections exceeding the idle timeout, retaining the configured minimum
+ * number of connections (which are created on demand), and reports connections borrowed for longer than
+ * the leak detection threshold.
+ * Like all connections managed by the DataSourceProvider, pooled connections are handed out with auto-commit
+ * disabled. When a connection is returned with a pending transaction (i.e. it has been used after the last
+ * commit or rollback), the transaction is rolled back, so uncommitted changes never leak to the next borrower.
+ * Changes of the auto-commit mode, the read-only mode, the transaction isolation level and the catalog are
+ * reverted, when the connection is returned. Since both are tracked by the connection proxy, returning a
+ * connection after commit or rollback does not require any additional database round-trip. Note that only
+ * calls on the connection are tracked: a statement created before the last commit or rollback must not be
+ * executed again without terminating the transaction before the connection is returned.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class PooledDataSource implements DataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledDataSource.class);
+
+    private static final long VALIDATION_IDLE_THRESHOLD_MILLIS = 1000L;
+    private static final AtomicInteger poolCounter = new AtomicInteger();
+
+    private final DataSource dataSource;
+    private final String poolName;
+    private final int minSize;
+    private final int maxSize;
+    private final long connectionTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long leakDetectionThresholdMillis;
+
+    private final ConcurrentLinkedDeque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final Set<PooledConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed = false;
+
+    public PooledDataSource(final DataSource pDataSource, final DataSourceConfiguration pConfiguration) {
+
+        dataSource = pDataSource;
+        poolName = "noorm-pool-".concat(Integer.toString(poolCounter.incrementAndGet()));
+        maxSize = Math.max(1, pConfiguration.getPoolMaxSize());
+        minSize = Math.min(Math.max(0, pConfiguration.getPoolMinSize()), maxSize);
+        connectionTimeoutMillis = TimeUnit.SECONDS.toMillis(pConfiguration.getPoolConnectionTimeout());
+        idleTimeoutMillis = TimeUnit.SECONDS.toMillis(pConfiguration.getPoolIdleTimeout());
+        validationTimeoutSeconds = pConfiguration.getPoolValidationTimeout();
+        leakDetectionThresholdMillis = TimeUnit.SECONDS.toMillis(pConfiguration.getPoolLeakDetectionThreshold());
+        permits = new Semaphore(maxSize);
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(pRunnable -> {
+            final Thread thread = new Thread(pRunnable, poolName.concat("-housekeeper"));
+            thread.setDaemon(true);
+            return thread;
+        });
+        long housekeepingPeriod = Math.max(1000L, idleTimeoutMillis / 2);
+        if (leakDetectionThresholdMillis > 0) {
+            housekeepingPeriod = Math.min(housekeepingPeriod, Math.max(1000L, leakDetectionThresholdMillis / 2));
+        }
+        housekeeper.scheduleWithFixedDelay
+                (this::houseKeeping, housekeepingPeriod, housekeepingPeriod, TimeUnit.MILLISECONDS);
+        log.info("Connection pool ".concat(poolName).concat(" initialized (min size: ")
+                .concat(Integer.toString(minSize)).concat(", max size: ").concat(Integer.toString(maxSize))
+                .concat(")."));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (closed) {
+            throw new SQLException("Connection pool ".concat(poolName).concat(" has been closed."));
+        }
+        boolean acquired = permits.tryAcquire();
+        if (!acquired) {
+            try {
+                acquired = permits.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a connection.", e);
+            }
+            if (!acquired) {
+                throw new SQLException("Connection pool ".concat(poolName).concat(" exhausted. No connection ")
+                        .concat("available within ").concat(Long.toString(connectionTimeoutMillis)).concat(" ms."));
+            }
+        }
+        try {
+            PooledConnection pooledConnection;
+            while ((pooledConnection = idleConnections.pollFirst()) != null) {
+                if (isUsable(pooledConnection)) {
+                    break;
+                }
+                discard(pooledConnection);
+            }
+            if (pooledConnection == null) {
+                pooledConnection = createPooledConnection();
+                totalConnections.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("New physical connection added to connection pool ".concat(poolName)
+                            .concat(" (total: ").concat(Integer.toString(totalConnections.get())).concat(")."));
+                }
+            }
+            pooledConnection.borrow(leakDetectionThresholdMillis > 0);
+            borrowedConnections.add(pooledConnection);
+            return pooledConnection.proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String pUsername, final String pPassword) throws SQLException {
+
+        throw new SQLFeatureNotSupportedException("Connection pool does not support user specific connections.");
+    }
+
+    /**
+     * Closes all idle connections and stops the housekeeping. Borrowed connections are closed, when they are
+     * returned to the pool.
+     */
+    public void close() {
+
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            discard(pooledConnection);
+        }
+        log.info("Connection pool ".concat(poolName).concat(" closed."));
+    }
+
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+    public int getActiveConnections() {
+        return borrowedConnections.size();
+    }
+
+    private PooledConnection createPooledConnection() throws SQLException {
+
+        final Connection connection = dataSource.getConnection();
+        try {
+            return new PooledConnection(connection);
+        } catch (SQLException | RuntimeException e) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            } // Nothing to do
+            throw e;
+        }
+    }
+
+    private void returnConnection(final PooledConnection pPooledConnection) {
+
+        if (!borrowedConnections.remove(pPooledConnection)) {
+            return;
+        }
+        pPooledConnection.lastUsed = System.currentTimeMillis();
+        boolean physicallyClosed;
+        try {
+            physicallyClosed = pPooledConnection.connection.isClosed();
+        } catch (SQLException e) {
+            physicallyClosed = true;
+        }
+        if (closed || physicallyClosed || !reset(pPooledConnection)) {
+            discard(pPooledConnection);
+        } else {
+            idleConnections.offerFirst(pPooledConnection);
+        }
+        permits.release();
+    }
+
+    /**
+     * Rolls back a pending transaction and restores the initial state of the given connection.
+     *
+     * @param pPooledConnection the returned connection
+     * @return false, when the connection could not be reset and must be discarded
+     */
+    private boolean reset(final PooledConnection pPooledConnection) {
+
+        final Connection connection = pPooledConnection.connection;
+        try {
+            if (pPooledConnection.transactionPending && !pPooledConnection.autoCommit) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Connection returned to connection pool ".concat(poolName)
+                            .concat(" with pending transaction. Rolling back."));
+                }
+                connection.rollback();
+            }
+            if (pPooledConnection.stateModified) {
+                if (pPooledConnection.autoCommit) {
+                    connection.setAutoCommit(false);
+                    pPooledConnection.autoCommit = false;
+                }
+                if (connection.isReadOnly() != pPooledConnection.initialReadOnly) {
+                    connection.setReadOnly(pPooledConnection.initialReadOnly);
+                }
+                if (connection.getTransactionIsolation() != pPooledConnection.initialTransactionIsolation) {
+                    connection.setTransactionIsolation(pPooledConnection.initialTransactionIsolation);
+                }
+                final String initialCatalog = pPooledConnection.initialCatalog;
+                if (initialCatalog != null && !initialCatalog.equals(connection.getCatalog())) {
+                    connection.setCatalog(initialCatalog);
+                }
+                connection.clearWarnings();
+            }
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Resetting connection failed for connection pool ".concat(poolName)
+                    .concat(". Discarding connection."), e);
+            return false;
+        }
+    }
+
+    private boolean isUsable(final PooledConnection pPooledConnection) {
+
+        if (System.currentTimeMillis() - pPooledConnection.lastUsed < VALIDATION_IDLE_THRESHOLD_MILLIS) {
+            return true;
+        }
+        try {
+            return pPooledConnection.connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(final PooledConnection pPooledConnection) {
+
+        totalConnections.decrementAndGet();
+        try {
+            pPooledConnection.connection.close();
+        } catch (SQLException ignored) {
+        } // Nothing to do
+    }
+
+    private void houseKeeping() {
+
+        try {
+            final long now = System.currentTimeMillis();
+            // Idle connections are ordered from most recently used to least recently used
+            final Iterator<PooledConnection> idleIterator = idleConnections.descendingIterator();
+            while (idleIterator.hasNext() && totalConnections.get() > minSize) {
+                final PooledConnection pooledConnection = idleIterator.next();
+                if (now - pooledConnection.lastUsed > idleTimeoutMillis
+                        && idleConnections.removeFirstOccurrence(pooledConnection)) {
+                    discard(pooledConnection);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Idle connection evicted from connection pool ".concat(poolName).concat("."));
+                    }
+                }
+            }
+            if (leakDetectionThresholdMillis > 0) {
+                for (final PooledConnection pooledConnection : borrowedConnections) {
+                    if (!pooledConnection.leakReported
+                            && now - pooledConnection.borrowed > leakDetectionThresholdMillis) {
+                        pooledConnection.leakReported = true;
+                        log.warn("Connection borrowed from connection pool ".concat(poolName)
+                                .concat(" has not been returned for more than ")
+                                .concat(Long.toString(leakDetectionThresholdMillis)).concat(" ms."),
+                                pooledConnection.borrowTrace);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Housekeeping failed for connection pool ".concat(poolName).concat("."), e);
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter pPrintWriter) throws SQLException {
+        dataSource.setLogWriter(pPrintWriter);
+    }
+
+    @Override
+    public void setLoginTimeout(final int pSeconds) throws SQLException {
+        dataSource.setLoginTimeout(pSeconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> pInterface) throws SQLException {
+        if (pInterface.isInstance(this)) {
+            return pInterface.cast(this);
+        }
+        return dataSource.unwrap(pInterface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> pInterface) throws SQLException {
+        return pInterface.isInstance(this) || dataSource.isWrapperFor(pInterface);
+    }
+
+    /**
+     * Physical connection managed by the pool. The application gets a proxy, which returns the physical
+     * connection to the pool, when closed.
+     */
+    private class PooledConnection implements InvocationHandler {
+
+        private final Connection connection;
+        private final boolean initialReadOnly;
+        private final int initialTransactionIsolation;
+        private final String initialCatalog;
+        private volatile Connection proxy;
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile long borrowed;
+        private volatile boolean leakReported;
+        private volatile Exception borrowTrace;
+        // The following attributes are only accessed by the borrowing thread
+        private boolean autoCommit = false;
+        private boolean transactionPending;
+        private boolean stateModified;
+
+        private PooledConnection(final Connection pConnection) throws SQLException {
+            connection = pConnection;
+            connection.setAutoCommit(false);
+            initialReadOnly = connection.isReadOnly();
+            initialTransactionIsolation = connection.getTransactionIsolation();
+            initialCatalog = connection.getCatalog();
+        }
+
+        private void borrow(final boolean pTraceBorrow) {
+            borrowed = System.currentTimeMillis();
+            leakReported = false;
+            transactionPending = false;
+            stateModified = false;
+            borrowTrace = pTraceBorrow ? new Exception("Connection borrowed here") : null;
+            // A new proxy for every borrow makes sure that a stale proxy cannot be used after close
+            proxy = (Connection) Proxy.newProxyInstance
+                    (Connection.class.getClassLoader(), new Class[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(final Object pProxy, final Method pMethod, final Object[] pArgs) throws Throwable {
+
+            final String methodName = pMethod.getName();
+            if (pProxy != proxy) {
+                if (methodName.equals("isClosed")) {
+                    return true;
+                }
+                if (methodName.equals("close")) {
+                    return null;
+                }
+                throw new SQLException("Connection has already been returned to the connection pool.");
+            }
+            if (methodName.equals("close")) {
+                proxy = null;
+                returnConnection(this);
+                return null;
+            }
+            if (methodName.equals("equals")) {
+                return pProxy == pArgs[0];
+            }
+            if (methodName.equals("hashCode")) {
+                return System.identityHashCode(pProxy);
+            }
+            final Object result;
+            try {
+                result = pMethod.invoke(connection, pArgs);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            trackState(methodName, pArgs);
+            return result;
+        }
+
+        private void trackState(final String pMethodName, final Object[] pArgs) {
+
+            switch (pMethodName) {
+                case "commit":
+                    transactionPending = false;
+                    break;
+                case "rollback":
+                    // Rolling back to a savepoint does not terminate the transaction
+                    if (pArgs == null || pArgs.length == 0) {
+                        transactionPending = false;
+                    }
+                    break;
+                case "setAutoCommit":
+                    autoCommit = (Boolean) pArgs[0];
+                    if (autoCommit) {
+                        // Enabling auto-commit commits the pending transaction
+                        transactionPending = false;
+                        stateModified = true;
+                    }
+                    break;
+                case "setReadOnly":
+                case "setTransactionIsolation":
+                case "setCatalog":
+                    stateModified = true;
+                    break;
+                default:
+                    // Any other call (e.g. creating a statement) may start or continue a transaction
+                    if (!pMethodName.startsWith("get") && !pMethodName.startsWith("is")) {
+                        transactionPending = true;
+                    }
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data source wide read-through cache for the results of declared queries. Cached results are bounded by
+ * size (least recently used results are evicted first) and by a time-to-live.
+ * Results are invalidated per table: every table has a version, which is incremented, when data is modified
+ * through the JDBCDMLProcessor. A cached result is only valid, as long as the version of its table has not
+ * changed since the query has been started. Modifications bypassing NoORM (e.g. in stored procedures or by
+ * other applications) and modifications of the base tables of a view are not recognized, so results for such
+ * queries are only limited by the time-to-live.
+ * The cache holds detached snapshots of the Beans (see BeanMetadata.toSnapshot) and provides new Bean instances
+ * for every request, so callers can modify the provided Beans without affecting the cache or other callers.
+ * The paging total (see FilterExtension.TotalCountStrategy.WINDOW) is provided with cached results, when it is
+ * mapped to the virtual column PAGING_TOTAL like for generated Beans. Otherwise, results with a paging total are
+ * not cached.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class QueryResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryResultCache.class);
+
+    private final ConcurrentMap<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    private final Map<Object, CachedResult> resultMap = new LinkedHashMap<>(64, 0.75F, true);
+
+    /**
+     * Returns the current version of the given table. The version must be determined before executing the
+     * query, whose result is subject to caching.
+     *
+     * @param pTableName the table name
+     * @return the current version of the table
+     */
+    long getTableVersion(final String pTableName) {
+
+        final AtomicLong tableVersion = tableVersions.get(pTableName);
+        if (tableVersion == null) {
+            return 0L;
+        }
+        return tableVersion.get();
+    }
+
+    /**
+     * Returns the cached result for the given key, when available and still valid.
+     *
+     * @param pKey the cache key
+     * @param pTableName the table name of the query
+     * @return a new list with new Beans created from the cached result or null
+     */
+    List<Object> get(final Object pKey, final String pTableName) {
+
+        final CachedResult cachedResult;
+        synchronized (resultMap) {
+            cachedResult = resultMap.get(pKey);
+        }
+        if (cachedResult == null) {
+            return null;
+        }
+        if (cachedResult.expiresAt <= System.currentTimeMillis()
+                || cachedResult.tableVersion != getTableVersion(pTableName)) {
+            synchronized (resultMap) {
+                resultMap.remove(pKey);
+            }
+            return null;
+        }
+        final List<Object> result = new ArrayList<>(cachedResult.snapshots.length);
+        for (final Object[] snapshot : cachedResult.snapshots) {
+            result.add(cachedResult.beanMetadata.fromSnapshot(snapshot));
+        }
+        return result;
+    }
+
+    /**
+     * Caches the given result, unless the table has been modified since the query has been started or the
+     * result provides a paging total, which is not part of the snapshots.
+     *
+     * @param pKey the cache key
+     * @param pTableName the table name of the query
+     * @param pTableVersion the version of the table determined before executing the query
+     * @param pResult the query result
+     * @param pTimeToLive the time-to-live in seconds
+     * @param pMaxSize the maximum number of cached results
+     */
+    void put(final Object pKey,
+             final String pTableName,
+             final long pTableVersion,
+             final List<?> pResult,
+             final int pTimeToLive,
+             final int pMaxSize) {
+
+        if (pTimeToLive < 1 || pMaxSize < 1 || pTableVersion != getTableVersion(pTableName)) {
+            return;
+        }
+        final BeanMetadata beanMetadata =
+                pResult.isEmpty() ? null : BeanMetadata.forClass(pResult.get(0).getClass());
+        if (beanMetadata != null && beanMetadata.getColumn(IBean.PAGING_TOTAL) == null
+                && pResult.get(0) instanceof IBean && ((IBean) pResult.get(0)).getPagingTotal() != null) {
+            // The paging total is not part of the snapshot and could not be provided with a cached result
+            return;
+        }
+        final Object[][] snapshots = new Object[pResult.size()][];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = beanMetadata.toSnapshot(pResult.get(i));
+        }
+        final CachedResult cachedResult = new CachedResult
+                (beanMetadata, snapshots, pTableVersion, System.currentTimeMillis() + pTimeToLive * 1000L);
+        synchronized (resultMap) {
+            resultMap.put(pKey, cachedResult);
+            while (resultMap.size() > pMaxSize) {
+                resultMap.remove(resultMap.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Invalidates all cached results for the given table.
+     *
+     * @param pTableName the table name
+     */
+    void invalidate(final String pTableName) {
+
+        AtomicLong tableVersion = tableVersions.get(pTableName);
+        if (tableVersion == null) {
+            tableVersions.putIfAbsent(pTableName, new AtomicLong());
+            tableVersion = tableVersions.get(pTableName);
+        }
+        tableVersion.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated cached query results for table ".concat(pTableName));
+        }
+    }
+
+    void clear() {
+
+        synchronized (resultMap) {
+            resultMap.clear();
+        }
+    }
+
+    private static final class CachedResult {
+
+        private final BeanMetadata beanMetadata;
+        private final Object[][] snapshots;
+        private final long tableVersion;
+        private final long expiresAt;
+
+        private CachedResult(final BeanMetadata pBeanMetadata,
+                             final Object[][] pSnapshots,
+                             final long pTableVersion,
+                             final long pExpiresAt) {
+            beanMetadata = pBeanMetadata;
+            snapshots = pSnapshots;
+            tableVersion = pTableVersion;
+            expiresAt = pExpiresAt;
+        }
+    }
+}
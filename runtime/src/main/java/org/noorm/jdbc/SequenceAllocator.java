@@ -0,0 +1,120 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Data source wide allocator for sequence values. A single value retrieved from a database sequence with an
+ * increment of n reserves the n values starting with the retrieved value. The allocator retrieves one or more
+ * of such blocks with a single database round-trip and hands out the reserved values to all threads using the
+ * same data source. Allocating a value from a block is lock-free (compare-and-set). When a block is exhausted,
+ * the thread requiring the next value retrieves a new block from the database and publishes it for the other
+ * threads. When several threads run into an exhausted block at the same time, each of them retrieves a new
+ * block and the values of all but the published block remain unused, i.e. like for the database sequence
+ * itself, the allocated values are unique, but not gapless.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class SequenceAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceAllocator.class);
+
+    private final ConcurrentMap<String, AtomicReference<SequenceBlock>> sequenceBlocks = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves sequence values from the database.
+     */
+    interface SequenceFetcher {
+
+        /**
+         * Retrieves the given number of values from the given database sequence.
+         *
+         * @param pSequenceName the sequence name
+         * @param pValueCount the number of sequence values to retrieve
+         * @return the retrieved sequence values
+         */
+        long[] fetch(final String pSequenceName, final int pValueCount);
+    }
+
+    /**
+     * Allocates the next value for the given sequence.
+     *
+     * @param pSequenceName the sequence name
+     * @param pSequenceIncrement the increment of the database sequence
+     * @param pFetchSize the number of sequence values retrieved with a single database round-trip
+     * @param pSequenceFetcher the fetcher used to retrieve new sequence values from the database
+     * @return the allocated sequence value
+     */
+    long allocate(final String pSequenceName,
+                  final Long pSequenceIncrement,
+                  final int pFetchSize,
+                  final SequenceFetcher pSequenceFetcher) {
+
+        AtomicReference<SequenceBlock> blockReference = sequenceBlocks.get(pSequenceName);
+        if (blockReference == null) {
+            sequenceBlocks.putIfAbsent(pSequenceName, new AtomicReference<SequenceBlock>());
+            blockReference = sequenceBlocks.get(pSequenceName);
+        }
+        final SequenceBlock currentBlock = blockReference.get();
+        if (currentBlock != null) {
+            final long value = currentBlock.next();
+            if (value != SequenceBlock.EXHAUSTED) {
+                return value;
+            }
+        }
+        long increment = 1L;
+        if (pSequenceIncrement != null && pSequenceIncrement > 0L) {
+            increment = pSequenceIncrement;
+        }
+        final long[] blockStartValues = pSequenceFetcher.fetch(pSequenceName, Math.max(1, pFetchSize));
+        final SequenceBlock newBlock = new SequenceBlock(blockStartValues, increment);
+        // The first value of the new block is reserved for the calling thread
+        final long value = newBlock.next();
+        if (!blockReference.compareAndSet(currentBlock, newBlock)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Concurrent retrieval of sequence values for sequence ".concat(pSequenceName)
+                        .concat(". Remaining values of the retrieved block are discarded."));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Discards all allocated blocks, e.g. after the database sequences have been reset.
+     */
+    void clear() {
+
+        sequenceBlocks.clear();
+    }
+
+    private static final class SequenceBlock {
+
+        private static final long EXHAUSTED = Long.MIN_VALUE;
+
+        private final long[] blockStartValues;
+        private final long increment;
+        private final long size;
+        private final AtomicLong nextIndex = new AtomicLong();
+
+        private SequenceBlock(final long[] pBlockStartValues, final long pIncrement) {
+
+            blockStartValues = pBlockStartValues;
+            increment = pIncrement;
+            size = pBlockStartValues.length * pIncrement;
+        }
+
+        private long next() {
+
+            final long index = nextIndex.getAndIncrement();
+            if (index >= size) {
+                return EXHAUSTED;
+            }
+            return blockStartValues[(int) (index / increment)] + index % increment;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.noorm.jdbc;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Description of a query or procedure call, which has exceeded the slow call threshold of its data source
+ * (see DataSourceProvider.setSlowCallThreshold). Besides the SQL statement and the bind values, the elapsed
+ * time is provided per phase of the call: acquiring the connection, preparing the statement (including the
+ * parameter binding), executing the statement and mapping the results. Phases, which have not been reached,
+ * e.g. due to a failure, are reported with 0.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class SlowCall {
+
+    private final long timestamp;
+    private final String dataSourceName;
+    private final String name;
+    private final String sql;
+    private final List<String> bindValues;
+    private final long acquireNanos;
+    private final long prepareNanos;
+    private final long executeNanos;
+    private final long mapNanos;
+    private final long totalNanos;
+    private final long rowCount;
+    private final boolean success;
+
+    SlowCall(final String pDataSourceName,
+             final String pName,
+             final String pSQL,
+             final List<String> pBindValues,
+             final long[] pPhaseNanos,
+             final long pTotalNanos,
+             final long pRowCount,
+             final boolean pSuccess) {
+
+        timestamp = System.currentTimeMillis();
+        dataSourceName = pDataSourceName;
+        name = pName;
+        sql = pSQL;
+        bindValues = pBindValues;
+        acquireNanos = pPhaseNanos[0];
+        prepareNanos = pPhaseNanos[1];
+        executeNanos = pPhaseNanos[2];
+        mapNanos = pPhaseNanos[3];
+        totalNanos = pTotalNanos;
+        rowCount = pRowCount;
+        success = pSuccess;
+    }
+
+    /**
+     * @return the time of the termination of the call in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
+    /**
+     * @return the table or procedure name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the SQL statement or procedure call, null, when not available
+     */
+    public String getSQL() {
+        return sql;
+    }
+
+    /**
+     * @return the bind values in the order of binding. Long values are truncated, binary values are limited to
+     * a hex representation of their first bytes
+     */
+    public List<String> getBindValues() {
+        return bindValues;
+    }
+
+    public long getAcquireNanos() {
+        return acquireNanos;
+    }
+
+    public long getPrepareNanos() {
+        return prepareNanos;
+    }
+
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+
+    public long getMapNanos() {
+        return mapNanos;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the number of rows mapped by the call
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    @Override
+    public String toString() {
+
+        final StringBuilder description = new StringBuilder();
+        description.append("Slow call on ").append(name);
+        if (dataSourceName != null && !dataSourceName.isEmpty()) {
+            description.append(" (data source ").append(dataSourceName).append(")");
+        }
+        description.append(" at ").append(new Date(timestamp));
+        description.append(": total ").append(toMillis(totalNanos)).append(" ms");
+        description.append(" [acquire ").append(toMillis(acquireNanos));
+        description.append(" ms, prepare ").append(toMillis(prepareNanos));
+        description.append(" ms, execute ").append(toMillis(executeNanos));
+        description.append(" ms, map ").append(toMillis(mapNanos)).append(" ms], ");
+        description.append(rowCount).append(" rows");
+        if (!success) {
+            description.append(", failed");
+        }
+        description.append("; SQL: ").append(sql);
+        description.append("; bind values: ").append(bindValues);
+        return description.toString();
+    }
+
+    private static String toMillis(final long pNanos) {
+
+        return Long.toString(pNanos / 1000000L);
+    }
+}
@@ -0,0 +1,58 @@
+package org.noorm.jdbc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Data source wide ring buffer for the most recent slow calls (see SlowCall). When the configured capacity
+ * has been reached, the oldest slow call is discarded for every new one.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class SlowCallLog {
+
+    private final Deque<SlowCall> slowCalls = new ArrayDeque<>();
+    private long totalCount = 0L;
+
+    /**
+     * Adds the given slow call to the ring buffer.
+     *
+     * @param pSlowCall the slow call
+     * @param pCapacity the maximum number of retained slow calls. Slow calls are not retained for values
+     *                  smaller than 1, but are still counted
+     */
+    synchronized void add(final SlowCall pSlowCall, final int pCapacity) {
+
+        totalCount++;
+        while (!slowCalls.isEmpty() && slowCalls.size() >= pCapacity) {
+            slowCalls.removeFirst();
+        }
+        if (pCapacity > 0) {
+            slowCalls.addLast(pSlowCall);
+        }
+    }
+
+    /**
+     * @return a snapshot of the retained slow calls, ordered from the oldest to the most recent one
+     */
+    synchronized List<SlowCall> getSlowCalls() {
+
+        return new ArrayList<>(slowCalls);
+    }
+
+    /**
+     * @return the number of slow calls recorded since the last clear, including discarded ones
+     */
+    synchronized long getTotalCount() {
+
+        return totalCount;
+    }
+
+    synchronized void clear() {
+
+        slowCalls.clear();
+        totalCount = 0L;
+    }
+}
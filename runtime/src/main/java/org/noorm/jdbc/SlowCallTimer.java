@@ -0,0 +1,171 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the phases of a single query or procedure call for the slow call detection (see SlowCall).
+ * Without configured slow call threshold, the shared disabled instance is used, which ignores all calls.
+ * The SQL statement and the bind values are only rendered for calls exceeding the threshold, so the cost for
+ * calls below the threshold is limited to reading the system timer once per phase.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+final class SlowCallTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowCallTimer.class);
+
+    static final SlowCallTimer DISABLED = new SlowCallTimer(0L);
+
+    private static final int MAX_BIND_VALUES = 100;
+    private static final int MAX_VALUE_LENGTH = 256;
+    private static final int MAX_BINARY_LENGTH = 32;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private static final int ACQUIRE = 0;
+    private static final int PREPARE = 1;
+    private static final int EXECUTE = 2;
+    private static final int MAP = 3;
+
+    private final long thresholdNanos;
+    private final long startTime;
+    private final long[] phaseNanos = new long[4];
+    private long lastMark;
+    private long totalNanos;
+
+    private SlowCallTimer(final long pThresholdNanos) {
+
+        thresholdNanos = pThresholdNanos;
+        startTime = pThresholdNanos > 0L ? System.nanoTime() : 0L;
+        lastMark = startTime;
+    }
+
+    /**
+     * Starts the time measurement for a call.
+     *
+     * @param pThresholdMillis the slow call threshold in milliseconds. Values smaller than 1 disable the
+     *                         slow call detection
+     * @return the timer for the call
+     */
+    static SlowCallTimer start(final int pThresholdMillis) {
+
+        if (pThresholdMillis < 1) {
+            return DISABLED;
+        }
+        return new SlowCallTimer(pThresholdMillis * 1000000L);
+    }
+
+    void acquired() {
+        mark(ACQUIRE);
+    }
+
+    void prepared() {
+        mark(PREPARE);
+    }
+
+    void executed() {
+        mark(EXECUTE);
+    }
+
+    void mapped() {
+        mark(MAP);
+    }
+
+    private void mark(final int pPhase) {
+
+        if (thresholdNanos == 0L) {
+            return;
+        }
+        final long now = System.nanoTime();
+        phaseNanos[pPhase] = now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Terminates the time measurement.
+     *
+     * @return true, when the call has exceeded the slow call threshold and should be recorded
+     */
+    boolean finish() {
+
+        if (thresholdNanos == 0L) {
+            return false;
+        }
+        totalNanos = System.nanoTime() - startTime;
+        return totalNanos >= thresholdNanos;
+    }
+
+    /**
+     * Records the measured call as slow call. The slow call is logged and added to the slow call log of the
+     * active data source.
+     *
+     * @param pName the table or procedure name
+     * @param pSQL the SQL statement or procedure call
+     * @param pBindValues the bind values. Map entries are rendered as name/value pairs
+     * @param pRowCount the number of rows mapped
+     * @param pSuccess false, when the call has failed
+     */
+    void record(final String pName,
+                final String pSQL,
+                final Collection<?> pBindValues,
+                final long pRowCount,
+                final boolean pSuccess) {
+
+        try {
+            final SlowCall slowCall = new SlowCall(DataSourceProvider.getActiveDataSourceName(), pName, pSQL,
+                    formatBindValues(pBindValues), phaseNanos, totalNanos, pRowCount, pSuccess);
+            log.warn(slowCall.toString());
+            DataSourceProvider.addSlowCall(slowCall);
+        } catch (RuntimeException e) {
+            log.warn("Recording of slow call failed.", e);
+        }
+    }
+
+    private static List<String> formatBindValues(final Collection<?> pBindValues) {
+
+        if (pBindValues == null || pBindValues.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> bindValues = new ArrayList<>(Math.min(pBindValues.size(), MAX_BIND_VALUES + 1));
+        for (final Object bindValue : pBindValues) {
+            if (bindValues.size() == MAX_BIND_VALUES) {
+                bindValues.add("... (" + (pBindValues.size() - MAX_BIND_VALUES) + " more)");
+                break;
+            }
+            if (bindValue instanceof Map.Entry) {
+                final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) bindValue;
+                bindValues.add(String.valueOf(entry.getKey()).concat("=").concat(formatBindValue(entry.getValue())));
+            } else {
+                bindValues.add(formatBindValue(bindValue));
+            }
+        }
+        return Collections.unmodifiableList(bindValues);
+    }
+
+    private static String formatBindValue(final Object pBindValue) {
+
+        if (pBindValue instanceof byte[]) {
+            final byte[] binary = (byte[]) pBindValue;
+            final int length = Math.min(binary.length, MAX_BINARY_LENGTH);
+            final StringBuilder hex = new StringBuilder(length * 2 + 24);
+            for (int i = 0; i < length; i++) {
+                hex.append(HEX_DIGITS[(binary[i] >> 4) & 0x0F]).append(HEX_DIGITS[binary[i] & 0x0F]);
+            }
+            if (binary.length > length) {
+                hex.append("... (").append(binary.length).append(" bytes)");
+            }
+            return hex.toString();
+        }
+        final String value = String.valueOf(pBindValue);
+        if (value.length() > MAX_VALUE_LENGTH) {
+            return value.substring(0, MAX_VALUE_LENGTH).concat("... (" + value.length() + " characters)");
+        }
+        return value;
+    }
+}
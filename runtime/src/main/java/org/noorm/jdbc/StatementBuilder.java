@@ -1,9 +1,11 @@
 package org.noorm.jdbc;
 
-import java.lang.reflect.Field;
+import org.noorm.jdbc.platform.IPlatform;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -76,19 +78,73 @@ public class StatementBuilder {
                                     final boolean pUseNamedParameters,
                                     final boolean pAcquireLock) {
 
+        return buildSQLStatement(pTableName, pInParameters, pUseNamedParameters, pAcquireLock, null);
+    }
+
+    /**
+     * Builds the SQL query for the given table and query parameters. When keyset paging is requested with the
+     * given filter extension, the where-clause is extended with the seek predicate for the sort criteria (see
+     * buildKeysetPredicate). Ordering and limitation of the result set are platform specific and not subject to
+     * this method.
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pInParameters the parameters for the where-clause of the SQL query
+     * @param pUseNamedParameters whether to use named parameters or not
+     * @param pAcquireLock lock the retrieved data for further processing
+     * @param pFilterExtension paging and sorting information, may be null
+     * @return the SQL query
+     */
+    public String buildSQLStatement(final String pTableName,
+                                    final Map<QueryColumn, Object> pInParameters,
+                                    final boolean pUseNamedParameters,
+                                    final boolean pAcquireLock,
+                                    final FilterExtension pFilterExtension) {
+
         final StringBuilder pSQLStatement = new StringBuilder();
         if (!pTableName.equals(pTableName.toUpperCase())) {
             pSQLStatement.append(SELECT_PREFIX).append("\"".concat(pTableName).concat("\""));
         } else {
             pSQLStatement.append(SELECT_PREFIX).append(pTableName);
         }
+        final int selectLength = pSQLStatement.length();
         final StringBuilder sqlStatement = buildQueryWhereClause(pInParameters, pUseNamedParameters, pSQLStatement);
+        if (pFilterExtension != null && pFilterExtension.hasKeysetValues()) {
+            if (sqlStatement.length() == selectLength) {
+                sqlStatement.append(WHERE);
+            } else {
+                sqlStatement.append(AND);
+            }
+            sqlStatement.append(buildKeysetPredicate(pFilterExtension.getSortCriteria()));
+        }
         if (pAcquireLock) {
             sqlStatement.append(SELECT_LOCK);
         }
         return sqlStatement.toString();
     }
 
+    private static final String SELECT_COUNT_PREFIX = "SELECT COUNT(*) FROM ";
+
+    /**
+     * Builds the SQL query to count the rows for the given table and query parameters.
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pInParameters the parameters for the where-clause of the SQL query
+     * @param pUseNamedParameters whether to use named parameters or not
+     * @return the SQL query
+     */
+    public String buildCountStatement(final String pTableName,
+                                      final Map<QueryColumn, Object> pInParameters,
+                                      final boolean pUseNamedParameters) {
+
+        final StringBuilder pSQLStatement = new StringBuilder();
+        if (!pTableName.equals(pTableName.toUpperCase())) {
+            pSQLStatement.append(SELECT_COUNT_PREFIX).append("\"".concat(pTableName).concat("\""));
+        } else {
+            pSQLStatement.append(SELECT_COUNT_PREFIX).append(pTableName);
+        }
+        return buildQueryWhereClause(pInParameters, pUseNamedParameters, pSQLStatement).toString();
+    }
+
 	private static final String INSERT_PREFIX = "INSERT INTO ";
 	private static final String INSERT_DELIM_1 = " (";
 	private static final String INSERT_DELIM_2 = ",";
@@ -99,10 +155,9 @@ public class StatementBuilder {
 	public String buildInsert(final IBean pBean, final Map pField2ParameterIndex, final boolean pUseNamedParameters) {
 
         final String tableName = pBean.getTableName();
-        final String[] primaryKeyColumnNames = pBean.getPrimaryKeyColumnNames();
         final String sequenceName = pBean.getSequenceName();
         final boolean useInlineSequenceValueGeneration = pBean.useInlineSequenceValueGeneration();
-        final Field[] fields = BeanMetaDataUtil.getDeclaredFieldsInclParent(pBean.getClass());
+        final BeanMetadata.Column[] columns = BeanMetadata.forClass(pBean.getClass()).getColumns();
 		final StringBuilder insert = new StringBuilder();
         if (pBean.isTableNameCaseSensitive()) {
             insert.append(INSERT_PREFIX).append("\"".concat(tableName).concat("\""));
@@ -110,9 +165,9 @@ public class StatementBuilder {
             insert.append(INSERT_PREFIX).append(tableName);
         }
 		String delim = INSERT_DELIM_1;
-        for (final Field field : fields) {
-            final JDBCColumn colAnn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
-            if (colAnn != null && colAnn.insertable()) {
+        for (final BeanMetadata.Column column : columns) {
+            final JDBCColumn colAnn = column.getJDBCColumn();
+            if (colAnn.insertable()) {
                 if (colAnn.caseSensitiveName()) {
                     insert.append(delim).append("\"".concat(colAnn.name()).concat("\""));
                 } else {
@@ -125,17 +180,11 @@ public class StatementBuilder {
 		delim = INSERT_DELIM_1;
 
         Integer parameterIndex = 1;
-        for (final Field field : fields) {
-            final JDBCColumn colAnn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
-            if (colAnn != null && colAnn.insertable()) {
+        for (final BeanMetadata.Column column : columns) {
+            final JDBCColumn colAnn = column.getJDBCColumn();
+            if (colAnn.insertable()) {
                 insert.append(delim);
-                boolean isPKColumn = false;
-                for (final String pkColumnName : primaryKeyColumnNames) {
-                    if (colAnn.name().equals(pkColumnName)) {
-                        isPKColumn = true;
-                    }
-                }
-                if (isPKColumn && sequenceName != null && !sequenceName.isEmpty() && useInlineSequenceValueGeneration) {
+                if (column.isPrimaryKey() && sequenceName != null && !sequenceName.isEmpty() && useInlineSequenceValueGeneration) {
                     if (!sequenceName.equals(sequenceName.toUpperCase())) {
                         insert.append("\"".concat(sequenceName).concat("\"")).append(INSERT_NEXT_PK_VAL);
                     } else {
@@ -157,6 +206,76 @@ public class StatementBuilder {
 		return insert.toString();
 	}
 
+    /**
+     * Builds a multi-row INSERT statement for the given Bean type using the platform specific syntax. Inline
+     * sequence value generation is not supported here, since the sequence value would not be evaluated per row
+     * on all platforms. The parameter indexes provided in pField2ParameterIndex refer to the first row.
+     *
+     * @param pBean a Bean of the type subject to insertion
+     * @param pField2ParameterIndex the mapping from column names to parameter indexes (first row)
+     * @param pRowCount the number of rows inserted by the statement
+     * @param pPlatform the database platform
+     * @return the multi-row INSERT statement
+     */
+    public String buildMultiRowInsert(final IBean pBean,
+                                      final Map pField2ParameterIndex,
+                                      final int pRowCount,
+                                      final IPlatform pPlatform) {
+
+        String tableName = pBean.getTableName();
+        if (pBean.isTableNameCaseSensitive()) {
+            tableName = "\"".concat(tableName).concat("\"");
+        }
+        final StringBuilder columnList = new StringBuilder();
+        final StringBuilder valueList = new StringBuilder();
+        Integer parameterIndex = 1;
+        for (final BeanMetadata.Column column : BeanMetadata.forClass(pBean.getClass()).getColumns()) {
+            final JDBCColumn colAnn = column.getJDBCColumn();
+            if (colAnn.insertable()) {
+                if (parameterIndex > 1) {
+                    columnList.append(INSERT_DELIM_2);
+                    valueList.append(INSERT_DELIM_2);
+                }
+                if (colAnn.caseSensitiveName()) {
+                    columnList.append("\"".concat(colAnn.name()).concat("\""));
+                } else {
+                    columnList.append(colAnn.name());
+                }
+                valueList.append(ASG2);
+                pField2ParameterIndex.put(colAnn.name(), parameterIndex++);
+            }
+        }
+        return pPlatform.buildMultiRowInsert(tableName, columnList.toString(), valueList.toString(), pRowCount);
+    }
+
+    /**
+     * Builds a multi-row INSERT statement with one row constructor per row in the VALUES clause. This syntax
+     * is supported by most databases (not by Oracle prior to version 23).
+     *
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnList the comma separated list of column names
+     * @param pValueList the comma separated list of value expressions for a single row
+     * @param pRowCount the number of rows inserted by the statement
+     * @return the multi-row INSERT statement
+     */
+    public String buildMultiRowValuesInsert(final String pTableName,
+                                            final String pColumnList,
+                                            final String pValueList,
+                                            final int pRowCount) {
+
+        final String rowConstructor = "(".concat(pValueList).concat(INSERT_DELIM_3);
+        final StringBuilder insert = new StringBuilder(64 + (rowConstructor.length() + 1) * pRowCount);
+        insert.append(INSERT_PREFIX).append(pTableName).append(INSERT_DELIM_1).append(pColumnList);
+        insert.append(INSERT_VALUES);
+        for (int i = 0; i < pRowCount; i++) {
+            if (i > 0) {
+                insert.append(INSERT_DELIM_2);
+            }
+            insert.append(rowConstructor);
+        }
+        return insert.toString();
+    }
+
 	private static final String UPDATE_PREFIX = "UPDATE ";
 	private static final String UPDATE_DELIM_1 = " SET ";
 	private static final String UPDATE_DELIM_2 = ",";
@@ -167,9 +286,28 @@ public class StatementBuilder {
                               final Map pField2ParameterIndex,
                               final boolean pUseNamedParameters) {
 
+        return buildUpdate(pBean, pUseOptLockFullRowCompare, pField2ParameterIndex, pUseNamedParameters, null);
+    }
+
+    /**
+     * Builds the UPDATE statement for the given Bean, which is restricted to the given columns. The version
+     * column (if any) is always part of the statement.
+     *
+     * @param pBean the Bean
+     * @param pUseOptLockFullRowCompare indicates, whether the full pre-change image is compared
+     * @param pField2ParameterIndex the mapping from column names to parameter indexes, filled by this method
+     * @param pUseNamedParameters indicates, whether named parameters are used
+     * @param pUpdateColumnNames the columns to be updated or null to update all updatable columns
+     * @return the UPDATE statement
+     */
+    public String buildUpdate(final IBean pBean,
+                              final boolean pUseOptLockFullRowCompare,
+                              final Map pField2ParameterIndex,
+                              final boolean pUseNamedParameters,
+                              final Set<String> pUpdateColumnNames) {
+
+        final String versionColumnName = pBean.getVersionColumnName();
         final String tableName = pBean.getTableName();
-        final String[] primaryKeyColumnNames = pBean.getPrimaryKeyColumnNames();
-        final Field[] fields = BeanMetaDataUtil.getDeclaredFieldsInclParent(pBean.getClass());
 		final StringBuilder update = new StringBuilder();
         if (pBean.isTableNameCaseSensitive()) {
             update.append(UPDATE_PREFIX).append("\"".concat(tableName).concat("\""));
@@ -179,16 +317,11 @@ public class StatementBuilder {
 		String delim = UPDATE_DELIM_1;
 
         Integer parameterIndex = 1;
-        for (final Field field : fields) {
-            final JDBCColumn colAnn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
-            if (colAnn != null && colAnn.updatable()) {
-                boolean isPKColumn = false;
-                for (final String pkColumnName : primaryKeyColumnNames) {
-                    if (colAnn.name().equals(pkColumnName)) {
-                        isPKColumn = true;
-                    }
-                }
-                if (!isPKColumn) {
+        for (final BeanMetadata.Column column : BeanMetadata.forClass(pBean.getClass()).getColumns()) {
+            final JDBCColumn colAnn = column.getJDBCColumn();
+            if (colAnn.updatable()) {
+                if (!column.isPrimaryKey() && (pUpdateColumnNames == null
+                        || pUpdateColumnNames.contains(colAnn.name()) || colAnn.name().equals(versionColumnName))) {
                     String fieldName = colAnn.name();
                     if (colAnn.caseSensitiveName()) {
                         fieldName = "\"".concat(colAnn.name()).concat("\"");
@@ -325,6 +458,63 @@ public class StatementBuilder {
         return pSQLStatement;
     }
 
+    private static final String KEYSET_GREATER = " > ";
+    private static final String KEYSET_LESS = " < ";
+    private static final String KEYSET_OR = " OR ";
+
+    /**
+     * Builds the seek predicate for keyset paging. For sort criteria (A ASC, B DESC), the predicate is
+     * (A &gt; ? OR (A = ? AND B &lt; ?)). Row value comparisons are not used, since they are not available on all
+     * platforms and do not support mixed sort directions. The parameters must be bound in the order provided by
+     * getKeysetParameterValues.
+     *
+     * @param pSortCriteria the sort criteria with resolved column names
+     * @return the seek predicate
+     */
+    public String buildKeysetPredicate(final List<FilterExtension.SortCriteria> pSortCriteria) {
+
+        final StringBuilder predicate = new StringBuilder();
+        predicate.append(SELECT_IN_CLAUSE_START);
+        for (int i = 0; i < pSortCriteria.size(); i++) {
+            if (i > 0) {
+                predicate.append(KEYSET_OR).append(SELECT_IN_CLAUSE_START);
+            }
+            for (int j = 0; j < i; j++) {
+                predicate.append(pSortCriteria.get(j).getColumnName()).append(EQUALS).append(ASG2).append(AND);
+            }
+            final FilterExtension.SortCriteria sortCriteria = pSortCriteria.get(i);
+            predicate.append(sortCriteria.getColumnName());
+            if (sortCriteria.getDirection() == FilterExtension.Direction.DESC) {
+                predicate.append(KEYSET_LESS);
+            } else {
+                predicate.append(KEYSET_GREATER);
+            }
+            predicate.append(ASG2);
+            if (i > 0) {
+                predicate.append(SELECT_IN_CLAUSE_END);
+            }
+        }
+        predicate.append(SELECT_IN_CLAUSE_END);
+        return predicate.toString();
+    }
+
+    /**
+     * Provides the parameter values for the seek predicate built by buildKeysetPredicate in binding order.
+     *
+     * @param pKeysetValues the keyset values, one per sort criteria
+     * @return the parameter values in binding order
+     */
+    public List<Object> getKeysetParameterValues(final List<Object> pKeysetValues) {
+
+        final List<Object> parameterValues = new ArrayList<>();
+        for (int i = 0; i < pKeysetValues.size(); i++) {
+            for (int j = 0; j <= i; j++) {
+                parameterValues.add(pKeysetValues.get(j));
+            }
+        }
+        return parameterValues;
+    }
+
     private static final String WHERE = " WHERE ";
     private static final String AND = " AND ";
     private static final String EQUALS = " = ";
@@ -343,12 +533,10 @@ public class StatementBuilder {
         final String versionColumnName = pBean.getVersionColumnName();
         final BeanMapper<IBean> mapper = BeanMapper.getInstance();
         final Map<String, Object> fieldMap = mapper.toMap(pBean);
-        final Field[] fields = BeanMetaDataUtil.getDeclaredFieldsInclParent(pBean.getClass());
         final List<String> caseSensitiveFields = new ArrayList<>();
-        for (final Field field : fields) {
-            final JDBCColumn colAnn = BeanMetaDataUtil.getJDBCColumnAnnotation(field);
-            if (colAnn != null && colAnn.caseSensitiveName()) {
-                caseSensitiveFields.add(colAnn.name());
+        for (final BeanMetadata.Column column : BeanMetadata.forClass(pBean.getClass()).getColumns()) {
+            if (column.getJDBCColumn().caseSensitiveName()) {
+                caseSensitiveFields.add(column.getName());
             }
         }
 
@@ -0,0 +1,148 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache for statement plans, i.e. the SQL text of generated statements together with the mapping of column
+ * names to JDBC parameter indexes. Statements built by the NoORM runtime only depend on the type of Bean, the
+ * type of operation and the "shape" of the provided query parameters (which parameters are null, the size
+ * of IN-lists, paging and sorting), but not on the actual parameter values. Thus, the statement text can be
+ * reused for all subsequent calls with the same shape.
+ * The cache is bounded. When the maximum size is reached, arbitrary entries are evicted, which is sufficient,
+ * since the number of different statement shapes is typically small and stable for a given application.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+class StatementPlanCache {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementPlanCache.class);
+
+    private static final int MAX_SIZE = 1024;
+    private static final char KEY_DELIM = '|';
+    private static final char KEY_ATTR_DELIM = '#';
+
+    private static final StatementPlanCache statementPlanCache = new StatementPlanCache();
+
+    private final ConcurrentMap<Object, StatementPlan> planMap = new ConcurrentHashMap<>();
+
+    private StatementPlanCache() {
+    }
+
+    static StatementPlanCache getInstance() {
+
+        return statementPlanCache;
+    }
+
+    StatementPlan get(final Object pKey) {
+
+        return planMap.get(pKey);
+    }
+
+    StatementPlan put(final Object pKey, final String pSQL, final Map<String, Integer> pFieldName2ParameterIndex) {
+
+        if (planMap.size() >= MAX_SIZE) {
+            final Iterator<Object> keyIterator = planMap.keySet().iterator();
+            if (keyIterator.hasNext()) {
+                keyIterator.next();
+                keyIterator.remove();
+            }
+        }
+        final StatementPlan statementPlan = new StatementPlan(pSQL, pFieldName2ParameterIndex);
+        final StatementPlan existingPlan = planMap.putIfAbsent(pKey, statementPlan);
+        if (existingPlan != null) {
+            return existingPlan;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Caching statement plan [".concat(pSQL).concat("]"));
+        }
+        return statementPlan;
+    }
+
+    void clear() {
+
+        planMap.clear();
+    }
+
+    /**
+     * Builds the cache key for a query on the given table or view. The query parameters must be provided
+     * in the order used for statement construction (see StatementBuilder).
+     *
+     * @param pTableName the table or view name used for the SQL query
+     * @param pOrderedQueryParameters the ordered parameters for the where-clause of the SQL query
+     * @param pAcquireLock flag to indicate, whether a write lock should be acquired
+     * @param pFilterExtension paging and sorting information
+     * @return the cache key
+     */
+    static String buildQueryKey(final String pTableName,
+                                final Map<QueryColumn, Object> pOrderedQueryParameters,
+                                final boolean pAcquireLock,
+                                final FilterExtension pFilterExtension) {
+
+        final StringBuilder key = new StringBuilder(64);
+        key.append(pTableName).append(KEY_DELIM).append(pAcquireLock);
+        for (final Map.Entry<QueryColumn, Object> entry : pOrderedQueryParameters.entrySet()) {
+            final QueryColumn queryColumn = entry.getKey();
+            final Object value = entry.getValue();
+            key.append(KEY_DELIM).append(queryColumn.getColumnName());
+            key.append(KEY_ATTR_DELIM).append(queryColumn.getOperator().getOperatorName());
+            if (queryColumn.getOperator().getOperatorName() == Operator.Name.CUSTOM) {
+                key.append(KEY_ATTR_DELIM).append(queryColumn.getCustomExpression());
+            }
+            key.append(KEY_ATTR_DELIM);
+            if (value instanceof List) {
+                key.append(((List) value).size());
+            } else {
+                key.append(value != null);
+            }
+        }
+        if (pFilterExtension != null) {
+            key.append(KEY_DELIM).append(pFilterExtension.getOffset());
+            key.append(KEY_ATTR_DELIM).append(pFilterExtension.getLimit());
+            key.append(KEY_ATTR_DELIM).append(pFilterExtension.getTotalLimit());
+            // The paging total is provided by an additional column for the total count strategy WINDOW only
+            key.append(KEY_ATTR_DELIM).append(pFilterExtension.isPagingTotalSupported());
+            key.append(KEY_ATTR_DELIM).append(pFilterExtension.isKeysetPaging());
+            key.append(KEY_ATTR_DELIM).append(pFilterExtension.hasKeysetValues());
+            for (final FilterExtension.SortCriteria sortCriteria : pFilterExtension.getSortCriteria()) {
+                key.append(KEY_ATTR_DELIM).append(sortCriteria.getColumnName());
+                key.append(' ').append(sortCriteria.getDirection());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Cached statement plan, consisting of the SQL text and the parameter index map required to bind
+     * the parameters for the statement.
+     */
+    static final class StatementPlan {
+
+        private final String sql;
+        private final Map<String, Integer> fieldName2ParameterIndex;
+
+        private StatementPlan(final String pSQL, final Map<String, Integer> pFieldName2ParameterIndex) {
+            sql = pSQL;
+            if (pFieldName2ParameterIndex == null) {
+                fieldName2ParameterIndex = Collections.emptyMap();
+            } else {
+                fieldName2ParameterIndex = Collections.unmodifiableMap(pFieldName2ParameterIndex);
+            }
+        }
+
+        String getSQL() {
+            return sql;
+        }
+
+        Map<String, Integer> getFieldName2ParameterIndex() {
+            return fieldName2ParameterIndex;
+        }
+    }
+}
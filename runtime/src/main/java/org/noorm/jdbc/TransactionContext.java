@@ -0,0 +1,123 @@
+package org.noorm.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Explicit handle for the connection and transaction state of a data source, which is otherwise maintained
+ * implicitly per thread by the DataSourceProvider (see DataSourceProvider.begin()).
+ * A transaction context is not associated with a thread. It can be passed around freely and is bound to the
+ * executing thread only for the scope of a call to run or call, similar to a scoped value. Within this scope,
+ * all NoORM functionality (including DataSourceProvider.begin(), commit() and rollback()) uses the connection
+ * and transaction state of the transaction context. When the scope is left, the previous state of the thread is
+ * restored, so no state remains associated with the thread. This makes transaction contexts suitable for
+ * short-lived (virtual) threads and for transactions continued by a different thread, e.g. after an
+ * asynchronous call.
+ * A transaction context must not be used by several threads at the same time. Binding a transaction context,
+ * which is currently bound to another thread, blocks until the other thread has left its scope.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public final class TransactionContext {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionContext.class);
+
+    private final DataSourceProvider.ActiveConnectionData activeConnectionData;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    TransactionContext(final DataSourceProvider.ActiveConnectionData pActiveConnectionData) {
+
+        activeConnectionData = pActiveConnectionData;
+    }
+
+    /**
+     * Returns the name of the data source used by this transaction context.
+     *
+     * @return the data source name
+     */
+    public String getDataSourceName() {
+
+        return activeConnectionData.getActiveDataSource().getName();
+    }
+
+    /**
+     * Starts a user managed transaction in this transaction context (see DataSourceProvider.begin()).
+     */
+    public void begin() {
+
+        run(DataSourceProvider::begin);
+    }
+
+    /**
+     * Commits the user managed transaction of this transaction context (see DataSourceProvider.commit()).
+     */
+    public void commit() {
+
+        run(DataSourceProvider::commit);
+    }
+
+    /**
+     * Issues a rollback on the user managed transaction of this transaction context
+     * (see DataSourceProvider.rollback()).
+     */
+    public void rollback() {
+
+        run(DataSourceProvider::rollback);
+    }
+
+    /**
+     * Verifies, whether a user managed transaction is currently in progress in this transaction context.
+     *
+     * @return true, when a transaction is in progress
+     */
+    public boolean isActive() {
+
+        lock.lock();
+        try {
+            return activeConnectionData.getTsStack() > 0L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes the given task with this transaction context bound to the current thread.
+     *
+     * @param pTask the task
+     */
+    public void run(final Runnable pTask) {
+
+        call(() -> {
+            pTask.run();
+            return null;
+        });
+    }
+
+    /**
+     * Executes the given task with this transaction context bound to the current thread.
+     *
+     * @param pTask the task
+     * @return the result of the task
+     */
+    public <T> T call(final Supplier<T> pTask) {
+
+        lock.lock();
+        try {
+            final DataSourceProvider.ActiveConnectionData previousConnectionData =
+                    DataSourceProvider.bindActiveConnectionData(activeConnectionData);
+            if (log.isDebugEnabled() && previousConnectionData != activeConnectionData) {
+                log.debug("Binding transaction context to thread ".concat(Thread.currentThread().getName()));
+            }
+            try {
+                return pTask.get();
+            } finally {
+                DataSourceProvider.restoreActiveConnectionData(previousConnectionData);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import javax.xml.bind.annotation.adapters.HexBinaryAdapter;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -119,20 +120,53 @@ public class Utils {
         return parameterToString;
     }
 
+    /**
+     * Provides the values of the provided query parameters in the order used for parameter binding.
+     * Values of list parameters (IN-clause) are provided as individual values.
+     *
+     * @param pOrderedQueryParameters the query parameters in natural order (TreeMap)
+     * @return the parameter values in binding order
+     */
+    public List<Object> getQueryParameterValues(final Map<QueryColumn, Object> pOrderedQueryParameters) {
+
+        final List<Object> parameterValues = new ArrayList<>();
+        for (final Map.Entry<QueryColumn, Object> entry : pOrderedQueryParameters.entrySet()) {
+            if (!entry.getKey().getOperator().isUnary()) {
+                Object value = entry.getValue();
+                if (value instanceof java.util.Date) {
+                    value = new Timestamp(((java.util.Date) value).getTime());
+                }
+                if (value instanceof List) {
+                    parameterValues.addAll((List<Object>) value);
+                } else {
+                    if (value != null) {
+                        parameterValues.add(value);
+                    }
+                }
+            }
+        }
+        return parameterValues;
+    }
+
     /**
      * Sets the provided query parameters for the provided prepared statement for further processing.
+     * Parameters already provided in natural order (TreeMap) are used as is, otherwise they are ordered here.
      *
      * @param pQueryParameters the map of query parameters
      * @param pStmt the JDBC prepared statement
      * @param pParameterIndex the current parameter index within the JDBC prepared statement
+     * @return the parameter index following the last parameter set
      * @throws SQLException SQL processing exception thrown by database driver
      */
-    public void setQueryParameter(final Map<QueryColumn, Object> pQueryParameters,
-                                  final PreparedStatement pStmt,
-                                  int pParameterIndex) throws SQLException {
+    public int setQueryParameter(final Map<QueryColumn, Object> pQueryParameters,
+                                 final PreparedStatement pStmt,
+                                 int pParameterIndex) throws SQLException {
 
         final IPlatform platform = DataSourceProvider.getPlatform();
-        final Map<QueryColumn, Object> orderedQueryParameters = new TreeMap<>(pQueryParameters);
+        Map<QueryColumn, Object> orderedQueryParameters = pQueryParameters;
+        if (!(pQueryParameters instanceof TreeMap) || ((TreeMap) pQueryParameters).comparator() != null) {
+            orderedQueryParameters = new TreeMap<>(pQueryParameters);
+        }
         for (final QueryColumn queryColumn : orderedQueryParameters.keySet()) {
             if (!queryColumn.getOperator().isUnary()) {
                 Object value = orderedQueryParameters.get(queryColumn);
@@ -151,5 +185,6 @@ public class Utils {
                 }
             }
         }
+        return pParameterIndex;
     }
 }
@@ -4,8 +4,12 @@ import org.noorm.jdbc.FilterExtension;
 import org.noorm.jdbc.QueryColumn;
 
 import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -50,6 +54,16 @@ public interface IPlatform {
      */
     String getSequenceQuery(final String pSequenceName);
 
+    /**
+     * Returns the platform specific query to retrieve multiple sequence values generated by the database with
+     * a single database round-trip.
+     *
+     * @param pSequenceName the name of the database sequence
+     * @param pValueCount the number of sequence values to retrieve
+     * @return the SELECT statement to retrieve the given number of sequence values (one row per value)
+     */
+    String getSequenceQuery(final String pSequenceName, final int pValueCount);
+
     /**
      * Executes a batch over a prepared statement.
      * Different databases and JDBC drivers handle the update count differently. To get a reliable update,
@@ -61,6 +75,58 @@ public interface IPlatform {
      */
     int executeBatchWithReliableCount(final PreparedStatement pPreparedStatement) throws SQLException;
 
+    /**
+     * Constructs a multi-row INSERT statement, which inserts the given number of rows with a single statement.
+     * The column list and the value list describe a single row and are repeated for every row, i.e. the
+     * parameters of row n (starting with 0) are bound at the parameter indexes of the first row plus
+     * n times the number of parameters per row.
+     *
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnList the comma separated list of column names
+     * @param pValueList the comma separated list of value expressions (parameter placeholders) for a single row
+     * @param pRowCount the number of rows inserted by the statement
+     * @return the constructed multi-row INSERT statement
+     */
+    String buildMultiRowInsert(final String pTableName,
+                               final String pColumnList,
+                               final String pValueList,
+                               final int pRowCount);
+
+    /**
+     * Returns the maximum number of rows, which can be inserted with a single multi-row INSERT statement.
+     * The limit depends on the number of bind parameters supported by the database and the JDBC driver and on
+     * platform specific restrictions for the statement size.
+     *
+     * @param pParametersPerRow the number of bind parameters required for a single row
+     * @return the maximum number of rows per statement, 1, when multi-row inserts are not supported
+     */
+    int getMaxMultiRowInsertSize(final int pParametersPerRow);
+
+    /**
+     * Indicates, whether the platform supports a bulk load API, which bypasses the SQL INSERT processing
+     * (e.g. COPY for PostgreSQL).
+     *
+     * @return true, when bulkLoad is supported
+     */
+    boolean supportsBulkLoad();
+
+    /**
+     * Loads the provided rows into the given table using the bulk load API of the platform. The rows are
+     * consumed one at a time from the provided iterator and must be transferred to the database using a
+     * bounded buffer, i.e. the memory consumption must not depend on the number of rows.
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table name (quoted, when required)
+     * @param pColumnNames the column names (quoted, when required)
+     * @param pRows the rows, each row containing the values in the order of the column names
+     * @return the number of loaded rows
+     * @throws SQLException JDBC driver exception, SQLFeatureNotSupportedException, when not supported
+     */
+    long bulkLoad(final Connection pConnection,
+                  final String pTableName,
+                  final List<String> pColumnNames,
+                  final Iterator<Object[]> pRows) throws SQLException;
+
     /**
      * Sets an object value for an DML statement (INSERT, UPDATE, DELETE).
      *
@@ -74,7 +140,88 @@ public interface IPlatform {
                    final Object pValue,
                    final int pParameterIndex,
                    final int pSQLType) throws SQLException;
-    
+
+    /*
+     * Typed parameter binding. Unlike setObject, the following methods neither require boxing of primitive
+     * values nor the type dispatch inside the JDBC driver. The parameter value must not be null, NULL values
+     * are set using method setNull.
+     */
+
+    /**
+     * Sets the NULL value for an DML statement parameter.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pParameterIndex the index of the parameter
+     * @param pSQLType the SQL type. Usually one type specified in java.sql.Types or a proprietary type
+     * @throws SQLException JDBC driver exception
+     */
+    void setNull(final PreparedStatement pStmt, final int pParameterIndex, final int pSQLType) throws SQLException;
+
+    /**
+     * Sets a long value for an DML statement parameter.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pValue the parameter value to be set
+     * @param pParameterIndex the index of the parameter
+     * @throws SQLException JDBC driver exception
+     */
+    void setLong(final PreparedStatement pStmt, final long pValue, final int pParameterIndex) throws SQLException;
+
+    /**
+     * Sets an int value for an DML statement parameter.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pValue the parameter value to be set
+     * @param pParameterIndex the index of the parameter
+     * @throws SQLException JDBC driver exception
+     */
+    void setInt(final PreparedStatement pStmt, final int pValue, final int pParameterIndex) throws SQLException;
+
+    /**
+     * Sets a double value for an DML statement parameter.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pValue the parameter value to be set
+     * @param pParameterIndex the index of the parameter
+     * @throws SQLException JDBC driver exception
+     */
+    void setDouble(final PreparedStatement pStmt, final double pValue, final int pParameterIndex)
+            throws SQLException;
+
+    /**
+     * Sets a String value for an DML statement parameter.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pValue the parameter value to be set, not null
+     * @param pParameterIndex the index of the parameter
+     * @throws SQLException JDBC driver exception
+     */
+    void setString(final PreparedStatement pStmt, final String pValue, final int pParameterIndex)
+            throws SQLException;
+
+    /**
+     * Sets a BigDecimal value for an DML statement parameter.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pValue the parameter value to be set, not null
+     * @param pParameterIndex the index of the parameter
+     * @throws SQLException JDBC driver exception
+     */
+    void setBigDecimal(final PreparedStatement pStmt, final BigDecimal pValue, final int pParameterIndex)
+            throws SQLException;
+
+    /**
+     * Sets a date value for an DML statement parameter. The value is bound as java.sql.Timestamp, instances of
+     * java.sql.Timestamp are bound as they are.
+     *
+     * @param pStmt the prepared SQL statement
+     * @param pValue the parameter value to be set, not null
+     * @param pParameterIndex the index of the parameter
+     * @throws SQLException JDBC driver exception
+     */
+    void setTimestamp(final PreparedStatement pStmt, final java.util.Date pValue, final int pParameterIndex)
+            throws SQLException;
+
     /**
      * The REF_CURSOR JDBC type is used to directly utilize a SQL cursor established from within
      * a stored procedure for a JDBC ResultSet. However, though we have JDBCType.REF_CURSOR, this
@@ -84,6 +231,19 @@ public interface IPlatform {
      */
     int getRefCursorJDBCType();
 
+    /**
+     * Constructs the call of a stored procedure. The parameters are bound in the order of their names, the
+     * scalar OUT parameter or REF CURSOR parameter (if any) is bound first.
+     *
+     * @param pCallable the name of the stored procedure or the notation PACKAGENAME.PROCEDURE
+     * @param pOutParamName the name of the scalar OUT parameter or the REF CURSOR parameter, may be null
+     * @param pInParameters the IN parameters, parameters with null values are omitted
+     * @return the procedure call in JDBC escape syntax
+     */
+    String buildProcedureCall(final String pCallable,
+                              final String pOutParamName,
+                              final Map<String, Object> pInParameters);
+
     /**
      * Constructs a SQL query based on the provided information.
      *
@@ -100,6 +260,35 @@ public interface IPlatform {
                              final boolean pAcquireLock,
                              final FilterExtension pFilterExtension);
 
+    /**
+     * Estimates the number of rows returned by the given query without executing it, e.g. based on the
+     * optimizer statistics of the database. The estimation is used to provide the paging total for
+     * FilterExtension.TotalCountStrategy.ESTIMATED.
+     *
+     * @param pConnection the database connection
+     * @param pTableName the table or view name used for the SQL query
+     * @param pQuery the SQL query without ordering and paging
+     * @param pParameters the parameter values for the SQL query in binding order
+     * @return the estimated number of rows or null, when no estimation is available
+     * @throws SQLException JDBC driver exception
+     */
+    Long estimateRowCount(final Connection pConnection,
+                          final String pTableName,
+                          final String pQuery,
+                          final List<Object> pParameters) throws SQLException;
+
+    /**
+     * Builds a SQL expression, which assigns every row to one of the given number of partitions based on a hash
+     * of the given column. The expression evaluates to a value between 0 and pPartitionCount - 1 for non-null
+     * column values. Used to split a query for parallel execution (see
+     * JDBCQueryProcessor.getBeanListFromSQLParallel).
+     *
+     * @param pColumnName the partition column
+     * @param pPartitionCount the number of partitions
+     * @return the partition expression
+     */
+    String buildPartitionExpression(final String pColumnName, final int pPartitionCount);
+
     /**
      * Provides database metadata for code generation and validation of generated code.
      *
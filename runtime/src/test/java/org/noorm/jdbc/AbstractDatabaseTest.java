@@ -0,0 +1,51 @@
+package org.noorm.jdbc;
+
+import org.junit.Before;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for tests operating on the test database (see TestDatabase). Before every test, the test table
+ * is filled with the given number of Beans with ids 1 to n (see TestDatabase.createItems).
+ * Sub-classes are named *IT and executed by the H2 platform module, since the runtime module does not provide
+ * a database platform.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public abstract class AbstractDatabaseTest {
+
+    protected final JDBCQueryProcessor<TestItem> queryProcessor = JDBCQueryProcessor.getInstance();
+    protected final JDBCDMLProcessor<TestItem> dmlProcessor = JDBCDMLProcessor.getInstance();
+    protected final Map<QueryColumn, Object> queryParameters = new HashMap<>();
+
+    private final int rowCount;
+
+    protected AbstractDatabaseTest(final int pRowCount) {
+        rowCount = pRowCount;
+    }
+
+    @Before
+    public void setUpDatabase() {
+
+        TestDatabase.clear();
+        if (rowCount > 0) {
+            dmlProcessor.insert(TestDatabase.createItems(1L, rowCount));
+            TestDatabase.clearBatchExecutions();
+        }
+    }
+
+    /**
+     * Queries all rows of the test table matching the query parameters ordered by id.
+     *
+     * @return the Beans ordered by id
+     */
+    protected List<TestItem> queryOrderedById() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria("id");
+        return queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+    }
+}
@@ -0,0 +1,155 @@
+package org.noorm.jdbc;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class BeanMapperTest {
+
+    private final BeanMapper<TestItem> beanMapper = BeanMapper.getInstance();
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:bean_mapper_test");
+        try (final Statement stmt = connection.createStatement()) {
+            stmt.execute(TestDatabase.CREATE_TABLE);
+            stmt.execute("INSERT INTO TEST_ITEM (ID, NAME, CATEGORY, CREATED, AMOUNT, VERSION, DESCRIPTION) "
+                    + "VALUES (1, 'Item 1', 'CATEGORY_1', TIMESTAMP '2017-09-11 14:38:00', 1.50, 1, 'First item')");
+            stmt.execute("INSERT INTO TEST_ITEM (ID, NAME, CATEGORY, CREATED, AMOUNT, VERSION, DESCRIPTION) "
+                    + "VALUES (2, 'Item 2', NULL, NULL, 2.50, 3, NULL)");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+
+        connection.close();
+    }
+
+    @Test
+    public void testAllColumns() throws SQLException {
+
+        final List<TestItem> items = query("SELECT * FROM TEST_ITEM ORDER BY ID", false);
+        assertEquals(2, items.size());
+        final TestItem item = items.get(0);
+        assertEquals(Long.valueOf(1L), item.getId());
+        assertEquals("Item 1", item.getName());
+        assertEquals("CATEGORY_1", item.getCategory());
+        assertNotNull(item.getCreated());
+        assertEquals(new BigDecimal("1.50"), item.getAmount());
+        assertEquals(Long.valueOf(1L), item.getVersion());
+        assertEquals("First item", item.getDescription());
+        assertNull(item.getPagingTotal());
+        assertNull(items.get(1).getCreated());
+        assertEquals(Long.valueOf(3L), items.get(1).getVersion());
+    }
+
+    @Test
+    public void testAbsentColumns() throws SQLException {
+
+        // CREATED and DESCRIPTION are not contained in the ResultSet
+        try {
+            query("SELECT ID, NAME, CATEGORY, AMOUNT, VERSION FROM TEST_ITEM ORDER BY ID", false);
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("CREATED"));
+        }
+    }
+
+    @Test
+    public void testColumnOrderAndCase() throws SQLException {
+
+        // Column indexes are resolved by the (case-insensitive) column label, not by position
+        final List<TestItem> items = query("SELECT VERSION AS \"version\", description, amount, Created, "
+                + "CATEGORY, name, ID FROM TEST_ITEM ORDER BY ID", false);
+        final TestItem item = items.get(1);
+        assertEquals(Long.valueOf(2L), item.getId());
+        assertEquals("Item 2", item.getName());
+        assertEquals(Long.valueOf(3L), item.getVersion());
+        assertEquals(new BigDecimal("2.50"), item.getAmount());
+        assertEquals("First item", items.get(0).getDescription());
+    }
+
+    @Test
+    public void testDuplicateColumnLabel() throws SQLException {
+
+        // Like ResultSet.findColumn, the first column with the given label is used
+        final List<TestItem> items = query("SELECT 'First' AS NAME, TEST_ITEM.* FROM TEST_ITEM ORDER BY ID", false);
+        assertEquals("First", items.get(0).getName());
+    }
+
+    @Test
+    public void testPagingTotal() throws SQLException {
+
+        final String sql = "SELECT TEST_ITEM.*, COUNT(*) OVER() AS PAGING_TOTAL FROM TEST_ITEM ORDER BY ID";
+        final List<TestItem> items = query(sql, true);
+        assertEquals(Integer.valueOf(2), items.get(0).getPagingTotal());
+        assertEquals(Integer.valueOf(2), items.get(1).getPagingTotal());
+        // The column PAGING_TOTAL is only mapped for paging queries
+        final List<TestItem> itemsWithoutTotal = query(sql, false);
+        assertEquals(Long.valueOf(1L), itemsWithoutTotal.get(0).getId());
+        assertNull(itemsWithoutTotal.get(0).getPagingTotal());
+        // For paging queries without the column, the paging total is not available
+        assertNull(query("SELECT * FROM TEST_ITEM", true).get(0).getPagingTotal());
+    }
+
+    @Test
+    public void testEmptyResultSet() throws SQLException {
+
+        assertTrue(query("SELECT * FROM TEST_ITEM WHERE ID < 0", false).isEmpty());
+    }
+
+    @Test
+    public void testFetchSize() throws SQLException {
+
+        try (final Statement stmt = connection.createStatement()) {
+            stmt.setFetchSize(100);
+            try (final ResultSet rs = stmt.executeQuery("SELECT * FROM TEST_ITEM ORDER BY ID")) {
+                final List<TestItem> items = beanMapper.toBeanList(rs, TestItem.class, false);
+                assertEquals(2, items.size());
+                assertEquals(Long.valueOf(2L), items.get(1).getId());
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedRowMapper() throws SQLException {
+
+        // The compiled row mapper provides the same Beans as the row mapper generated for the Bean class
+        final String sql = "SELECT * FROM TEST_ITEM ORDER BY ID";
+        final List<TestItem> items = query(sql, false);
+        try (final Statement stmt = connection.createStatement();
+             final ResultSet rs = stmt.executeQuery(sql)) {
+            final IRowMapper<TestItem> rowMapper = TestItemRowMapper.FACTORY.createRowMapper(rs, false);
+            for (final TestItem item : items) {
+                assertTrue(rs.next());
+                assertEquals(beanMapper.toMap(rowMapper.mapRow(rs)), beanMapper.toMap(item));
+            }
+            assertFalse(rs.next());
+        }
+    }
+
+    private List<TestItem> query(final String pSQL, final boolean pFetchPagingTotal) throws SQLException {
+
+        try (final Statement stmt = connection.createStatement();
+             final ResultSet rs = stmt.executeQuery(pSQL)) {
+            return beanMapper.toBeanList(rs, TestItem.class, pFetchPagingTotal);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class BeanMetadataTest {
+
+    @Test
+    public void testColumns() {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(TestItem.class);
+        assertSame(TestItem.class, beanMetadata.getBeanClass());
+        assertEquals("TEST_ITEM", beanMetadata.getTableName());
+        final List<String> columnNames = new ArrayList<>();
+        for (final BeanMetadata.Column column : beanMetadata.getColumns()) {
+            assertSame(column, beanMetadata.getColumns()[column.getIndex()]);
+            assertSame(column, beanMetadata.getColumn(column.getName()));
+            columnNames.add(column.getName());
+        }
+        assertEquals(Arrays.asList(IBean.PAGING_TOTAL, "ID", "NAME", "CATEGORY", "CREATED", "AMOUNT", "VERSION",
+                "DESCRIPTION"), columnNames);
+        assertEquals(columnNames, new ArrayList<>(beanMetadata.getColumnMetaData().keySet()));
+        assertEquals("AMOUNT", beanMetadata.getJavaNames2ColumnNames().get("amount"));
+        assertEquals(BigDecimal.class, beanMetadata.getColumn("AMOUNT").getType());
+        assertEquals("created", beanMetadata.getColumn("CREATED").getJavaName());
+        assertEquals(Types.TIMESTAMP, beanMetadata.getColumn("CREATED").getJDBCColumn().dataType());
+        assertNull(beanMetadata.getColumn("UNKNOWN"));
+        // Static and transient fields without annotation are not mapped, but still accessible by name
+        assertNull(beanMetadata.getColumn("TABLE_NAME"));
+        assertNotNull(beanMetadata.getField("modifiedFields"));
+        assertNull(beanMetadata.getField("unknown"));
+    }
+
+    @Test
+    public void testPrimaryKeyAndVersionColumn() {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(TestItem.class);
+        final int[] primaryKeyColumnIndexes = beanMetadata.getPrimaryKeyColumnIndexes();
+        assertArrayEquals(new int[]{beanMetadata.getColumn("ID").getIndex()}, primaryKeyColumnIndexes);
+        assertTrue(beanMetadata.getColumn("ID").isPrimaryKey());
+        assertFalse(beanMetadata.getColumn("NAME").isPrimaryKey());
+        // The returned array is a copy
+        primaryKeyColumnIndexes[0] = -1;
+        assertEquals(beanMetadata.getColumn("ID").getIndex(), beanMetadata.getPrimaryKeyColumnIndexes()[0]);
+        assertSame(beanMetadata.getColumn("VERSION"), beanMetadata.getVersionColumn());
+    }
+
+    @Test
+    public void testInsertableAndUpdatable() {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(TestItem.class);
+        final int nameIndex = beanMetadata.getColumn("NAME").getIndex();
+        final int descriptionIndex = beanMetadata.getColumn("DESCRIPTION").getIndex();
+        final int pagingTotalIndex = beanMetadata.getColumn(IBean.PAGING_TOTAL).getIndex();
+        assertTrue(beanMetadata.isInsertable(nameIndex));
+        assertTrue(beanMetadata.isUpdatable(nameIndex));
+        assertFalse(beanMetadata.isInsertable(descriptionIndex));
+        assertFalse(beanMetadata.isUpdatable(descriptionIndex));
+        assertFalse(beanMetadata.isInsertable(pagingTotalIndex));
+        assertTrue(beanMetadata.hasInsertableColumn());
+        assertFalse(BeanMetadata.forClass(ReadOnlyItem.class).hasInsertableColumn());
+    }
+
+    @Test
+    public void testGetAndSetValue() {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(TestItem.class);
+        final TestItem<Object> testItem = new TestItem<>();
+        final Date created = new Date();
+        beanMetadata.getColumn("ID").setValue(testItem, 4711L);
+        beanMetadata.getColumn("NAME").setValue(testItem, "Item");
+        beanMetadata.getColumn("CREATED").setValue(testItem, created);
+        beanMetadata.getColumn("AMOUNT").setValue(testItem, null);
+        assertEquals(Long.valueOf(4711L), testItem.getId());
+        assertEquals("Item", testItem.getName());
+        assertSame(created, testItem.getCreated());
+        assertNull(testItem.getAmount());
+        testItem.setAmount(BigDecimal.TEN);
+        assertEquals(BigDecimal.TEN, beanMetadata.getColumn("AMOUNT").getValue(testItem));
+        assertEquals(4711L, beanMetadata.getColumn("ID").getValue(testItem));
+        try {
+            beanMetadata.getColumn("ID").setValue(testItem, "4711");
+            fail();
+        } catch (ClassCastException ignored) {
+        } // Values are not converted
+    }
+
+    @Test
+    public void testSuperClassColumns() {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(TestItemView.class);
+        assertEquals("TEST_ITEM", beanMetadata.getTableName());
+        assertEquals(9, beanMetadata.getColumns().length);
+        assertEquals(TestItemView.class, beanMetadata.getColumn("NOTE").getField().getDeclaringClass());
+        assertEquals(TestItem.class, beanMetadata.getColumn("NAME").getField().getDeclaringClass());
+        assertTrue(beanMetadata.getColumn("ID").isPrimaryKey());
+        assertSame(beanMetadata.getColumn("VERSION"), beanMetadata.getVersionColumn());
+        assertEquals(TestItemView.class.getDeclaredFields().length + TestItem.class.getDeclaredFields().length,
+                beanMetadata.getDeclaredFields().length);
+
+        final TestItemView testItemView = new TestItemView();
+        beanMetadata.getColumn("NAME").setValue(testItemView, "Item");
+        beanMetadata.getColumn("NOTE").setValue(testItemView, "Note");
+        assertEquals("Item", testItemView.getName());
+        assertEquals("Note", testItemView.getNote());
+    }
+
+    @Test
+    public void testNonBeanClass() {
+
+        final BeanMetadata beanMetadata = BeanMetadata.forClass(ReadOnlyItem.class);
+        assertNull(beanMetadata.getTableName());
+        assertEquals(0, beanMetadata.getPrimaryKeyColumnIndexes().length);
+        assertNull(beanMetadata.getVersionColumn());
+        final BeanMetadata.Column column = beanMetadata.getColumn("CODE");
+        assertNotNull(column.getGetter());
+        final ReadOnlyItem readOnlyItem = new ReadOnlyItem("A");
+        assertEquals("A", column.getValue(readOnlyItem));
+        // Like with Field.set, final instance fields can be written, when made accessible
+        assertNotNull(column.getSetter());
+        column.setValue(readOnlyItem, "B");
+        assertEquals("B", column.getValue(readOnlyItem));
+    }
+
+    @Test
+    public void testForClassReturnsSameInstance() throws Exception {
+
+        final int threads = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<BeanMetadata>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> BeanMetadata.forClass(ConcurrentItem.class));
+            }
+            // The metadata for ConcurrentItem is built concurrently, but published only once
+            final List<Future<BeanMetadata>> futures = executorService.invokeAll(tasks);
+            final BeanMetadata beanMetadata = BeanMetadata.forClass(ConcurrentItem.class);
+            for (final Future<BeanMetadata> future : futures) {
+                assertSame(beanMetadata, future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        assertSame(BeanMetadata.forClass(TestItem.class), BeanMetadata.forClass(TestItem.class));
+        assertNotSame(BeanMetadata.forClass(TestItem.class), BeanMetadata.forClass(TestItemView.class));
+    }
+
+    public static class TestItemView extends TestItem<Object> {
+
+        private static final long serialVersionUID = 0L;
+        @JDBCColumn(name="NOTE", dataType=Types.VARCHAR, insertable=false, updatable=false)
+        protected String note;
+
+        public String getNote() {
+            return note;
+        }
+    }
+
+    public static class ReadOnlyItem {
+
+        @JDBCColumn(name="CODE", dataType=Types.VARCHAR, insertable=false, updatable=false)
+        private final String code;
+
+        public ReadOnlyItem(final String pCode) {
+            code = pCode;
+        }
+    }
+
+    public static class ConcurrentItem {
+
+        @JDBCColumn(name="ID", dataType=Types.NUMERIC)
+        private Long id;
+    }
+}
@@ -0,0 +1,145 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+import org.noorm.jdbc.platform.IPlatform;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class CompiledParameterBinderTest {
+
+    private final List<String> bindings = new ArrayList<>();
+    private final IPlatform platform = recordingPlatform(bindings);
+
+    @Test
+    public void testColumnNames() {
+
+        // Non-insertable columns (PAGING_TOTAL, DESCRIPTION) are not bound
+        final CompiledParameterBinder<TestItem> parameterBinder = CompiledParameterBinder.compile(TestItem.class);
+        assertArrayEquals(new String[]{"ID", "NAME", "CATEGORY", "CREATED", "AMOUNT", "VERSION"},
+                parameterBinder.getColumnNames());
+    }
+
+    @Test
+    public void testTypedBinding() throws SQLException {
+
+        final TestItem<Object> item = new TestItem<>();
+        item.setId(1L);
+        item.setName("Item 1");
+        item.setCategory("CATEGORY_1");
+        item.setCreated(new java.util.Date(1000L));
+        item.setAmount(new BigDecimal("1.50"));
+        item.setVersion(2L);
+        CompiledParameterBinder.compile(TestItem.class).bind(platform, null, item, new int[]{1, 2, 3, 4, 5, 6});
+        assertEquals(Arrays.asList("setLong(1, 1)", "setString(2, Item 1)", "setString(3, CATEGORY_1)",
+                "setTimestamp(4, " + new java.util.Date(1000L) + ")", "setBigDecimal(5, 1.50)", "setLong(6, 2)"),
+                bindings);
+    }
+
+    @Test
+    public void testNullBinding() throws SQLException {
+
+        final TestItem<Object> item = new TestItem<>();
+        item.setId(1L);
+        CompiledParameterBinder.compile(TestItem.class).bind(platform, null, item, new int[]{1, 2, 3, 4, 5, 6});
+        assertEquals(Arrays.asList("setLong(1, 1)", "setNull(2, " + Types.VARCHAR + ")",
+                "setNull(3, " + Types.VARCHAR + ")", "setNull(4, " + Types.TIMESTAMP + ")",
+                "setNull(5, " + Types.NUMERIC + ")", "setNull(6, " + Types.NUMERIC + ")"), bindings);
+    }
+
+    @Test
+    public void testParameterIndexes() throws SQLException {
+
+        final TestItem<Object> item = new TestItem<>();
+        item.setId(1L);
+        item.setName("Item 1");
+        item.setVersion(2L);
+        // Columns without parameter index are not bound, e.g. the primary key for an INSERT with sequence
+        CompiledParameterBinder.compile(TestItem.class).bind(platform, null, item, new int[]{3, 1, 0, 0, 0, 2});
+        assertEquals(Arrays.asList("setString(1, Item 1)", "setLong(2, 2)", "setLong(3, 1)"),
+                sortByParameterIndex(bindings));
+    }
+
+    @Test
+    public void testFallbackBinding() throws SQLException {
+
+        final MixedItem item = new MixedItem();
+        item.count = 3L;
+        item.day = new java.util.Date(1000L);
+        item.flag = 1;
+        item.ratio = 0.5D;
+        CompiledParameterBinder.compile(MixedItem.class).bind(platform, null, item, new int[]{1, 2, 3, 4});
+        // Values with a Java type not matching the SQL type are bound with setObject, dates as Timestamp
+        assertEquals(Arrays.asList("setObject(1, 3, " + Types.VARCHAR + ")",
+                "setObject(2, " + new Timestamp(1000L) + ", " + Types.VARCHAR + ")",
+                "setInt(3, 1)", "setDouble(4, 0.5)"), bindings);
+    }
+
+    @Test
+    public void testGetValue() {
+
+        final TestItem<Object> item = new TestItem<>();
+        item.setName("Item 1");
+        final CompiledParameterBinder<TestItem> parameterBinder = CompiledParameterBinder.compile(TestItem.class);
+        assertEquals("Item 1", parameterBinder.getValue(item, "NAME"));
+        assertNull(parameterBinder.getValue(item, "ID"));
+        try {
+            parameterBinder.getValue(item, "DESCRIPTION");
+            fail();
+        } catch (DataAccessException e) {
+            assertEquals(DataAccessException.Type.UNKNOWN_BEAN_COLUMN, e.getType());
+        }
+    }
+
+    private static List<String> sortByParameterIndex(final List<String> pBindings) {
+
+        final List<String> sortedBindings = new ArrayList<>(pBindings);
+        sortedBindings.sort((pBinding0, pBinding1) ->
+                pBinding0.substring(pBinding0.indexOf('(')).compareTo(pBinding1.substring(pBinding1.indexOf('('))));
+        return sortedBindings;
+    }
+
+    /**
+     * Creates a platform, which records the calls of the parameter binding methods as text, e.g. setLong(1, 5).
+     */
+    private static IPlatform recordingPlatform(final List<String> pBindings) {
+
+        return (IPlatform) Proxy.newProxyInstance(CompiledParameterBinderTest.class.getClassLoader(),
+                new Class[]{IPlatform.class}, (pProxy, pMethod, pArgs) -> {
+                    final String methodName = pMethod.getName();
+                    if (methodName.equals("setNull")) {
+                        pBindings.add(methodName + "(" + pArgs[1] + ", " + pArgs[2] + ")");
+                    } else if (methodName.equals("setObject")) {
+                        pBindings.add(methodName + "(" + pArgs[2] + ", " + pArgs[1] + ", " + pArgs[3] + ")");
+                    } else if (methodName.startsWith("set")) {
+                        pBindings.add(methodName + "(" + pArgs[2] + ", " + pArgs[1] + ")");
+                    } else {
+                        throw new UnsupportedOperationException(methodName);
+                    }
+                    return null;
+                });
+    }
+
+    public static class MixedItem {
+
+        @JDBCColumn(name="COUNT", dataType=Types.VARCHAR)
+        private Long count;
+        @JDBCColumn(name="DAY", dataType=Types.VARCHAR)
+        private java.util.Date day;
+        @JDBCColumn(name="FLAG", dataType=Types.NUMERIC)
+        private Integer flag;
+        @JDBCColumn(name="RATIO", dataType=Types.FLOAT)
+        private Double ratio;
+    }
+}
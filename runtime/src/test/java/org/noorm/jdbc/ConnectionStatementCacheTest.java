@@ -0,0 +1,117 @@
+package org.noorm.jdbc;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class ConnectionStatementCacheTest {
+
+    private static final String SQL_1 = "SELECT 1";
+    private static final String SQL_2 = "SELECT 2";
+    private static final String SQL_3 = "SELECT 3";
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:statement_cache_test");
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testReuseReleasedStatement() throws SQLException {
+
+        final ConnectionStatementCache statementCache = new ConnectionStatementCache(connection, 10);
+        final PreparedStatement pstmt = statementCache.prepareStatement(SQL_1, null);
+        statementCache.release(pstmt);
+        assertFalse(pstmt.isClosed());
+        assertSame(pstmt, statementCache.prepareStatement(SQL_1, null));
+        assertEquals(1L, statementCache.getHits());
+        assertEquals(1L, statementCache.getMisses());
+        // Statements with generated key columns are cached separately
+        final PreparedStatement pstmtWithKeys = statementCache.prepareStatement(SQL_1, new String[]{"ID"});
+        assertNotSame(pstmt, pstmtWithKeys);
+        final CallableStatement cstmt = statementCache.prepareCall(SQL_1);
+        assertNotSame(pstmt, cstmt);
+        statementCache.release(cstmt);
+        assertSame(cstmt, statementCache.prepareCall(SQL_1));
+    }
+
+    @Test
+    public void testStatementInUseIsNotShared() throws SQLException {
+
+        final ConnectionStatementCache statementCache = new ConnectionStatementCache(connection, 10);
+        final PreparedStatement pstmt = statementCache.prepareStatement(SQL_1, null);
+        // The cached statement is still in use (e.g. by an open streaming query)
+        final PreparedStatement otherPstmt = statementCache.prepareStatement(SQL_1, null);
+        assertNotSame(pstmt, otherPstmt);
+        // The additional statement is not cached and closed, when released
+        statementCache.release(otherPstmt);
+        assertTrue(otherPstmt.isClosed());
+        statementCache.release(pstmt);
+        assertFalse(pstmt.isClosed());
+        assertSame(pstmt, statementCache.prepareStatement(SQL_1, null));
+    }
+
+    @Test
+    public void testEviction() throws SQLException {
+
+        final ConnectionStatementCache statementCache = new ConnectionStatementCache(connection, 2);
+        final PreparedStatement pstmt1 = statementCache.prepareStatement(SQL_1, null);
+        statementCache.release(pstmt1);
+        final PreparedStatement pstmt2 = statementCache.prepareStatement(SQL_2, null);
+        statementCache.release(pstmt2);
+        // Access statement 1, so statement 2 is the least recently used statement
+        statementCache.release(statementCache.prepareStatement(SQL_1, null));
+        final PreparedStatement pstmt3 = statementCache.prepareStatement(SQL_3, null);
+        statementCache.release(pstmt3);
+        assertTrue(pstmt2.isClosed());
+        assertFalse(pstmt1.isClosed());
+        assertFalse(pstmt3.isClosed());
+        assertNotSame(pstmt2, statementCache.prepareStatement(SQL_2, null));
+    }
+
+    @Test
+    public void testEvictionOfStatementInUse() throws SQLException {
+
+        final ConnectionStatementCache statementCache = new ConnectionStatementCache(connection, 1);
+        final PreparedStatement pstmt1 = statementCache.prepareStatement(SQL_1, null);
+        final PreparedStatement pstmt2 = statementCache.prepareStatement(SQL_2, null);
+        // Statement 1 has been evicted, but must not be closed, while it is in use
+        assertFalse(pstmt1.isClosed());
+        statementCache.release(pstmt1);
+        assertTrue(pstmt1.isClosed());
+        statementCache.release(pstmt2);
+        assertFalse(pstmt2.isClosed());
+    }
+
+    @Test
+    public void testClose() throws SQLException {
+
+        final ConnectionStatementCache statementCache = new ConnectionStatementCache(connection, 10);
+        final PreparedStatement pstmt1 = statementCache.prepareStatement(SQL_1, null);
+        statementCache.release(pstmt1);
+        final PreparedStatement pstmt2 = statementCache.prepareStatement(SQL_2, null);
+        statementCache.close();
+        assertTrue(pstmt1.isClosed());
+        assertTrue(pstmt2.isClosed());
+        // Releasing a statement after the cache has been closed is harmless
+        statementCache.release(pstmt2);
+        assertNotSame(pstmt1, statementCache.prepareStatement(SQL_1, null));
+    }
+}
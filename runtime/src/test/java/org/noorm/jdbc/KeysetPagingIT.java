@@ -0,0 +1,144 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class KeysetPagingIT extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+
+    public KeysetPagingIT() {
+        super(ROW_COUNT);
+    }
+
+    @Test
+    public void testKeysetPaging() {
+
+        final FilterExtension filterExtension = createFilterExtension();
+        final List<Long> ids = new ArrayList<>();
+        int pageCount = 0;
+        Page<TestItem> page;
+        do {
+            page = queryProcessor.getPageFromSQL
+                    (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+            pageCount++;
+            for (final TestItem item : page.getBeans()) {
+                ids.add(item.getId());
+            }
+            if (page.getNextKeysetValues() != null) {
+                final TestItem lastItem = page.getBeans().get(page.getBeans().size() - 1);
+                assertEquals(Arrays.<Object>asList(lastItem.getCategory(), lastItem.getId()),
+                        page.getNextKeysetValues());
+            }
+            filterExtension.setKeysetValues(page.getNextKeysetValues());
+        } while (page.getNextKeysetValues() != null);
+        assertEquals(3, pageCount);
+        assertEquals(getExpectedIds(), ids);
+    }
+
+    @Test
+    public void testFilterExtensionIsNotModified() {
+
+        final FilterExtension filterExtension = createFilterExtension();
+        final Page<TestItem> firstPage = queryProcessor.getPageFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+        assertNotNull(firstPage.getNextKeysetValues());
+        // The cursor is provided by the page only, the filter extension can be reused for the first page
+        assertNull(filterExtension.getKeysetValues());
+        final Page<TestItem> firstPageAgain = queryProcessor.getPageFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+        assertEquals(firstPage.getBeans().get(0).getId(), firstPageAgain.getBeans().get(0).getId());
+        assertEquals(firstPage.getNextKeysetValues(), firstPageAgain.getNextKeysetValues());
+    }
+
+    @Test
+    public void testLastPage() {
+
+        final FilterExtension filterExtension = createFilterExtension();
+        filterExtension.setLimit(ROW_COUNT);
+        final Page<TestItem> page = queryProcessor.getPageFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+        // A complete page may be followed by an empty page
+        assertEquals(ROW_COUNT, page.getBeans().size());
+        filterExtension.setKeysetValues(page.getNextKeysetValues());
+        final Page<TestItem> emptyPage = queryProcessor.getPageFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+        assertTrue(emptyPage.getBeans().isEmpty());
+        assertNull(emptyPage.getNextKeysetValues());
+    }
+
+    @Test
+    public void testNullKeysetValue() {
+
+        final FilterExtension filterExtension = createFilterExtension();
+        filterExtension.setKeysetValues(Arrays.<Object>asList(null, 5L));
+        assertIllegalKeyset(filterExtension);
+        filterExtension.setKeysetValues(Arrays.<Object>asList("CATEGORY_1"));
+        assertIllegalKeyset(filterExtension);
+        filterExtension.setKeysetValues(null);
+        filterExtension.setSortCriteria(new ArrayList<>());
+        assertIllegalKeyset(filterExtension);
+    }
+
+    @Test
+    public void testNullSortValue() {
+
+        TestDatabase.execute("UPDATE TEST_ITEM SET NAME = NULL WHERE ID = 1");
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setKeysetPaging(true);
+        filterExtension.setLimit(1);
+        filterExtension.addSortCriteria("name");
+        filterExtension.addSortCriteria("id");
+        // NULL values are ordered first for ascending order with H2, so the cursor cannot be provided
+        try {
+            queryProcessor.getPageFromSQL
+                    (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+            fail();
+        } catch (DataAccessException e) {
+            assertEquals(DataAccessException.Type.ILLEGAL_KEYSET, e.getType());
+        }
+    }
+
+    private void assertIllegalKeyset(final FilterExtension pFilterExtension) {
+
+        try {
+            queryProcessor.getPageFromSQL
+                    (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, pFilterExtension);
+            fail();
+        } catch (DataAccessException e) {
+            assertEquals(DataAccessException.Type.ILLEGAL_KEYSET, e.getType());
+        }
+    }
+
+    private static FilterExtension createFilterExtension() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setKeysetPaging(true);
+        filterExtension.setLimit(PAGE_SIZE);
+        filterExtension.addSortCriteria("category");
+        filterExtension.addSortCriteria("id", FilterExtension.Direction.DESC);
+        return filterExtension;
+    }
+
+    private static List<Long> getExpectedIds() {
+
+        final List<Long> ids = new ArrayList<>();
+        for (int category = 0; category < TestDatabase.CATEGORY_COUNT; category++) {
+            for (long id = ROW_COUNT; id > 0; id--) {
+                if (id % TestDatabase.CATEGORY_COUNT == category) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,169 @@
+package org.noorm.jdbc;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class ModifiedFieldsUpdateIT extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 10;
+
+    public ModifiedFieldsUpdateIT() {
+        super(ROW_COUNT);
+    }
+
+    @Before
+    public void setUp() {
+
+        TestDatabase.execute("UPDATE TEST_ITEM SET NOTE = 'Note'");
+    }
+
+    @Test
+    public void testLoadedBeansRecordModifications() {
+
+        final List<TestItem> items = queryOrderedById();
+        assertNull(items.get(0).getModifiedFields());
+        items.get(0).setName("Modified");
+        assertEquals(1, items.get(0).getModifiedFields().cardinality());
+        // Changes bypassing the Bean are not overwritten by an update restricted to the modified columns
+        TestDatabase.execute("UPDATE TEST_ITEM SET CATEGORY = 'Bypassed' WHERE ID = 1");
+        TestDatabase.clearBatchExecutions();
+        dmlProcessor.update(items.get(0));
+
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        assertEquals(1, batchExecutions.size());
+        assertUpdatedColumns(batchExecutions.get(0), "NAME");
+        assertEquals(1L, TestDatabase.queryForLong
+                ("SELECT COUNT(*) FROM TEST_ITEM WHERE ID = 1 AND NAME = 'Modified' AND CATEGORY = 'Bypassed'"));
+        // Recorded modifications are cleared after the update
+        assertTrue(items.get(0).getModifiedFields().isEmpty());
+    }
+
+    @Test
+    public void testNewBeansUpdateAllColumns() {
+
+        // A Bean created by the application is not aware of the database content, so all columns are updated
+        final TestItem item = new TestItem();
+        item.setId(1L);
+        item.setName("New");
+        item.setVersion(1L);
+        assertNull(item.getModifiedFields());
+        TestDatabase.clearBatchExecutions();
+        dmlProcessor.update(item);
+
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        assertEquals(1, batchExecutions.size());
+        assertUpdatedColumns(batchExecutions.get(0), "NAME", "CATEGORY", "CREATED", "AMOUNT");
+        assertEquals(1L, TestDatabase.queryForLong
+                ("SELECT COUNT(*) FROM TEST_ITEM WHERE ID = 1 AND NAME = 'New' AND CATEGORY IS NULL"));
+    }
+
+    @Test
+    public void testGroupByModifiedFields() {
+
+        final List<TestItem> items = queryOrderedById();
+        final List<TestItem> updateItems = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            final TestItem item = items.get(i);
+            if (i % 2 == 0) {
+                item.setName("Modified " + i);
+            } else {
+                item.setAmount(BigDecimal.ONE);
+            }
+            updateItems.add(item);
+        }
+        // Beans created by the application and Beans loaded without modifications are updated with all columns
+        final TestItem newItem = TestDatabase.createItems(7L, 1).get(0);
+        newItem.setName("New");
+        updateItems.add(newItem);
+        updateItems.add(items.get(7));
+        TestDatabase.clearBatchExecutions();
+        dmlProcessor.update(updateItems);
+
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        assertEquals(3, batchExecutions.size());
+        assertUpdatedColumns(batchExecutions.get(0), "NAME");
+        assertEquals(3, batchExecutions.get(0).getStatementCount());
+        assertUpdatedColumns(batchExecutions.get(1), "AMOUNT");
+        assertEquals(3, batchExecutions.get(1).getStatementCount());
+        assertUpdatedColumns(batchExecutions.get(2), "NAME", "CATEGORY", "CREATED", "AMOUNT");
+        assertEquals(2, batchExecutions.get(2).getStatementCount());
+        assertEquals(3L, TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM WHERE NAME LIKE 'Modified%'"));
+        assertEquals(3L, TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM WHERE AMOUNT = 1"));
+        assertEquals(1L, TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM WHERE NAME = 'New'"));
+        assertEquals(8L, TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM WHERE VERSION = 2"));
+    }
+
+    @Test
+    public void testSubClassModifications() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria("id");
+        final List<TestItemWithNote> items = JDBCQueryProcessor.<TestItemWithNote>getInstance().getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItemWithNote.class, false, filterExtension);
+        final TestItemWithNote item = items.get(0);
+        assertEquals("Note", item.getNote());
+        item.setName("Modified");
+        assertNotNull(item.getModifiedFields());
+        // The column NOTE is not covered by the modified fields of the super-class, so all columns are updated
+        item.setNote("Modified note");
+        assertNull(item.getModifiedFields());
+        item.setAmount(BigDecimal.ONE);
+        assertNull(item.getModifiedFields());
+        TestDatabase.clearBatchExecutions();
+        JDBCDMLProcessor.<TestItemWithNote>getInstance().update(item);
+
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        assertEquals(1, batchExecutions.size());
+        assertUpdatedColumns(batchExecutions.get(0), "NAME", "CATEGORY", "CREATED", "AMOUNT", "NOTE");
+        assertEquals(1L, TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM WHERE ID = 1 "
+                + "AND NAME = 'Modified' AND NOTE = 'Modified note' AND AMOUNT = 1"));
+    }
+
+    /**
+     * Verifies that exactly the given columns (besides the version column) are updated by the statement.
+     */
+    private static void assertUpdatedColumns(final TestDatabase.BatchExecution pBatchExecution,
+                                             final String... pColumnNames) {
+
+        final String sql = pBatchExecution.getSQL();
+        assertTrue(sql, sql.startsWith("UPDATE "));
+        final String setClause = sql.substring(sql.indexOf(" SET "), sql.indexOf(" WHERE "));
+        for (final String columnName : Arrays.asList("NAME", "CATEGORY", "CREATED", "AMOUNT", "NOTE")) {
+            assertEquals(sql, Arrays.asList(pColumnNames).contains(columnName), setClause.contains(columnName));
+        }
+        assertTrue(sql, setClause.contains("VERSION"));
+    }
+
+    /**
+     * Sub-class of a Bean class with an additional column corresponding to the code generated by NoORM.
+     */
+    public static class TestItemWithNote extends TestItem<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        @JDBCColumn(name="NOTE", dataType=Types.VARCHAR)
+        protected String note;
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(final String pNote) {
+            // The column is not covered by the modified fields of the super-class, so all columns are updated
+            modifiedFieldTracking = false;
+            modifiedFields = null;
+            note = pNote;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.noorm.jdbc;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class MultiRowInsertIT extends AbstractDatabaseTest {
+
+    private int batchUpdateSize;
+    private int multiRowInsertSize;
+
+    public MultiRowInsertIT() {
+        super(0);
+    }
+
+    @Before
+    public void setUp() {
+
+        batchUpdateSize = DataSourceProvider.getBatchUpdateSize();
+        multiRowInsertSize = DataSourceProvider.getMultiRowInsertSize();
+    }
+
+    @After
+    public void tearDown() {
+
+        DataSourceProvider.setBatchUpdateSize(batchUpdateSize);
+        DataSourceProvider.setMultiRowInsertSize(multiRowInsertSize);
+    }
+
+    @Test
+    public void testBatchUpdateSizeLimitsRows() {
+
+        DataSourceProvider.setBatchUpdateSize(10);
+        DataSourceProvider.setMultiRowInsertSize(4);
+        dmlProcessor.insert(TestDatabase.createItems(1L, 25));
+        assertEquals(25L, countRows());
+        // 6 statements with 4 rows in 3 batches with 8 rows each, 1 statement for the remaining row
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        assertEquals(4, batchExecutions.size());
+        int rowCount = 0;
+        for (final TestDatabase.BatchExecution batchExecution : batchExecutions) {
+            assertTrue(getRowCount(batchExecution) <= 10);
+            rowCount += getRowCount(batchExecution);
+        }
+        assertEquals(25, rowCount);
+        assertEquals(4, getRowsPerStatement(batchExecutions.get(0)));
+        assertEquals(2, batchExecutions.get(0).getStatementCount());
+        assertEquals(1, getRowsPerStatement(batchExecutions.get(3)));
+    }
+
+    @Test
+    public void testBatchUpdateSizeLimitsRowsPerStatement() {
+
+        DataSourceProvider.setBatchUpdateSize(3);
+        DataSourceProvider.setMultiRowInsertSize(100);
+        dmlProcessor.insert(TestDatabase.createItems(1L, 10));
+        assertEquals(10L, countRows());
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        int rowCount = 0;
+        for (final TestDatabase.BatchExecution batchExecution : batchExecutions) {
+            assertTrue(getRowCount(batchExecution) <= 3);
+            rowCount += getRowCount(batchExecution);
+        }
+        assertEquals(10, rowCount);
+        assertEquals(3, getRowsPerStatement(batchExecutions.get(0)));
+    }
+
+    @Test
+    public void testMultiRowInsertDisabled() {
+
+        DataSourceProvider.setBatchUpdateSize(4);
+        DataSourceProvider.setMultiRowInsertSize(1);
+        dmlProcessor.insert(TestDatabase.createItems(1L, 10));
+        assertEquals(10L, countRows());
+        final List<TestDatabase.BatchExecution> batchExecutions = TestDatabase.getBatchExecutions();
+        assertEquals(3, batchExecutions.size());
+        for (final TestDatabase.BatchExecution batchExecution : batchExecutions) {
+            assertEquals(1, getRowsPerStatement(batchExecution));
+            assertTrue(batchExecution.getStatementCount() <= 4);
+        }
+    }
+
+    @Test
+    public void testInsertedValues() {
+
+        DataSourceProvider.setMultiRowInsertSize(3);
+        dmlProcessor.insert(TestDatabase.createItems(1L, 7));
+        assertEquals(7L, countRows());
+        assertEquals(28L, TestDatabase.queryForLong("SELECT SUM(ID) FROM TEST_ITEM"));
+        assertEquals(7L, TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM WHERE NAME = 'Item ' || ID"));
+        assertEquals(7L, TestDatabase.queryForLong("SELECT SUM(VERSION) FROM TEST_ITEM"));
+    }
+
+    @Test
+    public void testDuplicateKey() {
+
+        DataSourceProvider.setMultiRowInsertSize(3);
+        dmlProcessor.insert(TestDatabase.createItems(5L, 1));
+        try {
+            dmlProcessor.insert(TestDatabase.createItems(1L, 6));
+            fail();
+        } catch (DataAccessException ignored) {
+        } // The multi-row statement containing the duplicate key fails as a whole
+        assertEquals(1L, countRows());
+    }
+
+    private static long countRows() {
+
+        return TestDatabase.queryForLong("SELECT COUNT(*) FROM TEST_ITEM");
+    }
+
+    private static int getRowCount(final TestDatabase.BatchExecution pBatchExecution) {
+
+        return pBatchExecution.getStatementCount() * getRowsPerStatement(pBatchExecution);
+    }
+
+    // Every row constructor of a multi-row INSERT statement starts with a parameter placeholder
+    private static int getRowsPerStatement(final TestDatabase.BatchExecution pBatchExecution) {
+
+        final String sql = pBatchExecution.getSQL();
+        int rowsPerStatement = 0;
+        int index = sql.indexOf("(?");
+        while (index >= 0) {
+            rowsPerStatement++;
+            index = sql.indexOf("(?", index + 2);
+        }
+        return rowsPerStatement;
+    }
+}
@@ -0,0 +1,48 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the paging total provided by the total count strategy WINDOW.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class PagingTotalIT extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 25;
+    private static final int PAGE_SIZE = 10;
+
+    public PagingTotalIT() {
+        super(ROW_COUNT);
+    }
+
+    @Test
+    public void testAlternatingTotalCountStrategy() {
+
+        // The same declared query is executed with and without paging total in both orders, so a cached
+        // statement plan of the one strategy must not be re-used for the other
+        assertPagingTotal(FilterExtension.TotalCountStrategy.NONE, null);
+        assertPagingTotal(FilterExtension.TotalCountStrategy.WINDOW, ROW_COUNT);
+        assertPagingTotal(FilterExtension.TotalCountStrategy.NONE, null);
+        assertPagingTotal(FilterExtension.TotalCountStrategy.WINDOW, ROW_COUNT);
+    }
+
+    private void assertPagingTotal(final FilterExtension.TotalCountStrategy pTotalCountStrategy,
+                                   final Integer pExpectedPagingTotal) {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setLimit(PAGE_SIZE);
+        filterExtension.addSortCriteria("id");
+        filterExtension.setTotalCountStrategy(pTotalCountStrategy);
+        final List<TestItem> items = queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+        assertEquals(PAGE_SIZE, items.size());
+        for (final TestItem item : items) {
+            assertEquals(pExpectedPagingTotal, item.getPagingTotal());
+        }
+    }
+}
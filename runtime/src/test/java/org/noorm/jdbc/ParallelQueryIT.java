@@ -0,0 +1,164 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class ParallelQueryIT extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 1500;
+    private static final int PARTITION_COUNT = 4;
+
+    public ParallelQueryIT() {
+        super(ROW_COUNT);
+    }
+
+    @Test
+    public void testWithoutFilterExtension() {
+
+        final List<TestItem> items = queryParallel(null);
+        assertEquals(ROW_COUNT, getDistinctIds(items).size());
+    }
+
+    @Test
+    public void testDefaultLimit() {
+
+        // Without an explicit limit, the result is limited to FilterExtension.UNLIMITED rows
+        final List<TestItem> items = queryParallel(new FilterExtension());
+        assertEquals(FilterExtension.UNLIMITED, getDistinctIds(items).size());
+    }
+
+    @Test
+    public void testPagingWithoutSortCriteria() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setLimit(ROW_COUNT);
+        final List<TestItem> allItems = queryParallel(filterExtension);
+        assertEquals(ROW_COUNT, getDistinctIds(allItems).size());
+        // Offset and limit are applied to the merged result
+        filterExtension.setOffset(ROW_COUNT - 10);
+        filterExtension.setLimit(20);
+        final List<TestItem> lastItems = queryParallel(filterExtension);
+        assertEquals(10, getDistinctIds(lastItems).size());
+    }
+
+    @Test
+    public void testPagingWithSortCriteria() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria("version");
+        filterExtension.addSortCriteria("id", FilterExtension.Direction.DESC);
+        filterExtension.setOffset(140);
+        filterExtension.setLimit(20);
+        final List<TestItem> items = queryParallel(filterExtension);
+        final List<TestItem> expectedItems = queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+        assertEquals(20, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(expectedItems.get(i).getId(), items.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testPagingTotal() {
+
+        // The paging total is the sum of the partition totals, with and without paged partitions
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setTotalCountStrategy(FilterExtension.TotalCountStrategy.WINDOW);
+        filterExtension.setOffset(100);
+        filterExtension.setLimit(10);
+        assertPagingTotal(queryParallel(filterExtension), Integer.valueOf(ROW_COUNT));
+        filterExtension.addSortCriteria("id");
+        assertPagingTotal(queryParallel(filterExtension), Integer.valueOf(ROW_COUNT));
+        filterExtension.setTotalCountStrategy(FilterExtension.TotalCountStrategy.NONE);
+        assertPagingTotal(queryParallel(filterExtension), null);
+    }
+
+    @Test
+    public void testSortCriteriaNotOrderedLikeDatabase() {
+
+        // The Java order of character data may differ from the collation of the database
+        assertIllegalSortCriteria("category");
+        // The ordering of null values depends on the database
+        assertIllegalSortCriteria("created");
+    }
+
+    @Test
+    public void testSortCriteriaNotComparable() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria("data");
+        try {
+            JDBCQueryProcessor.<BinaryTestItem>getInstance().getBeanListFromSQLParallel(TestDatabase.TABLE_NAME,
+                    queryParameters, BinaryTestItem.class, "ID", PARTITION_COUNT, filterExtension);
+            fail();
+        } catch (DataAccessException e) {
+            assertEquals(DataAccessException.Type.ILLEGAL_SORT_CRITERIA, e.getType());
+        }
+    }
+
+    private void assertIllegalSortCriteria(final String pAttributeName) {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria(pAttributeName);
+        try {
+            queryParallel(filterExtension);
+            fail();
+        } catch (DataAccessException e) {
+            assertEquals(DataAccessException.Type.ILLEGAL_SORT_CRITERIA, e.getType());
+        }
+    }
+
+    private static void assertPagingTotal(final List<TestItem> pItems, final Integer pExpectedPagingTotal) {
+
+        assertEquals(10, pItems.size());
+        for (final TestItem item : pItems) {
+            assertEquals(pExpectedPagingTotal, item.getPagingTotal());
+        }
+    }
+
+    private List<TestItem> queryParallel(final FilterExtension pFilterExtension) {
+
+        return queryProcessor.getBeanListFromSQLParallel(TestDatabase.TABLE_NAME, queryParameters,
+                TestItem.class, "ID", PARTITION_COUNT, pFilterExtension);
+    }
+
+    private static Set<Long> getDistinctIds(final List<TestItem> pItems) {
+
+        final Set<Long> ids = new HashSet<>();
+        for (final TestItem item : pItems) {
+            ids.add(item.getId());
+        }
+        assertEquals(pItems.size(), ids.size());
+        return ids;
+    }
+
+    /**
+     * Bean with a column, which cannot be used for sorting the merged results of a parallel query.
+     * The column does not exist in the database, since the sort criteria are rejected before the query
+     * is executed.
+     */
+    public static class BinaryTestItem extends TestItem<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        @JDBCColumn(name="DATA", dataType=Types.BLOB, nullable=false)
+        private byte[] data;
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public void setData(final byte[] pData) {
+            data = pData;
+        }
+    }
+}
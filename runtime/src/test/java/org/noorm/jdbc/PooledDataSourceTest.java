@@ -0,0 +1,165 @@
+package org.noorm.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class PooledDataSourceTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:pool_test;DB_CLOSE_DELAY=-1";
+
+    private PooledDataSource pooledDataSource;
+
+    @Before
+    public void setUp() throws SQLException {
+
+        final JdbcDataSource h2DataSource = new JdbcDataSource();
+        h2DataSource.setURL(JDBC_URL);
+        try (final Connection con = h2DataSource.getConnection();
+             final Statement stmt = con.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS POOL_TEST (ID BIGINT PRIMARY KEY)");
+            stmt.execute("DELETE FROM POOL_TEST");
+        }
+        final DataSourceConfiguration configuration = new DataSourceConfiguration();
+        configuration.setPoolMinSize(0);
+        configuration.setPoolMaxSize(2);
+        configuration.setPoolConnectionTimeout(1);
+        configuration.setPoolIdleTimeout(1);
+        pooledDataSource = new PooledDataSource(h2DataSource, configuration);
+    }
+
+    @After
+    public void tearDown() {
+        pooledDataSource.close();
+    }
+
+    @Test
+    public void testBorrowAndReturn() throws SQLException {
+
+        final Connection con = pooledDataSource.getConnection();
+        assertFalse(con.getAutoCommit());
+        assertEquals(1, pooledDataSource.getActiveConnections());
+        final Connection physicalConnection = con.unwrap(Connection.class);
+        con.close();
+        assertEquals(0, pooledDataSource.getActiveConnections());
+        assertEquals(1, pooledDataSource.getIdleConnections());
+        final Connection con2 = pooledDataSource.getConnection();
+        assertSame(physicalConnection, con2.unwrap(Connection.class));
+        assertEquals(1, pooledDataSource.getTotalConnections());
+        con2.close();
+    }
+
+    @Test
+    public void testPendingTransactionIsRolledBack() throws SQLException {
+
+        final Connection con = pooledDataSource.getConnection();
+        try (final Statement stmt = con.createStatement()) {
+            stmt.executeUpdate("INSERT INTO POOL_TEST (ID) VALUES (1)");
+        }
+        // Returned to the pool without commit
+        con.close();
+        final Connection con2 = pooledDataSource.getConnection();
+        assertEquals(0, count(con2));
+        try (final Statement stmt = con2.createStatement()) {
+            stmt.executeUpdate("INSERT INTO POOL_TEST (ID) VALUES (2)");
+        }
+        con2.commit();
+        con2.close();
+        final Connection con3 = pooledDataSource.getConnection();
+        assertEquals(1, count(con3));
+        con3.close();
+    }
+
+    @Test
+    public void testConnectionStateIsRestored() throws SQLException {
+
+        final Connection con = pooledDataSource.getConnection();
+        final int transactionIsolation = con.getTransactionIsolation();
+        con.setAutoCommit(true);
+        con.setReadOnly(true);
+        con.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        assertNotEquals(Connection.TRANSACTION_SERIALIZABLE, transactionIsolation);
+        con.close();
+        final Connection con2 = pooledDataSource.getConnection();
+        assertEquals(1, pooledDataSource.getTotalConnections());
+        assertFalse(con2.getAutoCommit());
+        assertFalse(con2.isReadOnly());
+        assertEquals(transactionIsolation, con2.getTransactionIsolation());
+        con2.close();
+    }
+
+    @Test
+    public void testExhaustion() throws SQLException {
+
+        final Connection con1 = pooledDataSource.getConnection();
+        final Connection con2 = pooledDataSource.getConnection();
+        final long startTime = System.currentTimeMillis();
+        try {
+            pooledDataSource.getConnection();
+            fail();
+        } catch (SQLException e) {
+            assertTrue(System.currentTimeMillis() - startTime >= 900L);
+        }
+        con1.close();
+        final Connection con3 = pooledDataSource.getConnection();
+        assertEquals(2, pooledDataSource.getTotalConnections());
+        con2.close();
+        con3.close();
+    }
+
+    @Test
+    public void testIdleEviction() throws SQLException, InterruptedException {
+
+        final Connection con1 = pooledDataSource.getConnection();
+        final Connection con2 = pooledDataSource.getConnection();
+        con1.close();
+        con2.close();
+        assertEquals(2, pooledDataSource.getIdleConnections());
+        // Idle timeout is one second, the housekeeping runs every second
+        final long deadline = System.currentTimeMillis() + 10000L;
+        while (pooledDataSource.getTotalConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100L);
+        }
+        assertEquals(0, pooledDataSource.getTotalConnections());
+        assertEquals(0, pooledDataSource.getIdleConnections());
+    }
+
+    @Test
+    public void testStaleProxy() throws SQLException {
+
+        final Connection con = pooledDataSource.getConnection();
+        con.close();
+        assertTrue(con.isClosed());
+        // Closing a stale proxy again is harmless
+        con.close();
+        final Connection con2 = pooledDataSource.getConnection();
+        try {
+            con.createStatement();
+            fail();
+        } catch (SQLException ignored) {
+        } // The physical connection has been handed out to another borrower
+        assertFalse(con2.isClosed());
+        con2.close();
+        assertEquals(1, pooledDataSource.getTotalConnections());
+    }
+
+    private static int count(final Connection pCon) throws SQLException {
+
+        try (final Statement stmt = pCon.createStatement();
+             final ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM POOL_TEST")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.noorm.jdbc;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class QueryResultCacheIT extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 20;
+
+    private int queryResultCacheSize;
+    private int queryResultCacheTimeToLive;
+
+    public QueryResultCacheIT() {
+        super(ROW_COUNT);
+    }
+
+    @Before
+    public void setUp() {
+
+        queryResultCacheSize = DataSourceProvider.getQueryResultCacheSize();
+        queryResultCacheTimeToLive = DataSourceProvider.getQueryResultCacheTimeToLive();
+        DataSourceProvider.setQueryResultCacheSize(10);
+        DataSourceProvider.setQueryResultCacheTimeToLive(60);
+        DataSourceProvider.clearQueryResultCache();
+        queryParameters.put(new QueryColumn("CATEGORY", new Operator(Operator.Name.EQUAL_TO), null), "CATEGORY_1");
+    }
+
+    @After
+    public void tearDown() {
+
+        DataSourceProvider.clearQueryResultCache();
+        DataSourceProvider.setQueryResultCacheSize(queryResultCacheSize);
+        DataSourceProvider.setQueryResultCacheTimeToLive(queryResultCacheTimeToLive);
+    }
+
+    @Test
+    public void testModifiedBeansDoNotAffectCache() {
+
+        final List<TestItem> firstResult = query();
+        assertEquals(ROW_COUNT / TestDatabase.CATEGORY_COUNT, firstResult.size());
+        final TestItem firstItem = firstResult.get(0);
+        final String name = firstItem.getName();
+        firstItem.setName("Modified");
+        // Modifications bypassing NoORM are not recognized, so the following results are provided by the cache
+        TestDatabase.execute("UPDATE TEST_ITEM SET NAME = 'Bypassed'");
+
+        final List<TestItem> secondResult = query();
+        final TestItem secondItem = secondResult.get(0);
+        assertNotSame(firstItem, secondItem);
+        assertEquals(name, secondItem.getName());
+        assertNull(secondItem.getModifiedFields());
+        secondItem.setName("Modified again");
+
+        final TestItem thirdItem = query().get(0);
+        assertNotSame(secondItem, thirdItem);
+        assertEquals(name, thirdItem.getName());
+        assertEquals(firstItem.getId(), thirdItem.getId());
+        assertNull(thirdItem.getModifiedFields());
+    }
+
+    @Test
+    public void testCachedResultIsInvalidated() {
+
+        final TestItem item = query().get(0);
+        item.setName("Updated");
+        dmlProcessor.update(item);
+        // The update through NoORM invalidates the cached result
+        final TestItem updatedItem = query().get(0);
+        assertEquals("Updated", updatedItem.getName());
+        assertEquals(Long.valueOf(2L), updatedItem.getVersion());
+    }
+
+    @Test
+    public void testCachedResultProvidesPagingTotal() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setLimit(1);
+        filterExtension.addSortCriteria("id");
+        filterExtension.setTotalCountStrategy(FilterExtension.TotalCountStrategy.WINDOW);
+        final Integer expectedTotal = ROW_COUNT / TestDatabase.CATEGORY_COUNT;
+        final TestItem firstItem = queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension, true).get(0);
+        assertEquals(expectedTotal, firstItem.getPagingTotal());
+        // The paging total of the cached result is provided, even when the table has changed in between
+        TestDatabase.execute("DELETE FROM TEST_ITEM WHERE ID = " + (TestDatabase.CATEGORY_COUNT + 1));
+        final TestItem cachedItem = queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension, true).get(0);
+        assertNotSame(firstItem, cachedItem);
+        assertEquals(firstItem.getId(), cachedItem.getId());
+        assertEquals(expectedTotal, cachedItem.getPagingTotal());
+    }
+
+    private List<TestItem> query() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria("id");
+        return queryProcessor.getBeanListFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension, true);
+    }}
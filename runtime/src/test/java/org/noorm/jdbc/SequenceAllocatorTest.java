@@ -0,0 +1,188 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class SequenceAllocatorTest {
+
+    private static final String SEQUENCE_NAME = "TEST_SEQ";
+
+    @Test
+    public void testAllocateFromBlock() {
+
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        final TestSequence sequence = new TestSequence(1L);
+        for (long expected = 1L; expected <= 25L; expected++) {
+            assertEquals(expected, sequenceAllocator.allocate(SEQUENCE_NAME, 1L, 10, sequence));
+        }
+        // A single round-trip retrieves ten values
+        assertEquals(3, sequence.getFetchCount());
+    }
+
+    @Test
+    public void testAllocateWithSequenceIncrement() {
+
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        final TestSequence sequence = new TestSequence(5L);
+        // A single sequence value with an increment of 5 reserves 5 values, two sequence values reserve 10 values
+        for (long expected = 1L; expected <= 20L; expected++) {
+            assertEquals(expected, sequenceAllocator.allocate(SEQUENCE_NAME, 5L, 2, sequence));
+        }
+        assertEquals(2, sequence.getFetchCount());
+    }
+
+    @Test
+    public void testNonContiguousSequenceValues() {
+
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        // The sequence values 1 and 11 reserve the values 1-5 and 11-15, other sessions got 6-10
+        final SequenceAllocator.SequenceFetcher sequence = (pSequenceName, pValueCount) -> new long[]{1L, 11L};
+        final long[] expected = {1L, 2L, 3L, 4L, 5L, 11L, 12L, 13L, 14L, 15L};
+        for (final long value : expected) {
+            assertEquals(value, sequenceAllocator.allocate(SEQUENCE_NAME, 5L, 2, sequence));
+        }
+    }
+
+    @Test
+    public void testDefaults() {
+
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        final TestSequence sequence = new TestSequence(1L);
+        // Missing increment and fetch size are interpreted as 1
+        assertEquals(1L, sequenceAllocator.allocate(SEQUENCE_NAME, null, 0, sequence));
+        assertEquals(2L, sequenceAllocator.allocate(SEQUENCE_NAME, 0L, -1, sequence));
+        assertEquals(2, sequence.getFetchCount());
+        assertEquals(1, sequence.getLastValueCount());
+    }
+
+    @Test
+    public void testSequencesAreIndependent() {
+
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        final TestSequence sequence1 = new TestSequence(1L);
+        final TestSequence sequence2 = new TestSequence(1L);
+        assertEquals(1L, sequenceAllocator.allocate("SEQ1", 1L, 10, sequence1));
+        assertEquals(1L, sequenceAllocator.allocate("SEQ2", 1L, 10, sequence2));
+        assertEquals(2L, sequenceAllocator.allocate("SEQ1", 1L, 10, sequence1));
+        assertEquals(1, sequence1.getFetchCount());
+        assertEquals(1, sequence2.getFetchCount());
+    }
+
+    @Test
+    public void testClear() {
+
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        final TestSequence sequence = new TestSequence(1L);
+        assertEquals(1L, sequenceAllocator.allocate(SEQUENCE_NAME, 1L, 10, sequence));
+        sequenceAllocator.clear();
+        // The remaining values of the discarded block are not used anymore
+        assertEquals(11L, sequenceAllocator.allocate(SEQUENCE_NAME, 1L, 10, sequence));
+        assertEquals(2, sequence.getFetchCount());
+    }
+
+    @Test
+    public void testConcurrentAllocation() throws Exception {
+
+        final int threads = 16;
+        final int allocationsPerThread = 10000;
+        final long increment = 20L;
+        final int fetchSize = 5;
+        final SequenceAllocator sequenceAllocator = new SequenceAllocator();
+        final TestSequence sequence = new TestSequence(increment);
+        final Set<Long> values = ConcurrentHashMap.newKeySet();
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    startSignal.await();
+                    int duplicates = 0;
+                    for (int j = 0; j < allocationsPerThread; j++) {
+                        if (!values.add(sequenceAllocator.allocate(SEQUENCE_NAME, increment, fetchSize, sequence))) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                });
+            }
+            final List<Future<Integer>> futures = new ArrayList<>();
+            for (final Callable<Integer> task : tasks) {
+                futures.add(executorService.submit(task));
+            }
+            startSignal.countDown();
+            for (final Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(0), future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        final int allocations = threads * allocationsPerThread;
+        assertEquals(allocations, values.size());
+        // All values are covered by the reserved blocks
+        final long maxValue = sequence.getLastSequenceValue() + increment - 1L;
+        for (final Long value : values) {
+            assertTrue(value >= 1L && value <= maxValue);
+        }
+        // Blocks are shared by the threads, a block is retrieved for every 100 values plus concurrent retrievals
+        final long blockSize = increment * fetchSize;
+        assertTrue(sequence.getFetchCount() >= allocations / blockSize);
+        assertTrue(sequence.getFetchCount() < allocations / fetchSize);
+    }
+
+    /**
+     * Simulates a database sequence starting with 1 with the given increment.
+     */
+    private static final class TestSequence implements SequenceAllocator.SequenceFetcher {
+
+        private final long increment;
+        private final AtomicLong lastSequenceValue = new AtomicLong();
+        private final AtomicInteger fetchCount = new AtomicInteger();
+        private final AtomicInteger lastValueCount = new AtomicInteger();
+
+        private TestSequence(final long pIncrement) {
+            increment = pIncrement;
+            lastSequenceValue.set(1L - pIncrement);
+        }
+
+        @Override
+        public long[] fetch(final String pSequenceName, final int pValueCount) {
+
+            fetchCount.incrementAndGet();
+            lastValueCount.set(pValueCount);
+            final long[] values = new long[pValueCount];
+            for (int i = 0; i < pValueCount; i++) {
+                values[i] = lastSequenceValue.addAndGet(increment);
+            }
+            return values;
+        }
+
+        private int getFetchCount() {
+            return fetchCount.get();
+        }
+
+        private int getLastValueCount() {
+            return lastValueCount.get();
+        }
+
+        private long getLastSequenceValue() {
+            return lastSequenceValue.get();
+        }
+    }
+}
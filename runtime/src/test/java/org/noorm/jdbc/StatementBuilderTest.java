@@ -0,0 +1,79 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class StatementBuilderTest {
+
+    private final StatementBuilder statementBuilder = new StatementBuilder();
+
+    @Test
+    public void testKeysetPredicate() {
+
+        assertEquals("(LAST_NAME > ?)", statementBuilder.buildKeysetPredicate(
+                sortCriteria("LAST_NAME", FilterExtension.Direction.ASC)));
+        assertEquals("(LAST_NAME < ?)", statementBuilder.buildKeysetPredicate(
+                sortCriteria("LAST_NAME", FilterExtension.Direction.DESC)));
+        assertEquals("(LAST_NAME > ? OR (LAST_NAME = ? AND ID < ?))", statementBuilder.buildKeysetPredicate(
+                sortCriteria("LAST_NAME", FilterExtension.Direction.ASC, "ID", FilterExtension.Direction.DESC)));
+        assertEquals("(A > ? OR (A = ? AND B > ?) OR (A = ? AND B = ? AND C > ?))",
+                statementBuilder.buildKeysetPredicate(sortCriteria("A", FilterExtension.Direction.ASC,
+                        "B", FilterExtension.Direction.ASC, "C", FilterExtension.Direction.ASC)));
+    }
+
+    @Test
+    public void testKeysetParameterValues() {
+
+        assertEquals(Arrays.<Object>asList("a", "a", 2L, "a", 2L, 3L),
+                statementBuilder.getKeysetParameterValues(Arrays.<Object>asList("a", 2L, 3L)));
+        assertEquals(Arrays.<Object>asList("a"), statementBuilder.getKeysetParameterValues(Arrays.<Object>asList("a")));
+    }
+
+    @Test
+    public void testSQLStatementWithKeyset() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setKeysetPaging(true);
+        filterExtension.setSortCriteria(sortCriteria("LAST_NAME", FilterExtension.Direction.ASC,
+                "ID", FilterExtension.Direction.ASC));
+        // Without keyset values (first page), there is no seek predicate
+        assertEquals("SELECT * FROM EMPLOYEES", statementBuilder.buildSQLStatement
+                ("EMPLOYEES", new TreeMap<>(), false, false, filterExtension));
+        filterExtension.setKeysetValues(Arrays.<Object>asList("Smith", 100L));
+        assertEquals("SELECT * FROM EMPLOYEES WHERE (LAST_NAME > ? OR (LAST_NAME = ? AND ID > ?))",
+                statementBuilder.buildSQLStatement("EMPLOYEES", new TreeMap<>(), false, false, filterExtension));
+        final Map<QueryColumn, Object> queryParameters = new TreeMap<>();
+        queryParameters.put(new QueryColumn("DEPARTMENT_ID", new Operator(Operator.Name.EQUAL_TO), null), 10L);
+        final String sqlStatement =
+                statementBuilder.buildSQLStatement("EMPLOYEES", queryParameters, false, false, filterExtension);
+        assertTrue(sqlStatement.startsWith("SELECT * FROM EMPLOYEES WHERE DEPARTMENT_ID"));
+        assertTrue(sqlStatement.endsWith(" AND (LAST_NAME > ? OR (LAST_NAME = ? AND ID > ?))"));
+        // Keyset values are ignored, when keyset paging is disabled
+        filterExtension.setKeysetPaging(false);
+        assertEquals("SELECT * FROM EMPLOYEES", statementBuilder.buildSQLStatement
+                ("EMPLOYEES", new TreeMap<>(), false, false, filterExtension));
+    }
+
+    private static List<FilterExtension.SortCriteria> sortCriteria(final Object... pColumnNamesAndDirections) {
+
+        final List<FilterExtension.SortCriteria> sortCriteria = new ArrayList<>();
+        for (int i = 0; i < pColumnNamesAndDirections.length; i += 2) {
+            final String columnName = (String) pColumnNamesAndDirections[i];
+            final FilterExtension.SortCriteria criteria = new FilterExtension.SortCriteria
+                    (columnName, (FilterExtension.Direction) pColumnNamesAndDirections[i + 1]);
+            criteria.setColumnName(columnName);
+            sortCriteria.add(criteria);
+        }
+        return sortCriteria;
+    }
+}
@@ -0,0 +1,141 @@
+package org.noorm.jdbc;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class StatementPlanCacheTest {
+
+    private static final int MAX_SIZE = 1024;
+
+    private final StatementPlanCache statementPlanCache = StatementPlanCache.getInstance();
+
+    @Before
+    public void setUp() {
+        statementPlanCache.clear();
+    }
+
+    @After
+    public void tearDown() {
+        statementPlanCache.clear();
+    }
+
+    @Test
+    public void testPutAndGet() {
+
+        final Map<String, Integer> fieldName2ParameterIndex = new HashMap<>();
+        fieldName2ParameterIndex.put("ID", 1);
+        final Object key = Arrays.asList(String.class, "UPDATE");
+        assertNull(statementPlanCache.get(key));
+        final StatementPlanCache.StatementPlan statementPlan =
+                statementPlanCache.put(key, "UPDATE T SET NAME = ? WHERE ID = ?", fieldName2ParameterIndex);
+        assertSame(statementPlan, statementPlanCache.get(Arrays.asList(String.class, "UPDATE")));
+        assertEquals("UPDATE T SET NAME = ? WHERE ID = ?", statementPlan.getSQL());
+        assertEquals(Integer.valueOf(1), statementPlan.getFieldName2ParameterIndex().get("ID"));
+        try {
+            statementPlan.getFieldName2ParameterIndex().put("NAME", 2);
+            fail();
+        } catch (UnsupportedOperationException ignored) {
+        } // The parameter index map is shared by all callers and must not be modified
+    }
+
+    @Test
+    public void testPutKeepsExistingPlan() {
+
+        final StatementPlanCache.StatementPlan statementPlan = statementPlanCache.put("KEY", "SELECT 1", null);
+        assertTrue(statementPlan.getFieldName2ParameterIndex().isEmpty());
+        // A concurrently built plan for the same key does not replace the plan already in use
+        assertSame(statementPlan, statementPlanCache.put("KEY", "SELECT 2", null));
+        assertEquals("SELECT 1", statementPlanCache.get("KEY").getSQL());
+    }
+
+    @Test
+    public void testEviction() {
+
+        for (int i = 0; i < MAX_SIZE * 2; i++) {
+            statementPlanCache.put(i, "SELECT " + i, null);
+        }
+        int cachedPlans = 0;
+        for (int i = 0; i < MAX_SIZE * 2; i++) {
+            if (statementPlanCache.get(i) != null) {
+                cachedPlans++;
+            }
+        }
+        assertEquals(MAX_SIZE, cachedPlans);
+        // The most recently added plan is never evicted
+        assertNotNull(statementPlanCache.get(MAX_SIZE * 2 - 1));
+    }
+
+    @Test
+    public void testQueryKeyDependsOnShapeOnly() {
+
+        final String key1 = StatementPlanCache.buildQueryKey("EMPLOYEES",
+                queryParameters(100L, Arrays.asList(1L, 2L)), false, null);
+        final String key2 = StatementPlanCache.buildQueryKey("EMPLOYEES",
+                queryParameters(200L, Arrays.asList(3L, 4L)), false, null);
+        assertEquals(key1, key2);
+        // Null values are not bound, so they result in a different statement
+        assertNotEquals(key1, StatementPlanCache.buildQueryKey("EMPLOYEES",
+                queryParameters(null, Arrays.asList(1L, 2L)), false, null));
+        // The size of an IN-list determines the number of parameters
+        assertNotEquals(key1, StatementPlanCache.buildQueryKey("EMPLOYEES",
+                queryParameters(100L, Arrays.asList(1L, 2L, 3L)), false, null));
+        assertNotEquals(key1, StatementPlanCache.buildQueryKey("EMPLOYEES",
+                queryParameters(100L, Arrays.asList(1L, 2L)), true, null));
+        assertNotEquals(key1, StatementPlanCache.buildQueryKey("DEPARTMENTS",
+                queryParameters(100L, Arrays.asList(1L, 2L)), false, null));
+    }
+
+    @Test
+    public void testQueryKeyDependsOnFilterExtension() {
+
+        final Map<QueryColumn, Object> queryParameters = queryParameters(100L, Arrays.asList(1L, 2L));
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setLimit(10);
+        filterExtension.setSortCriteria(Arrays.asList(sortCriteria("LAST_NAME", FilterExtension.Direction.ASC)));
+        final String key = StatementPlanCache.buildQueryKey("EMPLOYEES", queryParameters, false, filterExtension);
+        assertNotEquals(key, StatementPlanCache.buildQueryKey("EMPLOYEES", queryParameters, false, null));
+
+        final FilterExtension descending = new FilterExtension();
+        descending.setLimit(10);
+        descending.setSortCriteria(Arrays.asList(sortCriteria("LAST_NAME", FilterExtension.Direction.DESC)));
+        assertNotEquals(key, StatementPlanCache.buildQueryKey("EMPLOYEES", queryParameters, false, descending));
+
+        final FilterExtension sameShape = new FilterExtension();
+        sameShape.setLimit(10);
+        sameShape.setSortCriteria(Arrays.asList(sortCriteria("LAST_NAME", FilterExtension.Direction.ASC)));
+        assertEquals(key, StatementPlanCache.buildQueryKey("EMPLOYEES", queryParameters, false, sameShape));
+        // Only the total count strategy WINDOW adds the paging total to the SQL statement
+        sameShape.setTotalCountStrategy(FilterExtension.TotalCountStrategy.EXACT_ONCE);
+        final String exactOnceKey = StatementPlanCache.buildQueryKey("EMPLOYEES", queryParameters, false, sameShape);
+        assertNotEquals(key, exactOnceKey);
+        sameShape.setTotalCountStrategy(FilterExtension.TotalCountStrategy.NONE);
+        assertEquals(exactOnceKey, StatementPlanCache.buildQueryKey("EMPLOYEES", queryParameters, false, sameShape));
+    }
+
+    private static Map<QueryColumn, Object> queryParameters(final Long pSalary, final Object pDepartmentIds) {
+
+        final Map<QueryColumn, Object> queryParameters = new TreeMap<>();
+        queryParameters.put(new QueryColumn("SALARY", new Operator(Operator.Name.GREATER_THAN), null), pSalary);
+        queryParameters.put(new QueryColumn("DEPARTMENT_ID", new Operator(Operator.Name.IN), null), pDepartmentIds);
+        return queryParameters;
+    }
+
+    private static FilterExtension.SortCriteria sortCriteria(final String pColumnName,
+                                                             final FilterExtension.Direction pDirection) {
+
+        final FilterExtension.SortCriteria sortCriteria = new FilterExtension.SortCriteria(pColumnName, pDirection);
+        sortCriteria.setColumnName(pColumnName);
+        return sortCriteria;
+    }
+}
@@ -0,0 +1,78 @@
+package org.noorm.jdbc;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class StreamingIT extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 20;
+
+    public StreamingIT() {
+        super(ROW_COUNT);
+    }
+
+    @Test
+    public void testOpenStreamDoesNotAffectTransactionState() {
+
+        final Stream<TestItem> stream = streamOrderedById();
+        try {
+            final Iterator<TestItem> iterator = stream.iterator();
+            assertEquals(Long.valueOf(1L), iterator.next().getId());
+            // The Stream uses a dedicated connection, so the thread is not within a transaction
+            assertFalse(DataSourceProvider.activeUserManagedTransaction());
+        } finally {
+            stream.close();
+        }
+        assertFalse(DataSourceProvider.activeUserManagedTransaction());
+    }
+
+    @Test
+    public void testDMLWhileConsumingStream() {
+
+        final int[] rowCount = new int[1];
+        try (final Stream<TestItem> stream = streamOrderedById()) {
+            stream.forEach(item -> {
+                item.setName("Streamed");
+                dmlProcessor.update(item);
+                rowCount[0]++;
+                // The update is committed immediately and not together with the Stream
+                assertEquals(rowCount[0], TestDatabase.queryForLong
+                        ("SELECT COUNT(*) FROM TEST_ITEM WHERE NAME = 'Streamed'"));
+            });
+        }
+        assertEquals(ROW_COUNT, rowCount[0]);
+    }
+
+    @Test
+    public void testStreamWithinTransaction() {
+
+        DataSourceProvider.begin();
+        try {
+            dmlProcessor.delete(queryOrderedById().get(0));
+            // The Stream uses the connection of the transaction, so uncommitted changes are visible
+            try (final Stream<TestItem> stream = streamOrderedById()) {
+                assertEquals(ROW_COUNT - 1, stream.count());
+            }
+            // Closing the Stream does not terminate the transaction
+            assertTrue(DataSourceProvider.activeUserManagedTransaction());
+        } finally {
+            DataSourceProvider.rollback();
+        }
+        assertEquals(ROW_COUNT, queryOrderedById().size());
+    }
+
+    private Stream<TestItem> streamOrderedById() {
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.addSortCriteria("id");
+        return queryProcessor.streamBeansFromSQL
+                (TestDatabase.TABLE_NAME, queryParameters, TestItem.class, false, filterExtension);
+    }
+}
@@ -0,0 +1,258 @@
+package org.noorm.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Embedded H2 database for the tests of the runtime and the platform modules. The database is registered with
+ * the DataSourceProvider once per JVM and shared by all tests. Batch executions of prepared statements are
+ * recorded, so tests can verify the number of round-trips of DML operations.
+ * The database is accessed using the H2 platform, which is not available for the runtime module. Tests using
+ * the DataSourceProvider are named *IT, so they are not executed by the runtime module, but by the H2 platform
+ * module, which scans the test classes of the runtime module (see AbstractDatabaseTest).
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public final class TestDatabase {
+
+    public static final String DATA_SOURCE_NAME = "test";
+    public static final String TABLE_NAME = "TEST_ITEM";
+    public static final int CATEGORY_COUNT = 10;
+    /**
+     * The table for Bean class TestItem. Column NOTE is not mapped by TestItem, but by sub-classes
+     * used by tests for Bean class hierarchies.
+     */
+    public static final String CREATE_TABLE =
+            "CREATE TABLE TEST_ITEM (ID BIGINT PRIMARY KEY, NAME VARCHAR(64), CATEGORY VARCHAR(32), "
+                    + "CREATED TIMESTAMP, AMOUNT DECIMAL(12,2), VERSION BIGINT NOT NULL, DESCRIPTION VARCHAR(64), "
+                    + "NOTE VARCHAR(64))";
+
+    private static final String PLATFORM_NAME = "H2";
+    private static final String JDBC_URL = "jdbc:h2:mem:noorm_test;DB_CLOSE_DELAY=-1";
+    private static final long CREATED_BASE = 1577836800000L;
+
+    private static final List<BatchExecution> batchExecutions = Collections.synchronizedList(new ArrayList<>());
+    private static JdbcDataSource h2DataSource;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Creates the test table and registers the database with the DataSourceProvider.
+     * Subsequent calls have no effect.
+     */
+    public static synchronized void initialize() {
+
+        if (h2DataSource != null) {
+            return;
+        }
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(JDBC_URL);
+        try (final Connection con = dataSource.getConnection();
+             final Statement stmt = con.createStatement()) {
+            stmt.execute(CREATE_TABLE);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Initialization of the test database failed.", e);
+        }
+        final DataSourceConfiguration configuration = new DataSourceConfiguration();
+        final DataSource recordingDataSource = recordingDataSource(dataSource);
+        DataSourceProvider.addDataSource
+                (new PooledDataSource(recordingDataSource, configuration), DATA_SOURCE_NAME, PLATFORM_NAME, true);
+        h2DataSource = dataSource;
+    }
+
+    /**
+     * Removes all rows from the test table and clears the recorded batch executions.
+     */
+    public static void clear() {
+
+        initialize();
+        execute("DELETE FROM ".concat(TABLE_NAME));
+        clearBatchExecutions();
+    }
+
+    /**
+     * Clears the recorded batch executions.
+     */
+    public static void clearBatchExecutions() {
+
+        batchExecutions.clear();
+    }
+
+    /**
+     * Executes the given SQL statement using a connection, which is not managed by the DataSourceProvider.
+     *
+     * @param pSQL the SQL statement
+     */
+    public static void execute(final String pSQL) {
+
+        try (final Connection con = getUnmanagedConnection();
+             final Statement stmt = con.createStatement()) {
+            stmt.execute(pSQL);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Executes the given query and returns the value of the first column of the first row as long value.
+     *
+     * @param pSQL the SQL query
+     * @return the query result
+     */
+    public static long queryForLong(final String pSQL) {
+
+        try (final Connection con = getUnmanagedConnection();
+             final Statement stmt = con.createStatement();
+             final ResultSet rs = stmt.executeQuery(pSQL)) {
+            rs.next();
+            return rs.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a connection to the test database, which is not managed by the DataSourceProvider.
+     *
+     * @return a new connection
+     * @throws SQLException JDBC driver exception
+     */
+    public static Connection getUnmanagedConnection() throws SQLException {
+
+        initialize();
+        return h2DataSource.getConnection();
+    }
+
+    /**
+     * Returns the batch executions recorded since the last call of clear.
+     *
+     * @return a copy of the recorded batch executions
+     */
+    public static List<BatchExecution> getBatchExecutions() {
+
+        synchronized (batchExecutions) {
+            return new ArrayList<>(batchExecutions);
+        }
+    }
+
+    /**
+     * Creates Beans with synthetic content. The content of a Bean depends on its id only.
+     *
+     * @param pFirstId the id of the first Bean
+     * @param pCount the number of Beans to create
+     * @return the list of Beans
+     */
+    public static List<TestItem> createItems(final long pFirstId, final int pCount) {
+
+        final List<TestItem> items = new ArrayList<>(pCount);
+        for (long id = pFirstId; id < pFirstId + pCount; id++) {
+            final TestItem item = new TestItem();
+            item.setId(id);
+            item.setName("Item ".concat(Long.toString(id)));
+            item.setCategory("CATEGORY_".concat(Long.toString(id % CATEGORY_COUNT)));
+            item.setCreated(new java.util.Date(CREATED_BASE + id * 1000L));
+            item.setAmount(BigDecimal.valueOf(id % 100000L, 2));
+            item.setVersion(1L);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * A single execution of a JDBC batch.
+     */
+    public static final class BatchExecution {
+
+        private final String sql;
+        private final int statementCount;
+
+        private BatchExecution(final String pSQL, final int pStatementCount) {
+            sql = pSQL;
+            statementCount = pStatementCount;
+        }
+
+        public String getSQL() {
+            return sql;
+        }
+
+        /**
+         * Returns the number of statements (parameter sets) added to the batch.
+         *
+         * @return the number of statements
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+    }
+
+    /**
+     * Creates a data source, which records the batch executions of prepared statements.
+     */
+    private static DataSource recordingDataSource(final DataSource pDataSource) {
+
+        final InvocationHandler handler = (pProxy, pMethod, pArgs) -> {
+            final Object result = invoke(pDataSource, pMethod, pArgs);
+            if (pMethod.getName().equals("getConnection")) {
+                return recordingConnection((Connection) result);
+            }
+            return result;
+        };
+        return (DataSource) Proxy.newProxyInstance(TestDatabase.class.getClassLoader(),
+                new Class[]{DataSource.class}, handler);
+    }
+
+    private static Connection recordingConnection(final Connection pCon) {
+
+        final InvocationHandler handler = (pProxy, pMethod, pArgs) -> {
+            final Object result = invoke(pCon, pMethod, pArgs);
+            if (pMethod.getName().equals("prepareStatement")) {
+                return recordingStatement((PreparedStatement) result, (String) pArgs[0]);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(TestDatabase.class.getClassLoader(),
+                new Class[]{Connection.class}, handler);
+    }
+
+    private static PreparedStatement recordingStatement(final PreparedStatement pStmt, final String pSQL) {
+
+        final int[] statementCount = new int[1];
+        final InvocationHandler handler = (pProxy, pMethod, pArgs) -> {
+            if (pMethod.getName().equals("addBatch")) {
+                statementCount[0]++;
+            }
+            if (pMethod.getName().equals("executeBatch")) {
+                batchExecutions.add(new BatchExecution(pSQL, statementCount[0]));
+                statementCount[0] = 0;
+            }
+            return invoke(pStmt, pMethod, pArgs);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(TestDatabase.class.getClassLoader(),
+                new Class[]{PreparedStatement.class}, handler);
+    }
+
+    private static Object invoke(final Object pTarget, final Method pMethod, final Object[] pArgs)
+            throws Throwable {
+
+        try {
+            return pMethod.invoke(pTarget, pArgs);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package org.noorm.jdbc;
+
+import java.io.Serializable;
+import java.sql.JDBCType;
+import java.sql.Types;
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * Bean class for the test table TEST_ITEM (see TestDatabase), shared by the tests of the runtime and the
+ * platform modules and by the benchmarks. The Bean class corresponds to the code generated by NoORM. No row
+ * mapper and parameter binder are registered, so the compiled row mapper and parameter binder are used for this
+ * class, unless TestItemRowMapper and TestItemBinder are registered explicitly.
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class TestItem<T> implements IBean<T>, Serializable {
+
+	private static final long serialVersionUID = 0L;
+	protected static final String TABLE_NAME = "TEST_ITEM";
+	protected static final boolean IS_TABLE_NAME_CASE_SENSITIVE = false;
+	protected static final String[] PK_COLUMN_NAMES = { "ID" };
+	protected static final String[] PK_JAVA_NAMES = { "id" };
+	protected static final String SEQUENCE_NAME = null;
+	protected static final Long SEQUENCE_INCREMENT = 1L;
+	protected static final boolean USE_INLINE_SEQUENCE_VALUE_GENERATION = false;
+	protected static final String VERSION_COLUMN_NAME = "VERSION";
+	protected static final String VERSION_COLUMN_JAVA_NAME = "version";
+	protected static final JDBCType VERSION_COLUMN_TYPE = JDBCType.NUMERIC;
+	protected static final String[] UPDATABLE_COLUMN_NAMES = {
+			"ID",
+			"NAME",
+			"CATEGORY",
+			"CREATED",
+			"AMOUNT",
+			"VERSION",
+	};
+	@JDBCColumn(name=PAGING_TOTAL, dataType=Types.NUMERIC, insertable=false, updatable=false)
+	protected Integer pagingTotal;
+	@JDBCColumn(name="ID", dataType=Types.NUMERIC, nullable=false)
+	protected Long id;
+	@JDBCColumn(name="NAME", dataType=Types.VARCHAR)
+	protected String name;
+	@JDBCColumn(name="CATEGORY", dataType=Types.VARCHAR)
+	protected String category;
+	@JDBCColumn(name="CREATED", dataType=Types.TIMESTAMP)
+	protected java.util.Date created;
+	@JDBCColumn(name="AMOUNT", dataType=Types.NUMERIC)
+	protected java.math.BigDecimal amount;
+	@JDBCColumn(name="VERSION", dataType=Types.NUMERIC, nullable=false)
+	protected Long version;
+	@JDBCColumn(name="DESCRIPTION", dataType=Types.VARCHAR, insertable=false, updatable=false)
+	protected String description;
+	private transient T auxiliaryData;
+	protected transient BitSet modifiedFields;
+	protected transient boolean modifiedFieldTracking;
+
+	@Override
+	public Integer getPagingTotal() {
+		return pagingTotal;
+	}
+
+	@Override
+	public T getAuxiliaryData() {
+		return auxiliaryData;
+	}
+
+	@Override
+	public void setAuxiliaryData(final T pAuxiliaryData) {
+		auxiliaryData = pAuxiliaryData;
+	}
+
+	@Override
+	public HashMap<String, Object> getModifiedFieldsInitialValue() {
+		return null;
+	}
+
+	@Override
+	public String getTableName() {
+		return TABLE_NAME;
+	}
+
+	@Override
+	public boolean isTableNameCaseSensitive() {
+		return IS_TABLE_NAME_CASE_SENSITIVE;
+	}
+
+	@Override
+	public String[] getPrimaryKeyColumnNames() {
+		return PK_COLUMN_NAMES;
+	}
+
+	@Override
+	public String[] getPrimaryKeyJavaNames() {
+		return PK_JAVA_NAMES;
+	}
+
+	@Override
+	public String getSequenceName() {
+		return SEQUENCE_NAME;
+	}
+
+	@Override
+	public Long getSequenceIncrement() {
+		return SEQUENCE_INCREMENT;
+	}
+
+	@Override
+	public boolean useInlineSequenceValueGeneration() {
+		return USE_INLINE_SEQUENCE_VALUE_GENERATION;
+	}
+
+	@Override
+	public String getVersionColumnName() {
+		return VERSION_COLUMN_NAME;
+	}
+
+	@Override
+	public String getVersionColumnJavaName() {
+		return VERSION_COLUMN_JAVA_NAME;
+	}
+
+	@Override
+	public JDBCType getVersionColumnType() {
+		return VERSION_COLUMN_TYPE;
+	}
+
+	@Override
+	public BitSet getModifiedFields() {
+		return modifiedFields;
+	}
+
+	@Override
+	public void enableModifiedFieldTracking() {
+		modifiedFieldTracking = true;
+		modifiedFields = null;
+	}
+
+	@Override
+	public String[] getUpdatableColumnNames() {
+		return UPDATABLE_COLUMN_NAMES;
+	}
+
+	@Override
+	public String getViewName() {
+		return getTableName();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(final Long pId) {
+		if (modifiedFieldTracking) {
+			if (modifiedFields == null) {
+				modifiedFields = new BitSet(UPDATABLE_COLUMN_NAMES.length);
+			}
+			modifiedFields.set(0);
+		}
+		id = pId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(final String pName) {
+		if (modifiedFieldTracking) {
+			if (modifiedFields == null) {
+				modifiedFields = new BitSet(UPDATABLE_COLUMN_NAMES.length);
+			}
+			modifiedFields.set(1);
+		}
+		name = pName;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public void setCategory(final String pCategory) {
+		if (modifiedFieldTracking) {
+			if (modifiedFields == null) {
+				modifiedFields = new BitSet(UPDATABLE_COLUMN_NAMES.length);
+			}
+			modifiedFields.set(2);
+		}
+		category = pCategory;
+	}
+
+	public java.util.Date getCreated() {
+		return created;
+	}
+
+	public void setCreated(final java.util.Date pCreated) {
+		if (modifiedFieldTracking) {
+			if (modifiedFields == null) {
+				modifiedFields = new BitSet(UPDATABLE_COLUMN_NAMES.length);
+			}
+			modifiedFields.set(3);
+		}
+		created = pCreated;
+	}
+
+	public java.math.BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(final java.math.BigDecimal pAmount) {
+		if (modifiedFieldTracking) {
+			if (modifiedFields == null) {
+				modifiedFields = new BitSet(UPDATABLE_COLUMN_NAMES.length);
+			}
+			modifiedFields.set(4);
+		}
+		amount = pAmount;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(final Long pVersion) {
+		if (modifiedFieldTracking) {
+			if (modifiedFields == null) {
+				modifiedFields = new BitSet(UPDATABLE_COLUMN_NAMES.length);
+			}
+			modifiedFields.set(5);
+		}
+		version = pVersion;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(final String pDescription) {
+		description = pDescription;
+	}
+}
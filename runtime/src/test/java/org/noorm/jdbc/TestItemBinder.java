@@ -0,0 +1,99 @@
+package org.noorm.jdbc;
+
+import org.noorm.jdbc.platform.IPlatform;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Parameter binder for Bean class TestItem, corresponding to the parameter binder generated by NoORM. The
+ * parameter binder is not registered for TestItem by default (see BeanMapper.registerParameterBinder).
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class TestItemBinder implements IParameterBinder<TestItem> {
+
+	private static final String[] COLUMN_NAMES = {
+			"ID",
+			"NAME",
+			"CATEGORY",
+			"CREATED",
+			"AMOUNT",
+			"VERSION",
+	};
+
+	@Override
+	public String[] getColumnNames() {
+		return COLUMN_NAMES;
+	}
+
+	@Override
+	public void bind(final IPlatform pPlatform,
+					 final PreparedStatement pStmt,
+					 final TestItem pBean,
+					 final int[] pParameterIndexes) throws SQLException {
+		if (pParameterIndexes[0] > 0) {
+			if (pBean.id == null) {
+				pPlatform.setNull(pStmt, pParameterIndexes[0], Types.NUMERIC);
+			} else {
+				pPlatform.setLong(pStmt, pBean.id, pParameterIndexes[0]);
+			}
+		}
+		if (pParameterIndexes[1] > 0) {
+			if (pBean.name == null) {
+				pPlatform.setNull(pStmt, pParameterIndexes[1], Types.VARCHAR);
+			} else {
+				pPlatform.setString(pStmt, pBean.name, pParameterIndexes[1]);
+			}
+		}
+		if (pParameterIndexes[2] > 0) {
+			if (pBean.category == null) {
+				pPlatform.setNull(pStmt, pParameterIndexes[2], Types.VARCHAR);
+			} else {
+				pPlatform.setString(pStmt, pBean.category, pParameterIndexes[2]);
+			}
+		}
+		if (pParameterIndexes[3] > 0) {
+			if (pBean.created == null) {
+				pPlatform.setNull(pStmt, pParameterIndexes[3], Types.TIMESTAMP);
+			} else {
+				pPlatform.setTimestamp(pStmt, pBean.created, pParameterIndexes[3]);
+			}
+		}
+		if (pParameterIndexes[4] > 0) {
+			if (pBean.amount == null) {
+				pPlatform.setNull(pStmt, pParameterIndexes[4], Types.NUMERIC);
+			} else {
+				pPlatform.setBigDecimal(pStmt, pBean.amount, pParameterIndexes[4]);
+			}
+		}
+		if (pParameterIndexes[5] > 0) {
+			if (pBean.version == null) {
+				pPlatform.setNull(pStmt, pParameterIndexes[5], Types.NUMERIC);
+			} else {
+				pPlatform.setLong(pStmt, pBean.version, pParameterIndexes[5]);
+			}
+		}
+	}
+
+	@Override
+	public Object getValue(final TestItem pBean, final String pColumnName) {
+		switch (pColumnName) {
+			case "ID":
+				return pBean.id;
+			case "NAME":
+				return pBean.name;
+			case "CATEGORY":
+				return pBean.category;
+			case "CREATED":
+				return pBean.created;
+			case "AMOUNT":
+				return pBean.amount;
+			case "VERSION":
+				return pBean.version;
+			default:
+				throw new DataAccessException(DataAccessException.Type.UNKNOWN_BEAN_COLUMN, pColumnName);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package org.noorm.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Row mapper for Bean class TestItem, corresponding to the row mapper generated by NoORM. The row mapper is not
+ * registered for TestItem by default (see BeanMapper.registerRowMapperFactory).
+ *
+ * @author Ulf Pietruschka / ulf.pietruschka@etenso.com
+ */
+public class TestItemRowMapper implements IRowMapper<TestItem> {
+
+	public static final IRowMapperFactory<TestItem> FACTORY = new IRowMapperFactory<TestItem>() {
+		@Override
+		public IRowMapper<TestItem> createRowMapper(final ResultSet pResultSet,
+				final boolean pFetchPagingTotal) throws SQLException {
+			return new TestItemRowMapper(pResultSet, pFetchPagingTotal);
+		}
+	};
+
+	private final int pagingTotalIndex;
+	private final int idIndex;
+	private final int nameIndex;
+	private final int categoryIndex;
+	private final int createdIndex;
+	private final int amountIndex;
+	private final int versionIndex;
+	private final int descriptionIndex;
+
+	private TestItemRowMapper(final ResultSet pResultSet, final boolean pFetchPagingTotal) throws SQLException {
+		pagingTotalIndex = pFetchPagingTotal ? pResultSet.findColumn(IBean.PAGING_TOTAL) : 0;
+		idIndex = pResultSet.findColumn("ID");
+		nameIndex = pResultSet.findColumn("NAME");
+		categoryIndex = pResultSet.findColumn("CATEGORY");
+		createdIndex = pResultSet.findColumn("CREATED");
+		amountIndex = pResultSet.findColumn("AMOUNT");
+		versionIndex = pResultSet.findColumn("VERSION");
+		descriptionIndex = pResultSet.findColumn("DESCRIPTION");
+	}
+
+	@Override
+	public TestItem mapRow(final ResultSet pResultSet) throws SQLException {
+		final TestItem bean = new TestItem();
+		if (pagingTotalIndex > 0) {
+			final int pagingTotalValue = pResultSet.getInt(pagingTotalIndex);
+			if (!pResultSet.wasNull()) {
+				bean.pagingTotal = pagingTotalValue;
+			}
+		}
+		final Long idValue = pResultSet.getLong(idIndex);
+		if (!pResultSet.wasNull()) {
+			bean.id = idValue;
+		}
+		final String nameValue = pResultSet.getString(nameIndex);
+		if (nameValue != null) {
+			bean.name = nameValue.trim();
+		}
+		final String categoryValue = pResultSet.getString(categoryIndex);
+		if (categoryValue != null) {
+			bean.category = categoryValue.trim();
+		}
+		bean.created = pResultSet.getTimestamp(createdIndex);
+		bean.amount = pResultSet.getBigDecimal(amountIndex);
+		final Long versionValue = pResultSet.getLong(versionIndex);
+		if (!pResultSet.wasNull()) {
+			bean.version = versionValue;
+		}
+		final String descriptionValue = pResultSet.getString(descriptionIndex);
+		if (descriptionValue != null) {
+			bean.description = descriptionValue.trim();
+		}
+		return bean;
+	}
+}
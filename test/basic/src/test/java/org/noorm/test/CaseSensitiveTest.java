@@ -51,4 +51,29 @@ public class CaseSensitiveTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testCaseSensitiveBulkLoad() {
+
+        DataSourceProvider.begin();
+        try {
+            final DeclaredQueries declaredQueries = DeclaredQueries.getInstance();
+            final List<CaseSensitiveTable> csList = new ArrayList<CaseSensitiveTable>();
+            for (long i = 1L; i <= 10L; i++) {
+                final CaseSensitiveTable cs = new CaseSensitiveTable();
+                cs.setC1(i);
+                cs.setC2("BULK" + i);
+                csList.add(cs);
+            }
+            // Platforms without bulk load support fall back to the batched insert
+            caseSensitiveTableDML.bulkLoadCaseSensitiveTableList(csList);
+            final List<CaseSensitiveTable> csList1 = declaredQueries.findCaseSensitiveTable();
+            assertEquals(10L, csList1.size());
+            caseSensitiveTableDML.deleteCaseSensitiveTableList(csList1);
+            DataSourceProvider.commit();
+        } catch (Throwable e) {
+            DataSourceProvider.rollback();
+            fail(e.getMessage());
+        }
+    }
 }
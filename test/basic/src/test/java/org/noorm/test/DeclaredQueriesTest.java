@@ -3,12 +3,15 @@ package org.noorm.test;
 import org.junit.Test;
 import org.noorm.jdbc.DataSourceProvider;
 import org.noorm.jdbc.FilterExtension;
+import org.noorm.jdbc.Page;
+import org.noorm.jdbc.SlowCall;
 import org.noorm.jdbc.TableLock;
 import org.noorm.test.hr.beans.Countries;
 import org.noorm.test.hr.beans.Departments;
 import org.noorm.test.hr.beans.Employees;
 import org.noorm.test.hr.services.CountriesDML;
 import org.noorm.test.hr.services.DeclaredQueries;
+import org.noorm.test.hr.services.DepartmentsDML;
 import org.noorm.test.hr.services.EmployeeFinder;
 
 import java.text.ParseException;
@@ -27,6 +30,7 @@ import static org.junit.Assert.*;
 public class DeclaredQueriesTest {
 
     private CountriesDML countriesDML = CountriesDML.getInstance();
+    private DepartmentsDML departmentsDML = DepartmentsDML.getInstance();
 
     @Test
     public void testFindDepartment() {
@@ -39,6 +43,21 @@ public class DeclaredQueriesTest {
         assertEquals(department.getDepartmentName(), departmentName);
     }
 
+    @Test
+    public void testFindDepartmentCached() {
+
+        final Integer departmentId = 10;
+        final DeclaredQueries declaredQueries = DeclaredQueries.getInstance();
+        final Departments department = declaredQueries.findDepartmentsByDepartmentId(departmentId);
+        // The query is declared with useResultCache, so the second call provides the cached Bean
+        assertSame(department, declaredQueries.findDepartmentsByDepartmentId(departmentId));
+        // Any modification of the table invalidates the cached results
+        departmentsDML.updateDepartments(department);
+        final Departments department1 = declaredQueries.findDepartmentsByDepartmentId(departmentId);
+        assertNotSame(department, department1);
+        assertEquals(department.getDepartmentName(), department1.getDepartmentName());
+    }
+
     @Test
     public void testFindDoubleEqual() {
 
@@ -97,6 +116,89 @@ public class DeclaredQueriesTest {
         assertEquals(30, employees.size());
     }
 
+    @Test
+    public void testFindEmployeesParallel() {
+
+        final Date hireDateFrom = getDate(2005, 01, 01);
+        final DeclaredQueries declaredQueries = DeclaredQueries.getInstance();
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setOffset(10);
+        filterExtension.setLimit(30);
+        filterExtension.addSortCriteria("salary", FilterExtension.Direction.DESC);
+        filterExtension.addSortCriteria("employeeId");
+        final List<Employees> employees = declaredQueries.findEmployeesByHireDate(hireDateFrom, filterExtension);
+        final FilterExtension parallelFilterExtension = new FilterExtension();
+        parallelFilterExtension.setOffset(10);
+        parallelFilterExtension.setLimit(30);
+        parallelFilterExtension.addSortCriteria("salary", FilterExtension.Direction.DESC);
+        parallelFilterExtension.addSortCriteria("employeeId");
+        final List<Employees> parallelEmployees =
+                declaredQueries.findEmployeesByHireDateParallel(hireDateFrom, parallelFilterExtension);
+        assertEquals(employees.size(), parallelEmployees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            assertEquals(employees.get(i).getEmployeeId(), parallelEmployees.get(i).getEmployeeId());
+        }
+    }
+
+    @Test
+    public void testSlowCallDetection() {
+
+        final String departmentName = "S%";
+        final EmployeeFinder employeeFinder = EmployeeFinder.getInstance();
+        final int slowCallThreshold = DataSourceProvider.getSlowCallThreshold();
+        DataSourceProvider.clearSlowCalls();
+        try {
+            // Without threshold, no slow calls are recorded
+            DataSourceProvider.setSlowCallThreshold(0);
+            employeeFinder.findEmployeesByDepartmentName(departmentName);
+            assertEquals(0L, DataSourceProvider.getSlowCallCount());
+            // A threshold of 1 ms is exceeded by any query, which includes a database round-trip
+            DataSourceProvider.setSlowCallThreshold(1);
+            final List<Employees> employees = employeeFinder.findEmployeesByDepartmentName(departmentName);
+            final List<SlowCall> slowCalls = DataSourceProvider.getSlowCalls();
+            assertEquals(1, slowCalls.size());
+            final SlowCall slowCall = slowCalls.get(0);
+            assertTrue(slowCall.isSuccess());
+            assertEquals(employees.size(), slowCall.getRowCount());
+            assertTrue(slowCall.getSQL().startsWith("SELECT"));
+            assertEquals(departmentName, slowCall.getBindValues().get(0));
+            assertTrue(slowCall.getTotalNanos() >= 1000000L);
+            assertTrue(slowCall.getTotalNanos() >= slowCall.getAcquireNanos() + slowCall.getPrepareNanos()
+                    + slowCall.getExecuteNanos() + slowCall.getMapNanos());
+        } finally {
+            DataSourceProvider.setSlowCallThreshold(slowCallThreshold);
+            DataSourceProvider.clearSlowCalls();
+        }
+    }
+
+    @Test
+    public void testFindEmployeesPage() {
+
+        final Date hireDateFrom = getDate(2005, 01, 01);
+        final DeclaredQueries declaredQueries = DeclaredQueries.getInstance();
+        final FilterExtension windowFilterExtension = new FilterExtension();
+        windowFilterExtension.setLimit(30);
+        windowFilterExtension.addSortCriteria("employeeId");
+        final List<Employees> employees = declaredQueries.findEmployeesByHireDate(hireDateFrom, windowFilterExtension);
+        final Long windowTotal = employees.get(0).getPagingTotal().longValue();
+
+        final FilterExtension filterExtension = new FilterExtension();
+        filterExtension.setOffset(10);
+        filterExtension.setLimit(30);
+        filterExtension.addSortCriteria("employeeId");
+        filterExtension.setTotalCountStrategy(FilterExtension.TotalCountStrategy.EXACT_ONCE);
+        final Page<Employees> page = declaredQueries.findEmployeesByHireDatePage(hireDateFrom, filterExtension);
+        assertEquals(30, page.getBeans().size());
+        assertEquals(windowTotal, page.getTotal());
+        assertFalse(page.isTotalEstimated());
+        // The PAGING_TOTAL column is not provided, when the total is computed separately
+        assertNull(page.getBeans().get(0).getPagingTotal());
+        // The second request uses the cached total
+        filterExtension.setOffset(40);
+        final Page<Employees> nextPage = declaredQueries.findEmployeesByHireDatePage(hireDateFrom, filterExtension);
+        assertEquals(windowTotal, nextPage.getTotal());
+    }
+
     @Test
     public void testTrimCHARColumn() {
 
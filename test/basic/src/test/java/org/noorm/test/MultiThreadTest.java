@@ -1,9 +1,15 @@
 package org.noorm.test;
 
 import org.junit.Test;
+import org.noorm.jdbc.BulkDMLResult;
 import org.noorm.jdbc.DataSourceProvider;
+import org.noorm.jdbc.JDBCDMLProcessor;
+import org.noorm.jdbc.ParallelBulkDML;
+import org.noorm.jdbc.TransactionContext;
+import org.noorm.test.hr.beans.Departments;
 import org.noorm.test.hr.beans.Employees;
 import org.noorm.test.hr.beans.JobHistory;
+import org.noorm.test.hr.services.DeclaredQueries;
 import org.noorm.test.hr.services.EmployeeService;
 import org.noorm.test.hr.services.JobHistoryDML;
 
@@ -12,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.*;
 
@@ -69,6 +76,83 @@ public class MultiThreadTest {
         }
     }
 
+    @Test
+    public void testAsyncFanOut() {
+
+        final Integer departmentId = 10;
+        final DeclaredQueries declaredQueries = DeclaredQueries.getInstance();
+        final CompletableFuture<List<Employees>> employeesFuture = employeeService.findAllEmployeesAsync();
+        final CompletableFuture<Departments> departmentFuture =
+                declaredQueries.findDepartmentsByDepartmentIdAsync(departmentId);
+        CompletableFuture.allOf(employeesFuture, departmentFuture).join();
+        assertEquals(employeeService.findAllEmployees().size(), employeesFuture.join().size());
+        assertEquals(declaredQueries.findDepartmentsByDepartmentId(departmentId).getDepartmentName(),
+                departmentFuture.join().getDepartmentName());
+    }
+
+    @Test
+    public void testParallelBulkDML() {
+
+        final Calendar startC = Calendar.getInstance();
+        final Calendar searchC = Calendar.getInstance();
+        final Calendar endC = Calendar.getInstance();
+        startC.add(Calendar.MONTH, 13);
+        searchC.add(Calendar.MONTH, 14);
+        endC.add(Calendar.MONTH, 15);
+        final List<JobHistory> jobHistoryList = new ArrayList<JobHistory>();
+        for (final Employees employee : employeeService.findAllEmployees()) {
+            final JobHistory jobHistory = new JobHistory();
+            jobHistory.setEmployeeId(employee.getEmployeeId());
+            jobHistory.setJobId("IT_PROG");
+            jobHistory.setStartDate(startC.getTime());
+            jobHistory.setEndDate(endC.getTime());
+            jobHistoryList.add(jobHistory);
+            if (jobHistoryList.size() >= TEST_LOOP_COUNT) {
+                break;
+            }
+        }
+        final JDBCDMLProcessor<JobHistory> dmlProcessor = JDBCDMLProcessor.getInstance();
+        final BulkDMLResult insertResult = dmlProcessor.insertParallel(jobHistoryList, 7);
+        assertFalse(insertResult.hasFailures());
+        assertEquals(5, insertResult.getChunkResults().size());
+        assertEquals(TEST_LOOP_COUNT, insertResult.getUpdateCount());
+
+        final Timestamp search = new Timestamp(searchC.getTimeInMillis());
+        final List<JobHistory> jobHistoryList1 = employeeService.findJobHistoryByDate(search);
+        assertEquals(TEST_LOOP_COUNT, jobHistoryList1.size());
+        try (ParallelBulkDML<JobHistory> parallelDelete =
+                     dmlProcessor.openParallelBulkDML(ParallelBulkDML.Operation.DELETE, 10)) {
+            for (final JobHistory jobHistory : jobHistoryList1) {
+                parallelDelete.add(jobHistory);
+            }
+            final BulkDMLResult deleteResult = parallelDelete.finish();
+            assertFalse(deleteResult.hasFailures());
+            assertEquals(TEST_LOOP_COUNT, deleteResult.getUpdateCount());
+        }
+        assertTrue(employeeService.findJobHistoryByDate(search).isEmpty());
+    }
+
+    @Test
+    public void testTransactionContextAcrossThreads() {
+
+        final TransactionContext transactionContext = DataSourceProvider.newTransactionContext();
+        transactionContext.begin();
+        assertTrue(transactionContext.isActive());
+        assertFalse(DataSourceProvider.activeUserManagedTransaction());
+        try {
+            final Integer employeeCount = CompletableFuture.supplyAsync(() -> transactionContext.call(() -> {
+                assertTrue(DataSourceProvider.activeUserManagedTransaction());
+                return employeeService.findAllEmployees().size();
+            })).join();
+            assertEquals(employeeService.findAllEmployees().size(), employeeCount.intValue());
+            transactionContext.commit();
+        } catch (Throwable e) {
+            transactionContext.rollback();
+            fail(e.getMessage());
+        }
+        assertFalse(transactionContext.isActive());
+    }
+
     @Test
     public void testMultiThreadTCConnection() {
 
@@ -4,6 +4,8 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.noorm.jdbc.DataAccessException;
 import org.noorm.jdbc.DataSourceProvider;
+import org.noorm.jdbc.InMemoryMetrics;
+import org.noorm.jdbc.NoormMetrics;
 import org.noorm.test.hr.beans.OptLockLong;
 import org.noorm.test.hr.services.OptLockLongDML;
 
@@ -59,4 +61,83 @@ public class OptLockLongTest {
             DataSourceProvider.rollback();
         }
 	}
+
+	@Test
+	public void testOptLockLongEntityCache() {
+
+		DataSourceProvider.enableEntityCache(OptLockLong.class);
+		try {
+			final OptLockLong newOptLockLong = new OptLockLong();
+			newOptLockLong.setText(SOME_TEXT);
+			final OptLockLong insertedOptLockLong = optLockLongDML.insertOptLockLong(newOptLockLong);
+			final Long id = insertedOptLockLong.getId();
+			// The inserted Bean has been cached, so the lookup is served from the entity cache
+			final long hits = DataSourceProvider.getEntityCacheHits(OptLockLong.class);
+			final OptLockLong cachedOptLockLong = optLockLongDML.findOptLockLongByPrimaryKey(id);
+			assertEquals(hits + 1L, DataSourceProvider.getEntityCacheHits(OptLockLong.class));
+			assertNotSame(insertedOptLockLong, cachedOptLockLong);
+			assertEquals(insertedOptLockLong.getVersion(), cachedOptLockLong.getVersion());
+			cachedOptLockLong.setText(SOME_NEW_TEXT);
+			optLockLongDML.updateOptLockLong(cachedOptLockLong);
+			assertEquals(SOME_NEW_TEXT, optLockLongDML.findOptLockLongByPrimaryKey(id).getText());
+			// Updating the outdated Bean fails with an optimistic lock conflict and evicts the cached Bean
+			final long evictions = DataSourceProvider.getEntityCacheEvictions(OptLockLong.class);
+			try {
+				optLockLongDML.updateOptLockLong(insertedOptLockLong);
+				fail();
+			} catch (DataAccessException e) {
+				assertEquals(DataAccessException.Type.OPTIMISTIC_LOCK_CONFLICT, e.getType());
+			}
+			assertEquals(evictions + 1L, DataSourceProvider.getEntityCacheEvictions(OptLockLong.class));
+			final OptLockLong reloadedOptLockLong = optLockLongDML.findOptLockLongByPrimaryKey(id);
+			assertEquals(SOME_NEW_TEXT, reloadedOptLockLong.getText());
+			optLockLongDML.deleteOptLockLong(reloadedOptLockLong);
+			assertNull(optLockLongDML.findOptLockLongByPrimaryKey(id));
+		} finally {
+			DataSourceProvider.disableEntityCache(OptLockLong.class);
+		}
+	}
+
+	@Test
+	public void testOptLockLongMetrics() {
+
+		final InMemoryMetrics metrics = new InMemoryMetrics();
+		DataSourceProvider.setMetrics(metrics);
+		try {
+			final String dataSourceName = DataSourceProvider.newTransactionContext().getDataSourceName();
+			final OptLockLong newOptLockLong = new OptLockLong();
+			newOptLockLong.setText(SOME_TEXT);
+			final OptLockLong insertedOptLockLong = optLockLongDML.insertOptLockLong(newOptLockLong);
+			final String tableName = insertedOptLockLong.getTableName();
+			final OptLockLong outdatedOptLockLong = optLockLongDML.findOptLockLongByPrimaryKey
+					(insertedOptLockLong.getId());
+			insertedOptLockLong.setText(SOME_NEW_TEXT);
+			optLockLongDML.updateOptLockLong(insertedOptLockLong);
+			try {
+				optLockLongDML.updateOptLockLong(outdatedOptLockLong);
+				fail();
+			} catch (DataAccessException e) {
+				assertEquals(DataAccessException.Type.OPTIMISTIC_LOCK_CONFLICT, e.getType());
+			}
+			optLockLongDML.deleteOptLockLong(insertedOptLockLong);
+
+			final InMemoryMetrics.TimerStatistics insertStatistics =
+					metrics.getCallStatistics(dataSourceName, NoormMetrics.Operation.INSERT, tableName);
+			assertEquals(1L, insertStatistics.getCount());
+			assertEquals(1L, insertStatistics.getRowCount());
+			final InMemoryMetrics.TimerStatistics updateStatistics =
+					metrics.getCallStatistics(dataSourceName, NoormMetrics.Operation.UPDATE, tableName);
+			assertEquals(2L, updateStatistics.getCount());
+			assertEquals(1L, updateStatistics.getFailureCount());
+			assertTrue(updateStatistics.getPercentileNanos(0.99) <= updateStatistics.getMaxNanos());
+			assertEquals(1L, metrics.getBatchStatistics
+					(dataSourceName, NoormMetrics.Operation.DELETE, tableName).getTotalUpdateCount());
+			assertEquals(1L, metrics.getOptimisticLockConflictCount(dataSourceName, tableName));
+			assertEquals(1L, metrics.getRollbackCount(dataSourceName));
+			assertTrue(metrics.getCommitCount(dataSourceName) >= 3L);
+			assertTrue(metrics.getConnectionStatistics(dataSourceName).getCount() >= 5L);
+		} finally {
+			DataSourceProvider.setMetrics(null);
+		}
+	}
 }